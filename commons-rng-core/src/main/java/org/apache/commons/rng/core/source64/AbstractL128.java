@@ -140,7 +140,7 @@ abstract class AbstractL128 extends LongProvider implements LongJumpableUniformR
         final long sl = lsl;
         final long u = ML * sl;
         // High half
-        lsh = ML * sh + LXMSupport.unsignedMultiplyHigh(ML, sl) + sl + lah +
+        lsh = ML * sh + MathSupport.unsignedMultiplyHigh(ML, sl) + sl + lah +
               // Carry propagation
               LXMSupport.unsignedAddHigh(u, lal);
         // Low half
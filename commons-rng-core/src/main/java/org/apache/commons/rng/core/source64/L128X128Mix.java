@@ -163,7 +163,7 @@ public class L128X128Mix extends AbstractL128 implements SplittableUniformRandom
         final long al = lal;
         final long u = ML * sl;
         // High half
-        lsh = ML * sh + LXMSupport.unsignedMultiplyHigh(ML, sl) + sl + lah +
+        lsh = ML * sh + MathSupport.unsignedMultiplyHigh(ML, sl) + sl + lah +
               // Carry propagation
               LXMSupport.unsignedAddHigh(u, al);
         // Low half
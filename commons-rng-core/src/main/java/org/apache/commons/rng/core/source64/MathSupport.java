@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source64;
+
+/**
+ * Utility support for math functions used by the generators.
+ *
+ * <p>This class is replaced in the multi-release jar with a version that uses
+ * {@code java.lang.Math} functions added since Java 8. These methods may be
+ * supported by intrinsic calls to native operations for a significant
+ * performance gain.
+ *
+ * @since 1.8
+ */
+final class MathSupport {
+    /** No instances. */
+    private MathSupport() {}
+
+    /**
+     * Multiply the two values as if unsigned 64-bit longs to produce the high 64-bits
+     * of the 128-bit unsigned result.
+     *
+     * <p>This implementation uses {@link LXMSupport#unsignedMultiplyHigh(long, long)}.
+     *
+     * @param value1 the first value
+     * @param value2 the second value
+     * @return the high 64-bits of the 128-bit result
+     */
+    static long unsignedMultiplyHigh(long value1, long value2) {
+        return LXMSupport.unsignedMultiplyHigh(value1, value2);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.util;
+
+/**
+ * Utility support for the conversion of primitive arrays to and from bytes.
+ * All conversions use little-endian byte order (least-significant byte first).
+ *
+ * <p>This class is replaced in the multi-release jar with a version that uses
+ * {@code java.lang.invoke.VarHandle} byte array views added in Java 9.
+ *
+ * @since 1.8
+ */
+final class ByteArraySupport {
+    /** Number of bytes in a {@code long}. */
+    private static final int LONG_SIZE = 8;
+    /** Number of bytes in a {@code int}. */
+    private static final int INT_SIZE = 4;
+
+    /** No instances. */
+    private ByteArraySupport() {}
+
+    /**
+     * Puts the {@code long} values into the bytes.
+     *
+     * @param input Input.
+     * @param output Output (length must be at least {@code 8 * input.length}).
+     */
+    static void putLongs(long[] input, byte[] output) {
+        for (int i = 0; i < input.length; i++) {
+            NumberFactory.putLong(input[i], output, i * LONG_SIZE);
+        }
+    }
+
+    /**
+     * Gets the {@code long} values from the bytes.
+     *
+     * @param input Input (length must be at least {@code 8 * output.length}).
+     * @param output Output.
+     */
+    static void getLongs(byte[] input, long[] output) {
+        for (int i = 0; i < output.length; i++) {
+            output[i] = NumberFactory.getLong(input, i * LONG_SIZE);
+        }
+    }
+
+    /**
+     * Puts the {@code int} values into the bytes.
+     *
+     * @param input Input.
+     * @param output Output (length must be at least {@code 4 * input.length}).
+     */
+    static void putInts(int[] input, byte[] output) {
+        for (int i = 0; i < input.length; i++) {
+            NumberFactory.putInt(input[i], output, i * INT_SIZE);
+        }
+    }
+
+    /**
+     * Gets the {@code int} values from the bytes.
+     *
+     * @param input Input (length must be at least {@code 4 * output.length}).
+     * @param output Output.
+     */
+    static void getInts(byte[] input, int[] output) {
+        for (int i = 0; i < output.length; i++) {
+            output[i] = NumberFactory.getInt(input, i * INT_SIZE);
+        }
+    }
+}
@@ -203,9 +203,9 @@ public final class NumberFactory {
      * @param buffer the buffer.
      * @param index  the index.
      */
-    private static void putLong(long v,
-                                byte[] buffer,
-                                int index) {
+    static void putLong(long v,
+                        byte[] buffer,
+                        int index) {
         buffer[index    ] = (byte) (v         & LONG_LOWEST_BYTE_MASK);
         buffer[index + 1] = (byte)((v >>>  8) & LONG_LOWEST_BYTE_MASK);
         buffer[index + 2] = (byte)((v >>> 16) & LONG_LOWEST_BYTE_MASK);
@@ -240,8 +240,8 @@ public final class NumberFactory {
      * that the order is in increasing byte significance (i.e. the
      * first byte in the array is the least-significant).
      */
-    private static long getLong(byte[] input,
-                                int index) {
+    static long getLong(byte[] input,
+                        int index) {
         return (input[index    ] & LONG_LOWEST_BYTE_MASK)       |
                (input[index + 1] & LONG_LOWEST_BYTE_MASK) <<  8 |
                (input[index + 2] & LONG_LOWEST_BYTE_MASK) << 16 |
@@ -263,11 +263,7 @@ public final class NumberFactory {
     public static byte[] makeByteArray(long[] input) {
         final int size = input.length * LONG_SIZE;
         final byte[] b = new byte[size];
-
-        for (int i = 0; i < input.length; i++) {
-            putLong(input[i], b, i * LONG_SIZE);
-        }
-
+        ByteArraySupport.putLongs(input, b);
         return b;
     }
 
@@ -287,10 +283,7 @@ public final class NumberFactory {
         checkSize(num * LONG_SIZE, size);
 
         final long[] output = new long[num];
-        for (int i = 0; i < num; i++) {
-            output[i] = getLong(input, i * LONG_SIZE);
-        }
-
+        ByteArraySupport.getLongs(input, output);
         return output;
     }
 
@@ -315,9 +308,9 @@ public final class NumberFactory {
      * @param buffer the buffer.
      * @param index  the index.
      */
-    private static void putInt(int v,
-                               byte[] buffer,
-                               int index) {
+    static void putInt(int v,
+                       byte[] buffer,
+                       int index) {
         buffer[index    ] = (byte) (v         & INT_LOWEST_BYTE_MASK);
         buffer[index + 1] = (byte)((v >>>  8) & INT_LOWEST_BYTE_MASK);
         buffer[index + 2] = (byte)((v >>> 16) & INT_LOWEST_BYTE_MASK);
@@ -347,8 +340,8 @@ public final class NumberFactory {
      * that the order is in increasing byte significance (i.e. the
      * first byte in the array is the least-significant).
      */
-    private static int getInt(byte[] input,
-                              int index) {
+    static int getInt(byte[] input,
+                      int index) {
         return (input[index    ] & INT_LOWEST_BYTE_MASK)       |
                (input[index + 1] & INT_LOWEST_BYTE_MASK) <<  8 |
                (input[index + 2] & INT_LOWEST_BYTE_MASK) << 16 |
@@ -366,11 +359,7 @@ public final class NumberFactory {
     public static byte[] makeByteArray(int[] input) {
         final int size = input.length * INT_SIZE;
         final byte[] b = new byte[size];
-
-        for (int i = 0; i < input.length; i++) {
-            putInt(input[i], b, i * INT_SIZE);
-        }
-
+        ByteArraySupport.putInts(input, b);
         return b;
     }
 
@@ -390,10 +379,7 @@ public final class NumberFactory {
         checkSize(num * INT_SIZE, size);
 
         final int[] output = new int[num];
-        for (int i = 0; i < num; i++) {
-            output[i] = getInt(input, i * INT_SIZE);
-        }
-
+        ByteArraySupport.getInts(input, output);
         return output;
     }
 
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source64;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Utility support for math functions used by the generators.
+ *
+ * <p>This is the Java 9 version of the class in the multi-release jar.
+ *
+ * @since 1.8
+ */
+final class MathSupport {
+    /** Method handle to {@code Math.unsignedMultiplyHigh} (JDK 18+), or null if unavailable. */
+    private static final MethodHandle UNSIGNED_MULTIPLY_HIGH = getMathUnsignedMultiplyHigh();
+
+    /** No instances. */
+    private MathSupport() {}
+
+    /**
+     * Gets a method handle to the {@code Math.unsignedMultiplyHigh} method. This is
+     * available in JDK 18+. The handle is only returned if it computes the correct result.
+     *
+     * @return the method handle, or null if unavailable
+     */
+    private static MethodHandle getMathUnsignedMultiplyHigh() {
+        try {
+            final MethodHandle mh = MethodHandles.publicLookup().findStatic(Math.class,
+                "unsignedMultiplyHigh", MethodType.methodType(long.class, long.class, long.class));
+            // 2^63 * 2 = 2^64
+            if ((long) mh.invokeExact(Long.MIN_VALUE, 2L) == 1) {
+                return mh;
+            }
+        } catch (Throwable ignored) {
+            // Method is not available or does not work
+        }
+        return null;
+    }
+
+    /**
+     * Multiply the two values as if unsigned 64-bit longs to produce the high 64-bits
+     * of the 128-bit unsigned result.
+     *
+     * <p>This implementation uses {@code Math.unsignedMultiplyHigh} when running on
+     * JDK 18+; otherwise it uses the intrinsic {@link Math#multiplyHigh(long, long)}
+     * and corrects the signed result.
+     *
+     * @param value1 the first value
+     * @param value2 the second value
+     * @return the high 64-bits of the 128-bit result
+     */
+    static long unsignedMultiplyHigh(long value1, long value2) {
+        if (UNSIGNED_MULTIPLY_HIGH != null) {
+            try {
+                return (long) UNSIGNED_MULTIPLY_HIGH.invokeExact(value1, value2);
+            } catch (Throwable ignored) {
+                throw new IllegalStateException("Cannot invoke Math.unsignedMultiplyHigh");
+            }
+        }
+        return Math.multiplyHigh(value1, value2) + ((value1 >> 63) & value2) + ((value2 >> 63) & value1);
+    }
+}
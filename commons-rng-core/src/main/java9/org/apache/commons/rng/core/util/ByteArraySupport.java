@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Utility support for the conversion of primitive arrays to and from bytes.
+ * All conversions use little-endian byte order (least-significant byte first).
+ *
+ * <p>This is the Java 9 version of the class in the multi-release jar. It uses
+ * {@link VarHandle} byte array views which are compiled to a single (possibly
+ * unaligned) memory access.
+ *
+ * @since 1.8
+ */
+final class ByteArraySupport {
+    /** View of a byte array as a {@code long[]}. */
+    private static final VarHandle LONG_VIEW =
+        MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    /** View of a byte array as an {@code int[]}. */
+    private static final VarHandle INT_VIEW =
+        MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /** No instances. */
+    private ByteArraySupport() {}
+
+    /**
+     * Puts the {@code long} values into the bytes.
+     *
+     * @param input Input.
+     * @param output Output (length must be at least {@code 8 * input.length}).
+     */
+    static void putLongs(long[] input, byte[] output) {
+        for (int i = 0; i < input.length; i++) {
+            LONG_VIEW.set(output, i * Long.BYTES, input[i]);
+        }
+    }
+
+    /**
+     * Gets the {@code long} values from the bytes.
+     *
+     * @param input Input (length must be at least {@code 8 * output.length}).
+     * @param output Output.
+     */
+    static void getLongs(byte[] input, long[] output) {
+        for (int i = 0; i < output.length; i++) {
+            output[i] = (long) LONG_VIEW.get(input, i * Long.BYTES);
+        }
+    }
+
+    /**
+     * Puts the {@code int} values into the bytes.
+     *
+     * @param input Input.
+     * @param output Output (length must be at least {@code 4 * input.length}).
+     */
+    static void putInts(int[] input, byte[] output) {
+        for (int i = 0; i < input.length; i++) {
+            INT_VIEW.set(output, i * Integer.BYTES, input[i]);
+        }
+    }
+
+    /**
+     * Gets the {@code int} values from the bytes.
+     *
+     * @param input Input (length must be at least {@code 4 * output.length}).
+     * @param output Output.
+     */
+    static void getInts(byte[] input, int[] output) {
+        for (int i = 0; i < output.length; i++) {
+            output[i] = (int) INT_VIEW.get(input, i * Integer.BYTES);
+        }
+    }
+}
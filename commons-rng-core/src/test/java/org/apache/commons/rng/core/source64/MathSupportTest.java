@@ -17,35 +17,16 @@
 package org.apache.commons.rng.core.source64;
 
 import java.util.SplittableRandom;
-import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 /**
- * Tests for {@link PhiloxSupport}.
+ * Tests for {@link MathSupport}.
  */
-class PhiloxSupportTest {
-    @Test
-    void testGetMathMethod() throws NoSuchMethodException, IllegalAccessException {
-        // Java 8 method: Math.addExact(long, long)
-        Assertions.assertNotNull(PhiloxSupport.getMathMethod("addExact"));
-        Assertions.assertThrows(NoSuchMethodException.class, () -> PhiloxSupport.getMathMethod("foo"));
-    }
-
-    @Test
-    void testTestUnsignedMultiplyHigh() {
-        Assertions.assertTrue(PhiloxSupport.testUnsignedMultiplyHigh(LXMSupport::unsignedMultiplyHigh));
-        // Test all code paths
-        Assertions.assertFalse(PhiloxSupport.testUnsignedMultiplyHigh(null), "Null operator");
-        Assertions.assertFalse(PhiloxSupport.testUnsignedMultiplyHigh((a, b) -> 0), "Invalid multiply operator");
-        Assertions.assertFalse(PhiloxSupport.testUnsignedMultiplyHigh((a, b) -> {
-            throw new IllegalStateException();
-        }), "Illegal call to operator");
-    }
-
+class MathSupportTest {
     @Test
     void testUnsignedMultiplyHighEdgeCases() {
         final long[] values = {
-            -1, 0, 1, Long.MAX_VALUE, Long.MIN_VALUE,
+            -1, 0, 1, Long.MAX_VALUE, Long.MIN_VALUE, LXMSupport.M128L,
             0xffL, 0xff00L, 0xff0000L, 0xff000000L,
             0xff00000000L, 0xff0000000000L, 0xff000000000000L, 0xff000000000000L,
             0xffffL, 0xffff0000L, 0xffff00000000L, 0xffff000000000000L,
@@ -55,12 +36,8 @@ class PhiloxSupportTest {
         };
 
         for (final long v1 : values) {
-            // Must be odd
-            if (v1 >= 0) {
-                continue;
-            }
             for (final long v2 : values) {
-                LXMSupportTest.assertMultiplyHigh(v1, v2, PhiloxSupport.unsignedMultiplyHigh(v1, v2));
+                LXMSupportTest.assertMultiplyHigh(v1, v2, MathSupport.unsignedMultiplyHigh(v1, v2));
             }
         }
     }
@@ -68,11 +45,9 @@ class PhiloxSupportTest {
     @Test
     void testUnsignedMultiplyHigh() {
         final long[] values = new SplittableRandom().longs(100).toArray();
-        for (long v1 : values) {
-            // Must be odd
-            v1 |= Long.MIN_VALUE;
+        for (final long v1 : values) {
             for (final long v2 : values) {
-                LXMSupportTest.assertMultiplyHigh(v1, v2, PhiloxSupport.unsignedMultiplyHigh(v1, v2));
+                LXMSupportTest.assertMultiplyHigh(v1, v2, MathSupport.unsignedMultiplyHigh(v1, v2));
             }
         }
     }
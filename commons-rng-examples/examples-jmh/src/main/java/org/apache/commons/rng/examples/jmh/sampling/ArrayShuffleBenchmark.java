@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.IntStream;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.ArraySampler;
 import org.apache.commons.rng.simple.RandomSource;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -42,7 +43,9 @@ import org.openjdk.jmh.annotations.Warmup;
  * Daniel Lemire: Faster random integer generation with batching</a>.
  * The samples provided in the blog and the referenced paper are for a 64-bit
  * source of randomness which requires native support for 128-bit multiplication.
- * These have been modified for a 32-bit source of randomness.
+ * These have been modified for a 32-bit source of randomness. The 64-bit
+ * batch of 2 is included for comparison; it computes the 128-bit product using
+ * 32-bit multiplications.
  *
  * <ul>
  * <li>Nevin Brackett-Rozinsky, Daniel Lemire,
@@ -158,8 +161,13 @@ public class ArrayShuffleBenchmark {
             // Effectively the same speed as shuffle1
             //"shuffle1a",
             "shuffle2", "shuffle3", "shuffle4",
+            // 64-bit source of randomness; the 128-bit product requires 3 multiplications
+            // per sample and is not faster than shuffle2
+            "shuffle2L",
             // Effectively the same speed as shuffle2; the range method is marginally slower
             //"shuffle2a", "shuffle2range",
+            // The library implementation (batches of 2 using a 32-bit source)
+            "ArraySampler",
             })
         private String method;
 
@@ -196,6 +204,8 @@ public class ArrayShuffleBenchmark {
                 fun = ArrayShuffleBenchmark::shuffle3;
             } else if ("shuffle4".equals(method)) {
                 fun = ArrayShuffleBenchmark::shuffle4;
+            } else if ("ArraySampler".equals(method)) {
+                fun = ArraySampler::shuffle;
             } else {
                 throw new IllegalStateException("Unknown shuffle method: " + method);
             }
@@ -367,6 +367,32 @@ public class ListShuffleBenchmark {
         }
     }
 
+    /**
+     * ListSampler sample from version 1.7 uses a partial Fisher-Yates shuffle of the
+     * indices with a single random integer generated for each step.
+     *
+     * @param <T> Type of the list items.
+     * @param rng Random number generator.
+     * @param list List.
+     * @param k Size of the sample.
+     * @return the sample
+     */
+    private static <T> List<T> sampleUsingNextInt(UniformRandomProvider rng, List<T> list, int k) {
+        final int[] domain = PermutationSampler.natural(list.size());
+        int swapCount = Math.min(k, domain.length - 1);
+        for (int i = domain.length - 1; swapCount > 0; i--, swapCount--) {
+            final int j = rng.nextInt(i + 1);
+            final int tmp = domain[i];
+            domain[i] = domain[j];
+            domain[j] = tmp;
+        }
+        final List<T> result = new ArrayList<>(k);
+        for (int i = domain.length - k; i < domain.length; i++) {
+            result.add(list.get(domain[i]));
+        }
+        return result;
+    }
+
     /**
      * Direct shuffle on the list adapted from JDK java.util.Collections.
      * This handles RandomAccess lists.
@@ -745,6 +771,30 @@ public class ListShuffleBenchmark {
         return data.getList();
     }
 
+    /**
+     * Samples half the list using the ListSampler sample method from version 1.7.
+     * This generates a single random integer for each shuffle step.
+     *
+     * @param data Shuffle data.
+     * @return the sample
+     */
+    @Benchmark
+    public Object sampleUsingNextInt(ListData data) {
+        return sampleUsingNextInt(data.getRNG(), data.getList(), data.getSize() / 2);
+    }
+
+    /**
+     * Samples half the list using the current ListSampler sample method.
+     * This generates batches of random integers for the shuffle steps.
+     *
+     * @param data Shuffle data.
+     * @return the sample
+     */
+    @Benchmark
+    public Object sampleUsingListSampler(ListData data) {
+        return ListSampler.sample(data.getRNG(), data.getList(), data.getSize() / 2);
+    }
+
     /**
      * Performs a direct shuffle on a LinkedList.
      *
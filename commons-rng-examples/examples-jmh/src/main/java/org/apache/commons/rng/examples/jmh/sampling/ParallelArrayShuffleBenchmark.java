@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.examples.jmh.sampling;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.apache.commons.rng.SplittableUniformRandomProvider;
+import org.apache.commons.rng.sampling.ArraySampler;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes benchmark to compare the speed of shuffling a large array using a single
+ * thread and using a parallel merge shuffle.
+ *
+ * <p>The single-threaded Fisher-Yates shuffle performs random access to the entire
+ * array. The parallel shuffle performs random access within blocks that are shuffled
+ * in parallel and merges the blocks using sequential access. The merge performs more
+ * work than the Fisher-Yates shuffle; the parallel shuffle may be slower when the pool
+ * has few threads.
+ *
+ * @see ArrayShuffleBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = { "-server", "-Xms1G", "-Xmx1G" })
+public class ParallelArrayShuffleBenchmark {
+    /**
+     * The data for the shuffle.
+     */
+    @State(Scope.Benchmark)
+    public static class ShuffleData {
+        /** The array size. */
+        @Param({"1048576", "16777216", "134217728"})
+        private int size;
+
+        /** The data. */
+        private int[] data;
+
+        /**
+         * @return the data
+         */
+        public int[] getData() {
+            return data;
+        }
+
+        /**
+         * Create the data.
+         */
+        @Setup
+        public void setup() {
+            data = IntStream.range(0, size).toArray();
+        }
+    }
+
+    /**
+     * Defines the source of randomness. The source must be splittable.
+     */
+    @State(Scope.Benchmark)
+    public static class RngSource {
+        /**
+         * RNG providers.
+         *
+         * @see <a href="https://commons.apache.org/proper/commons-rng/userguide/rng.html">
+         *      Commons RNG user guide</a>
+         */
+        @Param({"L64_X128_MIX",
+                //"L64_X256_MIX",
+            })
+        private String randomSourceName;
+
+        /** RNG. */
+        private SplittableUniformRandomProvider rng;
+
+        /**
+         * Gets the source of randomness.
+         *
+         * @return RNG
+         */
+        public SplittableUniformRandomProvider getRNG() {
+            return rng;
+        }
+
+        /**
+         * Look-up the {@link RandomSource} from the name and instantiates the generator.
+         */
+        @Setup
+        public void setup() {
+            rng = (SplittableUniformRandomProvider) RandomSource.valueOf(randomSourceName).create();
+        }
+    }
+
+    /**
+     * Defines the pool used for the parallel shuffle.
+     */
+    @State(Scope.Benchmark)
+    public static class PoolSource {
+        /** The parallelism of the pool. */
+        @Param({"1", "2", "4", "8"})
+        private int threads;
+
+        /** The pool. */
+        private ForkJoinPool pool;
+
+        /**
+         * @return the pool
+         */
+        public ForkJoinPool getPool() {
+            return pool;
+        }
+
+        /**
+         * Create the pool.
+         */
+        @Setup(Level.Trial)
+        public void setup() {
+            pool = new ForkJoinPool(threads);
+        }
+
+        /**
+         * Shutdown the pool.
+         */
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Performs a single-threaded shuffle.
+     *
+     * @param data Shuffle data.
+     * @param source Source of randomness.
+     * @return the shuffled data
+     */
+    @Benchmark
+    public Object shuffle(ShuffleData data, RngSource source) {
+        return ArraySampler.shuffle(source.getRNG(), data.getData());
+    }
+
+    /**
+     * Performs a parallel shuffle.
+     *
+     * @param data Shuffle data.
+     * @param source Source of randomness.
+     * @param pool Pool.
+     * @return the shuffled data
+     */
+    @Benchmark
+    public Object parallelShuffle(ShuffleData data, RngSource source, PoolSource pool) {
+        return ArraySampler.parallelShuffle(source.getRNG(), data.getData(), pool.getPool());
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.examples.jmh.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.distribution.AhrensDieterMarsagliaTsangGammaSampler;
+import org.apache.commons.rng.sampling.distribution.BetaBinomialSampler;
+import org.apache.commons.rng.sampling.distribution.BinomialSampler;
+import org.apache.commons.rng.sampling.distribution.ChengBetaSampler;
+import org.apache.commons.rng.sampling.distribution.ContinuousSampler;
+import org.apache.commons.rng.sampling.distribution.DiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.NegativeBinomialSampler;
+import org.apache.commons.rng.sampling.distribution.PoissonSampler;
+import org.apache.commons.rng.simple.RandomSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleFunction;
+
+/**
+ * Executes benchmark to compare the speed of generation of overdispersed count data
+ * using a compound sampler against composing a mixing sampler with a new count sampler
+ * for each sample.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms128M", "-Xmx128M"})
+public class CompoundCountSamplersPerformance {
+    /**
+     * The value for the baseline generation of an {@code int} value.
+     *
+     * <p>This must NOT be final!</p>
+     */
+    private int value;
+
+    /**
+     * Sampler that composes a mixing sampler with a new count sampler for each sample.
+     */
+    private static class ComposedSampler implements DiscreteSampler {
+        /** Sampler for the parameter of the count distribution. */
+        private final ContinuousSampler mixing;
+        /** Factory for the count sampler. */
+        private final DoubleFunction<DiscreteSampler> factory;
+
+        /**
+         * @param mixing Sampler for the parameter of the count distribution.
+         * @param factory Factory for the count sampler.
+         */
+        ComposedSampler(ContinuousSampler mixing,
+                        DoubleFunction<DiscreteSampler> factory) {
+            this.mixing = mixing;
+            this.factory = factory;
+        }
+
+        @Override
+        public int sample() {
+            return factory.apply(mixing.sample()).sample();
+        }
+    }
+
+    /**
+     * The {@link DiscreteSampler} samplers to use for testing.
+     */
+    @State(Scope.Benchmark)
+    public static class Sources {
+        /**
+         * RNG providers.
+         *
+         * <p>Use different speeds.</p>
+         *
+         * @see <a href="https://commons.apache.org/proper/commons-rng/userguide/rng.html">
+         *      Commons RNG user guide</a>
+         */
+        @Param({"XO_RO_SHI_RO_128_PP",
+                "MWC_256",
+                "JSF_64"})
+        private String randomSourceName;
+
+        /**
+         * The sampler type.
+         */
+        @Param({"ComposedNegativeBinomial",
+                "NegativeBinomialSampler",
+                "ComposedBetaBinomial",
+                "BetaBinomialSampler"})
+        private String samplerType;
+
+        /**
+         * The mean of the count distribution. The negative binomial distribution
+         * uses {@code r = 2}; the beta-binomial distribution uses 4 times the mean
+         * as the number of trials with {@code alpha = 2} and {@code beta = 6}.
+         */
+        @Param({"1",
+                "8",
+                "32",
+                "256",
+                "4096"})
+        private double mean;
+
+        /** The sampler. */
+        private DiscreteSampler sampler;
+
+        /**
+         * Gets the sampler.
+         *
+         * @return The sampler.
+         */
+        public DiscreteSampler getSampler() {
+            return sampler;
+        }
+
+        /** Instantiates sampler. */
+        @Setup
+        public void setup() {
+            final RandomSource randomSource = RandomSource.valueOf(randomSourceName);
+            final UniformRandomProvider rng = randomSource.create();
+            // Negative binomial: mean = r (1 - p) / p
+            final double r = 2;
+            final double p = r / (r + mean);
+            // Beta-binomial: mean = n * alpha / (alpha + beta)
+            final int trials = (int) (4 * mean);
+            final double alpha = 2;
+            final double beta = 6;
+            if ("ComposedNegativeBinomial".equals(samplerType)) {
+                sampler = new ComposedSampler(AhrensDieterMarsagliaTsangGammaSampler.of(rng, r, (1 - p) / p),
+                    m -> PoissonSampler.of(rng, m));
+            } else if ("NegativeBinomialSampler".equals(samplerType)) {
+                sampler = NegativeBinomialSampler.of(rng, r, p);
+            } else if ("ComposedBetaBinomial".equals(samplerType)) {
+                sampler = new ComposedSampler(ChengBetaSampler.of(rng, alpha, beta),
+                    x -> BinomialSampler.of(rng, trials, x));
+            } else if ("BetaBinomialSampler".equals(samplerType)) {
+                sampler = BetaBinomialSampler.of(rng, trials, alpha, beta);
+            } else {
+                throw new IllegalStateException("Unknown sampler type: " + samplerType);
+            }
+        }
+    }
+
+    // Benchmarks methods below.
+
+    /**
+     * Baseline for the JMH timing overhead for production of an {@code int} value.
+     *
+     * @return the {@code int} value
+     */
+    @Benchmark
+    public int baselineInt() {
+        return value;
+    }
+
+    /**
+     * Run the sampler.
+     *
+     * @param sources Source of randomness.
+     * @return the sample value
+     */
+    @Benchmark
+    public int sample(Sources sources) {
+        return sources.getSampler().sample();
+    }
+}
@@ -20,10 +20,12 @@ package org.apache.commons.rng.examples.jmh.sampling.distribution;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.examples.jmh.RandomSources;
 import org.apache.commons.rng.sampling.distribution.AliasMethodDiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.BtpeBinomialSampler;
 import org.apache.commons.rng.sampling.distribution.DiscreteSampler;
 import org.apache.commons.rng.sampling.distribution.DiscreteUniformSampler;
 import org.apache.commons.rng.sampling.distribution.GeometricSampler;
 import org.apache.commons.rng.sampling.distribution.GuideTableDiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.HypergeometricSampler;
 import org.apache.commons.rng.sampling.distribution.LargeMeanPoissonSampler;
 import org.apache.commons.rng.sampling.distribution.MarsagliaTsangWangDiscreteSampler;
 import org.apache.commons.rng.sampling.distribution.RejectionInversionZipfSampler;
@@ -95,6 +97,11 @@ public class DiscreteSamplersPerformance {
                 "MarsagliaTsangWangDiscreteSampler",
                 "MarsagliaTsangWangPoissonSampler",
                 "MarsagliaTsangWangBinomialSampler",
+                "BtpeBinomialSampler",
+                "LargeTrialsBtpeBinomialSampler",
+                "InversionHypergeometricSampler",
+                "H2peHypergeometricSampler",
+                "LargePopulationH2peHypergeometricSampler",
                 "GuideTableDiscreteSampler",
                 "AliasMethodDiscreteSampler"})
         private String samplerType;
@@ -132,6 +139,16 @@ public class DiscreteSamplersPerformance {
                 sampler = MarsagliaTsangWangDiscreteSampler.Poisson.of(rng, 8.9);
             } else if ("MarsagliaTsangWangBinomialSampler".equals(samplerType)) {
                 sampler = MarsagliaTsangWangDiscreteSampler.Binomial.of(rng, 20, 0.33);
+            } else if ("BtpeBinomialSampler".equals(samplerType)) {
+                sampler = BtpeBinomialSampler.of(rng, 200, 0.33);
+            } else if ("LargeTrialsBtpeBinomialSampler".equals(samplerType)) {
+                sampler = BtpeBinomialSampler.of(rng, 1000000000, 0.33);
+            } else if ("InversionHypergeometricSampler".equals(samplerType)) {
+                sampler = HypergeometricSampler.of(rng, 34, 11, 12);
+            } else if ("H2peHypergeometricSampler".equals(samplerType)) {
+                sampler = HypergeometricSampler.of(rng, 1000, 400, 300);
+            } else if ("LargePopulationH2peHypergeometricSampler".equals(samplerType)) {
+                sampler = HypergeometricSampler.of(rng, 2000000000, 700000000, 30000000);
             } else if ("GuideTableDiscreteSampler".equals(samplerType)) {
                 sampler = GuideTableDiscreteSampler.of(rng, DISCRETE_PROBABILITIES);
             } else if ("AliasMethodDiscreteSampler".equals(samplerType)) {
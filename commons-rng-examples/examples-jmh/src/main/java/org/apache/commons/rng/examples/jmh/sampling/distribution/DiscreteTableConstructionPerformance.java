@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.examples.jmh.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.distribution.AliasMethodDiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.GuideTableDiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.SharedStateDiscreteSampler;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a benchmark to compare the speed of construction of the tables for the
+ * {@link AliasMethodDiscreteSampler} and {@link GuideTableDiscreteSampler} using a
+ * single thread or a fork-join pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms4G", "-Xmx4G"})
+public class DiscreteTableConstructionPerformance {
+    /**
+     * The discrete probability distribution.
+     */
+    @State(Scope.Benchmark)
+    public static class DistributionData {
+        /**
+         * The distribution size.
+         */
+        @Param({"1000", "100000", "1000000", "10000000", "100000000"})
+        private int size;
+
+        /**
+         * The distribution. A skewed distribution creates many light items
+         * for each heavy item.
+         */
+        @Param({"uniform", "skewed"})
+        private String distribution;
+
+        /** The probabilities. */
+        private double[] probabilities;
+
+        /**
+         * Gets the probabilities.
+         *
+         * @return the probabilities
+         */
+        public double[] getProbabilities() {
+            return probabilities;
+        }
+
+        /** Create the distribution. */
+        @Setup
+        public void setup() {
+            final UniformRandomProvider rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+            if ("uniform".equals(distribution)) {
+                probabilities = rng.doubles(size).toArray();
+            } else if ("skewed".equals(distribution)) {
+                probabilities = rng.doubles(size).map(x -> Math.exp(20 * x)).toArray();
+            } else {
+                throw new IllegalStateException("Unknown distribution: " + distribution);
+            }
+        }
+    }
+
+    /**
+     * The construction method.
+     */
+    @State(Scope.Benchmark)
+    public static class ConstructionMethod {
+        /**
+         * The number of threads of the fork-join pool. Zero uses a single thread
+         * without a pool.
+         */
+        @Param({"0", "1", "4", "16", "64"})
+        private int threads;
+
+        /** The pool. */
+        private ForkJoinPool pool;
+
+        /**
+         * Gets the pool.
+         *
+         * @return the pool (or null)
+         */
+        public ForkJoinPool getPool() {
+            return pool;
+        }
+
+        /** Create the pool. */
+        @Setup
+        public void setup() {
+            pool = threads == 0 ? null : new ForkJoinPool(threads);
+        }
+    }
+
+    /**
+     * Create the alias method sampler.
+     *
+     * @param data Distribution data.
+     * @param method Construction method.
+     * @return the sampler
+     */
+    @Benchmark
+    public SharedStateDiscreteSampler aliasMethod(DistributionData data, ConstructionMethod method) {
+        final ForkJoinPool pool = method.getPool();
+        // Disable padding
+        return pool == null ?
+            AliasMethodDiscreteSampler.of(null, data.getProbabilities(), -1) :
+            AliasMethodDiscreteSampler.of(null, data.getProbabilities(), -1, pool);
+    }
+
+    /**
+     * Create the guide table sampler.
+     *
+     * @param data Distribution data.
+     * @param method Construction method.
+     * @return the sampler
+     */
+    @Benchmark
+    public SharedStateDiscreteSampler guideTable(DistributionData data, ConstructionMethod method) {
+        final ForkJoinPool pool = method.getPool();
+        return pool == null ?
+            GuideTableDiscreteSampler.of(null, data.getProbabilities(), 1.0) :
+            GuideTableDiscreteSampler.of(null, data.getProbabilities(), 1.0, pool);
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.rng.examples.jmh.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.distribution.MultivariateNormalSampler;
+import org.apache.commons.rng.sampling.distribution.ZigguratSampler;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes a benchmark to compare the speed of generation of multivariate normal
+ * random vectors using a precomputed Cholesky factor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class MultivariateNormalSamplerPerformance {
+    /** The number of rows in the flat matrix output. */
+    private static final int ROWS = 16;
+
+    /**
+     * Interface for a sampler that writes a vector to the provided array.
+     */
+    interface VectorSampler {
+        /**
+         * Sample the vector.
+         *
+         * @param out Output array.
+         * @param offset Offset into the output array.
+         * @return the output array
+         */
+        double[] sample(double[] out, int offset);
+    }
+
+    /**
+     * Hand-rolled sampler using a 2D lower-triangular factor and a separate
+     * array of standard normal deviates. This is the baseline implementation.
+     */
+    static class CholeskyVectorSampler implements VectorSampler {
+        /** The standard normal sampler. */
+        private final ZigguratSampler.NormalizedGaussian gaussian;
+        /** The mean. */
+        private final double[] mean;
+        /** The lower-triangular factor. */
+        private final double[][] factor;
+        /** Working array for the standard normal deviates. */
+        private final double[] z;
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param mean Mean.
+         * @param factor Lower-triangular factor.
+         */
+        CholeskyVectorSampler(UniformRandomProvider rng, double[] mean, double[][] factor) {
+            gaussian = ZigguratSampler.NormalizedGaussian.of(rng);
+            this.mean = mean;
+            this.factor = factor;
+            z = new double[mean.length];
+        }
+
+        @Override
+        public double[] sample(double[] out, int offset) {
+            final int n = mean.length;
+            for (int i = 0; i < n; i++) {
+                z[i] = gaussian.sample();
+            }
+            for (int i = 0; i < n; i++) {
+                final double[] row = factor[i];
+                double sum = mean[i];
+                for (int j = 0; j <= i; j++) {
+                    sum += row[j] * z[j];
+                }
+                out[offset + i] = sum;
+            }
+            return out;
+        }
+    }
+
+    /**
+     * The samplers to use for testing. Defines the RandomSource, the dimension and
+     * the type of sampler.
+     */
+    @State(Scope.Benchmark)
+    public static class Sources {
+        /**
+         * RNG providers.
+         *
+         * <p>Use different speeds.</p>
+         *
+         * @see <a href="https://commons.apache.org/proper/commons-rng/userguide/rng.html">
+         *      Commons RNG user guide</a>
+         */
+        @Param({"XO_RO_SHI_RO_128_PP",
+                "MWC_256",
+                "JDK"})
+        private String randomSourceName;
+
+        /** The dimension. */
+        @Param({"2", "10", "50", "100", "250", "500"})
+        private int dimension;
+
+        /**
+         * The sampler type.
+         */
+        @Param({"MultivariateNormalSampler", "Cholesky"})
+        private String samplerType;
+
+        /** The sampler. */
+        private VectorSampler sampler;
+
+        /** The output. */
+        private double[] out;
+
+        /**
+         * @return the sampler.
+         */
+        public VectorSampler getSampler() {
+            return sampler;
+        }
+
+        /**
+         * @return the output array.
+         */
+        public double[] getOut() {
+            return out;
+        }
+
+        /**
+         * @return the dimension.
+         */
+        public int getDimension() {
+            return dimension;
+        }
+
+        /** Instantiates sampler. */
+        @Setup
+        public void setup() {
+            final RandomSource randomSource = RandomSource.valueOf(randomSourceName);
+            final UniformRandomProvider rng = randomSource.create();
+            final double[] mean = new double[dimension];
+            final double[][] covariance = new double[dimension][dimension];
+            // AR(1) covariance: rho^|i-j|. The Cholesky factor is dense.
+            final double rho = 0.5;
+            for (int i = 0; i < dimension; i++) {
+                mean[i] = i;
+                for (int j = 0; j < dimension; j++) {
+                    covariance[i][j] = Math.pow(rho, Math.abs(i - j));
+                }
+            }
+            if ("MultivariateNormalSampler".equals(samplerType)) {
+                final MultivariateNormalSampler s = MultivariateNormalSampler.of(rng, mean, covariance);
+                sampler = s::sample;
+            } else if ("Cholesky".equals(samplerType)) {
+                sampler = new CholeskyVectorSampler(rng, mean, cholesky(covariance));
+            } else {
+                throw new IllegalStateException("Unknown sampler type: " + samplerType);
+            }
+            out = new double[dimension * ROWS];
+        }
+
+        /**
+         * Compute the lower-triangular Cholesky factor of the symmetric positive
+         * definite matrix.
+         *
+         * @param a Matrix.
+         * @return the factor
+         */
+        private static double[][] cholesky(double[][] a) {
+            final int n = a.length;
+            final double[][] l = new double[n][];
+            for (int i = 0; i < n; i++) {
+                l[i] = new double[i + 1];
+                for (int j = 0; j <= i; j++) {
+                    double sum = a[i][j];
+                    for (int k = 0; k < j; k++) {
+                        sum -= l[i][k] * l[j][k];
+                    }
+                    l[i][j] = i == j ? Math.sqrt(sum) : sum / l[j][j];
+                }
+            }
+            return l;
+        }
+    }
+
+    /**
+     * Sample a single vector.
+     *
+     * @param sources Source of randomness.
+     * @return the sample
+     */
+    @Benchmark
+    public double[] sample(Sources sources) {
+        return sources.getSampler().sample(sources.getOut(), 0);
+    }
+
+    /**
+     * Sample vectors into each row of a flat matrix.
+     *
+     * @param sources Source of randomness.
+     * @return the samples
+     */
+    @Benchmark
+    public double[] sampleMatrix(Sources sources) {
+        final VectorSampler s = sources.getSampler();
+        final double[] out = sources.getOut();
+        final int n = sources.getDimension();
+        for (int i = 0; i < ROWS; i++) {
+            s.sample(out, i * n);
+        }
+        return out;
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.commons.rng.simple.RandomSource;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
@@ -37,6 +38,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
@@ -267,6 +269,57 @@ public class PoissonSamplerCachePerformance {
         }
     }
 
+    /**
+     * The source of randomness for a single thread.
+     *
+     * <p>Each thread uses a different generator.
+     */
+    @State(Scope.Thread)
+    public static class ThreadSources {
+        /** RNG. */
+        private UniformRandomProvider generator;
+
+        /**
+         * @return the RNG.
+         */
+        public UniformRandomProvider getGenerator() {
+            return generator;
+        }
+
+        /** Instantiates generator. */
+        @Setup
+        public void setup() {
+            generator = RandomSource.SPLIT_MIX_64.create();
+        }
+    }
+
+    /**
+     * A cache shared by all threads.
+     */
+    @State(Scope.Benchmark)
+    public static class SharedCache {
+        /** The cache. */
+        private PoissonSamplerCache cache;
+
+        /**
+         * @return the cache.
+         */
+        public PoissonSamplerCache getCache() {
+            return cache;
+        }
+
+        /**
+         * Create an empty cache for each iteration. The cache is filled concurrently
+         * by the threads during the iteration.
+         *
+         * @param range The range.
+         */
+        @Setup(Level.Iteration)
+        public void setup(MeanRange range) {
+            cache = new PoissonSamplerCache(range.getMin(), range.getMax());
+        }
+    }
+
     /**
      * Exercises a poisson sampler created for a single use with a range of means.
      *
@@ -328,4 +381,63 @@ public class PoissonSamplerCachePerformance {
         final DoubleFunction<DiscreteSampler> factory = mean -> cache.createSharedStateSampler(r, mean);
         runSample(factory, range, bh);
     }
+
+    /**
+     * Baseline for the multi-threaded benchmarks. Each thread creates new samplers.
+     *
+     * @param sources Source of randomness.
+     * @param range   The range.
+     * @param bh      Data sink.
+     */
+    @Benchmark
+    @Threads(4)
+    public void runPoissonSamplerThreads4(ThreadSources sources,
+                                          MeanRange range,
+                                          Blackhole bh) {
+        final UniformRandomProvider r = sources.getGenerator();
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            bh.consume(PoissonSampler.of(r, range.getMean(i)).sample());
+        }
+    }
+
+    /**
+     * Each thread creates its own cache.
+     *
+     * @param sources Source of randomness.
+     * @param range   The range.
+     * @param bh      Data sink.
+     */
+    @Benchmark
+    @Threads(4)
+    public void runPoissonSamplerCachePerThreadThreads4(ThreadSources sources,
+                                                        MeanRange range,
+                                                        Blackhole bh) {
+        final UniformRandomProvider r = sources.getGenerator();
+        final PoissonSamplerCache cache = new PoissonSamplerCache(
+                range.getMin(), range.getMax());
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            bh.consume(cache.sample(r, range.getMean(i)));
+        }
+    }
+
+    /**
+     * All threads share a single cache.
+     *
+     * @param sources Source of randomness.
+     * @param cache   The shared cache.
+     * @param range   The range.
+     * @param bh      Data sink.
+     */
+    @Benchmark
+    @Threads(4)
+    public void runPoissonSamplerCacheSharedThreads4(ThreadSources sources,
+                                                     SharedCache cache,
+                                                     MeanRange range,
+                                                     Blackhole bh) {
+        final UniformRandomProvider r = sources.getGenerator();
+        final PoissonSamplerCache c = cache.getCache();
+        for (int i = 0; i < NUM_SAMPLES; i++) {
+            bh.consume(c.sample(r, range.getMean(i)));
+        }
+    }
 }
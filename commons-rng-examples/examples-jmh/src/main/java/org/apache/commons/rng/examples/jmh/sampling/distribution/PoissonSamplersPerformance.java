@@ -21,6 +21,8 @@ import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.distribution.DiscreteSampler;
 import org.apache.commons.rng.sampling.distribution.KempSmallMeanPoissonSampler;
 import org.apache.commons.rng.sampling.distribution.LargeMeanPoissonSampler;
+import org.apache.commons.rng.sampling.distribution.PoissonSampler;
+import org.apache.commons.rng.sampling.distribution.PtrsPoissonSampler;
 import org.apache.commons.rng.sampling.distribution.SmallMeanPoissonSampler;
 import org.apache.commons.rng.simple.RandomSource;
 
@@ -115,12 +117,18 @@ public class PoissonSamplersPerformance {
                 "KempSmallMeanPoissonSamplerBinarySearch",
                 "KempSmallMeanPoissonSamplerGuideTable",
                 "LargeMeanPoissonSampler",
+                "PtrsPoissonSampler",
+                "PoissonSampler",
                 "TinyMeanPoissonSampler"})
         private String samplerType;
 
         /**
-         * The Poisson mean. This is set at a level where the small mean sampler is to be used
-         * in preference to the large mean sampler.
+         * The Poisson mean. This covers the levels where the small mean sampler is to be used
+         * in preference to the large mean sampler, and the crossover between the small,
+         * transformed rejection and large mean samplers.
+         *
+         * <p>Note: The {@code PtrsPoissonSampler} uses the small mean sampler for
+         * {@code mean < 10}.
          */
         @Param({"0.25",
                 "0.5",
@@ -130,7 +138,9 @@ public class PoissonSamplersPerformance {
                 "8",
                 "16",
                 "32",
-                "64"})
+                "64",
+                "128",
+                "512"})
         private double mean;
 
         /** RNG. */
@@ -177,6 +187,10 @@ public class PoissonSamplersPerformance {
                 factory = () -> new KempSmallMeanPoissonSamplerGuideTable(generator, mean);
             } else if ("LargeMeanPoissonSampler".equals(samplerType)) {
                 factory = () -> LargeMeanPoissonSampler.of(generator, mean);
+            } else if ("PtrsPoissonSampler".equals(samplerType)) {
+                factory = () -> PtrsPoissonSampler.of(generator, mean);
+            } else if ("PoissonSampler".equals(samplerType)) {
+                factory = () -> PoissonSampler.of(generator, mean);
             } else if ("TinyMeanPoissonSampler".equals(samplerType)) {
                 factory = () -> new TinyMeanPoissonSampler(generator, mean);
             }
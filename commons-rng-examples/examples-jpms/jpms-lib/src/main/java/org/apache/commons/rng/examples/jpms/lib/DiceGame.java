@@ -18,9 +18,7 @@
 package org.apache.commons.rng.examples.jpms.lib;
 
 import org.apache.commons.rng.UniformRandomProvider;
-import org.apache.commons.rng.sampling.distribution.ContinuousSampler;
-import org.apache.commons.rng.sampling.distribution.GaussianSampler;
-import org.apache.commons.rng.sampling.distribution.ZigguratNormalizedGaussianSampler;
+import org.apache.commons.rng.sampling.distribution.ZigguratSampler;
 
 /**
  * Example application.
@@ -29,7 +27,11 @@ public class DiceGame {
     /** Underlying RNG. */
     private final UniformRandomProvider rng;
     /** Sampler. */
-    private final ContinuousSampler sampler;
+    private final ZigguratSampler.NormalizedGaussian sampler;
+    /** Mean. */
+    private final double mu;
+    /** Standard deviation. */
+    private final double sigma;
     /** Number of rounds in the game. */
     private final int rounds;
     /** Number of players in the game. */
@@ -50,7 +52,9 @@ public class DiceGame {
         this.rng = rng;
         this.rounds = rounds;
         this.players = players;
-        sampler = GaussianSampler.of(ZigguratNormalizedGaussianSampler.of(rng), mu, sigma);
+        this.mu = mu;
+        this.sigma = sigma;
+        sampler = ZigguratSampler.NormalizedGaussian.of(rng);
     }
 
     /**
@@ -60,9 +64,13 @@ public class DiceGame {
      */
     public int[] play() {
         final int[] scores = new int[players];
+        // Bulk sample the number of dice for all the rounds.
+        // This uses vector operations if enabled.
+        final double[] dice = new double[rounds * players];
+        sampler.sample(dice);
 
         for (int i = 0; i < rounds; i++) {
-            doRound(scores);
+            doRound(scores, dice, i * players);
         }
         return scores;
     }
@@ -71,19 +79,22 @@ public class DiceGame {
      * Play a round and update the scores.
      *
      * @param currentScores Scores of the players.
+     * @param dice Standard normal samples for the number of dice.
+     * @param offset Offset of the round in the samples.
      */
-    private void doRound(int[] currentScores) {
+    private void doRound(int[] currentScores, double[] dice, int offset) {
         for (int i = 0; i < players; i++) {
-            currentScores[i] += roll();
+            currentScores[i] += roll(dice[offset + i]);
         }
     }
 
     /**
+     * @param z Standard normal sample for the number of dice.
      * @return the score of one round.
      */
-    private int roll() {
+    private int roll(double z) {
         int score = 0;
-        final int n = numberOfDice();
+        final int n = numberOfDice(z);
         for (int i = 0; i < n; i++) {
             score += singleRoll();
         }
@@ -98,10 +109,11 @@ public class DiceGame {
     }
 
     /**
+     * @param z Standard normal sample.
      * @return the number of dice to roll.
      */
-    private int numberOfDice() {
-        final double n = Math.round(sampler.sample());
+    private int numberOfDice(double z) {
+        final double n = Math.round(mu + sigma * z);
         return n <= 0 ? 0 : (int) n;
     }
 }
@@ -43,5 +43,10 @@ MU=4.3
 SIGMA=2.1
 ARGS="$GAMES $PLAYERS $ROUNDS $RANDOM_SOURCE $MU $SIGMA"
 
-# Assuming Java 9 (or later).
-java --module-path $MODPATH --module $MOD $ARGS
+# Assuming Java 9 (or later). Use JAVA_HOME if set.
+JAVA=java
+if [ -n "$JAVA_HOME" ]; then
+  JAVA=$JAVA_HOME/bin/java
+fi
+# Additional JVM options can be set using JAVA_OPTS.
+$JAVA $JAVA_OPTS --module-path $MODPATH --module $MOD $ARGS
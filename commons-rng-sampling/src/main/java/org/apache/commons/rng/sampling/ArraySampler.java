@@ -17,6 +17,9 @@
 package org.apache.commons.rng.sampling;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 
 /**
@@ -28,26 +31,67 @@ import org.apache.commons.rng.UniformRandomProvider;
  *
  * <p>Small ranges use batched random integer generation to increase performance.
  *
+ * <p>Parallel shuffles use the MergeShuffle algorithm. The array is divided into
+ * blocks that are shuffled independently. Adjacent shuffled blocks are recursively
+ * merged by interleaving the items in a random order. Each block and merge uses a
+ * source of randomness split from the input generator; the result depends only on
+ * the state of the input generator and the length of the array, and not on the
+ * parallelism of the pool.
+ *
  * <ul>
  * <li>Nevin Brackett-Rozinsky, Daniel Lemire,
  * Batched Ranged Random Integer Generation, Software: Practice and Experience (to appear)
  * <a href="https://arxiv.org/abs/2408.06213">arXiv:2408.06213M</a></li>
+ * <li>Axel Bacher, Olivier Bodini, Alexandros Hollender, J&eacute;r&eacute;mie Lumbroso,
+ * MergeShuffle: A Very Fast, Parallel Random Permutation Algorithm (2015)
+ * <a href="https://arxiv.org/abs/1508.03167">arXiv:1508.03167</a></li>
  * </ul>
  *
  * @since 1.6
  */
 public final class ArraySampler {
+    /** Length threshold to sample 2 integers from a random 32-bit value.
+     * The threshold provided in the Brackett-Rozinsky and Lemire paper
+     * is the power of 2 below 20724. Note that the product 2^15*2^15
+     * is representable using signed integers. */
+    static final int BATCH_2 = 1 << 15;
     /** Mask the lower 32-bit of a long. */
     private static final long MASK_32 = 0xffffffffL;
     /** 2^32. Used for the bounded random algorithm. This is required as the original
      * method used (-bound % bound) for (2^L % bound) which only works for unsigned integer
      * modulus. */
     private static final long POW_32 = 1L << 32;
-    /** Length threshold to sample 2 integers from a random 32-bit value.
-     * The threshold provided in the Brackett-Rozinsky and Lemire paper
-     * is the power of 2 below 20724. Note that the product 2^15*2^15
-     * is representable using signed integers. */
-    private static final int BATCH_2 = 1 << 15;
+    /** The number of items shuffled by each task of a parallel shuffle. */
+    private static final int PARALLEL_BLOCK_SIZE = 1 << 20;
+
+    /**
+     * Shuffles a sub-range of an array. Used by the parallel shuffle.
+     */
+    @FunctionalInterface
+    private interface RangeShuffle {
+        /**
+         * Shuffles the entries in the range {@code [from, to)}.
+         *
+         * @param rng Source of randomness.
+         * @param from Lower-bound (inclusive) of the sub-range.
+         * @param to Upper-bound (exclusive) of the sub-range.
+         */
+        void shuffle(UniformRandomProvider rng, int from, int to);
+    }
+
+    /**
+     * Swaps two items of an array. Used by the parallel shuffle.
+     */
+    @FunctionalInterface
+    private interface IndexSwap {
+        /**
+         * Swaps the two specified elements.
+         *
+         * @param i First index.
+         * @param j Second index.
+         */
+        void swap(int i, int j);
+    }
 
     /** Class contains only static methods. */
     private ArraySampler() {}
@@ -541,6 +585,237 @@ public final class ArraySampler {
         return array;
     }
 
+    /**
+     * Shuffles the entries of the given array using the {@code pool}.
+     *
+     * <p>Arrays larger than a block size are shuffled in parallel. Smaller arrays
+     * are shuffled using a single thread.
+     *
+     * @param rng Source of randomness.
+     * @param array Array whose entries will be shuffled (in-place).
+     * @param pool Pool used to shuffle the array.
+     * @return a reference to the given array
+     * @since 1.8
+     */
+    public static int[] parallelShuffle(SplittableUniformRandomProvider rng, int[] array, ForkJoinPool pool) {
+        return parallelShuffle(rng, array, pool, PARALLEL_BLOCK_SIZE);
+    }
+
+    /**
+     * Shuffles the entries of the given array using the {@code pool}.
+     * The array is shuffled in parallel using blocks of the specified size.
+     *
+     * @param rng Source of randomness.
+     * @param array Array whose entries will be shuffled (in-place).
+     * @param pool Pool used to shuffle the array.
+     * @param blockSize Number of items shuffled by each task.
+     * @return a reference to the given array
+     */
+    static int[] parallelShuffle(SplittableUniformRandomProvider rng, int[] array, ForkJoinPool pool,
+                                 int blockSize) {
+        if (array.length <= blockSize) {
+            return shuffle(rng, array);
+        }
+        parallelShuffle(rng, array.length, pool, blockSize,
+            (r, from, to) -> shuffle(r, array, from, to), (i, j) -> swap(array, i, j));
+        return array;
+    }
+
+    /**
+     * Shuffles the entries of the given array using the {@code pool}.
+     *
+     * <p>Arrays larger than a block size are shuffled in parallel. Smaller arrays
+     * are shuffled using a single thread.
+     *
+     * @param rng Source of randomness.
+     * @param array Array whose entries will be shuffled (in-place).
+     * @param pool Pool used to shuffle the array.
+     * @return a reference to the given array
+     * @since 1.8
+     */
+    public static long[] parallelShuffle(SplittableUniformRandomProvider rng, long[] array, ForkJoinPool pool) {
+        return parallelShuffle(rng, array, pool, PARALLEL_BLOCK_SIZE);
+    }
+
+    /**
+     * Shuffles the entries of the given array using the {@code pool}.
+     * The array is shuffled in parallel using blocks of the specified size.
+     *
+     * @param rng Source of randomness.
+     * @param array Array whose entries will be shuffled (in-place).
+     * @param pool Pool used to shuffle the array.
+     * @param blockSize Number of items shuffled by each task.
+     * @return a reference to the given array
+     */
+    static long[] parallelShuffle(SplittableUniformRandomProvider rng, long[] array, ForkJoinPool pool,
+                                  int blockSize) {
+        if (array.length <= blockSize) {
+            return shuffle(rng, array);
+        }
+        parallelShuffle(rng, array.length, pool, blockSize,
+            (r, from, to) -> shuffle(r, array, from, to), (i, j) -> swap(array, i, j));
+        return array;
+    }
+
+    /**
+     * Shuffles the entries of the given array using the {@code pool}.
+     *
+     * <p>Arrays larger than a block size are shuffled in parallel. Smaller arrays
+     * are shuffled using a single thread.
+     *
+     * @param rng Source of randomness.
+     * @param array Array whose entries will be shuffled (in-place).
+     * @param pool Pool used to shuffle the array.
+     * @return a reference to the given array
+     * @since 1.8
+     */
+    public static double[] parallelShuffle(SplittableUniformRandomProvider rng, double[] array, ForkJoinPool pool) {
+        return parallelShuffle(rng, array, pool, PARALLEL_BLOCK_SIZE);
+    }
+
+    /**
+     * Shuffles the entries of the given array using the {@code pool}.
+     * The array is shuffled in parallel using blocks of the specified size.
+     *
+     * @param rng Source of randomness.
+     * @param array Array whose entries will be shuffled (in-place).
+     * @param pool Pool used to shuffle the array.
+     * @param blockSize Number of items shuffled by each task.
+     * @return a reference to the given array
+     */
+    static double[] parallelShuffle(SplittableUniformRandomProvider rng, double[] array, ForkJoinPool pool,
+                                    int blockSize) {
+        if (array.length <= blockSize) {
+            return shuffle(rng, array);
+        }
+        parallelShuffle(rng, array.length, pool, blockSize,
+            (r, from, to) -> shuffle(r, array, from, to), (i, j) -> swap(array, i, j));
+        return array;
+    }
+
+    /**
+     * Shuffles the entries of the given array using the {@code pool}.
+     *
+     * <p>Arrays larger than a block size are shuffled in parallel. Smaller arrays
+     * are shuffled using a single thread.
+     *
+     * @param <T> Type of the items.
+     * @param rng Source of randomness.
+     * @param array Array whose entries will be shuffled (in-place).
+     * @param pool Pool used to shuffle the array.
+     * @return a reference to the given array
+     * @since 1.8
+     */
+    public static <T> T[] parallelShuffle(SplittableUniformRandomProvider rng, T[] array, ForkJoinPool pool) {
+        return parallelShuffle(rng, array, pool, PARALLEL_BLOCK_SIZE);
+    }
+
+    /**
+     * Shuffles the entries of the given array using the {@code pool}.
+     * The array is shuffled in parallel using blocks of the specified size.
+     *
+     * @param <T> Type of the items.
+     * @param rng Source of randomness.
+     * @param array Array whose entries will be shuffled (in-place).
+     * @param pool Pool used to shuffle the array.
+     * @param blockSize Number of items shuffled by each task.
+     * @return a reference to the given array
+     */
+    static <T> T[] parallelShuffle(SplittableUniformRandomProvider rng, T[] array, ForkJoinPool pool,
+                                   int blockSize) {
+        if (array.length <= blockSize) {
+            return shuffle(rng, array);
+        }
+        parallelShuffle(rng, array.length, pool, blockSize,
+            (r, from, to) -> shuffle(r, array, from, to), (i, j) -> swap(array, i, j));
+        return array;
+    }
+
+    /**
+     * Shuffles a range of length {@code length} using the {@code pool}.
+     *
+     * @param rng Source of randomness.
+     * @param length Length of the range.
+     * @param pool Pool used to shuffle the range.
+     * @param blockSize Number of items shuffled by each task.
+     * @param shuffle Shuffles a sub-range of the array.
+     * @param swap Swaps two items of the array.
+     */
+    private static void parallelShuffle(SplittableUniformRandomProvider rng, int length, ForkJoinPool pool,
+                                        int blockSize, RangeShuffle shuffle, IndexSwap swap) {
+        pool.invoke(ForkJoinTask.adapt(() -> parallelShuffle(rng, 0, length, blockSize, shuffle, swap)));
+    }
+
+    /**
+     * Shuffles the entries in the range {@code [from, to)}.
+     * The range is recursively divided and the shuffled halves are merged.
+     *
+     * @param rng Source of randomness.
+     * @param from Lower-bound (inclusive) of the sub-range.
+     * @param to Upper-bound (exclusive) of the sub-range.
+     * @param blockSize Number of items shuffled by each task.
+     * @param shuffle Shuffles a sub-range of the array.
+     * @param swap Swaps two items of the array.
+     */
+    private static void parallelShuffle(SplittableUniformRandomProvider rng, int from, int to,
+                                        int blockSize, RangeShuffle shuffle, IndexSwap swap) {
+        if (to - from <= blockSize) {
+            shuffle.shuffle(rng, from, to);
+            return;
+        }
+        final int mid = (from + to) >>> 1;
+        // Split the source of randomness before the tasks are forked so the
+        // result does not depend on the order of execution
+        final SplittableUniformRandomProvider rng1 = rng.split();
+        final SplittableUniformRandomProvider rng2 = rng.split();
+        ForkJoinTask.invokeAll(
+            ForkJoinTask.adapt(() -> parallelShuffle(rng1, from, mid, blockSize, shuffle, swap)),
+            ForkJoinTask.adapt(() -> parallelShuffle(rng2, mid, to, blockSize, shuffle, swap)));
+        merge(rng, from, mid, to, swap);
+    }
+
+    /**
+     * Merges the shuffled sub-ranges {@code [from, mid)} and {@code [mid, to)} into a
+     * shuffled range {@code [from, to)}.
+     *
+     * @param rng Source of randomness.
+     * @param from Lower-bound (inclusive) of the first sub-range.
+     * @param mid Lower-bound (inclusive) of the second sub-range.
+     * @param to Upper-bound (exclusive) of the second sub-range.
+     * @param swap Swaps two items of the array.
+     */
+    private static void merge(UniformRandomProvider rng, int from, int mid, int to, IndexSwap swap) {
+        int i = from;
+        int j = mid;
+        long bits = 0;
+        int remaining = 0;
+        // Choose the next item from either sub-range at random until a sub-range is exhausted
+        for (;;) {
+            if (remaining == 0) {
+                bits = rng.nextLong();
+                remaining = Long.SIZE;
+            }
+            remaining--;
+            final long bit = bits & 1;
+            bits >>>= 1;
+            if (bit == 0) {
+                if (i == j) {
+                    break;
+                }
+            } else {
+                if (j == to) {
+                    break;
+                }
+                swap.swap(i, j++);
+            }
+            i++;
+        }
+        // Insert each remaining item at a random position
+        for (; i < to; i++) {
+            swap.swap(i, from + rng.nextInt(i - from + 1));
+        }
+    }
+
     /**
      * Swaps the two specified elements in the array.
      *
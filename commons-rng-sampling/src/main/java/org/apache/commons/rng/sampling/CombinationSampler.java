@@ -35,7 +35,9 @@ import org.apache.commons.rng.UniformRandomProvider;
  * <p>The sampler can be used to generate indices to select subsets where the
  * order of the subset is not important.</p>
  *
- * <p>Sampling uses {@link UniformRandomProvider#nextInt(int)}.</p>
+ * <p>Sampling uses {@link UniformRandomProvider#nextInt(int)} for large domains.
+ * Small domains use batched random integer generation with
+ * {@link UniformRandomProvider#nextInt()} (see {@link ArraySampler}).</p>
  *
  * @see PermutationSampler
  */
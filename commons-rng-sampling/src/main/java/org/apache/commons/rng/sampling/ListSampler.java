@@ -21,7 +21,9 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.RandomAccess;
 import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
 
+import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 
 /**
@@ -54,7 +56,9 @@ public final class ListSampler {
      * </p>
      *
      * <p>
-     * Sampling uses {@link UniformRandomProvider#nextInt(int)}.
+     * Sampling uses {@link UniformRandomProvider#nextInt(int)} for large lists.
+     * Small lists use batched random integer generation with
+     * {@link UniformRandomProvider#nextInt()} (see {@link ArraySampler}).
      * </p>
      *
      * @param <T> Type of the list items.
@@ -86,7 +90,9 @@ public final class ListSampler {
      * Fisher-Yates</a> algorithm.
      *
      * <p>
-     * Sampling uses {@link UniformRandomProvider#nextInt(int)}.
+     * Sampling uses {@link UniformRandomProvider#nextInt(int)} for large lists.
+     * Small lists use batched random integer generation with
+     * {@link UniformRandomProvider#nextInt()} (see {@link ArraySampler}).
      * </p>
      *
      * @param <T> Type of the list items.
@@ -113,6 +119,34 @@ public final class ListSampler {
         }
     }
 
+    /**
+     * Shuffles the entries of the given list using the {@code pool}.
+     *
+     * <p>
+     * The entries are copied to an array that is shuffled using
+     * {@link ArraySampler#parallelShuffle(SplittableUniformRandomProvider, Object[], ForkJoinPool)}
+     * and then written back to the list.
+     * </p>
+     *
+     * @param <T> Type of the list items.
+     * @param rng Random number generator.
+     * @param list List whose entries will be shuffled (in-place).
+     * @param pool Pool used to shuffle the list.
+     * @since 1.8
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static <T> void parallelShuffle(SplittableUniformRandomProvider rng,
+                                           List<T> list,
+                                           ForkJoinPool pool) {
+        final Object[] array = ArraySampler.parallelShuffle(rng, list.toArray(), pool);
+        // Copy back. Use raw types.
+        final ListIterator it = list.listIterator();
+        for (final Object item : array) {
+            it.next();
+            it.set(item);
+        }
+    }
+
     /**
      * Shuffles the entries of the given array, using the
      * <a href="https://en.wikipedia.org/wiki/Fisher-Yates_shuffle#The_modern_algorithm">
@@ -124,7 +158,9 @@ public final class ListSampler {
      * </p>
      *
      * <p>
-     * Sampling uses {@link UniformRandomProvider#nextInt(int)}.
+     * Sampling uses {@link UniformRandomProvider#nextInt(int)} for large lists.
+     * Small lists use batched random integer generation with
+     * {@link UniformRandomProvider#nextInt()} (see {@link ArraySampler}).
      * </p>
      *
      * @param <T> Type of the list items.
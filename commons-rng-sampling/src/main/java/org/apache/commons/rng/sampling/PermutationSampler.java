@@ -23,7 +23,9 @@ import org.apache.commons.rng.UniformRandomProvider;
  * Class for representing <a href="https://en.wikipedia.org/wiki/Permutation">permutations</a>
  * of a sequence of integers.
  *
- * <p>Sampling uses {@link UniformRandomProvider#nextInt(int)}.</p>
+ * <p>Sampling uses {@link UniformRandomProvider#nextInt(int)} for large domains.
+ * Small domains use batched random integer generation with
+ * {@link UniformRandomProvider#nextInt()} (see {@link ArraySampler}).</p>
  *
  * <p>This class also contains utilities for shuffling an {@code int[]} array in-place.</p>
  */
@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling;
+
+import java.util.stream.LongStream;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * A random <a href="https://en.wikipedia.org/wiki/Permutation">permutation</a>
+ * of the integers {@code [0, n)} that does not store the permuted sequence.
+ *
+ * <p>The permutation is a keyed bijection computed using a
+ * <a href="https://en.wikipedia.org/wiki/Feistel_cipher">Feistel network</a> over
+ * the smallest power-of-2 domain that contains {@code n} values. Values outside
+ * the range {@code [0, n)} are mapped back into the range by repeated application
+ * of the network (cycle walking). The domain is less than {@code 2n} and the
+ * expected number of applications of the network is less than 2.</p>
+ *
+ * <p>A Feistel network over a small domain is a poor approximation of a random
+ * permutation. Permutations of up to 64 values are created using a
+ * <a href="https://en.wikipedia.org/wiki/Fisher-Yates_shuffle">Fisher-Yates</a>
+ * shuffle and stored as a table.</p>
+ *
+ * <p>The element at any position of the permutation, and the position of any
+ * element, can be computed in constant time using {@link #apply(long)} and
+ * {@link #inverse(long)}. The permutation uses {@code O(1)} memory and supports
+ * {@code n} up to {@link Long#MAX_VALUE}. This allows visiting a huge range of
+ * values in a random order. Any sub-range of positions can be visited
+ * independently; traversal can be performed in parallel using
+ * {@link #stream()}.</p>
+ *
+ * <p>The source of randomness is only used to create the keys of the network.
+ * Instances are immutable and thread-safe.</p>
+ *
+ * <p>Note: A Feistel network cannot generate all permutations of {@code n} values
+ * with equal probability; the output is a pseudo-random permutation. Use
+ * {@link PermutationSampler} or {@link ArraySampler} when the permutation must be
+ * uniformly selected from all possible permutations. This class is not suitable
+ * for cryptography.</p>
+ *
+ * @see <a href="https://doi.org/10.1007/3-540-45760-7_9">
+ * Black and Rogaway (2002) Ciphers with Arbitrary Finite Domains.
+ * CT-RSA 2002, LNCS 2271, 114-130</a>
+ * @since 1.8
+ */
+public final class RandomPermutation {
+    /** Number of rounds of the Feistel network. Must be even. */
+    private static final int ROUNDS = 6;
+    /** Maximum size of a permutation stored as a table. */
+    private static final int MAX_TABLE_SIZE = 64;
+
+    /** Size of the permutation. */
+    private final long n;
+    /** Number of bits in the left half of the domain. */
+    private final int leftBits;
+    /** Number of bits in the right half of the domain. */
+    private final int rightBits;
+    /** Round keys. Null if the permutation is stored as a table. */
+    private final long[] keys;
+    /** Elements of the permutation. Null if the permutation uses the Feistel network. */
+    private final byte[] elements;
+    /** Positions of the elements. Null if the permutation uses the Feistel network. */
+    private final byte[] positions;
+
+    /**
+     * @param n Size of the permutation.
+     * @param keys Round keys.
+     */
+    private RandomPermutation(long n, long[] keys) {
+        this.n = n;
+        // Smallest power-of-2 domain containing n values
+        final int bits = Long.SIZE - Long.numberOfLeadingZeros(n - 1);
+        rightBits = (bits + 1) >>> 1;
+        leftBits = bits - rightBits;
+        this.keys = keys;
+        elements = null;
+        positions = null;
+    }
+
+    /**
+     * @param elements Elements of the permutation.
+     */
+    private RandomPermutation(byte[] elements) {
+        n = elements.length;
+        leftBits = 0;
+        rightBits = 0;
+        keys = null;
+        this.elements = elements;
+        positions = new byte[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            positions[elements[i]] = (byte) i;
+        }
+    }
+
+    /**
+     * Create a random permutation of the integers {@code [0, n)}.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param n Size of the permutation.
+     * @return the permutation
+     * @throws IllegalArgumentException if {@code n <= 0}.
+     */
+    public static RandomPermutation of(UniformRandomProvider rng, long n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n <= 0 : n=" + n);
+        }
+        if (n <= MAX_TABLE_SIZE) {
+            final byte[] elements = new byte[(int) n];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = (byte) i;
+            }
+            return new RandomPermutation(ArraySampler.shuffle(rng, elements));
+        }
+        final long[] keys = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            keys[i] = rng.nextLong();
+        }
+        return new RandomPermutation(n, keys);
+    }
+
+    /**
+     * Gets the size of the permutation.
+     *
+     * @return the size
+     */
+    public long size() {
+        return n;
+    }
+
+    /**
+     * Gets the element at the specified {@code position} of the permutation.
+     *
+     * @param position Position in {@code [0, n)}.
+     * @return the element
+     * @throws IndexOutOfBoundsException if the position is out of bounds
+     * @see #inverse(long)
+     */
+    public long apply(long position) {
+        checkIndex(position);
+        return element(position);
+    }
+
+    /**
+     * Gets the position of the specified {@code element} in the permutation.
+     * This is the inverse of {@link #apply(long)}:
+     * <pre>
+     * inverse(apply(i)) == i
+     * </pre>
+     *
+     * @param element Element in {@code [0, n)}.
+     * @return the position
+     * @throws IndexOutOfBoundsException if the element is out of bounds
+     */
+    public long inverse(long element) {
+        checkIndex(element);
+        if (positions != null) {
+            return positions[(int) element];
+        }
+        long x = element;
+        do {
+            x = decrypt(x);
+        } while (x >= n);
+        return x;
+    }
+
+    /**
+     * Returns a stream of the elements of the permutation in order of position.
+     *
+     * <p>The stream is sized and can be efficiently split for parallel
+     * processing. This is equivalent to:
+     * <pre>
+     * stream(0, size())
+     * </pre>
+     *
+     * @return the stream
+     */
+    public LongStream stream() {
+        return LongStream.range(0, n).map(this::element);
+    }
+
+    /**
+     * Returns a stream of the elements of the permutation for the positions in the
+     * range {@code [from, to)}.
+     *
+     * <p>The stream is sized and can be efficiently split for parallel
+     * processing. Streams of disjoint ranges contain disjoint elements.
+     *
+     * @param from Start position (inclusive).
+     * @param to End position (exclusive).
+     * @return the stream
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    public LongStream stream(long from, long to) {
+        if (from < 0 || from > to || to > n) {
+            throw new IndexOutOfBoundsException(
+                String.format("Range [%d, %d) out of bounds for length %d", from, to, n));
+        }
+        return LongStream.range(from, to).map(this::element);
+    }
+
+    /**
+     * Gets the element at the specified {@code position} of the permutation.
+     * No checks are made on the position.
+     *
+     * @param position Position in {@code [0, n)}.
+     * @return the element
+     */
+    private long element(long position) {
+        if (elements != null) {
+            return elements[(int) position];
+        }
+        long x = position;
+        do {
+            x = encrypt(x);
+        } while (x >= n);
+        return x;
+    }
+
+    /**
+     * Apply the Feistel network to the value.
+     *
+     * <p>The value is split into a left and right half. Each round XORs the left half
+     * with a function of the right half and swaps the halves. The halves may differ
+     * in size by 1 bit; the sizes alternate on each round.
+     *
+     * @param x Value in the domain.
+     * @return the encrypted value
+     */
+    private long encrypt(long x) {
+        long left = x >>> rightBits;
+        long right = x & mask(rightBits);
+        int lbits = leftBits;
+        int rbits = rightBits;
+        for (int i = 0; i < ROUNDS; i++) {
+            final long t = (left ^ round(right, keys[i])) & mask(lbits);
+            left = right;
+            right = t;
+            final int b = lbits;
+            lbits = rbits;
+            rbits = b;
+        }
+        // The number of rounds is even: the halves have the original sizes
+        return (left << rightBits) | right;
+    }
+
+    /**
+     * Apply the inverse of the Feistel network to the value.
+     *
+     * @param x Value in the domain.
+     * @return the decrypted value
+     * @see #encrypt(long)
+     */
+    private long decrypt(long x) {
+        long left = x >>> rightBits;
+        long right = x & mask(rightBits);
+        int lbits = leftBits;
+        int rbits = rightBits;
+        for (int i = ROUNDS - 1; i >= 0; i--) {
+            // Reverse the round: the right half was computed from the previous left half
+            final long t = (right ^ round(left, keys[i])) & mask(rbits);
+            right = left;
+            left = t;
+            final int b = lbits;
+            lbits = rbits;
+            rbits = b;
+        }
+        return (left << rightBits) | right;
+    }
+
+    /**
+     * The round function of the Feistel network. This is the Stafford variant 13
+     * 64-bit mix function applied to the sum of the value and the key.
+     *
+     * @param value Value.
+     * @param key Key.
+     * @return the mixed value
+     */
+    private static long round(long value, long key) {
+        long z = value + key;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Create a mask for the lower {@code bits} of a {@code long}.
+     *
+     * @param bits Number of bits (must be below 64).
+     * @return the mask
+     */
+    private static long mask(int bits) {
+        return (1L << bits) - 1;
+    }
+
+    /**
+     * Checks the index is in the range {@code [0, n)}.
+     *
+     * @param index Index.
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    private void checkIndex(long index) {
+        if (index < 0 || index >= n) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index %d out of bounds for length %d", index, n));
+        }
+    }
+}
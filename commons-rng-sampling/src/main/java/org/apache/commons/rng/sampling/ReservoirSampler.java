@@ -0,0 +1,640 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.distribution.ChengBetaSampler;
+
+/**
+ * Selects a uniform random sample of {@code k} items, without replacement, from a
+ * stream of items of unknown length.
+ *
+ * <p>This uses Algorithm L of Li. After the reservoir is filled with the first
+ * {@code k} items the number of items to skip before the next insertion is generated
+ * from a geometric distribution. Skipped items do not use the source of randomness;
+ * the source of randomness is used {@code O(k log(n/k))} times for {@code n} items.</p>
+ *
+ * <p>Items can be added individually using {@link #accept(Object)}, or from an
+ * {@link Iterator} or {@link Spliterator}. Specializations are provided for
+ * {@code int}, {@code long} and {@code double} values that do not box the items.
+ * The current sample can be obtained at any time.</p>
+ *
+ * <p>Samplers of disjoint partitions of a stream can be combined into a sampler of
+ * the entire stream using {@link #combine(ReservoirSampler)}. This allows the
+ * partitions to be sampled in parallel. Each partition must be sampled using an
+ * independent source of randomness.</p>
+ *
+ * <p>This class is not thread safe.</p>
+ *
+ * @param <T> Type of items in the sample.
+ * @see <a href="https://doi.org/10.1145/198429.198435">
+ * Li (1994) Reservoir-sampling algorithms of time complexity O(n(1 + log(N/n))).
+ * ACM Transactions on Mathematical Software 20, 481-493</a>
+ * @since 1.8
+ */
+public final class ReservoirSampler<T> implements Consumer<T> {
+    /** The reservoir state. */
+    private final Reservoir reservoir;
+    /** The items of the sample. */
+    private final Object[] items;
+
+    /**
+     * The state of the reservoir. Computes the position in the sample for each
+     * item in the stream.
+     */
+    private static final class Reservoir {
+        /** Limit on the size of a skip. Larger skips are treated as infinite. */
+        private static final double MAX_SKIP = 0x1.0p62;
+
+        /** Source of randomness. */
+        private final UniformRandomProvider rng;
+        /** Size of the sample. */
+        private final int k;
+        /** The number of items in the stream. */
+        private long count;
+        /** The index of the next item in the stream to insert into the full reservoir. */
+        private long next;
+        /** The largest key in the reservoir. Keys are uniform in [0, 1). */
+        private double w;
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param k Size of the sample.
+         */
+        Reservoir(UniformRandomProvider rng, int k) {
+            if (k <= 0) {
+                throw new IllegalArgumentException("Sample size is not strictly positive: " + k);
+            }
+            this.rng = rng;
+            this.k = k;
+        }
+
+        /**
+         * Gets the number of items in the sample.
+         *
+         * @return the size
+         */
+        int size() {
+            return (int) Math.min(k, count);
+        }
+
+        /**
+         * Gets the position in the sample for the next item in the stream.
+         *
+         * @return the position, or -1 if the item is not selected
+         */
+        int position() {
+            final long c = count++;
+            if (c < k) {
+                if (c + 1 == k) {
+                    // Largest of k uniform keys
+                    w = Math.exp(Math.log(nextUniform()) / k);
+                    nextSkip(k);
+                }
+                return (int) c;
+            }
+            if (c == next) {
+                final int j = rng.nextInt(k);
+                w *= Math.exp(Math.log(nextUniform()) / k);
+                nextSkip(c + 1);
+                return j;
+            }
+            return -1;
+        }
+
+        /**
+         * Combine with the reservoir of a disjoint partition of the stream.
+         *
+         * <p>Returns the selected positions for the combined sample. A positive
+         * value {@code i} is position {@code i} in this sample; a negative value
+         * {@code i} is position {@code ~i} in the other sample.
+         *
+         * @param other Other reservoir.
+         * @return the positions
+         * @throws IllegalArgumentException if the sample size is different.
+         */
+        int[] combine(Reservoir other) {
+            if (k != other.k) {
+                throw new IllegalArgumentException("Sample size mismatch: " + k + " != " + other.k);
+            }
+            final int m1 = size();
+            final int m2 = other.size();
+            final long n = count + other.count;
+            final int m = (int) Math.min(k, n);
+            // Number of items from this partition is hypergeometric.
+            // Select items sequentially without replacement.
+            long r1 = count;
+            long r2 = other.count;
+            int x = 0;
+            for (int i = 0; i < m; i++) {
+                if (rng.nextLong(r1 + r2) < r1) {
+                    x++;
+                    r1--;
+                } else {
+                    r2--;
+                }
+            }
+            // Each sample is a uniform random subset of its partition.
+            // A uniform random subset of each is a uniform random subset of the union.
+            final int[] positions = new int[m];
+            final int[] a = select(m1, x);
+            final int[] b = select(m2, m - x);
+            System.arraycopy(a, 0, positions, 0, x);
+            for (int i = 0; i < b.length; i++) {
+                positions[x + i] = ~b[i];
+            }
+
+            count = n;
+            if (n > k) {
+                // The largest key is the k-th smallest of n uniform keys: Beta(k, n - k + 1)
+                w = ChengBetaSampler.of(rng, k, (double) (n - k + 1)).sample();
+                nextSkip(n);
+            } else if (n == k) {
+                w = Math.exp(Math.log(nextUniform()) / k);
+                nextSkip(n);
+            }
+            return positions;
+        }
+
+        /**
+         * Select {@code x} positions from {@code [0, m)}.
+         *
+         * @param m Size of the domain.
+         * @param x Number of positions.
+         * @return the positions
+         */
+        private int[] select(int m, int x) {
+            final int[] domain = PermutationSampler.natural(m);
+            // Partial Fisher-Yates shuffle
+            for (int i = 0; i < x; i++) {
+                final int j = i + rng.nextInt(m - i);
+                final int tmp = domain[i];
+                domain[i] = domain[j];
+                domain[j] = tmp;
+            }
+            return Arrays.copyOf(domain, x);
+        }
+
+        /**
+         * Generate the index of the next item to insert into the full reservoir.
+         * The number of items to skip is geometric with probability of success {@code w}.
+         *
+         * @param index Index of the next item in the stream.
+         */
+        private void nextSkip(long index) {
+            final double s = Math.floor(Math.log(nextUniform()) / Math.log1p(-w));
+            // Also detects NaN from an underflow of w to zero
+            next = s < MAX_SKIP ? index + (long) s : Long.MAX_VALUE;
+        }
+
+        /**
+         * Generate a uniform deviate in {@code (0, 1]}.
+         *
+         * @return the deviate
+         */
+        private double nextUniform() {
+            return 1 - rng.nextDouble();
+        }
+    }
+
+    /**
+     * Selects a uniform random sample of {@code k} {@code int} values from a stream.
+     *
+     * @see ReservoirSampler
+     */
+    public static final class OfInt implements IntConsumer {
+        /** The reservoir state. */
+        private final Reservoir reservoir;
+        /** The items of the sample. */
+        private final int[] items;
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param k Size of the sample.
+         */
+        private OfInt(UniformRandomProvider rng, int k) {
+            reservoir = new Reservoir(rng, k);
+            items = new int[k];
+        }
+
+        /**
+         * Create a new sampler.
+         *
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param k Size of the sample.
+         * @return the sampler
+         * @throws IllegalArgumentException if {@code k <= 0}.
+         */
+        public static OfInt of(UniformRandomProvider rng, int k) {
+            return new OfInt(rng, k);
+        }
+
+        /**
+         * Adds the value to the stream.
+         *
+         * @param value Value.
+         */
+        @Override
+        public void accept(int value) {
+            final int j = reservoir.position();
+            if (j >= 0) {
+                items[j] = value;
+            }
+        }
+
+        /**
+         * Adds the remaining values of the iterator to the stream.
+         *
+         * @param iterator Values.
+         */
+        public void addAll(PrimitiveIterator.OfInt iterator) {
+            iterator.forEachRemaining((IntConsumer) this);
+        }
+
+        /**
+         * Adds the remaining values of the spliterator to the stream.
+         *
+         * @param spliterator Values.
+         */
+        public void addAll(Spliterator.OfInt spliterator) {
+            spliterator.forEachRemaining((IntConsumer) this);
+        }
+
+        /**
+         * Gets the number of values added to the stream.
+         *
+         * @return the count
+         */
+        public long getCount() {
+            return reservoir.count;
+        }
+
+        /**
+         * Gets the current sample. The sample size is the minimum of {@code k} and
+         * the number of values added to the stream.
+         *
+         * <p>The order of the values is unspecified.
+         *
+         * @return the sample
+         */
+        public int[] getSample() {
+            return Arrays.copyOf(items, reservoir.size());
+        }
+
+        /**
+         * Combine with the sampler of a disjoint partition of the stream. This
+         * sampler is updated to sample the union of the two partitions. The other
+         * sampler is not modified.
+         *
+         * @param other Other sampler.
+         * @return this sampler
+         * @throws IllegalArgumentException if the sample size is different.
+         */
+        public OfInt combine(OfInt other) {
+            final int[] positions = reservoir.combine(other.reservoir);
+            final int[] sample = new int[positions.length];
+            for (int i = 0; i < sample.length; i++) {
+                final int j = positions[i];
+                sample[i] = j >= 0 ? items[j] : other.items[~j];
+            }
+            System.arraycopy(sample, 0, items, 0, sample.length);
+            return this;
+        }
+    }
+
+    /**
+     * Selects a uniform random sample of {@code k} {@code long} values from a stream.
+     *
+     * @see ReservoirSampler
+     */
+    public static final class OfLong implements LongConsumer {
+        /** The reservoir state. */
+        private final Reservoir reservoir;
+        /** The items of the sample. */
+        private final long[] items;
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param k Size of the sample.
+         */
+        private OfLong(UniformRandomProvider rng, int k) {
+            reservoir = new Reservoir(rng, k);
+            items = new long[k];
+        }
+
+        /**
+         * Create a new sampler.
+         *
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param k Size of the sample.
+         * @return the sampler
+         * @throws IllegalArgumentException if {@code k <= 0}.
+         */
+        public static OfLong of(UniformRandomProvider rng, int k) {
+            return new OfLong(rng, k);
+        }
+
+        /**
+         * Adds the value to the stream.
+         *
+         * @param value Value.
+         */
+        @Override
+        public void accept(long value) {
+            final int j = reservoir.position();
+            if (j >= 0) {
+                items[j] = value;
+            }
+        }
+
+        /**
+         * Adds the remaining values of the iterator to the stream.
+         *
+         * @param iterator Values.
+         */
+        public void addAll(PrimitiveIterator.OfLong iterator) {
+            iterator.forEachRemaining((LongConsumer) this);
+        }
+
+        /**
+         * Adds the remaining values of the spliterator to the stream.
+         *
+         * @param spliterator Values.
+         */
+        public void addAll(Spliterator.OfLong spliterator) {
+            spliterator.forEachRemaining((LongConsumer) this);
+        }
+
+        /**
+         * Gets the number of values added to the stream.
+         *
+         * @return the count
+         */
+        public long getCount() {
+            return reservoir.count;
+        }
+
+        /**
+         * Gets the current sample. The sample size is the minimum of {@code k} and
+         * the number of values added to the stream.
+         *
+         * <p>The order of the values is unspecified.
+         *
+         * @return the sample
+         */
+        public long[] getSample() {
+            return Arrays.copyOf(items, reservoir.size());
+        }
+
+        /**
+         * Combine with the sampler of a disjoint partition of the stream. This
+         * sampler is updated to sample the union of the two partitions. The other
+         * sampler is not modified.
+         *
+         * @param other Other sampler.
+         * @return this sampler
+         * @throws IllegalArgumentException if the sample size is different.
+         */
+        public OfLong combine(OfLong other) {
+            final int[] positions = reservoir.combine(other.reservoir);
+            final long[] sample = new long[positions.length];
+            for (int i = 0; i < sample.length; i++) {
+                final int j = positions[i];
+                sample[i] = j >= 0 ? items[j] : other.items[~j];
+            }
+            System.arraycopy(sample, 0, items, 0, sample.length);
+            return this;
+        }
+    }
+
+    /**
+     * Selects a uniform random sample of {@code k} {@code double} values from a stream.
+     *
+     * @see ReservoirSampler
+     */
+    public static final class OfDouble implements DoubleConsumer {
+        /** The reservoir state. */
+        private final Reservoir reservoir;
+        /** The items of the sample. */
+        private final double[] items;
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param k Size of the sample.
+         */
+        private OfDouble(UniformRandomProvider rng, int k) {
+            reservoir = new Reservoir(rng, k);
+            items = new double[k];
+        }
+
+        /**
+         * Create a new sampler.
+         *
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param k Size of the sample.
+         * @return the sampler
+         * @throws IllegalArgumentException if {@code k <= 0}.
+         */
+        public static OfDouble of(UniformRandomProvider rng, int k) {
+            return new OfDouble(rng, k);
+        }
+
+        /**
+         * Adds the value to the stream.
+         *
+         * @param value Value.
+         */
+        @Override
+        public void accept(double value) {
+            final int j = reservoir.position();
+            if (j >= 0) {
+                items[j] = value;
+            }
+        }
+
+        /**
+         * Adds the remaining values of the iterator to the stream.
+         *
+         * @param iterator Values.
+         */
+        public void addAll(PrimitiveIterator.OfDouble iterator) {
+            iterator.forEachRemaining((DoubleConsumer) this);
+        }
+
+        /**
+         * Adds the remaining values of the spliterator to the stream.
+         *
+         * @param spliterator Values.
+         */
+        public void addAll(Spliterator.OfDouble spliterator) {
+            spliterator.forEachRemaining((DoubleConsumer) this);
+        }
+
+        /**
+         * Gets the number of values added to the stream.
+         *
+         * @return the count
+         */
+        public long getCount() {
+            return reservoir.count;
+        }
+
+        /**
+         * Gets the current sample. The sample size is the minimum of {@code k} and
+         * the number of values added to the stream.
+         *
+         * <p>The order of the values is unspecified.
+         *
+         * @return the sample
+         */
+        public double[] getSample() {
+            return Arrays.copyOf(items, reservoir.size());
+        }
+
+        /**
+         * Combine with the sampler of a disjoint partition of the stream. This
+         * sampler is updated to sample the union of the two partitions. The other
+         * sampler is not modified.
+         *
+         * @param other Other sampler.
+         * @return this sampler
+         * @throws IllegalArgumentException if the sample size is different.
+         */
+        public OfDouble combine(OfDouble other) {
+            final int[] positions = reservoir.combine(other.reservoir);
+            final double[] sample = new double[positions.length];
+            for (int i = 0; i < sample.length; i++) {
+                final int j = positions[i];
+                sample[i] = j >= 0 ? items[j] : other.items[~j];
+            }
+            System.arraycopy(sample, 0, items, 0, sample.length);
+            return this;
+        }
+    }
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param k Size of the sample.
+     */
+    private ReservoirSampler(UniformRandomProvider rng, int k) {
+        reservoir = new Reservoir(rng, k);
+        items = new Object[k];
+    }
+
+    /**
+     * Create a new sampler.
+     *
+     * @param <T> Type of items in the sample.
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param k Size of the sample.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code k <= 0}.
+     */
+    public static <T> ReservoirSampler<T> of(UniformRandomProvider rng, int k) {
+        return new ReservoirSampler<>(rng, k);
+    }
+
+    /**
+     * Adds the item to the stream.
+     *
+     * @param item Item.
+     */
+    @Override
+    public void accept(T item) {
+        final int j = reservoir.position();
+        if (j >= 0) {
+            items[j] = item;
+        }
+    }
+
+    /**
+     * Adds the remaining items of the iterator to the stream.
+     *
+     * @param iterator Items.
+     */
+    public void addAll(Iterator<? extends T> iterator) {
+        iterator.forEachRemaining(this);
+    }
+
+    /**
+     * Adds the remaining items of the spliterator to the stream.
+     *
+     * @param spliterator Items.
+     */
+    public void addAll(Spliterator<? extends T> spliterator) {
+        spliterator.forEachRemaining(this);
+    }
+
+    /**
+     * Gets the number of items added to the stream.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return reservoir.count;
+    }
+
+    /**
+     * Gets the current sample. The sample size is the minimum of {@code k} and the
+     * number of items added to the stream.
+     *
+     * <p>The order of the items is unspecified.
+     *
+     * @return the sample
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getSample() {
+        final int size = reservoir.size();
+        final List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add((T) items[i]);
+        }
+        return list;
+    }
+
+    /**
+     * Combine with the sampler of a disjoint partition of the stream. This sampler is
+     * updated to sample the union of the two partitions. The other sampler is not
+     * modified.
+     *
+     * <p>The combined sample uses the source of randomness of this sampler.
+     *
+     * @param other Other sampler.
+     * @return this sampler
+     * @throws IllegalArgumentException if the sample size is different.
+     */
+    public ReservoirSampler<T> combine(ReservoirSampler<T> other) {
+        final int[] positions = reservoir.combine(other.reservoir);
+        final Object[] sample = new Object[positions.length];
+        for (int i = 0; i < sample.length; i++) {
+            final int j = positions[i];
+            sample[i] = j >= 0 ? items[j] : other.items[~j];
+        }
+        System.arraycopy(sample, 0, items, 0, sample.length);
+        return this;
+    }
+}
@@ -59,7 +59,9 @@ final class SubsetSamplerUtils {
      * <p>The returned combination will have a length of {@code steps} for
      * {@code upper=true}, or {@code domain.length - steps} otherwise.</p>
      *
-     * <p>Sampling uses {@link UniformRandomProvider#nextInt(int)}.</p>
+     * <p>Sampling uses {@link UniformRandomProvider#nextInt(int)} for large domains.
+     * Small domains use batched random integer generation with
+     * {@link UniformRandomProvider#nextInt()} (see {@link ArraySampler}).</p>
      *
      * @param domain The domain.
      * @param steps  The number of shuffle steps.
@@ -74,10 +76,22 @@ final class SubsetSamplerUtils {
         // Shuffle from the end but limit to the number of steps.
         // Note: If 'steps' is the full length of the array then the final
         // swap is redundant so can be skipped.
-        int swapCount = Math.min(steps, domain.length - 1);
-        for (int i = domain.length - 1; swapCount > 0; i--, swapCount--) {
-            // Swap index i with any position down to 0 (including itself)
-            swap(domain, i, rng.nextInt(i + 1));
+        // Swap index (i - 1) with any position down to 0 (including itself)
+        // for all i above the end.
+        final int end = domain.length - Math.min(steps, domain.length - 1);
+        int i = domain.length;
+        for (; i > end && i > ArraySampler.BATCH_2; i--) {
+            swap(domain, i - 1, rng.nextInt(i));
+        }
+        // Batches of 2.
+        // If the number of steps is odd the final batch swaps index (end - 1) with a
+        // position below it. This shuffles the lower section in-place and
+        // does not change the set of items in either section.
+        final int[] productBound = {i * (i - 1)};
+        for (; i > end; i -= 2) {
+            final int[] indices = ArraySampler.randomBounded2(i, i - 1, productBound, rng);
+            swap(domain, i - 1, indices[0]);
+            swap(domain, i - 2, indices[1]);
         }
         final int size = upper ? steps : domain.length - steps;
         final int from = upper ? domain.length - steps : 0;
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Selects a weighted random sample of {@code k} items, without replacement, from a
+ * stream of items of unknown length.
+ *
+ * <p>The probability of an item being selected at each step of the selection is
+ * proportional to its weight relative to the remaining unselected items. The sample is
+ * equivalent to drawing {@code k} items sequentially without replacement with
+ * probability proportional to weight. Items with a weight of zero are never selected.</p>
+ *
+ * <p>This uses the A-ExpJ algorithm of Efraimidis and Spirakis. Each item is assigned
+ * a random key {@code u^(1/w)}; the sample is the {@code k} items with the largest keys.
+ * Once the reservoir is full the number of items to skip before the next insertion is
+ * generated using an exponential jump; the source of randomness is used
+ * {@code O(k log(n/k))} times for {@code n} items.</p>
+ *
+ * <p>Keys are maintained as logarithms in a min-heap using primitive arrays.
+ * Adding an item does not allocate memory.</p>
+ *
+ * <p>Items can be added using {@link #add(Object, double)} or
+ * {@link #addAll(Iterator, ToDoubleFunction)}. The current sample can be obtained
+ * at any time using {@link #getSample()}.</p>
+ *
+ * <p>This class is not thread safe.</p>
+ *
+ * @param <T> Type of items in the sample.
+ * @see <a href="https://doi.org/10.1016/j.ipl.2005.11.003">
+ * Efraimidis and Spirakis (2006) Weighted random sampling with a reservoir.
+ * Information Processing Letters 97, 181-185</a>
+ * @since 1.8
+ */
+public final class WeightedReservoirSampler<T> {
+    /** Source of randomness. */
+    private final UniformRandomProvider rng;
+    /** The logarithm of the keys of the sample. Stored as a min-heap. */
+    private final double[] keys;
+    /** The items of the sample. Stored in the same order as the keys. */
+    private final Object[] items;
+    /** The number of items in the sample. */
+    private int size;
+    /**
+     * The remaining weight to skip before the next item is inserted into a full
+     * reservoir.
+     */
+    private double jump;
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param k Size of the sample.
+     */
+    private WeightedReservoirSampler(UniformRandomProvider rng, int k) {
+        this.rng = rng;
+        keys = new double[k];
+        items = new Object[k];
+    }
+
+    /**
+     * Create a new sampler.
+     *
+     * @param <T> Type of items in the sample.
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param k Size of the sample.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code k <= 0}.
+     */
+    public static <T> WeightedReservoirSampler<T> of(UniformRandomProvider rng, int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("Sample size is not strictly positive: " + k);
+        }
+        return new WeightedReservoirSampler<>(rng, k);
+    }
+
+    /**
+     * Adds the item to the stream.
+     *
+     * @param item Item.
+     * @param weight Weight.
+     * @throws IllegalArgumentException if {@code weight} is negative, infinite or NaN.
+     */
+    public void add(T item, double weight) {
+        // Also detects NaN
+        if (!(weight >= 0 && weight < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("Invalid weight: " + weight);
+        }
+        if (weight == 0) {
+            return;
+        }
+        final int k = keys.length;
+        if (size < k) {
+            // Key u^(1/w) with u in [0, 1)
+            insert(item, Math.log(rng.nextDouble()) / weight);
+            if (size == k) {
+                nextJump();
+            }
+            return;
+        }
+        jump -= weight;
+        if (jump <= 0) {
+            // The item replaces the item with the smallest key T.
+            // Key is r^(1/w) with r uniform in (T^w, 1):
+            // r = 1 - u * (1 - T^w) with u in (0, 1]
+            final double min = keys[0];
+            final double u = 1 - rng.nextDouble();
+            final double key = Math.log1p(u * Math.expm1(weight * min)) / weight;
+            // Guard against round-off to below the lower bound
+            replaceMin(item, Math.max(min, key));
+            nextJump();
+        }
+    }
+
+    /**
+     * Adds the items to the stream.
+     *
+     * @param iterator Items.
+     * @param weight Function to compute the weight of each item.
+     * @throws IllegalArgumentException if any weight is negative, infinite or NaN.
+     * @see #add(Object, double)
+     */
+    public void addAll(Iterator<? extends T> iterator, ToDoubleFunction<? super T> weight) {
+        while (iterator.hasNext()) {
+            final T item = iterator.next();
+            add(item, weight.applyAsDouble(item));
+        }
+    }
+
+    /**
+     * Gets the current sample. The sample size is the minimum of {@code k} and the
+     * number of items with a non-zero weight added to the stream.
+     *
+     * <p>The order of the items is unspecified.
+     *
+     * @return the sample
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> getSample() {
+        final List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add((T) items[i]);
+        }
+        return list;
+    }
+
+    /**
+     * Generate the weight to skip before the next item is inserted into the full
+     * reservoir: {@code log(r) / log(T)} with {@code r} uniform in (0, 1] and
+     * {@code T} the smallest key.
+     */
+    private void nextJump() {
+        jump = Math.log(1 - rng.nextDouble()) / keys[0];
+    }
+
+    /**
+     * Insert the item into the heap.
+     *
+     * @param item Item.
+     * @param key Key.
+     */
+    private void insert(Object item, double key) {
+        // Sift up
+        int i = size++;
+        while (i > 0) {
+            final int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[i] = keys[parent];
+            items[i] = items[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        items[i] = item;
+    }
+
+    /**
+     * Replace the item with the smallest key in the heap.
+     *
+     * @param item Item.
+     * @param key Key.
+     */
+    private void replaceMin(Object item, double key) {
+        // Sift down
+        final int n = size;
+        int i = 0;
+        int child = 1;
+        while (child < n) {
+            if (child + 1 < n && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[i] = keys[child];
+            items[i] = items[child];
+            i = child;
+            child = (i << 1) + 1;
+        }
+        keys[i] = key;
+        items[i] = item;
+    }
+}
@@ -53,6 +53,11 @@ import org.apache.commons.rng.UniformRandomProvider;
 public class AhrensDieterMarsagliaTsangGammaSampler
     extends SamplerBase
     implements SharedStateContinuousSampler {
+    /** The name of the alpha parameter. */
+    private static final String ALPHA = "alpha";
+    /** The name of the theta parameter. */
+    private static final String THETA = "theta";
+
     /** The appropriate gamma sampler for the parameters. */
     private final SharedStateContinuousSampler delegate;
 
@@ -79,8 +84,8 @@ public class AhrensDieterMarsagliaTsangGammaSampler
                          double alpha,
                          double theta) {
             // Validation before java.lang.Object constructor exits prevents partially initialized object
-            this(InternalUtils.requireStrictlyPositive(alpha, "alpha"),
-                 InternalUtils.requireStrictlyPositive(theta, "theta"),
+            this(InternalUtils.requireStrictlyPositive(alpha, ALPHA),
+                 InternalUtils.requireStrictlyPositive(theta, THETA),
                  rng);
         }
 
@@ -159,6 +164,21 @@ public class AhrensDieterMarsagliaTsangGammaSampler
 
         @Override
         public double sample() {
+            return sample(rng, alpha, theta, oneOverAlpha, bGSOptim);
+        }
+
+        /**
+         * Generate a sample using algorithm GS.
+         *
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param alpha Alpha shape parameter of the distribution.
+         * @param theta Theta scale parameter of the distribution.
+         * @param oneOverAlpha {@code 1 / alpha}.
+         * @param bGSOptim {@code 1 + alpha / e}.
+         * @return a sample
+         */
+        static double sample(UniformRandomProvider rng, double alpha, double theta,
+                             double oneOverAlpha, double bGSOptim) {
             // [1]: p. 228, Algorithm GS.
 
             while (true) {
@@ -246,6 +266,21 @@ public class AhrensDieterMarsagliaTsangGammaSampler
 
         @Override
         public double sample() {
+            return sample(rng, gaussian, theta, dOptim, cOptim);
+        }
+
+        /**
+         * Generate a sample using the method of Marsaglia and Tsang.
+         *
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param gaussian Generator of N(0,1) Gaussian distributed random numbers.
+         * @param theta Theta scale parameter of the distribution.
+         * @param dOptim {@code alpha - 1/3}.
+         * @param cOptim {@code 1 / (3 * sqrt(dOptim))}.
+         * @return a sample
+         */
+        static double sample(UniformRandomProvider rng, NormalizedGaussianSampler gaussian,
+                             double theta, double dOptim, double cOptim) {
             while (true) {
                 final double x = gaussian.sample();
                 final double oPcTx = 1 + cOptim * x;
@@ -332,4 +367,39 @@ public class AhrensDieterMarsagliaTsangGammaSampler
                 new AhrensDieterGammaSampler(rng, alpha, theta) :
                 new MarsagliaTsangGammaSampler(rng, alpha, theta);
     }
+
+    /**
+     * Generates a single sample from a gamma distribution with the given parameters.
+     *
+     * <p>This method is intended for use when the parameters change for each sample.
+     * The normalised Gaussian sampler should be created once, for example using
+     * {@link ZigguratSampler.NormalizedGaussian#of(UniformRandomProvider)}, and reused;
+     * no objects are allocated. The Gaussian sampler is only used for
+     * {@code alpha >= 1}.
+     *
+     * <p>The sample is the same as a sampler created using
+     * {@link #of(UniformRandomProvider, double, double)} if the Gaussian sampler is
+     * a {@link ZigguratSampler.NormalizedGaussian} using the same generator.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param gaussian Generator of N(0,1) Gaussian distributed random numbers.
+     * @param alpha Alpha shape parameter of the distribution.
+     * @param theta Theta scale parameter of the distribution.
+     * @return a sample
+     * @throws IllegalArgumentException if {@code alpha <= 0} or {@code theta <= 0}
+     * @since 1.8
+     */
+    public static double sample(UniformRandomProvider rng,
+                                NormalizedGaussianSampler gaussian,
+                                double alpha,
+                                double theta) {
+        InternalUtils.requireStrictlyPositive(alpha, ALPHA);
+        InternalUtils.requireStrictlyPositive(theta, THETA);
+        if (alpha < 1) {
+            return AhrensDieterGammaSampler.sample(rng, alpha, theta, 1 / alpha, 1 + alpha / Math.E);
+        }
+        final double d = alpha - MarsagliaTsangGammaSampler.ONE_THIRD;
+        return MarsagliaTsangGammaSampler.sample(rng, gaussian, theta, d,
+            MarsagliaTsangGammaSampler.ONE_THIRD / Math.sqrt(d));
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.commons.rng.sampling.distribution;
 import org.apache.commons.rng.UniformRandomProvider;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Distribution sampler that uses the <a
@@ -89,6 +90,8 @@ public class AliasMethodDiscreteSampler
      * The maximum size of the small alias table. This is 2<sup>11</sup>.
      */
     private static final int MAX_SMALL_POWER_2_SIZE = 1 << 11;
+    /** The number of probabilities processed by each task of the parallel construction. */
+    private static final int BLOCK_SIZE = 1 << 16;
 
     /** Underlying source of randomness. */
     protected final UniformRandomProvider rng;
@@ -210,6 +213,26 @@ public class AliasMethodDiscreteSampler
             return (longBits >>> 11) < probability[j] ? j : alias[j];
         }
 
+        @Override
+        public void sample(int[] out, int from, int len) {
+            InternalUtils.validateFromIndexSize(from, len, out.length);
+            final UniformRandomProvider r = rng;
+            final long[] p = probability;
+            final int[] a = alias;
+            final int m = mask;
+            final int to = from + len;
+            for (int k = from; k < to; k++) {
+                final int bits = r.nextInt();
+                final int j = bits & m;
+                if (j >= p.length) {
+                    out[k] = a[j];
+                } else {
+                    final long longBits = (((long) r.nextInt()) << 32) | (bits & 0xffffffffL);
+                    out[k] = (longBits >>> 11) < p[j] ? j : a[j];
+                }
+            }
+        }
+
         /** {@inheritDoc} */
         @Override
         public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
@@ -217,6 +240,312 @@ public class AliasMethodDiscreteSampler
         }
     }
 
+    /**
+     * Construct the alias tables in parallel.
+     *
+     * <p>The items are partitioned into light items (below the mean) and heavy items,
+     * each in index order. The table is split into independent subproblems. The sections
+     * before a split are owned by the first {@code i} light items and the first {@code j}
+     * heavy items; the sections are filled using the weight of the owners and part of the
+     * weight of the next heavy item (the spill). The split is found using a binary search
+     * of the prefix sums of the light and heavy weights. Each subproblem is filled by a
+     * sequential sweep over its light and heavy items. This is the parallel split method
+     * of H&uuml;bschle-Schneider and Sanders (2019).</p>
+     *
+     * @see <a href="https://doi.org/10.48550/arXiv.1903.00227">H&uuml;bschle-Schneider and
+     * Sanders (2019) Parallel Weighted Random Sampling. arXiv:1903.00227</a>
+     */
+    private static final class ParallelBuilder {
+        /** The probabilities. */
+        private final double[] probabilities;
+        /** Size of the tables (after padding). */
+        private final int n;
+        /** Number of items processed by each task. */
+        private final int blockSize;
+        /** Number of blocks. This is also the number of subproblems. */
+        private final int blocks;
+        /** The mean of the probabilities. This is the weight of each section of the table. */
+        private double mean;
+        /** The indices of the light items followed by the heavy items. */
+        private int[] indices;
+        /** The number of light items. */
+        private int lights;
+        /** The number of light items that own the sections before each split. */
+        private int[] lightSplit;
+        /** The weight of the heavy item at each split used for the sections before the split. */
+        private double[] spill;
+        /** Probability table. */
+        private long[] probability;
+        /** Alias table. */
+        private int[] alias;
+
+        /**
+         * @param probabilities The probabilities.
+         * @param n Size of the tables (after padding).
+         * @param blockSize Number of items processed by each task.
+         */
+        ParallelBuilder(double[] probabilities, int n, int blockSize) {
+            this.probabilities = probabilities;
+            this.n = n;
+            this.blockSize = blockSize;
+            blocks = (int) (((long) n + blockSize - 1) / blockSize);
+        }
+
+        /**
+         * Construct the tables.
+         *
+         * @param pool Pool used to construct the tables.
+         * @throws IllegalArgumentException if a probability is negative, infinite or
+         * {@code NaN}, or the sum of all probabilities is not strictly positive.
+         */
+        void build(ForkJoinPool pool) {
+            final double[] sums = new double[blocks];
+            final double[] maxima = new double[blocks];
+            InternalUtils.invokeAll(pool, blocks, b -> {
+                final int to = Math.min(to(b), probabilities.length);
+                double sum = 0;
+                double max = 0;
+                for (int i = from(b); i < to; i++) {
+                    final double p = InternalUtils.requirePositiveFinite(probabilities[i], "probability");
+                    sum += p;
+                    max = Math.max(max, p);
+                }
+                sums[b] = sum;
+                maxima[b] = max;
+            });
+            double sumProb = 0;
+            double maxProb = 0;
+            for (int b = 0; b < blocks; b++) {
+                sumProb += sums[b];
+                maxProb = Math.max(maxProb, maxima[b]);
+            }
+            InternalUtils.requireStrictlyPositiveFinite(sumProb, "sum of probabilities");
+
+            mean = sumProb / n;
+            // Round-off can create a mean above all the probabilities.
+            // Ensure the largest item is heavy.
+            final double[] cumulative = partition(pool, Math.min(mean, maxProb));
+            split(cumulative);
+
+            // Probability table may be truncated (when zero padded).
+            // The alias table is full length.
+            probability = new long[findLastNonZeroIndex(probabilities) + 1];
+            alias = new int[n];
+            InternalUtils.invokeAll(pool, blocks, this::fill);
+        }
+
+        /**
+         * Partition the items into light and heavy items. Compute the cumulative sum of
+         * the weights of the light and heavy items.
+         *
+         * <p>The cumulative sums are returned as: zero; the sum of the first
+         * {@code [1, lights]} light items; zero; the sum of the first {@code [1, heavies]}
+         * heavy items.
+         *
+         * @param pool Pool used to construct the tables.
+         * @param threshold Threshold for a heavy item.
+         * @return the cumulative sums
+         */
+        private double[] partition(ForkJoinPool pool, double threshold) {
+            // Count the light items in each block
+            final int[] counts = new int[blocks + 1];
+            InternalUtils.invokeAll(pool, blocks, b -> {
+                final int to = to(b);
+                int count = 0;
+                for (int i = from(b); i < to; i++) {
+                    if (getWeight(i) < threshold) {
+                        count++;
+                    }
+                }
+                counts[b + 1] = count;
+            });
+            for (int b = 0; b < blocks; b++) {
+                counts[b + 1] += counts[b];
+            }
+            lights = counts[blocks];
+
+            // Store the items in order, and the cumulative sum within each block
+            indices = new int[n];
+            final double[] cumulative = new double[n + 2];
+            final double[] lightSums = new double[blocks + 1];
+            final double[] heavySums = new double[blocks + 1];
+            InternalUtils.invokeAll(pool, blocks, b -> {
+                final int to = to(b);
+                int l = counts[b];
+                int h = lights + from(b) - counts[b];
+                double lightSum = 0;
+                double heavySum = 0;
+                for (int i = from(b); i < to; i++) {
+                    final double w = getWeight(i);
+                    if (w < threshold) {
+                        lightSum += w;
+                        indices[l] = i;
+                        cumulative[++l] = lightSum;
+                    } else {
+                        heavySum += w;
+                        indices[h] = i;
+                        cumulative[h + 2] = heavySum;
+                        h++;
+                    }
+                }
+                lightSums[b + 1] = lightSum;
+                heavySums[b + 1] = heavySum;
+            });
+
+            // Add the sum of the preceding blocks
+            for (int b = 0; b < blocks; b++) {
+                lightSums[b + 1] += lightSums[b];
+                heavySums[b + 1] += heavySums[b];
+            }
+            InternalUtils.invokeAll(pool, blocks, b -> {
+                for (int l = counts[b]; l < counts[b + 1]; l++) {
+                    cumulative[l + 1] += lightSums[b];
+                }
+                final int to = lights + to(b) - counts[b + 1];
+                for (int h = lights + from(b) - counts[b]; h < to; h++) {
+                    cumulative[h + 2] += heavySums[b];
+                }
+            });
+            return cumulative;
+        }
+
+        /**
+         * Find the split of the light and heavy items between each subproblem.
+         *
+         * @param cumulative The cumulative sums of the light and heavy items.
+         */
+        private void split(double[] cumulative) {
+            final int heavies = n - lights;
+            lightSplit = new int[blocks + 1];
+            spill = new double[blocks + 1];
+            lightSplit[blocks] = lights;
+            for (int s = 1; s < blocks; s++) {
+                final int k = getSections(s);
+                final double target = k * mean;
+                // Find the smallest number of light items i such that the i light items
+                // and (k - i) heavy items have a total weight not above the k sections.
+                // The weight is a decreasing function of i.
+                int lo = Math.max(lightSplit[s - 1], k - heavies);
+                int hi = Math.min(k, lights);
+                while (lo < hi) {
+                    final int mid = (lo + hi) >>> 1;
+                    if (cumulative[mid] + cumulative[lights + 1 + k - mid] <= target) {
+                        hi = mid;
+                    } else {
+                        lo = mid + 1;
+                    }
+                }
+                // Ensure the split is non-decreasing and there is a heavy item to spill
+                // to the next subproblem. This only changes the split due to round-off.
+                final int j = Math.min(Math.max(k - lo, getSections(s - 1) - lightSplit[s - 1]), heavies - 1);
+                final int i = k - j;
+                lightSplit[s] = i;
+                spill[s] = Math.min(Math.max(target - cumulative[i] - cumulative[lights + 1 + j], 0.0),
+                                    probabilities[indices[lights + j]]);
+            }
+        }
+
+        /**
+         * Fill the tables for the subproblem {@code s}.
+         *
+         * @param s Subproblem.
+         */
+        private void fill(int s) {
+            final int i1 = lightSplit[s + 1];
+            final int j0 = getSections(s) - lightSplit[s];
+            final int j1 = getSections(s + 1) - i1;
+            // The heavy item j1 is a donor to this subproblem; it owns a section in a
+            // later subproblem. The final subproblem has no donor after the last owner;
+            // the last heavy item is never moved to the light items and absorbs round-off.
+            final int jEnd = Math.min(j1, n - lights - 1);
+            int i = lightSplit[s];
+            int j = j0;
+            double r = getResidual(s, j, j0, j1);
+            while (i < i1 || j < jEnd && r < mean) {
+                final int owner;
+                final double w;
+                if (j < jEnd && r < mean) {
+                    // The heavy item is now light. The remaining section is filled
+                    // by the next heavy item.
+                    owner = indices[lights + j];
+                    w = r;
+                    j++;
+                    r = getResidual(s, j, j0, j1);
+                } else {
+                    owner = indices[i];
+                    w = getWeight(owner);
+                    i++;
+                }
+                // Optimisation for zero-padded input: p(owner) = 0 above the last nonZeroIndex
+                if (owner < probability.length) {
+                    probability[owner] = (long) Math.ceil(CONVERT_TO_NUMERATOR * (w / mean));
+                }
+                alias[owner] = indices[lights + j];
+                r -= mean - w;
+            }
+            // Remaining heavy items fill the entire section
+            for (; j < j1; j++) {
+                final int owner = indices[lights + j];
+                probability[owner] = ONE_AS_NUMERATOR;
+                alias[owner] = owner;
+            }
+        }
+
+        /**
+         * Gets the weight of heavy item {@code j} available to subproblem {@code s}.
+         *
+         * @param s Subproblem.
+         * @param j Heavy item.
+         * @param j0 First heavy item of the subproblem.
+         * @param j1 Last heavy item of the subproblem (the donor to the next subproblem).
+         * @return the weight
+         */
+        private double getResidual(int s, int j, int j0, int j1) {
+            final double w = j == j1 ? spill[s + 1] : probabilities[indices[lights + j]];
+            return j == j0 ? w - spill[s] : w;
+        }
+
+        /**
+         * Gets the weight of the item. Items above the input length are zero padding.
+         *
+         * @param i Item.
+         * @return the weight
+         */
+        private double getWeight(int i) {
+            return i < probabilities.length ? probabilities[i] : ZERO;
+        }
+
+        /**
+         * Gets the number of sections before the subproblem {@code s}.
+         *
+         * @param s Subproblem.
+         * @return the number of sections
+         */
+        private int getSections(int s) {
+            return (int) ((long) s * n / blocks);
+        }
+
+        /**
+         * Gets the first item of the block.
+         *
+         * @param b Block.
+         * @return the first item (inclusive)
+         */
+        private int from(int b) {
+            return b * blockSize;
+        }
+
+        /**
+         * Gets the last item of the block.
+         *
+         * @param b Block.
+         * @return the last item (exclusive)
+         */
+        private int to(int b) {
+            return (int) Math.min(n, (long) b * blockSize + blockSize);
+        }
+    }
+
     /**
      * Creates a sampler.
      *
@@ -271,6 +600,26 @@ public class AliasMethodDiscreteSampler
         return (rng.nextLong() >>> 11) < probability[j] ? j : alias[j];
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1.8
+     */
+    @Override
+    public void sample(int[] out, int from, int len) {
+        InternalUtils.validateFromIndexSize(from, len, out.length);
+        // Hold the generator and tables in local variables for the loop
+        final UniformRandomProvider r = rng;
+        final long[] p = probability;
+        final int[] a = alias;
+        final int n = a.length;
+        final int to = from + len;
+        for (int k = from; k < to; k++) {
+            final int j = r.nextInt(n);
+            out[k] = j < p.length && (r.nextLong() >>> 11) < p[j] ? j : a[j];
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -465,6 +814,70 @@ public class AliasMethodDiscreteSampler
             new AliasMethodDiscreteSampler(rng, probability, alias);
     }
 
+    /**
+     * Creates a sampler.
+     *
+     * <p>The probabilities will be normalised using their sum. The only requirement
+     * is the sum is strictly positive.</p>
+     *
+     * <p>The tables are constructed in parallel using the {@code pool}. The sampler is
+     * equivalent to a sampler created by
+     * {@link #of(UniformRandomProvider, double[], int)}: the tables have the same size
+     * and represent the same distribution, but the pairing of items in each section of
+     * the tables is different. Small distributions are constructed using a single
+     * thread.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param probabilities The list of probabilities.
+     * @param alpha The alpha factor controlling the zero padding.
+     * @param pool Pool used to construct the tables.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code probabilities} is null or empty, a
+     * probability is negative, infinite or {@code NaN}, or the sum of all
+     * probabilities is not strictly positive.
+     * @see #of(UniformRandomProvider, double[], int)
+     * @since 1.8
+     */
+    public static SharedStateDiscreteSampler of(final UniformRandomProvider rng,
+                                                final double[] probabilities,
+                                                int alpha,
+                                                ForkJoinPool pool) {
+        return of(rng, probabilities, alpha, pool, BLOCK_SIZE);
+    }
+
+    /**
+     * Creates a sampler. The tables are constructed in parallel using blocks of the
+     * specified size.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param probabilities The list of probabilities.
+     * @param alpha The alpha factor controlling the zero padding.
+     * @param pool Pool used to construct the tables.
+     * @param blockSize Number of probabilities processed by each task.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code probabilities} is null or empty, a
+     * probability is negative, infinite or {@code NaN}, or the sum of all
+     * probabilities is not strictly positive.
+     */
+    static SharedStateDiscreteSampler of(final UniformRandomProvider rng,
+                                         final double[] probabilities,
+                                         int alpha,
+                                         ForkJoinPool pool,
+                                         int blockSize) {
+        if (probabilities == null) {
+            throw new IllegalArgumentException("Probabilities must not be empty.");
+        }
+        if (probabilities.length <= blockSize) {
+            return of(rng, probabilities, alpha);
+        }
+        final int n = computeSize(probabilities.length, alpha);
+        final ParallelBuilder builder = new ParallelBuilder(probabilities, n, blockSize);
+        builder.build(pool);
+        return isSmallPowerOf2(n) ?
+            new SmallTableAliasMethodDiscreteSampler(rng, builder.probability, builder.alias) :
+            new AliasMethodDiscreteSampler(rng, builder.probability, builder.alias);
+    }
+
     /**
      * Allocate the remaining indices from zero padding as small probabilities. The
      * number to add is from the length of the probability array to the length of
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Sampler for the <a href="https://en.wikipedia.org/wiki/Beta-binomial_distribution">beta-binomial
+ * distribution</a>.
+ *
+ * <p>The distribution is the number of successes in {@code n} trials where the
+ * probability of success is sampled from a beta distribution with shape parameters
+ * {@code alpha} and {@code beta}. The mean is {@code n alpha / (alpha + beta)}; the
+ * distribution is overdispersed relative to a binomial distribution with the same
+ * mean.</p>
+ *
+ * <p>The beta sampler is created once. The binomial deviate is generated directly for
+ * each probability of success without allocation. Binomial means below 30 use inversion;
+ * larger means use the BTPE algorithm with the setup computed for each sample.</p>
+ *
+ * <p>Sampling uses {@link UniformRandomProvider#nextDouble()}.</p>
+ *
+ * @see ChengBetaSampler
+ * @see BtpeBinomialSampler
+ * @since 1.8
+ */
+public final class BetaBinomialSampler
+    implements SharedStateDiscreteSampler {
+    /** Underlying source of randomness. */
+    private final UniformRandomProvider rng;
+    /** Number of trials. */
+    private final int trials;
+    /** Sampler for the probability of success. */
+    private final SharedStateContinuousSampler beta;
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param trials Number of trials.
+     * @param beta Sampler for the probability of success.
+     */
+    private BetaBinomialSampler(UniformRandomProvider rng,
+                                int trials,
+                                SharedStateContinuousSampler beta) {
+        this.rng = rng;
+        this.trials = trials;
+        this.beta = beta;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int sample() {
+        return BtpeBinomialSampler.sample(rng, trials, beta.sample());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Beta-Binomial deviate [" + rng.toString() + "]";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+        return new BetaBinomialSampler(rng, trials, beta.withUniformRandomProvider(rng));
+    }
+
+    /**
+     * Creates a new sampler for the beta-binomial distribution.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param trials Number of trials.
+     * @param alpha Beta distribution first shape parameter.
+     * @param beta Beta distribution second shape parameter.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code trials < 0}, {@code alpha <= 0}
+     * or {@code beta <= 0}.
+     */
+    public static SharedStateDiscreteSampler of(UniformRandomProvider rng,
+                                                int trials,
+                                                double alpha,
+                                                double beta) {
+        if (trials < 0) {
+            throw new IllegalArgumentException("Trials is not positive: " + trials);
+        }
+        return new BetaBinomialSampler(rng, trials, ChengBetaSampler.of(rng, alpha, beta));
+    }
+}
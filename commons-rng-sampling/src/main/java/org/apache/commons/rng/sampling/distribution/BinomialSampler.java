@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Sampler for the <a href="https://mathworld.wolfram.com/BinomialDistribution.html">Binomial
+ * distribution</a>.
+ *
+ * <p>The factory method chooses an algorithm based on the parameters of the distribution:</p>
+ *
+ * <ul>
+ *  <li>
+ *   For a small mean {@code n * min(p, 1 - p) < 30} the sample is generated by inversion
+ *   using a sequential search of the cumulative probability.
+ *  </li>
+ *  <li>
+ *   For a large mean and {@code n <= 1024} the sample is generated using a lookup table
+ *   constructed by {@link MarsagliaTsangWangDiscreteSampler.Binomial}. The table is
+ *   created once; sampling is fast and the sampler is suitable for repeat sampling
+ *   from the same distribution.
+ *  </li>
+ *  <li>
+ *   Otherwise the sample is generated using the BTPE algorithm of {@link BtpeBinomialSampler}.
+ *   This has a constant expected time and no lookup tables.
+ *  </li>
+ * </ul>
+ *
+ * <p>If the parameters of the distribution change for each sample then use
+ * {@link BtpeBinomialSampler} to avoid the cost of lookup table construction.</p>
+ *
+ * @since 1.8
+ */
+public final class BinomialSampler {
+    /** The maximum number of trials to use a lookup table. */
+    private static final int TABLE_TRIALS = 1024;
+
+    /** Class contains only static methods. */
+    private BinomialSampler() {}
+
+    /**
+     * Creates a new sampler for the Binomial distribution.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param trials Number of trials.
+     * @param probabilityOfSuccess Probability of success (p).
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code trials < 0} or {@code p} is not in
+     * the range {@code [0, 1]}.
+     */
+    public static SharedStateDiscreteSampler of(UniformRandomProvider rng,
+                                                int trials,
+                                                double probabilityOfSuccess) {
+        // Invalid parameters (including NaN) are rejected by the BTPE sampler.
+        // The table can always be computed for the supported number of trials:
+        // (1 - p)^n > 0 for p <= 0.5 and n <= 1024.
+        if (trials <= TABLE_TRIALS &&
+            trials * Math.min(probabilityOfSuccess, 1 - probabilityOfSuccess) >=
+                BtpeBinomialSampler.INVERSION_MEAN) {
+            return MarsagliaTsangWangDiscreteSampler.Binomial.of(rng, trials, probabilityOfSuccess);
+        }
+        return BtpeBinomialSampler.of(rng, trials, probabilityOfSuccess);
+    }
+}
@@ -0,0 +1,523 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Sampler for the <a href="https://mathworld.wolfram.com/BinomialDistribution.html">Binomial
+ * distribution</a>.
+ *
+ * <ul>
+ *   <li>
+ *     Kachitvichyanukul, V. and Schmeiser, B. W. (1988).
+ *     Binomial random variate generation.
+ *     Communications of the ACM, 31(2), pp. 216-222.
+ *   </li>
+ * </ul>
+ *
+ * <p>For {@code n * min(p, 1 - p) >= 30} this uses the algorithm BTPE (Binomial,
+ * Triangle, Parallelogram, Exponential). The sample is generated using acceptance/rejection
+ * from a majorizing function composed of a triangle, two parallelograms and two exponential
+ * tails. The expected time is constant with respect to the number of trials and no lookup
+ * tables are required. Smaller means use inversion (algorithm BINV) with an expected time
+ * proportional to the mean.</p>
+ *
+ * <p>Construction is cheap and the sampler is suitable when the parameters of the
+ * distribution change for each sample. See {@link BinomialSampler} for a sampler
+ * optimised for repeat sampling from the same distribution.</p>
+ *
+ * <p>Sampling uses {@link UniformRandomProvider#nextDouble()}.</p>
+ *
+ * @see <a href="https://doi.org/10.1145/42372.42381">
+ * Kachitvichyanukul and Schmeiser (1988) Communications of the ACM 31, 216-222</a>
+ * @since 1.8
+ */
+public final class BtpeBinomialSampler
+    implements SharedStateDiscreteSampler {
+    /**
+     * The mean {@code n * min(p, 1 - p)} below which inversion is used.
+     *
+     * <p>Package scope for the {@link BinomialSampler}.
+     */
+    static final double INVERSION_MEAN = 30;
+    /** The description of the Binomial deviate. */
+    private static final String BINOMIAL_DEVIATE = "Binomial deviate";
+
+    /** Underlying source of randomness. */
+    private final UniformRandomProvider rng;
+    /** Number of trials. */
+    private final int trials;
+    /** Set to {@code true} if the sample is generated using {@code 1 - p}. */
+    private final boolean inverted;
+    /** Probability of success: {@code r = min(p, 1 - p)}. */
+    private final double r;
+    /** Variance: {@code n * r * (1 - r)}. */
+    private final double nrq;
+    /** Mode of the distribution. */
+    private final int m;
+    /** Half the width of the triangle. */
+    private final double p1;
+    /** Height of the parallelograms. */
+    private final double c;
+    /** Rate of the left exponential tail. */
+    private final double laml;
+    /** Rate of the right exponential tail. */
+    private final double lamr;
+    /** Cumulative area of the triangle and parallelograms. */
+    private final double p2;
+    /** Cumulative area including the left exponential tail. */
+    private final double p3;
+    /** Total area of the majorizing function. */
+    private final double p4;
+
+    /**
+     * Return a fixed result for the Binomial distribution. This handles the edge
+     * case of no trials or a probability of success equal to 0 or 1.
+     */
+    private static final class FixedResultBinomialSampler
+        implements SharedStateDiscreteSampler {
+        /** The result. */
+        private final int result;
+
+        /**
+         * @param result Result.
+         */
+        FixedResultBinomialSampler(int result) {
+            this.result = result;
+        }
+
+        @Override
+        public int sample() {
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return BINOMIAL_DEVIATE;
+        }
+
+        @Override
+        public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+            // No shared state
+            return this;
+        }
+    }
+
+    /**
+     * Sample from the Binomial distribution using inversion (algorithm BINV). The
+     * cumulative probability is searched sequentially from zero using the recurrence
+     * relation for the probability.
+     */
+    private static final class InversionBinomialSampler
+        implements SharedStateDiscreteSampler {
+        /** Underlying source of randomness. */
+        private final UniformRandomProvider rng;
+        /** Number of trials. */
+        private final int trials;
+        /** Set to {@code true} if the sample is generated using {@code 1 - p}. */
+        private final boolean inverted;
+        /** Odds of success: {@code r / (1 - r)} with {@code r = min(p, 1 - p)}. */
+        private final double s;
+        /** Probability of no successes. */
+        private final double p0;
+        /** Upper limit of the search. The search restarts if this is exceeded. */
+        private final int bound;
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param trials Number of trials.
+         * @param p Probability of success.
+         */
+        InversionBinomialSampler(UniformRandomProvider rng, int trials, double p) {
+            this.rng = rng;
+            this.trials = trials;
+            inverted = p > 0.5;
+            final double r = inverted ? 1 - p : p;
+            final double q = 1 - r;
+            s = r / q;
+            p0 = Math.exp(trials * Math.log1p(-r));
+            bound = inversionBound(trials, r);
+        }
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param source Source to copy.
+         */
+        InversionBinomialSampler(UniformRandomProvider rng, InversionBinomialSampler source) {
+            this.rng = rng;
+            trials = source.trials;
+            inverted = source.inverted;
+            s = source.s;
+            p0 = source.p0;
+            bound = source.bound;
+        }
+
+        @Override
+        public int sample() {
+            final int x = inversion(rng, trials, s, p0, bound);
+            return inverted ? trials - x : x;
+        }
+
+        @Override
+        public String toString() {
+            return BtpeBinomialSampler.toString("Inversion", rng);
+        }
+
+        @Override
+        public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+            return new InversionBinomialSampler(rng, this);
+        }
+    }
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param trials Number of trials.
+     * @param p Probability of success.
+     */
+    private BtpeBinomialSampler(UniformRandomProvider rng, int trials, double p) {
+        this.rng = rng;
+        this.trials = trials;
+        inverted = p > 0.5;
+        r = inverted ? 1 - p : p;
+        final double q = 1 - r;
+        nrq = trials * r * q;
+        // Setup (step 0 of the algorithm)
+        final double fm = trials * r + r;
+        m = (int) fm;
+        p1 = Math.floor(2.195 * Math.sqrt(nrq) - 4.6 * q) + 0.5;
+        final double xm = m + 0.5;
+        final double xl = xm - p1;
+        final double xr = xm + p1;
+        c = 0.134 + 20.5 / (15.3 + m);
+        double a = (fm - xl) / (fm - xl * r);
+        laml = a * (1 + 0.5 * a);
+        a = (xr - fm) / (xr * q);
+        lamr = a * (1 + 0.5 * a);
+        p2 = p1 * (1 + 2 * c);
+        p3 = p2 + c / laml;
+        p4 = p3 + c / lamr;
+    }
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param source Source to copy.
+     */
+    private BtpeBinomialSampler(UniformRandomProvider rng, BtpeBinomialSampler source) {
+        this.rng = rng;
+        trials = source.trials;
+        inverted = source.inverted;
+        r = source.r;
+        nrq = source.nrq;
+        m = source.m;
+        p1 = source.p1;
+        c = source.c;
+        laml = source.laml;
+        lamr = source.lamr;
+        p2 = source.p2;
+        p3 = source.p3;
+        p4 = source.p4;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int sample() {
+        final int y = btpe(rng, trials, r, nrq, m, p1, c, laml, lamr, p2, p3, p4);
+        return inverted ? trials - y : y;
+    }
+
+    /**
+     * Generate a sample using algorithm BTPE with {@code p = r}.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param trials Number of trials.
+     * @param r Probability of success {@code r <= 0.5}.
+     * @param nrq Variance: {@code n * r * (1 - r)}.
+     * @param m Mode of the distribution.
+     * @param p1 Half the width of the triangle.
+     * @param c Height of the parallelograms.
+     * @param laml Rate of the left exponential tail.
+     * @param lamr Rate of the right exponential tail.
+     * @param p2 Cumulative area of the triangle and parallelograms.
+     * @param p3 Cumulative area including the left exponential tail.
+     * @param p4 Total area of the majorizing function.
+     * @return a sample
+     */
+    private static int btpe(UniformRandomProvider rng, int trials, double r, double nrq,
+                            int m, double p1, double c, double laml, double lamr,
+                            double p2, double p3, double p4) {
+        // Centre and edges of the triangle
+        final double xm = m + 0.5;
+        final double xl = xm - p1;
+        final double xr = xm + p1;
+        for (;;) {
+            // Step 1: Select the region of the majorizing function
+            final double u = rng.nextDouble() * p4;
+            double v = rng.nextDouble();
+            final long y;
+            if (u <= p1) {
+                // Triangular region: immediate acceptance
+                return (int) Math.floor(xm - p1 * v + u);
+            }
+            if (u <= p2) {
+                // Step 2: Parallelograms
+                final double x = xl + (u - p1) / c;
+                v = v * c + 1 - Math.abs(m - x + 0.5) / p1;
+                if (v > 1) {
+                    continue;
+                }
+                y = (long) Math.floor(x);
+            } else if (u <= p3) {
+                // Step 3: Left exponential tail.
+                // Note: v=0 creates -infinity which is rejected as y < 0.
+                y = (long) Math.floor(xl + Math.log(v) / laml);
+                if (y < 0) {
+                    continue;
+                }
+                v *= (u - p2) * laml;
+            } else {
+                // Step 4: Right exponential tail.
+                // Note: v=0 creates infinity which is rejected as y > n.
+                y = (long) Math.floor(xr - Math.log(v) / lamr);
+                if (y > trials) {
+                    continue;
+                }
+                v *= (u - p3) * lamr;
+            }
+            if (accept(trials, r, nrq, m, y, v)) {
+                return (int) y;
+            }
+        }
+    }
+
+    /**
+     * Acceptance/rejection test for the candidate {@code y} using the value {@code v}
+     * scaled to the majorizing function (step 5 of the algorithm).
+     *
+     * @param trials Number of trials.
+     * @param r Probability of success {@code r <= 0.5}.
+     * @param nrq Variance: {@code n * r * (1 - r)}.
+     * @param m Mode of the distribution.
+     * @param y Candidate sample.
+     * @param v Uniform deviate scaled to the height of the majorizing function.
+     * @return true if accepted
+     */
+    private static boolean accept(int trials, double r, double nrq, int m, long y, double v) {
+        final double q = 1 - r;
+        final long k = Math.abs(y - m);
+        if (k <= 20 || k >= nrq / 2 - 1) {
+            // Step 5.1: Evaluate f(y) / f(m) using the recurrence relation
+            final double s = r / q;
+            final double a = s * (trials + 1.0);
+            double f = 1;
+            if (m < y) {
+                for (long i = m + 1; i <= y; i++) {
+                    f *= a / i - s;
+                }
+            } else if (m > y) {
+                for (long i = y + 1; i <= m; i++) {
+                    f /= a / i - s;
+                }
+            }
+            return v <= f;
+        }
+
+        // Step 5.2: Squeeze using upper and lower bounds on log(f(y))
+        final double rho = (k / nrq) * ((k * (k / 3.0 + 0.625) + 1.0 / 6) / nrq + 0.5);
+        final double t = -0.5 * k * k / nrq;
+        final double alv = Math.log(v);
+        if (alv < t - rho) {
+            return true;
+        }
+        if (alv > t + rho) {
+            return false;
+        }
+
+        // Step 5.3: Final acceptance/rejection test using Stirling's formula
+        final double x1 = y + 1.0;
+        final double f1 = m + 1.0;
+        final double z = trials + 1.0 - m;
+        final double w = trials - y + 1.0;
+        return alv <= (m + 0.5) * Math.log(f1 / x1) +
+                      (trials - m + 0.5) * Math.log(z / w) +
+                      (y - m) * Math.log(w * r / (x1 * q)) +
+                      stirlingCorrection(f1) +
+                      stirlingCorrection(z) +
+                      stirlingCorrection(x1) +
+                      stirlingCorrection(w);
+    }
+
+    /**
+     * Generates a sample from a Binomial distribution with the given parameters.
+     *
+     * <p>This method is intended for compound samplers where the probability of
+     * success changes for each sample. This method does not allocate: the setup of
+     * the inversion or BTPE algorithm is computed for each sample. No validation of
+     * the parameters is performed.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param trials Number of trials (must be positive).
+     * @param p Probability of success (must be in the range {@code [0, 1]}).
+     * @return a sample
+     */
+    static int sample(UniformRandomProvider rng, int trials, double p) {
+        final boolean inverted = p > 0.5;
+        final double r = inverted ? 1 - p : p;
+        if (trials * r >= INVERSION_MEAN) {
+            // Setup (step 0 of the algorithm)
+            final double q = 1 - r;
+            final double nrq = trials * r * q;
+            final double fm = trials * r + r;
+            final int m = (int) fm;
+            final double p1 = Math.floor(2.195 * Math.sqrt(nrq) - 4.6 * q) + 0.5;
+            final double xm = m + 0.5;
+            final double xl = xm - p1;
+            final double xr = xm + p1;
+            final double c = 0.134 + 20.5 / (15.3 + m);
+            double a = (fm - xl) / (fm - xl * r);
+            final double laml = a * (1 + 0.5 * a);
+            a = (xr - fm) / (xr * q);
+            final double lamr = a * (1 + 0.5 * a);
+            final double p2 = p1 * (1 + 2 * c);
+            final double p3 = p2 + c / laml;
+            final double p4 = p3 + c / lamr;
+            final int y = btpe(rng, trials, r, nrq, m, p1, c, laml, lamr, p2, p3, p4);
+            return inverted ? trials - y : y;
+        }
+        if (r == 0) {
+            // Edge case p == 0 or p == 1
+            return inverted ? trials : 0;
+        }
+        final int x = inversion(rng, trials, r / (1 - r),
+            Math.exp(trials * Math.log1p(-r)), inversionBound(trials, r));
+        return inverted ? trials - x : x;
+    }
+
+    /**
+     * Compute the upper limit of the inversion search. The search is truncated at
+     * 10 standard deviations above the mean; the probability mass above this is
+     * negligible.
+     *
+     * @param trials Number of trials.
+     * @param r Probability of success {@code r <= 0.5}.
+     * @return the bound
+     */
+    private static int inversionBound(int trials, double r) {
+        final double mean = trials * r;
+        return (int) Math.min(trials, mean + 10 * Math.sqrt(mean * (1 - r) + 1));
+    }
+
+    /**
+     * Generate a sample using inversion (algorithm BINV). The cumulative probability
+     * is searched sequentially from zero using the recurrence relation for the
+     * probability.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param trials Number of trials.
+     * @param s Odds of success: {@code r / (1 - r)}.
+     * @param p0 Probability of no successes.
+     * @param bound Upper limit of the search. The search restarts if this is exceeded.
+     * @return a sample
+     */
+    private static int inversion(UniformRandomProvider rng, int trials, double s,
+                                 double p0, int bound) {
+        double u = rng.nextDouble();
+        int x = 0;
+        double px = p0;
+        while (u > px) {
+            if (x == bound) {
+                // Restart
+                x = 0;
+                px = p0;
+                u = rng.nextDouble();
+            } else {
+                u -= px;
+                x++;
+                // p(x) = p(x-1) * (n - x + 1) / x * r / q
+                px *= (trials - x + 1) * s / x;
+            }
+        }
+        return x;
+    }
+
+    /**
+     * Compute the truncated series for the error of Stirling's approximation to
+     * {@code log(x!)}.
+     *
+     * @param x Value.
+     * @return the correction
+     */
+    private static double stirlingCorrection(double x) {
+        final double x2 = x * x;
+        return (13860 - (462 - (132 - (99 - 140 / x2) / x2) / x2) / x2) / x / 166320;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return toString("BTPE", rng);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+        return new BtpeBinomialSampler(rng, this);
+    }
+
+    /**
+     * Create the string representation of the sampler.
+     *
+     * @param type Sampler type.
+     * @param rng Generator of uniformly distributed random numbers.
+     * @return the string
+     */
+    private static String toString(String type, UniformRandomProvider rng) {
+        return type + " " + BINOMIAL_DEVIATE + " [" + rng.toString() + "]";
+    }
+
+    /**
+     * Creates a new sampler for the Binomial distribution.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param trials Number of trials.
+     * @param probabilityOfSuccess Probability of success (p).
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code trials < 0} or {@code p} is not in
+     * the range {@code [0, 1]}.
+     */
+    public static SharedStateDiscreteSampler of(UniformRandomProvider rng,
+                                                int trials,
+                                                double probabilityOfSuccess) {
+        if (trials < 0) {
+            throw new IllegalArgumentException("Trials is not positive: " + trials);
+        }
+        InternalUtils.requireRangeClosed(0, 1, probabilityOfSuccess, "probability of success");
+
+        // Handle edge cases
+        if (trials == 0 || probabilityOfSuccess == 0) {
+            return new FixedResultBinomialSampler(0);
+        }
+        if (probabilityOfSuccess == 1) {
+            return new FixedResultBinomialSampler(trials);
+        }
+
+        if (trials * Math.min(probabilityOfSuccess, 1 - probabilityOfSuccess) < INVERSION_MEAN) {
+            return new InversionBinomialSampler(rng, trials, probabilityOfSuccess);
+        }
+        return new BtpeBinomialSampler(rng, trials, probabilityOfSuccess);
+    }
+}
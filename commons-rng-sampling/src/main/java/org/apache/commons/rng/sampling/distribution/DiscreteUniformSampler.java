@@ -17,6 +17,7 @@
 
 package org.apache.commons.rng.sampling.distribution;
 
+import java.util.Arrays;
 import org.apache.commons.rng.UniformRandomProvider;
 
 /**
@@ -100,6 +101,12 @@ public class DiscreteUniformSampler
             return value;
         }
 
+        @Override
+        public void sample(int[] out, int from, int len) {
+            InternalUtils.validateFromIndexSize(from, len, out.length);
+            Arrays.fill(out, from, from + len, value);
+        }
+
         @Override
         public String toString() {
             // No RNG to include in the string
@@ -154,6 +161,17 @@ public class DiscreteUniformSampler
             return rng.nextInt() >>> shift;
         }
 
+        @Override
+        public void sample(int[] out, int from, int len) {
+            InternalUtils.validateFromIndexSize(from, len, out.length);
+            final UniformRandomProvider r = rng;
+            final int s = shift;
+            final int to = from + len;
+            for (int i = from; i < to; i++) {
+                out[i] = r.nextInt() >>> s;
+            }
+        }
+
         @Override
         public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
             return new PowerOf2RangeDiscreteUniformSampler(rng, this);
@@ -233,6 +251,23 @@ public class DiscreteUniformSampler
             return (int)(result >>> 32);
         }
 
+        @Override
+        public void sample(int[] out, int from, int len) {
+            InternalUtils.validateFromIndexSize(from, len, out.length);
+            final UniformRandomProvider r = rng;
+            final long range = n;
+            final long t = threshold;
+            final int to = from + len;
+            for (int i = from; i < to; i++) {
+                // See sample()
+                long result;
+                do {
+                    result = range * (r.nextInt() & 0xffffffffL);
+                } while ((result & 0xffffffffL) < t);
+                out[i] = (int)(result >>> 32);
+            }
+        }
+
         @Override
         public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
             return new SmallRangeDiscreteUniformSampler(rng, this);
@@ -278,6 +313,22 @@ public class DiscreteUniformSampler
             }
         }
 
+        @Override
+        public void sample(int[] out, int from, int len) {
+            InternalUtils.validateFromIndexSize(from, len, out.length);
+            final UniformRandomProvider rand = rng;
+            final int lo = lower;
+            final int hi = upper;
+            final int to = from + len;
+            for (int i = from; i < to; i++) {
+                int r;
+                do {
+                    r = rand.nextInt();
+                } while (r < lo || r > hi);
+                out[i] = r;
+            }
+        }
+
         @Override
         public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
             return new LargeRangeDiscreteUniformSampler(rng, lower, upper);
@@ -310,6 +361,16 @@ public class DiscreteUniformSampler
             return offset + sampler.sample();
         }
 
+        @Override
+        public void sample(int[] out, int from, int len) {
+            sampler.sample(out, from, len);
+            final int o = offset;
+            final int to = from + len;
+            for (int i = from; i < to; i++) {
+                out[i] += o;
+            }
+        }
+
         @Override
         public String toString() {
             return sampler.toString();
@@ -353,6 +414,16 @@ public class DiscreteUniformSampler
         return delegate.sample();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1.8
+     */
+    @Override
+    public void sample(int[] out, int from, int len) {
+        delegate.sample(out, from, len);
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Compute a sample from {@code n} values each with an associated weight. The weights
+ * can be updated after construction.
+ *
+ * <p>The weights are stored in the leaves of a binary tree where each internal node
+ * holds the sum of its children. Sampling descends the tree from the root using a single
+ * uniform deviate scaled by the total weight. Updating a weight recomputes the sums on the
+ * path to the root. Both operations are {@code O(log n)}. The sums are recomputed from
+ * the children on each update; there is no accumulation of round-off error when weights
+ * are repeatedly changed, and a weight of zero is never sampled.</p>
+ *
+ * <p>This sampler is suitable for simulations where the weights change after each sample,
+ * for example the direct method of Gillespie's stochastic simulation algorithm. If the
+ * weights are fixed then it is more efficient to use the {@link AliasMethodDiscreteSampler}
+ * or {@link GuideTableDiscreteSampler}.</p>
+ *
+ * <p>The tree is stored in a primitive array using {@code 2n} doubles.</p>
+ *
+ * <p>Sampling uses {@link UniformRandomProvider#nextDouble()}.</p>
+ *
+ * <p>This class is not thread safe.</p>
+ *
+ * @since 1.8
+ */
+public final class DynamicDiscreteSampler implements SharedStateDiscreteSampler {
+    /** The maximum number of categories. */
+    private static final int MAX_SIZE = 1 << 30;
+    /** The name of the weight argument. */
+    private static final String WEIGHT = "weight";
+
+    /** Underlying source of randomness. */
+    private final UniformRandomProvider rng;
+    /** The number of categories. */
+    private final int n;
+    /**
+     * The sum tree. The root is at index 1; the children of node {@code i} are
+     * {@code 2i} and {@code 2i + 1}. The weight of category {@code i} is at
+     * index {@code n + i}. Index 0 is unused.
+     */
+    private final double[] tree;
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param tree Sum tree.
+     */
+    private DynamicDiscreteSampler(UniformRandomProvider rng, double[] tree) {
+        this.rng = rng;
+        this.n = tree.length >> 1;
+        this.tree = tree;
+    }
+
+    /**
+     * Create a new sampler using the given {@code weights}. The samples corresponding
+     * to each weight are assumed to be a natural sequence starting at zero.
+     *
+     * <p>The weights may all be zero; the weights must be updated to have a positive
+     * sum before sampling.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param weights The weights.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code weights} is empty or larger than
+     * 2<sup>30</sup>, a weight is negative, infinite or {@code NaN}, or the sum of all
+     * weights is infinite.
+     */
+    public static DynamicDiscreteSampler of(UniformRandomProvider rng, double[] weights) {
+        final int size = weights.length;
+        if (size == 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Invalid number of weights: " + size);
+        }
+        final double[] tree = new double[size << 1];
+        for (int i = 0; i < size; i++) {
+            tree[size + i] = InternalUtils.requirePositiveFinite(weights[i], WEIGHT);
+        }
+        for (int i = size - 1; i > 0; i--) {
+            tree[i] = tree[i << 1] + tree[(i << 1) + 1];
+        }
+        InternalUtils.requireFinite(tree[1], "sum of weights");
+        return new DynamicDiscreteSampler(rng, tree);
+    }
+
+    /**
+     * Gets the number of categories.
+     *
+     * @return the number of categories
+     */
+    public int getNumberOfCategories() {
+        return n;
+    }
+
+    /**
+     * Gets the weight of the category.
+     *
+     * @param i Category.
+     * @return the weight
+     * @throws IndexOutOfBoundsException if the category is not in {@code [0, n)}.
+     */
+    public double getWeight(int i) {
+        return tree[leaf(i)];
+    }
+
+    /**
+     * Gets the sum of the weights.
+     *
+     * @return the total weight
+     */
+    public double getTotalWeight() {
+        return tree[1];
+    }
+
+    /**
+     * Sets the weight of the category.
+     *
+     * <p>If the weight is invalid then the sampler is not modified.
+     *
+     * @param i Category.
+     * @param weight Weight.
+     * @throws IndexOutOfBoundsException if the category is not in {@code [0, n)}.
+     * @throws IllegalArgumentException if the weight is negative, infinite or {@code NaN},
+     * or the sum of all weights is infinite.
+     */
+    public void setWeight(int i, double weight) {
+        final int j = leaf(i);
+        final double previous = tree[j];
+        update(j, InternalUtils.requirePositiveFinite(weight, WEIGHT));
+        if (tree[1] == Double.POSITIVE_INFINITY) {
+            update(j, previous);
+            throw new IllegalArgumentException("Sum of weights is not finite");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the sum of the weights is zero.
+     */
+    @Override
+    public int sample() {
+        final double[] t = tree;
+        final double total = t[1];
+        if (total == 0) {
+            throw new IllegalStateException("Sum of weights is zero");
+        }
+        double u = rng.nextDouble() * total;
+        // Descend from the root to a leaf
+        int i = 1;
+        while (i < n) {
+            i <<= 1;
+            final double left = t[i];
+            // The right branch is not selected if it has zero weight.
+            // This protects against round-off when u is close to the total.
+            if (u >= left && t[i + 1] != 0) {
+                u -= left;
+                i++;
+            }
+        }
+        return i - n;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Dynamic discrete deviate [" + rng.toString() + "]";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The new sampler has a copy of the current weights. Updates to the weights
+     * of either sampler do not affect the other.
+     */
+    @Override
+    public DynamicDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+        return new DynamicDiscreteSampler(rng, tree.clone());
+    }
+
+    /**
+     * Gets the index of the leaf for the category.
+     *
+     * @param i Category.
+     * @return the index
+     * @throws IndexOutOfBoundsException if the category is not in {@code [0, n)}.
+     */
+    private int leaf(int i) {
+        if (i < 0 || i >= n) {
+            throw new IndexOutOfBoundsException("Category " + i + " out of bounds for size " + n);
+        }
+        return n + i;
+    }
+
+    /**
+     * Sets the value of the leaf and updates the sums on the path to the root.
+     *
+     * @param j Index of the leaf.
+     * @param weight Weight.
+     */
+    private void update(int j, double weight) {
+        final double[] t = tree;
+        t[j] = weight;
+        for (int i = j >> 1; i > 0; i >>= 1) {
+            t[i] = t[i << 1] + t[(i << 1) + 1];
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+/**
+ * Sampler that generates values of type {@code float}.
+ *
+ * @since 1.8
+ */
+@FunctionalInterface
+public interface FloatSampler {
+    /**
+     * Creates a {@code float} sample.
+     *
+     * @return a sample.
+     */
+    float sample();
+
+    /**
+     * Generates {@code float} samples and places them into a user-supplied array.
+     *
+     * <p>The default implementation calls {@link #sample(float[], int, int)
+     * sample(out, 0, out.length)}.
+     *
+     * @param out Array in which to put the samples.
+     */
+    default void sample(float[] out) {
+        sample(out, 0, out.length);
+    }
+
+    /**
+     * Generates {@code float} samples and places them into a user-supplied array.
+     *
+     * <p>The default implementation repeatedly calls {@link #sample sample}().
+     * Implementations may override this method to generate the samples more efficiently.
+     *
+     * @param out Array in which to put the samples.
+     * @param from Index at which to start inserting the samples.
+     * @param len Number of samples to insert.
+     * @throws IndexOutOfBoundsException if {@code from < 0} or {@code len < 0} or
+     * {@code len > out.length - from}.
+     */
+    default void sample(float[] out, int from, int len) {
+        InternalUtils.validateFromIndexSize(from, len, out.length);
+        final int to = from + len;
+        for (int i = from; i < to; i++) {
+            out[i] = sample();
+        }
+    }
+}
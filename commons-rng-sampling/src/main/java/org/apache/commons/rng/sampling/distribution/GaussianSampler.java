@@ -33,6 +33,11 @@ import org.apache.commons.rng.UniformRandomProvider;
  * @since 1.1
  */
 public class GaussianSampler implements SharedStateContinuousSampler {
+    /** The name of the mean parameter. */
+    private static final String MEAN = "mean";
+    /** The name of the standard deviation parameter. */
+    private static final String STANDARD_DEVIATION = "standardDeviation";
+
     /** Mean. */
     private final double mean;
     /** standardDeviation. */
@@ -53,8 +58,8 @@ public class GaussianSampler implements SharedStateContinuousSampler {
                            double mean,
                            double standardDeviation) {
         // Validation before java.lang.Object constructor exits prevents partially initialized object
-        this(InternalUtils.requireFinite(mean, "mean"),
-             InternalUtils.requireStrictlyPositiveFinite(standardDeviation, "standardDeviation"),
+        this(InternalUtils.requireFinite(mean, MEAN),
+             InternalUtils.requireStrictlyPositiveFinite(standardDeviation, STANDARD_DEVIATION),
              normalized);
     }
 
@@ -123,4 +128,28 @@ public class GaussianSampler implements SharedStateContinuousSampler {
                                                   double standardDeviation) {
         return new GaussianSampler(normalized, mean, standardDeviation);
     }
+
+    /**
+     * Generates a single sample from a Gaussian distribution with the given parameters.
+     *
+     * <p>This method is intended for use when the parameters change for each sample.
+     * The normalised Gaussian sampler should be created once and reused; no objects
+     * are allocated. The sample is the same as a sampler created using
+     * {@link #of(NormalizedGaussianSampler, double, double)}.
+     *
+     * @param normalized Generator of N(0,1) Gaussian distributed random numbers.
+     * @param mean Mean of the Gaussian distribution.
+     * @param standardDeviation Standard deviation of the Gaussian distribution.
+     * @return a sample
+     * @throws IllegalArgumentException if {@code standardDeviation <= 0} or is infinite;
+     * or {@code mean} is infinite
+     * @since 1.8
+     */
+    public static double sample(NormalizedGaussianSampler normalized,
+                                double mean,
+                                double standardDeviation) {
+        InternalUtils.requireFinite(mean, MEAN);
+        InternalUtils.requireStrictlyPositiveFinite(standardDeviation, STANDARD_DEVIATION);
+        return standardDeviation * normalized.sample() + mean;
+    }
 }
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.rng.sampling.distribution;
 
+import java.util.concurrent.ForkJoinPool;
 import org.apache.commons.rng.UniformRandomProvider;
 
 /**
@@ -43,6 +44,12 @@ public final class GuideTableDiscreteSampler
     implements SharedStateDiscreteSampler {
     /** The default value for {@code alpha}. */
     private static final double DEFAULT_ALPHA = 1.0;
+    /** The name of the probability argument. */
+    private static final String PROBABILITY = "probability";
+    /** The name of the sum of the probabilities. */
+    private static final String SUM_OF_PROBABILITIES = "sum of probabilities";
+    /** The number of probabilities processed by each task of the parallel construction. */
+    private static final int BLOCK_SIZE = 1 << 16;
     /** Underlying source of randomness. */
     private final UniformRandomProvider rng;
     /**
@@ -97,6 +104,29 @@ public final class GuideTableDiscreteSampler
         return x;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 1.8
+     */
+    @Override
+    public void sample(int[] out, int from, int len) {
+        InternalUtils.validateFromIndexSize(from, len, out.length);
+        // Hold the generator and tables in local variables for the loop
+        final UniformRandomProvider r = rng;
+        final double[] f = cumulativeProbabilities;
+        final int[] g = guideTable;
+        final int to = from + len;
+        for (int k = from; k < to; k++) {
+            final double u = r.nextDouble();
+            int x = g[getGuideTableIndex(u, g.length)];
+            while (x != 0 && u <= f[x - 1]) {
+                x--;
+            }
+            out[k] = x;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -155,11 +185,11 @@ public final class GuideTableDiscreteSampler
         int count = 0;
         for (final double prob : probabilities) {
             // Compute and store cumulative probability.
-            sumProb += InternalUtils.requirePositiveFinite(prob, "probability");
+            sumProb += InternalUtils.requirePositiveFinite(prob, PROBABILITY);
             cumulativeProbabilities[count++] = sumProb;
         }
 
-        InternalUtils.requireStrictlyPositiveFinite(sumProb, "sum of probabilities");
+        InternalUtils.requireStrictlyPositiveFinite(sumProb, SUM_OF_PROBABILITIES);
 
         // Note: The guide table is at least length 1. Compute the size avoiding overflow
         // in case (alpha * size) is too large.
@@ -193,6 +223,131 @@ public final class GuideTableDiscreteSampler
         return new GuideTableDiscreteSampler(rng, cumulativeProbabilities, guideTable);
     }
 
+    /**
+     * Create a new sampler for an enumerated distribution using the given {@code probabilities}.
+     * The samples corresponding to each probability are assumed to be a natural sequence
+     * starting at zero.
+     *
+     * <p>The tables are constructed in parallel using the {@code pool}. The cumulative
+     * probabilities are computed using a parallel prefix sum and may differ from
+     * {@link #of(UniformRandomProvider, double[], double)} by floating-point round-off.
+     * Small distributions are constructed using a single thread.</p>
+     *
+     * <p>The size of the guide table is {@code alpha * probabilities.length}.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param probabilities The probabilities.
+     * @param alpha The alpha factor used to set the guide table size.
+     * @param pool Pool used to construct the tables.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code probabilities} is null or empty, a
+     * probability is negative, infinite or {@code NaN}, the sum of all
+     * probabilities is not strictly positive, or {@code alpha} is not strictly positive.
+     * @since 1.8
+     */
+    public static SharedStateDiscreteSampler of(UniformRandomProvider rng,
+                                                double[] probabilities,
+                                                double alpha,
+                                                ForkJoinPool pool) {
+        return of(rng, probabilities, alpha, pool, BLOCK_SIZE);
+    }
+
+    /**
+     * Create a new sampler for an enumerated distribution using the given {@code probabilities}.
+     * The tables are constructed in parallel using blocks of the specified size.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param probabilities The probabilities.
+     * @param alpha The alpha factor used to set the guide table size.
+     * @param pool Pool used to construct the tables.
+     * @param blockSize Number of probabilities processed by each task.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code probabilities} is null or empty, a
+     * probability is negative, infinite or {@code NaN}, the sum of all
+     * probabilities is not strictly positive, or {@code alpha} is not strictly positive.
+     */
+    static SharedStateDiscreteSampler of(UniformRandomProvider rng,
+                                         double[] probabilities,
+                                         double alpha,
+                                         ForkJoinPool pool,
+                                         int blockSize) {
+        validateParameters(probabilities, alpha);
+
+        final int size = probabilities.length;
+        if (size <= blockSize) {
+            return of(rng, probabilities, alpha);
+        }
+
+        final int blocks = (int) (((long) size + blockSize - 1) / blockSize);
+        final double[] cumulativeProbabilities = new double[size];
+        final double[] offsets = new double[blocks + 1];
+
+        // Parallel prefix sum.
+        // Compute the cumulative probability within each block.
+        InternalUtils.invokeAll(pool, blocks, b -> {
+            final int from = b * blockSize;
+            final int to = (int) Math.min(size, (long) from + blockSize);
+            double sumProb = 0;
+            for (int x = from; x < to; x++) {
+                sumProb += InternalUtils.requirePositiveFinite(probabilities[x], PROBABILITY);
+                cumulativeProbabilities[x] = sumProb;
+            }
+            offsets[b + 1] = sumProb;
+        });
+        // The offset of each block is the sum of the preceding blocks.
+        // The cumulative probability at the end of each block is exactly the offset of
+        // the next block so the cumulative probability is non-decreasing.
+        for (int b = 0; b < blocks; b++) {
+            offsets[b + 1] += offsets[b];
+        }
+        final double sumProb = offsets[blocks];
+
+        InternalUtils.requireStrictlyPositiveFinite(sumProb, SUM_OF_PROBABILITIES);
+
+        // Note: The guide table is at least length 1. Compute the size avoiding overflow
+        // in case (alpha * size) is too large.
+        final int guideTableSize = (int) Math.ceil(alpha * size);
+        final int[] guideTable = new int[Math.max(guideTableSize, guideTableSize + 1)];
+
+        // Each block sets the guide table entries from the index of its first
+        // cumulative probability up to the index of the first cumulative probability
+        // of the next block. Compute the bounds before the table is normalised.
+        final int[] bounds = new int[blocks + 1];
+        for (int b = 1; b < blocks; b++) {
+            final int x = b * blockSize;
+            bounds[b] = getGuideTableIndex(
+                normalise(offsets[b] + cumulativeProbabilities[x], sumProb), guideTable.length);
+        }
+        bounds[blocks] = guideTable.length;
+
+        InternalUtils.invokeAll(pool, blocks, b -> {
+            final int from = b * blockSize;
+            final int to = (int) Math.min(size, (long) from + blockSize);
+            final double offset = offsets[b];
+            // The guide table value is an exclusive upper bound (x + 1) of the largest
+            // sample with a cumulative probability mapped to an index at or below i.
+            // Any probabilities mapped below f(x=0) must be sample x=0.
+            int i = bounds[b];
+            int upper = 0;
+            for (int x = from; x < to; x++) {
+                cumulativeProbabilities[x] = normalise(offset + cumulativeProbabilities[x], sumProb);
+                final int index = getGuideTableIndex(cumulativeProbabilities[x], guideTable.length);
+                while (i < index) {
+                    guideTable[i++] = upper;
+                }
+                upper = x + 1;
+            }
+            while (i < bounds[b + 1]) {
+                guideTable[i++] = upper;
+            }
+        });
+
+        // Edge case for round-off
+        cumulativeProbabilities[size - 1] = 1.0;
+
+        return new GuideTableDiscreteSampler(rng, cumulativeProbabilities, guideTable);
+    }
+
     /**
      * Validate the parameters.
      *
@@ -208,6 +363,18 @@ public final class GuideTableDiscreteSampler
         InternalUtils.requireStrictlyPositive(alpha, "alpha");
     }
 
+    /**
+     * Normalise the cumulative probability using the sum. The result is clipped to 1.
+     *
+     * @param cumulativeProbability Cumulative probability.
+     * @param sumProb Sum of the probabilities.
+     * @return the normalised cumulative probability
+     */
+    private static double normalise(double cumulativeProbability, double sumProb) {
+        final double norm = cumulativeProbability / sumProb;
+        return (norm < 1) ? norm : 1.0;
+    }
+
     /**
      * Gets the guide table index for the probability. This is obtained using
      * {@code p * (tableLength - 1)} so is inside the length of the table.
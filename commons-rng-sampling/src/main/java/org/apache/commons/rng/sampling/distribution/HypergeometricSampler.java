@@ -0,0 +1,543 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.distribution.InternalUtils.FactorialLog;
+
+/**
+ * Sampler for the <a href="https://mathworld.wolfram.com/HypergeometricDistribution.html">
+ * Hypergeometric distribution</a>.
+ *
+ * <ul>
+ *   <li>
+ *     Kachitvichyanukul, V. and Schmeiser, B. W. (1985).
+ *     Computer generation of hypergeometric random variates.
+ *     Journal of Statistical Computation and Simulation, 22(2), pp. 127-145.
+ *   </li>
+ * </ul>
+ *
+ * <p>The distribution describes the number of successes in a sample drawn without
+ * replacement from a population containing a number of successes. The parameters are
+ * reduced using the symmetry of the distribution so that the number of successes and
+ * the sample size are at most half the population size.</p>
+ *
+ * <p>If the mode of the reduced distribution is below 10 the sample is generated by
+ * inversion (algorithm HIN) using a sequential search of the cumulative probability.
+ * Otherwise the sample is generated using the algorithm H2PE. This uses
+ * acceptance/rejection from a majorizing function composed of a rectangle and two
+ * exponential tails. The expected time is constant with respect to the parameters.</p>
+ *
+ * <p>No storage is required that is proportional to the size of the population; the
+ * sampler is suitable for populations of any {@code int} size.</p>
+ *
+ * <p>Sampling uses {@link UniformRandomProvider#nextDouble()}.</p>
+ *
+ * @see <a href="https://doi.org/10.1080/00949658508810839">
+ * Kachitvichyanukul and Schmeiser (1985) J. Statist. Comput. Simul. 22, 127-145</a>
+ * @since 1.8
+ */
+public final class HypergeometricSampler {
+    /** The mode of the reduced distribution below which inversion is used. */
+    private static final int INVERSION_MODE = 10;
+    /** The description of the Hypergeometric deviate. */
+    private static final String HYPERGEOMETRIC_DEVIATE = "Hypergeometric deviate";
+    /** Compute {@code log(n!)}. */
+    private static final FactorialLog FACTORIAL_LOG = FactorialLog.create();
+
+    /**
+     * The parameters of the reduced distribution and the mapping from a sample of the reduced
+     * distribution to a sample of the original distribution.
+     *
+     * <p>The reduced distribution has {@code n1 <= n2} and {@code k <= (n1 + n2) / 2}.
+     * The support is {@code [0, min(n1, k)]}.
+     */
+    private static final class Parameters {
+        /** Number of successes in the population. */
+        private final int successes;
+        /** Sample size. */
+        private final int sampleSize;
+        /** Number of successes in the reduced population. */
+        private final int n1;
+        /** Number of failures in the reduced population. */
+        private final int n2;
+        /** Sample size of the reduced population. */
+        private final int k;
+        /** Set to true if the successes and failures are swapped. */
+        private final boolean swapSuccesses;
+        /** Set to true if the sample is swapped with the rest of the population. */
+        private final boolean swapSample;
+
+        /**
+         * @param populationSize Population size.
+         * @param successes Number of successes in the population.
+         * @param sampleSize Sample size.
+         */
+        Parameters(int populationSize, int successes, int sampleSize) {
+            this.successes = successes;
+            this.sampleSize = sampleSize;
+            final int failures = populationSize - successes;
+            swapSuccesses = successes > failures;
+            n1 = swapSuccesses ? failures : successes;
+            n2 = populationSize - n1;
+            // Note: (sampleSize > populationSize - sampleSize) without integer overflow
+            swapSample = sampleSize > populationSize - sampleSize;
+            k = swapSample ? populationSize - sampleSize : sampleSize;
+        }
+
+        /**
+         * Map the sample from the reduced distribution to the original distribution.
+         *
+         * @param x Sample from the reduced distribution.
+         * @return the sample
+         */
+        int map(int x) {
+            if (swapSample) {
+                // x is from the rest of the population
+                return swapSuccesses ?
+                    // successes = sample size - (failures - x); failures = n1
+                    sampleSize - n1 + x :
+                    // successes = successes - x
+                    successes - x;
+            }
+            // x is from the sample
+            return swapSuccesses ? sampleSize - x : x;
+        }
+
+        /**
+         * Compute the mode of the reduced distribution.
+         *
+         * @return the mode
+         */
+        int mode() {
+            return (int) ((k + 1.0) * (n1 + 1.0) / (n1 + 2.0 + n2));
+        }
+
+        /**
+         * Compute the upper bound of the support of the reduced distribution.
+         *
+         * @return the upper bound
+         */
+        int upper() {
+            return Math.min(n1, k);
+        }
+    }
+
+    /**
+     * Return a fixed result for the Hypergeometric distribution. This handles the edge case
+     * of a distribution with a single value.
+     */
+    private static final class FixedResultHypergeometricSampler
+        implements SharedStateDiscreteSampler {
+        /** The result. */
+        private final int result;
+
+        /**
+         * @param result Result.
+         */
+        FixedResultHypergeometricSampler(int result) {
+            this.result = result;
+        }
+
+        @Override
+        public int sample() {
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return HYPERGEOMETRIC_DEVIATE;
+        }
+
+        @Override
+        public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+            // No shared state
+            return this;
+        }
+    }
+
+    /**
+     * Sample from the Hypergeometric distribution using inversion (algorithm HIN).
+     */
+    private static final class InversionHypergeometricSampler
+        implements SharedStateDiscreteSampler {
+        /** Underlying source of randomness. */
+        private final UniformRandomProvider rng;
+        /** The parameters of the distribution. */
+        private final Parameters params;
+        /** Probability of zero successes in the reduced distribution. */
+        private final double p0;
+        /** Upper bound of the support. The search restarts if this is exceeded. */
+        private final int upper;
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param params Parameters of the distribution.
+         */
+        InversionHypergeometricSampler(UniformRandomProvider rng, Parameters params) {
+            this.rng = rng;
+            this.params = params;
+            final int n2 = params.n2;
+            final int k = params.k;
+            // p(0) = C(n2, k) / C(n1 + n2, k)
+            p0 = Math.exp(logFactorial(n2) + logFactorial(params.n1 + n2 - k) -
+                          logFactorial(n2 - k) - logFactorial(params.n1 + n2));
+            upper = params.upper();
+        }
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param source Source to copy.
+         */
+        InversionHypergeometricSampler(UniformRandomProvider rng, InversionHypergeometricSampler source) {
+            this.rng = rng;
+            params = source.params;
+            p0 = source.p0;
+            upper = source.upper;
+        }
+
+        @Override
+        public int sample() {
+            final double n1 = params.n1;
+            final double k = params.k;
+            final double c = (double) params.n2 - params.k;
+            double u = rng.nextDouble();
+            int x = 0;
+            double px = p0;
+            while (u > px) {
+                if (x == upper) {
+                    // Restart. This occurs due to round-off in the summation.
+                    x = 0;
+                    px = p0;
+                    u = rng.nextDouble();
+                } else {
+                    u -= px;
+                    // p(x+1) = p(x) * (n1 - x) * (k - x) / (x + 1) / (n2 - k + x + 1)
+                    px *= (n1 - x) * (k - x);
+                    x++;
+                    px /= x * (c + x);
+                }
+            }
+            return params.map(x);
+        }
+
+        @Override
+        public String toString() {
+            return HypergeometricSampler.toString("Inversion", rng);
+        }
+
+        @Override
+        public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+            return new InversionHypergeometricSampler(rng, this);
+        }
+    }
+
+    /**
+     * Sample from the Hypergeometric distribution using the algorithm H2PE.
+     */
+    private static final class H2peHypergeometricSampler
+        implements SharedStateDiscreteSampler {
+        /** Lower bound for the difference of the log(f(y)) squeeze. */
+        private static final double DELTA_L = 0.0078;
+        /** Upper bound for the difference of the log(f(y)) squeeze. */
+        private static final double DELTA_U = 0.0034;
+        /** The mode above which the squeeze is used. */
+        private static final int SQUEEZE_MODE = 100;
+        /** The sample above which the squeeze is used. */
+        private static final int SQUEEZE_SAMPLE = 50;
+
+        /** Underlying source of randomness. */
+        private final UniformRandomProvider rng;
+        /** The parameters of the distribution. */
+        private final Parameters params;
+        /** Mode of the reduced distribution. */
+        private final int m;
+        /** Upper bound of the support. */
+        private final int upper;
+        /** Left edge of the rectangle. */
+        private final double xl;
+        /** Right edge of the rectangle. */
+        private final double xr;
+        /** Log of the unnormalised probability at the mode. */
+        private final double a;
+        /** Rate of the left exponential tail. */
+        private final double lamdl;
+        /** Rate of the right exponential tail. */
+        private final double lamdr;
+        /** Area of the rectangle. */
+        private final double p1;
+        /** Cumulative area including the left exponential tail. */
+        private final double p2;
+        /** Total area of the majorizing function. */
+        private final double p3;
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param params Parameters of the distribution.
+         * @param mode Mode of the distribution.
+         */
+        H2peHypergeometricSampler(UniformRandomProvider rng, Parameters params, int mode) {
+            this.rng = rng;
+            this.params = params;
+            m = mode;
+            upper = params.upper();
+            final double n1 = params.n1;
+            final double n2 = params.n2;
+            final double k = params.k;
+            final double nn = n1 + n2;
+            final double s = Math.sqrt((nn - k) * k * n1 * n2 / (nn - 1) / nn / nn);
+            // The truncation centres the cell boundaries at 0.5
+            final double d = (int) (1.5 * s) + 0.5;
+            xl = m - d + 0.5;
+            xr = m + d + 0.5;
+            a = logF(m);
+            final double kl = Math.exp(logF((int) xl) - a);
+            final double kr = Math.exp(logF((int) (xr - 1)) - a);
+            lamdl = -Math.log(xl * (n2 - k + xl) / (n1 - xl + 1) / (k - xl + 1));
+            lamdr = -Math.log((n1 - xr + 1) * (k - xr + 1) / xr / (n2 - k + xr));
+            p1 = d + d;
+            p2 = p1 + kl / lamdl;
+            p3 = p2 + kr / lamdr;
+        }
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param source Source to copy.
+         */
+        H2peHypergeometricSampler(UniformRandomProvider rng, H2peHypergeometricSampler source) {
+            this.rng = rng;
+            params = source.params;
+            m = source.m;
+            upper = source.upper;
+            xl = source.xl;
+            xr = source.xr;
+            a = source.a;
+            lamdl = source.lamdl;
+            lamdr = source.lamdr;
+            p1 = source.p1;
+            p2 = source.p2;
+            p3 = source.p3;
+        }
+
+        @Override
+        public int sample() {
+            for (;;) {
+                final double u = rng.nextDouble() * p3;
+                double v = rng.nextDouble();
+                final long y;
+                if (u < p1) {
+                    // Rectangular region
+                    y = (long) (xl + u);
+                } else if (u <= p2) {
+                    // Left exponential tail.
+                    // Note: v=0 creates -infinity which is rejected as y < 0.
+                    y = (long) Math.floor(xl + Math.log(v) / lamdl);
+                    if (y < 0) {
+                        continue;
+                    }
+                    v *= (u - p1) * lamdl;
+                } else {
+                    // Right exponential tail.
+                    // Note: v=0 creates infinity which is rejected as y > upper.
+                    y = (long) Math.floor(xr - Math.log(v) / lamdr);
+                    if (y > upper) {
+                        continue;
+                    }
+                    v *= (u - p2) * lamdr;
+                }
+                if (accept((int) y, v)) {
+                    return params.map((int) y);
+                }
+            }
+        }
+
+        /**
+         * Acceptance/rejection test for the candidate {@code y} using the value {@code v}
+         * scaled to the majorizing function.
+         *
+         * @param y Candidate sample.
+         * @param v Uniform deviate scaled to the height of the majorizing function.
+         * @return true if accepted
+         */
+        private boolean accept(int y, double v) {
+            final double n1 = params.n1;
+            final double k = params.k;
+            final double c = (double) params.n2 - params.k;
+            if (m < SQUEEZE_MODE || y <= SQUEEZE_SAMPLE) {
+                // Explicit evaluation of f(y) / f(m) using the recurrence relation
+                double f = 1;
+                if (m < y) {
+                    for (int i = m + 1; i <= y; i++) {
+                        f = f * (n1 - i + 1) * (k - i + 1) / (c + i) / i;
+                    }
+                } else if (m > y) {
+                    for (int i = y + 1; i <= m; i++) {
+                        f = f * i * (c + i) / (n1 - i + 1) / (k - i + 1);
+                    }
+                }
+                return v <= f;
+            }
+
+            // Squeeze using upper and lower bounds on log(f(y))
+            final double y1 = y + 1.0;
+            final double ym = (double) y - m;
+            final double yn = n1 - y + 1.0;
+            final double yk = k - y + 1.0;
+            final double nk = c + y1;
+            final double r = -ym / y1;
+            final double s = ym / yn;
+            final double t = ym / yk;
+            final double e = -ym / nk;
+            final double g = yn * yk / (y1 * nk) - 1.0;
+            final double dg = g < 0 ? 1.0 + g : 1.0;
+            final double gu = g * (1.0 + g * (-0.5 + g / 3.0));
+            final double gl = gu - 0.25 * (g * g * g * g) / dg;
+            final double xm = m + 0.5;
+            final double xn = n1 - m + 0.5;
+            final double xk = k - m + 0.5;
+            final double nm = c + xm;
+            final double ub = y * gu - m * gl + DELTA_U +
+                xm * r * (1.0 + r * (-0.5 + r / 3.0)) +
+                xn * s * (1.0 + s * (-0.5 + s / 3.0)) +
+                xk * t * (1.0 + t * (-0.5 + t / 3.0)) +
+                nm * e * (1.0 + e * (-0.5 + e / 3.0));
+            final double alv = Math.log(v);
+            if (alv > ub) {
+                return false;
+            }
+            final double dr = squeezeTerm(xm, r);
+            final double ds = squeezeTerm(xn, s);
+            final double dt = squeezeTerm(xk, t);
+            final double de = squeezeTerm(nm, e);
+            if (alv < ub - 0.25 * (dr + ds + dt + de) + (y + m) * (gl - gu) - DELTA_L) {
+                return true;
+            }
+            // Final test
+            return alv <= logF(y) - a;
+        }
+
+        /**
+         * Compute a term for the lower bound of the squeeze.
+         *
+         * @param x Multiplier.
+         * @param z Value.
+         * @return the term
+         */
+        private static double squeezeTerm(double x, double z) {
+            final double z2 = z * z;
+            final double d = x * z2 * z2;
+            return z < 0 ? d / (1 + z) : d;
+        }
+
+        /**
+         * Compute the log of the unnormalised probability at {@code x}:
+         * {@code log(1 / (x! (n1 - x)! (k - x)! (n2 - k + x)!))}.
+         *
+         * @param x Value.
+         * @return log(f(x))
+         */
+        private double logF(int x) {
+            return -logFactorial(x) -
+                   logFactorial(params.n1 - x) -
+                   logFactorial(params.k - x) -
+                   logFactorial(params.n2 - params.k + x);
+        }
+
+        @Override
+        public String toString() {
+            return HypergeometricSampler.toString("H2PE", rng);
+        }
+
+        @Override
+        public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+            return new H2peHypergeometricSampler(rng, this);
+        }
+    }
+
+    /** Class contains only static methods. */
+    private HypergeometricSampler() {}
+
+    /**
+     * Creates a new sampler for the Hypergeometric distribution.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param populationSize Population size.
+     * @param numberOfSuccesses Number of successes in the population.
+     * @param sampleSize Sample size.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code populationSize <= 0}, or
+     * {@code numberOfSuccesses} or {@code sampleSize} are not in the range
+     * {@code [0, populationSize]}.
+     */
+    public static SharedStateDiscreteSampler of(UniformRandomProvider rng,
+                                                int populationSize,
+                                                int numberOfSuccesses,
+                                                int sampleSize) {
+        if (populationSize <= 0) {
+            throw new IllegalArgumentException("Population size is not strictly positive: " +
+                                               populationSize);
+        }
+        requireRange(numberOfSuccesses, populationSize, "Number of successes");
+        requireRange(sampleSize, populationSize, "Sample size");
+
+        final Parameters params = new Parameters(populationSize, numberOfSuccesses, sampleSize);
+        // The reduced distribution has a lower bound of zero
+        if (params.upper() == 0) {
+            return new FixedResultHypergeometricSampler(params.map(0));
+        }
+        final int mode = params.mode();
+        if (mode < INVERSION_MODE) {
+            return new InversionHypergeometricSampler(rng, params);
+        }
+        return new H2peHypergeometricSampler(rng, params, mode);
+    }
+
+    /**
+     * Checks the value {@code x} is in the range {@code [0, max]}.
+     *
+     * @param x Value.
+     * @param max Maximum (inclusive).
+     * @param name Name of the value.
+     * @throws IllegalArgumentException if {@code x} is not in the range.
+     */
+    private static void requireRange(int x, int max, String name) {
+        if (x < 0 || x > max) {
+            throw new IllegalArgumentException(name + " is not in the range [0, " + max + "]: " + x);
+        }
+    }
+
+    /**
+     * Compute {@code log(n!)}.
+     *
+     * @param n Argument.
+     * @return {@code log(n!)}
+     */
+    private static double logFactorial(int n) {
+        return FACTORIAL_LOG.value(n);
+    }
+
+    /**
+     * Create the string representation of the sampler.
+     *
+     * @param type Sampler type.
+     * @param rng Generator of uniformly distributed random numbers.
+     * @return the string
+     */
+    private static String toString(String type, UniformRandomProvider rng) {
+        return type + " " + HYPERGEOMETRIC_DEVIATE + " [" + rng.toString() + "]";
+    }
+}
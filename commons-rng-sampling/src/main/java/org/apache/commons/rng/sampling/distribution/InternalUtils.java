@@ -17,6 +17,11 @@
 
 package org.apache.commons.rng.sampling.distribution;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.SharedStateSampler;
 
@@ -228,6 +233,39 @@ final class InternalUtils {
         return (NormalizedGaussianSampler) newSampler;
     }
 
+    /**
+     * Checks if the sub-range from fromIndex (inclusive) to fromIndex + size (exclusive) is
+     * within the bounds of range from 0 (inclusive) to length (exclusive).
+     *
+     * <p>This function provides the functionality of
+     * {@code java.utils.Objects.checkFromIndexSize} introduced in JDK 9. The sub-range
+     * is defined to be out of bounds if any of the following inequalities is true:
+     * <ul>
+     * <li>{@code fromIndex < 0}</li>
+     * <li>{@code size < 0}</li>
+     * <li>{@code fromIndex + size > length}, taking into account integer overflow</li>
+     * </ul>
+     *
+     * <p>No checks are made for {@code length < 0} as this is assumed to be derived from
+     * an array length.
+     *
+     * @param fromIndex the lower-bound (inclusive) of the sub-interval
+     * @param size the size of the sub-range
+     * @param length the upper-bound (exclusive) of the range
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    static void validateFromIndexSize(int fromIndex, int size, int length) {
+        // check for any negatives (assume 'length' is positive array length),
+        // or overflow safe length check given the values are all positive
+        // remaining = length - fromIndex
+        if ((fromIndex | size) < 0 || size > length - fromIndex) {
+            throw new IndexOutOfBoundsException(
+                // Note: %<d is 'relative indexing' to re-use the last argument
+                String.format("Range [%d, %<d + %d) out of bounds for length %d",
+                    fromIndex, size, length));
+        }
+    }
+
     /**
      * Creates a {@code double} in the interval {@code [0, 1)} from a {@code long} value.
      *
@@ -252,6 +290,27 @@ final class InternalUtils {
         return ((v >>> 11) + 1L) * DOUBLE_MULTIPLIER;
     }
 
+    /**
+     * Run the {@code task} for each index in {@code [0, tasks)} using the pool.
+     * This method returns when all tasks are complete.
+     *
+     * <p>An exception thrown by a task is rethrown by this method.
+     *
+     * @param pool Pool.
+     * @param tasks Number of tasks.
+     * @param task Task.
+     */
+    static void invokeAll(ForkJoinPool pool, int tasks, IntConsumer task) {
+        pool.invoke(ForkJoinTask.adapt(() -> {
+            final List<ForkJoinTask<?>> list = new ArrayList<>(tasks);
+            for (int i = 0; i < tasks; i++) {
+                final int index = i;
+                list.add(ForkJoinTask.adapt(() -> task.accept(index)));
+            }
+            ForkJoinTask.invokeAll(list);
+        }));
+    }
+
     /**
      * Class for computing the natural logarithm of the factorial of {@code n}.
      * It allows to allocate a cache of precomputed values.
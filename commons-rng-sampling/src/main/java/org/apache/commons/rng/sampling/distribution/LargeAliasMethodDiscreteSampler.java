@@ -0,0 +1,415 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.function.LongToDoubleFunction;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Distribution sampler that uses the alias method for very large enumerated
+ * distributions. It can be used to sample from {@code n} values each with an
+ * associated weight where {@code n} may exceed {@link Integer#MAX_VALUE}.
+ *
+ * <p>Each category is stored in a single {@code long}: the probability of the category
+ * quantized to 32 bits, and the 32-bit index of the alias. The table is stored outside the
+ * Java heap in direct {@link ByteBuffer} segments of up to 1 GiB. The maximum number of
+ * categories is 2<sup>32</sup>. The table for 2<sup>31</sup> categories requires 16 GiB;
+ * the JVM must allow this using the {@code -XX:MaxDirectMemorySize} option.</p>
+ *
+ * <p>The table is constructed without temporary arrays. The weights are provided as a
+ * function of the category index and are read sequentially. The function is called up to
+ * three times for each category and must return the same weight for each call.</p>
+ *
+ * <p>Sampling is {@code O(1)} and uses {@link UniformRandomProvider#nextLong(long)} and
+ * {@link UniformRandomProvider#nextInt()}. The probability of each category within the
+ * table is quantized to 32 bits. This limits the precision of the probability of each
+ * category to approximately {@code 2^-32 / n}.</p>
+ *
+ * @see AliasMethodDiscreteSampler
+ * @see <a href="https://en.wikipedia.org/wiki/Alias_method">Alias method (Wikipedia)</a>
+ * @since 1.8
+ */
+public final class LargeAliasMethodDiscreteSampler implements SharedStateLongSampler {
+    /** The maximum number of categories. */
+    private static final long MAX_SIZE = 1L << 32;
+    /** The default number of bits for the size of a segment of the table. */
+    private static final int SEGMENT_BITS = 27;
+    /** Mask to extract the lower 32 bits of a long. */
+    private static final long MASK_32 = 0xffffffffL;
+    /** 2^32. Used to quantize a probability. */
+    private static final double TWO_POW_32 = 0x1.0p32;
+    /** The name of the weight argument. */
+    private static final String WEIGHT = "weight";
+
+    /** Underlying source of randomness. */
+    private final UniformRandomProvider rng;
+    /** The table. */
+    private final Table table;
+
+    /**
+     * A table of {@code long} values stored in segments.
+     */
+    static final class Table {
+        /** The number of values. */
+        private final long n;
+        /** The number of bits for the size of a segment. */
+        private final int bits;
+        /** Mask to extract the index within a segment. */
+        private final long mask;
+        /** The segments. */
+        private final LongBuffer[] segments;
+
+        /**
+         * @param n Number of values.
+         * @param bits Number of bits for the size of a segment.
+         * @param segments Segments.
+         */
+        Table(long n, int bits, LongBuffer[] segments) {
+            this.n = n;
+            this.bits = bits;
+            this.mask = (1L << bits) - 1;
+            this.segments = segments;
+        }
+
+        /**
+         * Create a table in direct memory. Each segment has a capacity of
+         * {@code 2^bits} values; the last segment has the remaining capacity.
+         *
+         * @param n Number of values.
+         * @param bits Number of bits for the size of a segment.
+         * @return the table
+         */
+        static Table allocate(long n, int bits) {
+            final long size = 1L << bits;
+            final LongBuffer[] segments = new LongBuffer[(int) ((n + size - 1) >>> bits)];
+            for (int i = 0; i < segments.length; i++) {
+                final long length = Math.min(size, n - ((long) i << bits));
+                segments[i] = ByteBuffer.allocateDirect((int) (length * Long.BYTES))
+                    .order(ByteOrder.nativeOrder()).asLongBuffer();
+            }
+            return new Table(n, bits, segments);
+        }
+
+        /**
+         * Gets the number of values.
+         *
+         * @return the size
+         */
+        long size() {
+            return n;
+        }
+
+        /**
+         * Gets the value.
+         *
+         * @param i Index.
+         * @return the value
+         */
+        long get(long i) {
+            return segments[(int) (i >>> bits)].get((int) (i & mask));
+        }
+
+        /**
+         * Sets the value.
+         *
+         * @param i Index.
+         * @param value Value.
+         */
+        void set(long i, long value) {
+            segments[(int) (i >>> bits)].put((int) (i & mask), value);
+        }
+
+        /**
+         * Gets the value as a {@code double}.
+         *
+         * @param i Index.
+         * @return the value
+         */
+        double getDouble(long i) {
+            return Double.longBitsToDouble(get(i));
+        }
+
+        /**
+         * Sets the value as a {@code double}.
+         *
+         * @param i Index.
+         * @param value Value.
+         */
+        void setDouble(long i, double value) {
+            set(i, Double.doubleToRawLongBits(value));
+        }
+    }
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param table Alias table.
+     */
+    LargeAliasMethodDiscreteSampler(UniformRandomProvider rng, Table table) {
+        this.rng = rng;
+        this.table = table;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long sample() {
+        final long j = rng.nextLong(table.size());
+        final long entry = table.get(j);
+        // Probability in the upper 32-bits; alias in the lower 32-bits.
+        // A category with probability 1 is its own alias.
+        return (rng.nextInt() & MASK_32) < (entry >>> 32) ? j : entry & MASK_32;
+    }
+
+    /**
+     * Gets the number of categories.
+     *
+     * @return the number of categories
+     */
+    public long getNumberOfCategories() {
+        return table.size();
+    }
+
+    /**
+     * Gets the alias table.
+     *
+     * @return the table
+     */
+    Table getTable() {
+        return table;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Large alias method [" + rng.toString() + "]";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The table is shared with the new sampler.
+     */
+    @Override
+    public LargeAliasMethodDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+        return new LargeAliasMethodDiscreteSampler(rng, table);
+    }
+
+    /**
+     * Creates a sampler.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param weights The weights.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code weights} is empty, a weight is
+     * negative, infinite or {@code NaN}, or the sum of all weights is not strictly
+     * positive and finite.
+     */
+    public static LargeAliasMethodDiscreteSampler of(UniformRandomProvider rng,
+                                                     double[] weights) {
+        return of(rng, weights.length, i -> weights[(int) i]);
+    }
+
+    /**
+     * Creates a sampler.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param n Number of categories.
+     * @param weights Function to compute the weight of each category in {@code [0, n)}.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code n} is not in {@code [1, 2^32]}, a weight
+     * is negative, infinite or {@code NaN}, or the sum of all weights is not strictly
+     * positive and finite.
+     */
+    public static LargeAliasMethodDiscreteSampler of(UniformRandomProvider rng,
+                                                     long n,
+                                                     LongToDoubleFunction weights) {
+        return of(rng, n, weights, SEGMENT_BITS);
+    }
+
+    /**
+     * Creates a sampler.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param n Number of categories.
+     * @param weights Function to compute the weight of each category in {@code [0, n)}.
+     * @param bits Number of bits for the size of a segment of the table.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code n} is not in {@code [1, 2^32]}, a weight
+     * is negative, infinite or {@code NaN}, or the sum of all weights is not strictly
+     * positive and finite.
+     */
+    static LargeAliasMethodDiscreteSampler of(UniformRandomProvider rng,
+                                              long n,
+                                              LongToDoubleFunction weights,
+                                              int bits) {
+        final double factor = scale(n, weights);
+        final Table table = Table.allocate(n, bits);
+        build(table, weights, factor);
+        return new LargeAliasMethodDiscreteSampler(rng, table);
+    }
+
+    /**
+     * Validate the weights and compute the factor to scale the weights to a mean of 1.
+     *
+     * @param n Number of categories.
+     * @param weights Function to compute the weight of each category in {@code [0, n)}.
+     * @return the factor
+     * @throws IllegalArgumentException if {@code n} is not in {@code [1, 2^32]}, a weight
+     * is negative, infinite or {@code NaN}, or the sum of all weights is not strictly
+     * positive and finite.
+     */
+    static double scale(long n, LongToDoubleFunction weights) {
+        if (n <= 0 || n > MAX_SIZE) {
+            throw new IllegalArgumentException("Invalid number of categories: " + n);
+        }
+        double sum = 0;
+        for (long i = 0; i < n; i++) {
+            sum += InternalUtils.requirePositiveFinite(weights.applyAsDouble(i), WEIGHT);
+        }
+        InternalUtils.requireStrictlyPositiveFinite(sum, "sum of weights");
+        return n / sum;
+    }
+
+    /**
+     * Build the alias table.
+     *
+     * <p>The table is initialized with the weights scaled to a mean of 1. Categories
+     * with a scaled weight below 1 (small) are paired with a category above 1 (large)
+     * in a single pass using two scan positions. The alias of a small category is the
+     * large category; the remaining weight of the large category is reduced and it may
+     * become small. A processed small category is stored in the table as the quantized
+     * probability and the alias.
+     *
+     * <p>The small scan position {@code i} reads values from the table; all entries
+     * above {@code i} are unprocessed. The large scan position may move below {@code i}
+     * where the table contains processed entries; these are identified as small using
+     * the weight function. Any entry above the large scan position has its original
+     * weight.
+     *
+     * @param table Table.
+     * @param weights Function to compute the weight of each category.
+     * @param factor Factor to scale the weights to a mean of 1.
+     */
+    static void build(Table table, LongToDoubleFunction weights, double factor) {
+        final long n = table.size();
+        for (long k = 0; k < n; k++) {
+            table.setDouble(k, weights.applyAsDouble(k) * factor);
+        }
+
+        long i = nextSmall(table, 0);
+        long j = nextLarge(table, weights, factor, 0, -1);
+        long s = i;
+        while (s < n && j < n) {
+            final double ps = table.getDouble(s);
+            final double pj = table.getDouble(j) - (1 - ps);
+            table.set(s, (quantize(ps) << 32) | j);
+            table.setDouble(j, pj);
+            if (pj < 1) {
+                // The large category is now small
+                final long previous = j;
+                j = nextLarge(table, weights, factor, j + 1, i);
+                if (previous < i) {
+                    // Already passed by the small scan; process next.
+                    s = previous;
+                    continue;
+                }
+            }
+            i = nextSmall(table, i + 1);
+            s = i;
+        }
+
+        // Remaining categories have a probability of 1 (subject to round-off)
+        if (j < n) {
+            // No small categories. Remaining large categories are at or above j.
+            for (long k = j; k < n; k = nextLarge(table, weights, factor, k + 1, i)) {
+                table.set(k, fullEntry(k));
+            }
+        } else {
+            // No large categories. Remaining small categories are s and above i.
+            // Note: s < n as the last large category became small and is pending.
+            table.set(s, fullEntry(s));
+            for (long k = nextSmall(table, i + 1); k < n; k = nextSmall(table, k + 1)) {
+                table.set(k, fullEntry(k));
+            }
+        }
+    }
+
+    /**
+     * Find the next small category. All entries in the table at or above the start
+     * must be unprocessed.
+     *
+     * @param table Table.
+     * @param start Start index.
+     * @return the index (or {@code n} if not found)
+     */
+    private static long nextSmall(Table table, long start) {
+        final long n = table.size();
+        long k = start;
+        while (k < n && table.getDouble(k) >= 1) {
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * Find the next large category. Entries at or below the small scan position
+     * {@code i} that were originally small are processed; these are identified
+     * using the weight function.
+     *
+     * @param table Table.
+     * @param weights Function to compute the weight of each category.
+     * @param factor Factor to scale the weights to a mean of 1.
+     * @param start Start index.
+     * @param i Small scan position.
+     * @return the index (or {@code n} if not found)
+     */
+    private static long nextLarge(Table table, LongToDoubleFunction weights, double factor,
+                                  long start, long i) {
+        final long n = table.size();
+        long k = start;
+        while (k < n &&
+               (k > i ? table.getDouble(k) : weights.applyAsDouble(k) * factor) < 1) {
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * Quantize the probability to an unsigned 32-bit integer. The value is rounded
+     * so that the quantization error is unbiased when a category is the alias of
+     * many other categories.
+     *
+     * @param p Probability in {@code [0, 1)}.
+     * @return the quantized probability
+     */
+    private static long quantize(double p) {
+        return Math.min(MASK_32, Math.round(p * TWO_POW_32));
+    }
+
+    /**
+     * Create the entry for a category with a probability of 1.
+     *
+     * @param k Category.
+     * @return the entry
+     */
+    private static long fullEntry(long k) {
+        // Maximum probability and the alias is the category
+        return (MASK_32 << 32) | k;
+    }
+}
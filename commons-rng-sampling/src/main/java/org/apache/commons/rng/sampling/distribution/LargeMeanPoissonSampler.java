@@ -315,6 +315,127 @@ public class LargeMeanPoissonSampler
         return (int) Math.min(y2 + (long) y, Integer.MAX_VALUE);
     }
 
+    /**
+     * Generates a single sample using a precomputed state.
+     *
+     * <p>This method does not create any samplers. The Poisson sample for the
+     * lambda fraction uses the product of uniform deviates; the Gaussian and
+     * exponential deviates are created directly from the generator. The samples
+     * have the same distribution as {@link #sample()} but not the same sequence.
+     *
+     * @param rng              Generator of uniformly distributed random numbers.
+     * @param state            The state for {@code lambda = (int)Math.floor(mean)}.
+     * @param lambdaFractional The lambda fractional value
+     *                         ({@code mean - (int)Math.floor(mean))}.
+     * @return a sample
+     */
+    static int sample(UniformRandomProvider rng,
+                      LargeMeanPoissonSamplerState state,
+                      double lambdaFractional) {
+        final int y2 = (lambdaFractional < Double.MIN_VALUE) ?
+            0 : // Not used.
+            PtrsPoissonSampler.sample(rng, lambdaFractional);
+
+        final double lambda = state.getLambdaRaw();
+        final double delta = state.getDelta();
+        final double twolpd = state.getTwolpd();
+        final double p1 = state.getP1();
+        final double p2 = state.getP2();
+
+        // Duplicate of the sample() method using the state
+        double x;
+        double y;
+        double v;
+        int a;
+        double t;
+        double qr;
+        double qa;
+        while (true) {
+            // Step 1:
+            final double u = rng.nextDouble();
+            if (u <= p1) {
+                // Step 2:
+                final double n = gaussian(rng);
+                x = n * state.getSqrtLambdaPlusHalfDelta() - 0.5d;
+                if (x > delta || x < -lambda) {
+                    continue;
+                }
+                y = x < 0 ? Math.floor(x) : Math.ceil(x);
+                final double e = exponential(rng);
+                v = -e - 0.5 * n * n + state.getC1();
+            } else {
+                // Step 3:
+                if (u > p1 + p2) {
+                    y = lambda;
+                    break;
+                }
+                x = delta + (twolpd / delta) * exponential(rng);
+                y = Math.ceil(x);
+                v = -exponential(rng) - delta * (x + 1) / twolpd;
+            }
+            // The Squeeze Principle
+            // Step 4.1:
+            a = x < 0 ? 1 : 0;
+            t = y * (y + 1) / (2 * lambda);
+            // Step 4.2
+            if (v < -t && a == 0) {
+                y = lambda + y;
+                break;
+            }
+            // Step 4.3:
+            qr = t * ((2 * y + 1) / (6 * lambda) - 1);
+            qa = qr - (t * t) / (3 * (lambda + a * (y + 1)));
+            // Step 4.4:
+            if (v < qa) {
+                y = lambda + y;
+                break;
+            }
+            // Step 4.5:
+            if (v > qr) {
+                continue;
+            }
+            // Step 4.6:
+            if (v < y * state.getLogLambda() - NO_CACHE_FACTORIAL_LOG.value((int) (y + lambda)) +
+                    state.getLogLambdaFactorial()) {
+                y = lambda + y;
+                break;
+            }
+        }
+
+        return (int) Math.min(y2 + (long) y, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Generates a standard Gaussian deviate using the polar method of Marsaglia.
+     * Only the first deviate of the pair is used.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @return a sample
+     * @see MarsagliaNormalizedGaussianSampler
+     */
+    private static double gaussian(UniformRandomProvider rng) {
+        while (true) {
+            // Generate a pair of numbers within [-1 , 1).
+            final double x = 2 * rng.nextDouble() - 1;
+            final double y = 2 * rng.nextDouble() - 1;
+            final double r2 = x * x + y * y;
+            if (r2 < 1 && r2 > 0) {
+                return x * Math.sqrt(-2 * Math.log(r2) / r2);
+            }
+        }
+    }
+
+    /**
+     * Generates a standard exponential deviate using inversion.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @return a sample
+     */
+    private static double exponential(UniformRandomProvider rng) {
+        // u in [0, 1) so the logarithm is finite
+        return -Math.log1p(-rng.nextDouble());
+    }
+
     /**
      * Compute the natural logarithm of the factorial of {@code n}.
      *
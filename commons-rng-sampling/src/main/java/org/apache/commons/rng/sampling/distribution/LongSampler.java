@@ -59,4 +59,38 @@ public interface LongSampler {
     default LongStream samples(long streamSize) {
         return samples().limit(streamSize);
     }
+
+    /**
+     * Generates {@code long} samples and places them into a user-supplied array.
+     *
+     * <p>The default implementation calls {@link #sample(long[], int, int)
+     * sample(out, 0, out.length)}.
+     *
+     * @param out Array in which to put the samples.
+     * @since 1.8
+     */
+    default void sample(long[] out) {
+        sample(out, 0, out.length);
+    }
+
+    /**
+     * Generates {@code long} samples and places them into a user-supplied array.
+     *
+     * <p>The default implementation repeatedly calls {@link #sample sample}().
+     * Implementations may override this method to generate the samples more efficiently.
+     *
+     * @param out Array in which to put the samples.
+     * @param from Index at which to start inserting the samples.
+     * @param len Number of samples to insert.
+     * @throws IndexOutOfBoundsException if {@code from < 0} or {@code len < 0} or
+     * {@code len > out.length - from}.
+     * @since 1.8
+     */
+    default void sample(long[] out, int from, int len) {
+        InternalUtils.validateFromIndexSize(from, len, out.length);
+        final int to = from + len;
+        for (int i = from; i < to; i++) {
+            out[i] = sample();
+        }
+    }
 }
@@ -0,0 +1,491 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.LongToDoubleFunction;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Factory class to create discrete samplers using precomputed tables stored in a file.
+ *
+ * <p>The tables for an enumerated distribution are computed once and written to a file.
+ * The file is read by memory mapping using {@link FileChannel#map(MapMode, long, long)}.
+ * The sampler uses the mapped tables directly without a copy to the Java heap. Creation
+ * of a sampler from a file is fast, and the pages of the file are shared by all processes
+ * that map the same file.</p>
+ *
+ * <p>Tables are supported for:</p>
+ *
+ * <ul>
+ *  <li>The alias method. The table uses 8 bytes per category.
+ *      See {@link LargeAliasMethodDiscreteSampler}.
+ *  <li>A guide table. The table uses 12 bytes per category.
+ *      This outputs the same samples as {@link GuideTableDiscreteSampler}.
+ * </ul>
+ *
+ * <p>The file format is a 32-byte header followed by the tables. Values are stored in
+ * little-endian byte order. The format is independent of the platform.</p>
+ *
+ * <p>The weights of each category are provided as a function of the category index.
+ * The function must return the same weight when called repeatedly for the same index.</p>
+ *
+ * <p>Example:</p>
+ *
+ * <pre><code>
+ * // Once
+ * MappedDiscreteSamplers.writeAliasTable(path, weights.length, i -&gt; weights[i]);
+ *
+ * // In each process
+ * SharedStateDiscreteSampler sampler = MappedDiscreteSamplers.read(rng, path);
+ * </code></pre>
+ *
+ * @since 1.8
+ */
+public final class MappedDiscreteSamplers {
+    /** File identifier: "RNGT". */
+    private static final int MAGIC = 0x52_4e_47_54;
+    /** File format version. */
+    private static final int VERSION = 1;
+    /** Table type for the alias method. */
+    private static final int ALIAS = 1;
+    /** Table type for a guide table. */
+    private static final int GUIDE = 2;
+    /** Size of the file header in bytes. */
+    private static final int HEADER_SIZE = 32;
+    /** The default number of bits for the number of values in a mapped segment. */
+    private static final int SEGMENT_BITS = 27;
+    /** The byte order of the file. */
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+    /** Log2 of the number of bytes in a long or double. */
+    private static final int SHIFT_8 = 3;
+    /** Log2 of the number of bytes in an int. */
+    private static final int SHIFT_4 = 2;
+    /** The name of the weight argument. */
+    private static final String WEIGHT = "weight";
+
+    /**
+     * Sampler using a mapped alias table.
+     */
+    private static final class AliasTableSampler implements SharedStateDiscreteSampler {
+        /** Underlying source of randomness. */
+        private final UniformRandomProvider rng;
+        /** The sampler. */
+        private final LargeAliasMethodDiscreteSampler sampler;
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param sampler Sampler.
+         */
+        AliasTableSampler(UniformRandomProvider rng, LargeAliasMethodDiscreteSampler sampler) {
+            this.rng = rng;
+            this.sampler = sampler;
+        }
+
+        @Override
+        public int sample() {
+            // The number of categories is limited to an int
+            return (int) sampler.sample();
+        }
+
+        @Override
+        public String toString() {
+            return "Mapped alias method [" + rng.toString() + "]";
+        }
+
+        @Override
+        public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+            return new AliasTableSampler(rng, sampler.withUniformRandomProvider(rng));
+        }
+    }
+
+    /**
+     * Sampler using a mapped guide table.
+     *
+     * @see GuideTableDiscreteSampler
+     */
+    private static final class GuideTableSampler implements SharedStateDiscreteSampler {
+        /** Underlying source of randomness. */
+        private final UniformRandomProvider rng;
+        /** The number of bits for the number of values in a segment. */
+        private final int bits;
+        /** Mask to extract the index within a segment. */
+        private final int mask;
+        /** The cumulative probability table. */
+        private final DoubleBuffer[] cumulativeProbabilities;
+        /** The inverse cumulative probability guide table. */
+        private final IntBuffer[] guideTable;
+        /** The length of the guide table. */
+        private final int guideTableLength;
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param bits Number of bits for the number of values in a segment.
+         * @param cumulativeProbabilities The cumulative probability table.
+         * @param guideTable The inverse cumulative probability guide table.
+         * @param guideTableLength The length of the guide table.
+         */
+        GuideTableSampler(UniformRandomProvider rng, int bits,
+                          DoubleBuffer[] cumulativeProbabilities,
+                          IntBuffer[] guideTable, int guideTableLength) {
+            this.rng = rng;
+            this.bits = bits;
+            this.mask = (1 << bits) - 1;
+            this.cumulativeProbabilities = cumulativeProbabilities;
+            this.guideTable = guideTable;
+            this.guideTableLength = guideTableLength;
+        }
+
+        @Override
+        public int sample() {
+            final double u = rng.nextDouble();
+            final int i = (int) (u * (guideTableLength - 1));
+            int x = guideTable[i >>> bits].get(i & mask);
+            // Search down
+            while (x != 0 && u <= cumulativeProbabilities[(x - 1) >>> bits].get((x - 1) & mask)) {
+                x--;
+            }
+            return x;
+        }
+
+        @Override
+        public String toString() {
+            return "Mapped guide table deviate [" + rng.toString() + "]";
+        }
+
+        @Override
+        public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+            return new GuideTableSampler(rng, bits, cumulativeProbabilities, guideTable, guideTableLength);
+        }
+    }
+
+    /** Class contains only static methods. */
+    private MappedDiscreteSamplers() {}
+
+    /**
+     * Write the alias table for the distribution to the file. An existing file is
+     * overwritten.
+     *
+     * @param path File path.
+     * @param n Number of categories.
+     * @param weights Function to compute the weight of each category in {@code [0, n)}.
+     * @throws IllegalArgumentException if {@code n} is not strictly positive, a weight
+     * is negative, infinite or {@code NaN}, or the sum of all weights is not strictly
+     * positive and finite.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeAliasTable(Path path, int n, IntToDoubleFunction weights) throws IOException {
+        writeAliasTable(path, n, weights, SEGMENT_BITS);
+    }
+
+    /**
+     * Write the alias table for the distribution to the file.
+     *
+     * @param path File path.
+     * @param n Number of categories.
+     * @param weights Function to compute the weight of each category in {@code [0, n)}.
+     * @param bits Number of bits for the number of values in a mapped segment.
+     * @throws IllegalArgumentException if {@code n} is not strictly positive, a weight
+     * is negative, infinite or {@code NaN}, or the sum of all weights is not strictly
+     * positive and finite.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void writeAliasTable(Path path, int n, IntToDoubleFunction weights, int bits) throws IOException {
+        final LongToDoubleFunction w = i -> weights.applyAsDouble((int) i);
+        // Validate before opening the file
+        final double factor = LargeAliasMethodDiscreteSampler.scale(n, w);
+        try (FileChannel channel = create(path)) {
+            writeHeader(channel, ALIAS, n, 0);
+            final MappedByteBuffer[] segments = map(channel, MapMode.READ_WRITE, HEADER_SIZE, n, SHIFT_8, bits);
+            final LongBuffer[] table = new LongBuffer[segments.length];
+            for (int i = 0; i < table.length; i++) {
+                table[i] = segments[i].asLongBuffer();
+            }
+            LargeAliasMethodDiscreteSampler.build(new LargeAliasMethodDiscreteSampler.Table(n, bits, table),
+                w, factor);
+            force(segments);
+        }
+    }
+
+    /**
+     * Write the guide table for the distribution to the file. An existing file is
+     * overwritten.
+     *
+     * <p>The size of the guide table is {@code n + 1}.
+     *
+     * @param path File path.
+     * @param n Number of categories.
+     * @param weights Function to compute the weight of each category in {@code [0, n)}.
+     * @throws IllegalArgumentException if {@code n} is not in {@code [1, 2^31 - 2]}, a weight
+     * is negative, infinite or {@code NaN}, or the sum of all weights is not strictly
+     * positive and finite.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static void writeGuideTable(Path path, int n, IntToDoubleFunction weights) throws IOException {
+        writeGuideTable(path, n, weights, SEGMENT_BITS);
+    }
+
+    /**
+     * Write the guide table for the distribution to the file.
+     *
+     * @param path File path.
+     * @param n Number of categories.
+     * @param weights Function to compute the weight of each category in {@code [0, n)}.
+     * @param bits Number of bits for the number of values in a mapped segment.
+     * @throws IllegalArgumentException if {@code n} is not in {@code [1, 2^31 - 2]}, a weight
+     * is negative, infinite or {@code NaN}, or the sum of all weights is not strictly
+     * positive and finite.
+     * @throws IOException if an I/O error occurs.
+     */
+    static void writeGuideTable(Path path, int n, IntToDoubleFunction weights, int bits) throws IOException {
+        if (n <= 0 || n == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid number of categories: " + n);
+        }
+        // Validate before opening the file
+        double sum = 0;
+        for (int x = 0; x < n; x++) {
+            sum += InternalUtils.requirePositiveFinite(weights.applyAsDouble(x), WEIGHT);
+        }
+        InternalUtils.requireStrictlyPositiveFinite(sum, "sum of weights");
+
+        final int length = n + 1;
+        try (FileChannel channel = create(path)) {
+            writeHeader(channel, GUIDE, n, length);
+            final MappedByteBuffer[] segments1 = map(channel, MapMode.READ_WRITE, HEADER_SIZE, n, SHIFT_8, bits);
+            final MappedByteBuffer[] segments2 = map(channel, MapMode.READ_WRITE,
+                HEADER_SIZE + ((long) n << SHIFT_8), length, SHIFT_4, bits);
+            final DoubleBuffer[] cumulativeProbabilities = asDoubleBuffers(segments1);
+            final IntBuffer[] guideTable = asIntBuffers(segments2);
+            final int mask = (1 << bits) - 1;
+
+            // Compute the cumulative probability table and guide table in a single pass.
+            // This computes the same tables as the GuideTableDiscreteSampler (with alpha=1).
+            // The guide table entry i is the exclusive upper bound (x + 1) of the largest
+            // sample x with a cumulative probability mapped to an index at or below i.
+            double cumulative = 0;
+            int upper = 0;
+            int i = 0;
+            for (int x = 0; x < n; x++) {
+                cumulative += weights.applyAsDouble(x);
+                final double norm = cumulative / sum;
+                final double p = (norm < 1) ? norm : 1.0;
+                cumulativeProbabilities[x >>> bits].put(x & mask, p);
+                final int index = (int) (p * (length - 1));
+                for (; i < index; i++) {
+                    guideTable[i >>> bits].put(i & mask, upper);
+                }
+                upper = x + 1;
+            }
+            for (; i < length; i++) {
+                guideTable[i >>> bits].put(i & mask, upper);
+            }
+            // Edge case for round-off
+            cumulativeProbabilities[(n - 1) >>> bits].put((n - 1) & mask, 1.0);
+            force(segments1);
+            force(segments2);
+        }
+    }
+
+    /**
+     * Create a sampler using the tables in the file. The tables are memory mapped and
+     * are not copied to the Java heap.
+     *
+     * <p>The file must not be modified while the sampler is in use.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param path File path.
+     * @return the sampler
+     * @throws IOException if an I/O error occurs or the file is not a valid table file.
+     */
+    public static SharedStateDiscreteSampler read(UniformRandomProvider rng, Path path) throws IOException {
+        return read(rng, path, SEGMENT_BITS);
+    }
+
+    /**
+     * Create a sampler using the tables in the file.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param path File path.
+     * @param bits Number of bits for the number of values in a mapped segment.
+     * @return the sampler
+     * @throws IOException if an I/O error occurs or the file is not a valid table file.
+     */
+    static SharedStateDiscreteSampler read(UniformRandomProvider rng, Path path, int bits) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ORDER);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IOException("Invalid table file header");
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a table file");
+            }
+            final int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported table file version: " + version);
+            }
+            final int type = header.getInt();
+            // Reserved
+            header.getInt();
+            final long n = header.getLong();
+            final long length = header.getLong();
+            if (type == ALIAS) {
+                checkSize(channel, n > 0 && n <= Integer.MAX_VALUE && length == 0,
+                    HEADER_SIZE + (n << SHIFT_8));
+                final MappedByteBuffer[] segments = map(channel, MapMode.READ_ONLY, HEADER_SIZE, n, SHIFT_8, bits);
+                final LongBuffer[] table = new LongBuffer[segments.length];
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = segments[i].asLongBuffer();
+                }
+                return new AliasTableSampler(rng, new LargeAliasMethodDiscreteSampler(rng,
+                    new LargeAliasMethodDiscreteSampler.Table(n, bits, table)));
+            }
+            if (type == GUIDE) {
+                checkSize(channel, n > 0 && n < Integer.MAX_VALUE && length == n + 1,
+                    HEADER_SIZE + (n << SHIFT_8) + (length << SHIFT_4));
+                final MappedByteBuffer[] segments1 = map(channel, MapMode.READ_ONLY, HEADER_SIZE, n, SHIFT_8, bits);
+                final MappedByteBuffer[] segments2 = map(channel, MapMode.READ_ONLY,
+                    HEADER_SIZE + (n << SHIFT_8), length, SHIFT_4, bits);
+                return new GuideTableSampler(rng, bits, asDoubleBuffers(segments1),
+                    asIntBuffers(segments2), (int) length);
+            }
+            throw new IOException("Unknown table type: " + type);
+        }
+    }
+
+    /**
+     * Create the file. An existing file is truncated.
+     *
+     * @param path File path.
+     * @return the file channel
+     * @throws IOException if an I/O error occurs.
+     */
+    private static FileChannel create(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Write the file header.
+     *
+     * @param channel File channel.
+     * @param type Table type.
+     * @param n Number of categories.
+     * @param length Length of the guide table.
+     * @throws IOException if an I/O error occurs.
+     */
+    private static void writeHeader(FileChannel channel, int type, long n, long length) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ORDER);
+        header.putInt(MAGIC).putInt(VERSION).putInt(type).putInt(0).putLong(n).putLong(length);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    /**
+     * Check the header is valid and the file has the expected size.
+     *
+     * @param channel File channel.
+     * @param valid Set to true if the header is valid.
+     * @param size Expected size of the file.
+     * @throws IOException if an I/O error occurs or the file is invalid.
+     */
+    private static void checkSize(FileChannel channel, boolean valid, long size) throws IOException {
+        if (!valid || channel.size() != size) {
+            throw new IOException("Invalid table file size");
+        }
+    }
+
+    /**
+     * Map a region of the file into segments. Each segment has a capacity of
+     * {@code 2^bits} values; the last segment has the remaining capacity.
+     *
+     * @param channel File channel.
+     * @param mode Map mode.
+     * @param position Position of the region in the file.
+     * @param length Number of values.
+     * @param shift Log2 of the number of bytes of each value.
+     * @param bits Number of bits for the number of values in a segment.
+     * @return the segments
+     * @throws IOException if an I/O error occurs.
+     */
+    private static MappedByteBuffer[] map(FileChannel channel, MapMode mode, long position,
+                                          long length, int shift, int bits) throws IOException {
+        final long size = 1L << bits;
+        final MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((length + size - 1) >>> bits)];
+        for (int i = 0; i < segments.length; i++) {
+            final long start = (long) i << bits;
+            final long count = Math.min(size, length - start);
+            segments[i] = channel.map(mode, position + (start << shift), count << shift);
+            segments[i].order(ORDER);
+        }
+        return segments;
+    }
+
+    /**
+     * Create views of the segments as double buffers.
+     *
+     * @param segments Segments.
+     * @return the buffers
+     */
+    private static DoubleBuffer[] asDoubleBuffers(MappedByteBuffer[] segments) {
+        final DoubleBuffer[] buffers = new DoubleBuffer[segments.length];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = segments[i].asDoubleBuffer();
+        }
+        return buffers;
+    }
+
+    /**
+     * Create views of the segments as int buffers.
+     *
+     * @param segments Segments.
+     * @return the buffers
+     */
+    private static IntBuffer[] asIntBuffers(MappedByteBuffer[] segments) {
+        final IntBuffer[] buffers = new IntBuffer[segments.length];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = segments[i].asIntBuffer();
+        }
+        return buffers;
+    }
+
+    /**
+     * Write any changes to the segments to the storage device.
+     *
+     * @param segments Segments.
+     */
+    private static void force(MappedByteBuffer[] segments) {
+        for (final MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.SharedStateObjectSampler;
+
+/**
+ * Sampling from a <a href="https://en.wikipedia.org/wiki/Multinomial_distribution">multinomial
+ * distribution</a>.
+ *
+ * <p>The sample is the count of the outcomes in each of {@code k} categories from
+ * {@code n} independent trials. The counts are generated using conditional Binomial
+ * distributions: the count {@code x_i} for category {@code i} is a sample from the Binomial
+ * distribution with the remaining number of trials {@code n - sum(x_j, j < i)} and
+ * probability {@code p_i / sum(p_j, j >= i)}. The last category is assigned the remaining
+ * trials. Sampling stops when no trials remain.</p>
+ *
+ * <p>Binomial samples are generated using the algorithms of the {@link BtpeBinomialSampler}
+ * without creating a sampler for each category. The expected time to create a sample is
+ * proportional to {@code k} and independent of the number of trials.</p>
+ *
+ * <p>The counts can be written to a caller-supplied {@code int[]} or {@code long[]} to
+ * avoid allocation of the result.</p>
+ *
+ * <p>Sampling uses {@link UniformRandomProvider#nextDouble()}.</p>
+ *
+ * @since 1.8
+ */
+public final class MultinomialSampler implements SharedStateObjectSampler<int[]> {
+    /** Underlying source of randomness. */
+    private final UniformRandomProvider rng;
+    /** Number of trials. */
+    private final int trials;
+    /**
+     * Conditional probability of each category {@code p_i / sum(p_j, j >= i)}.
+     * The last category is assigned the remaining trials and is not stored.
+     */
+    private final double[] conditional;
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param trials Number of trials.
+     * @param conditional Conditional probability of each category.
+     */
+    private MultinomialSampler(UniformRandomProvider rng,
+                               int trials,
+                               double[] conditional) {
+        this.rng = rng;
+        this.trials = trials;
+        // Array is stored directly as it is generated within the MultinomialSampler class
+        this.conditional = conditional;
+    }
+
+    /**
+     * Gets the number of categories.
+     *
+     * @return k
+     */
+    public int getNumberOfCategories() {
+        return conditional.length + 1;
+    }
+
+    /**
+     * Create a new sample of the counts of each category.
+     *
+     * @return the counts
+     */
+    @Override
+    public int[] sample() {
+        return sample(new int[getNumberOfCategories()]);
+    }
+
+    /**
+     * Create a sample of the counts of each category and write the result to the
+     * provided {@code counts}.
+     *
+     * @param counts Counts (modified in-place).
+     * @return the counts
+     * @throws IllegalArgumentException if the length of {@code counts} is not the number of
+     * categories.
+     */
+    public int[] sample(int[] counts) {
+        checkLength(counts.length);
+        fill(counts, null);
+        return counts;
+    }
+
+    /**
+     * Create a sample of the counts of each category and write the result to the
+     * provided {@code counts}.
+     *
+     * @param counts Counts (modified in-place).
+     * @return the counts
+     * @throws IllegalArgumentException if the length of {@code counts} is not the number of
+     * categories.
+     */
+    public long[] sample(long[] counts) {
+        checkLength(counts.length);
+        fill(null, counts);
+        return counts;
+    }
+
+    /**
+     * Check the length of the counts is the number of categories.
+     *
+     * @param length Length.
+     * @throws IllegalArgumentException if the length of {@code counts} is not the number of
+     * categories.
+     */
+    private void checkLength(int length) {
+        if (length != getNumberOfCategories()) {
+            throw new IllegalArgumentException("Counts length " + length +
+                " is not the number of categories: " + getNumberOfCategories());
+        }
+    }
+
+    /**
+     * Fill the counts of each category. Exactly one of the arrays must be non-null.
+     *
+     * <p>Binomial samples are generated without creating a sampler.
+     *
+     * @param intCounts Counts (can be null).
+     * @param longCounts Counts (can be null).
+     */
+    private void fill(int[] intCounts, long[] longCounts) {
+        int remaining = trials;
+        final int k = conditional.length;
+        for (int i = 0; i < k; i++) {
+            // Stop sampling when no trials remain; the remaining counts are zero
+            final int x = remaining == 0 ? 0 : BtpeBinomialSampler.sample(rng, remaining, conditional[i]);
+            set(intCounts, longCounts, i, x);
+            remaining -= x;
+        }
+        // Assign the remaining trials to the last category
+        set(intCounts, longCounts, k, remaining);
+    }
+
+    /**
+     * Set the count at the index in the non-null array.
+     *
+     * @param intCounts Counts (can be null).
+     * @param longCounts Counts (can be null).
+     * @param i Index.
+     * @param x Count.
+     */
+    private static void set(int[] intCounts, long[] longCounts, int i, int x) {
+        if (intCounts != null) {
+            intCounts[i] = x;
+        } else {
+            longCounts[i] = x;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Multinomial deviate [" + rng.toString() + "]";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MultinomialSampler withUniformRandomProvider(UniformRandomProvider rng) {
+        return new MultinomialSampler(rng, trials, conditional);
+    }
+
+    /**
+     * Creates a new multinomial distribution sampler.
+     *
+     * <p>The probabilities are normalised to sum to 1. The number of categories
+     * {@code k} is the length of the probabilities.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param trials Number of trials.
+     * @param probabilities The probability of each category.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code trials < 0}; {@code probabilities} is null
+     * or empty, a probability is negative, infinite or {@code NaN}, or the sum of all
+     * probabilities is not strictly positive.
+     */
+    public static MultinomialSampler of(UniformRandomProvider rng,
+                                        int trials,
+                                        double[] probabilities) {
+        if (trials < 0) {
+            throw new IllegalArgumentException("Trials is not positive: " + trials);
+        }
+        InternalUtils.validateProbabilities(probabilities);
+
+        // Compute the conditional probabilities using the sum from the end.
+        // This is more accurate than subtraction from 1.
+        final int k = probabilities.length;
+        final double[] conditional = new double[k - 1];
+        double sum = probabilities[k - 1];
+        for (int i = k - 2; i >= 0; i--) {
+            final double p = probabilities[i];
+            sum += p;
+            // Zero sum is handled as p=0 and the count is assigned to a later category
+            conditional[i] = p == 0 ? 0 : Math.min(1, p / sum);
+        }
+        return new MultinomialSampler(rng, trials, conditional);
+    }
+}
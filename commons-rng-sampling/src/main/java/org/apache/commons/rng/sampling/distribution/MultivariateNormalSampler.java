@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.SharedStateObjectSampler;
+
+/**
+ * Sampling from a <a href="https://en.wikipedia.org/wiki/Multivariate_normal_distribution">
+ * multivariate normal distribution</a>.
+ *
+ * <p>The covariance matrix {@code S} is factorized once on construction using the Cholesky
+ * decomposition {@code S = L L^T}. A sample is created as {@code x = mu + L z} where {@code z}
+ * is a vector of independent standard normal deviates.</p>
+ *
+ * <p>The sample can be written to a caller-supplied array, or a row of a flat
+ * row-major matrix, to avoid allocation. The computation is performed in-place in the
+ * output array.</p>
+ *
+ * <p>Sampling uses {@link ZigguratSampler.NormalizedGaussian} to generate the standard
+ * normal deviates.</p>
+ *
+ * @since 1.8
+ */
+public final class MultivariateNormalSampler implements SharedStateObjectSampler<double[]> {
+    /** Source of standard normal deviates. */
+    private final ZigguratSampler.NormalizedGaussian gaussian;
+    /** Mean. */
+    private final double[] mean;
+    /**
+     * Lower triangular Cholesky factor stored by row:
+     * {@code [L00, L10, L11, L20, L21, L22, ...]}.
+     */
+    private final double[] factor;
+
+    /**
+     * @param gaussian Source of standard normal deviates.
+     * @param mean Mean.
+     * @param factor Packed lower triangular Cholesky factor.
+     */
+    private MultivariateNormalSampler(ZigguratSampler.NormalizedGaussian gaussian,
+                                      double[] mean,
+                                      double[] factor) {
+        this.gaussian = gaussian;
+        // Arrays are stored directly as they are generated within this class
+        this.mean = mean;
+        this.factor = factor;
+    }
+
+    /**
+     * Gets the dimension of the distribution.
+     *
+     * @return the dimension
+     */
+    public int getDimension() {
+        return mean.length;
+    }
+
+    /**
+     * Create a new sample.
+     *
+     * @return the sample
+     */
+    @Override
+    public double[] sample() {
+        return sample(new double[mean.length], 0);
+    }
+
+    /**
+     * Create a sample and write the result to the provided {@code out} array.
+     *
+     * @param out Output array.
+     * @return the output array
+     * @throws IllegalArgumentException if the length of {@code out} is not the dimension.
+     */
+    public double[] sample(double[] out) {
+        requireDimension("Output length", out.length, mean.length);
+        return sample(out, 0);
+    }
+
+    /**
+     * Create a sample and write the result to the provided {@code out} array starting
+     * at the {@code offset}. This can be used to write a sample to a row of a flat
+     * matrix using an offset of {@code row * dimension}.
+     *
+     * @param out Output array.
+     * @param offset Offset into the output array.
+     * @return the output array
+     * @throws IndexOutOfBoundsException if the range {@code [offset, offset + dimension)}
+     * is out of bounds.
+     */
+    public double[] sample(double[] out, int offset) {
+        final int n = mean.length;
+        // Create the standard normal deviates z in the output
+        gaussian.sample(out, offset, n);
+        // Compute x = mu + L z. This is done in-place starting from the end;
+        // row i of L only uses z[j] for j <= i which have not yet been overwritten.
+        for (int i = n - 1; i >= 0; i--) {
+            // Start of row i in the packed factor
+            final int row = (i * (i + 1)) >>> 1;
+            double sum = 0;
+            for (int j = 0; j <= i; j++) {
+                sum += factor[row + j] * out[offset + j];
+            }
+            out[offset + i] = mean[i] + sum;
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Multivariate normal deviate [" + gaussian.getUniformRandomProvider().toString() + "]";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MultivariateNormalSampler withUniformRandomProvider(UniformRandomProvider rng) {
+        return new MultivariateNormalSampler(gaussian.withUniformRandomProvider(rng), mean, factor);
+    }
+
+    /**
+     * Creates a new multivariate normal distribution sampler.
+     *
+     * <p>Only the lower triangle of the covariance matrix is used; the matrix is
+     * assumed to be symmetric.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param mean Mean.
+     * @param covariance Covariance matrix.
+     * @return the sampler
+     * @throws IllegalArgumentException if the mean is empty or contains non-finite values;
+     * the covariance matrix is not square with the same dimension as the mean; or
+     * the covariance matrix is not positive definite.
+     */
+    public static MultivariateNormalSampler of(UniformRandomProvider rng,
+                                               double[] mean,
+                                               double[][] covariance) {
+        final int n = mean.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Mean must not be empty");
+        }
+        for (final double m : mean) {
+            InternalUtils.requireFinite(m, "mean");
+        }
+        requireDimension("Covariance rows", covariance.length, n);
+        for (final double[] row : covariance) {
+            requireDimension("Covariance columns", row.length, n);
+        }
+        return new MultivariateNormalSampler(ZigguratSampler.NormalizedGaussian.of(rng),
+            mean.clone(), cholesky(covariance));
+    }
+
+    /**
+     * Compute the lower triangular Cholesky factor of the matrix using the
+     * Cholesky-Banachiewicz algorithm. Only the lower triangle of the matrix is used.
+     *
+     * @param a Matrix.
+     * @return the packed factor
+     * @throws IllegalArgumentException if the matrix is not positive definite.
+     */
+    private static double[] cholesky(double[][] a) {
+        final int n = a.length;
+        final double[] l = new double[(n * (n + 1)) >>> 1];
+        for (int i = 0; i < n; i++) {
+            final int rowI = (i * (i + 1)) >>> 1;
+            for (int j = 0; j <= i; j++) {
+                final int rowJ = (j * (j + 1)) >>> 1;
+                double sum = a[i][j];
+                for (int k = 0; k < j; k++) {
+                    sum -= l[rowI + k] * l[rowJ + k];
+                }
+                if (i == j) {
+                    // Also detects NaN
+                    if (!(sum > 0) || sum == Double.POSITIVE_INFINITY) {
+                        throw new IllegalArgumentException(
+                            "Covariance matrix is not positive definite");
+                    }
+                    l[rowI + i] = Math.sqrt(sum);
+                } else {
+                    l[rowI + j] = sum / l[rowJ + j];
+                }
+            }
+        }
+        return l;
+    }
+
+    /**
+     * Checks the length is equal to the dimension.
+     *
+     * @param name Name of the length.
+     * @param length Length.
+     * @param n Dimension.
+     * @throws IllegalArgumentException if {@code length != n}
+     */
+    private static void requireDimension(String name, int length, int n) {
+        if (length != n) {
+            throw new IllegalArgumentException(name + " " + length + " is not the dimension: " + n);
+        }
+    }
+}
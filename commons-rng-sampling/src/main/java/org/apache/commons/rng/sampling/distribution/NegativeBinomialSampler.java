@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Sampler for the <a href="https://mathworld.wolfram.com/NegativeBinomialDistribution.html">negative
+ * binomial distribution</a>.
+ *
+ * <p>The distribution is the number of failures before {@code r} successes in a sequence
+ * of independent trials with probability of success {@code p}. The number of successes
+ * {@code r} may be any positive real value. The mean is {@code r (1 - p) / p} and the
+ * variance is {@code r (1 - p) / p^2}; the distribution is overdispersed relative to a
+ * Poisson distribution with the same mean.</p>
+ *
+ * <p>The sample is generated using the gamma-Poisson mixture: a Poisson deviate
+ * with a mean sampled from a gamma distribution with shape {@code r} and scale
+ * {@code (1 - p) / p}. The gamma sampler is created once. The Poisson deviate is
+ * generated directly for each mean without construction of a sampler; no objects are
+ * allocated per sample.</p>
+ *
+ * <p>The Poisson mean is truncated at {@code 0.5 * Integer.MAX_VALUE} to avoid
+ * truncation of the sample. This only affects parameterisations with a mean close to
+ * the limit of an {@code int}.</p>
+ *
+ * <p>Sampling uses {@link UniformRandomProvider#nextDouble()} and
+ * {@link UniformRandomProvider#nextLong()} (for the gamma sampler).</p>
+ *
+ * @see AhrensDieterMarsagliaTsangGammaSampler
+ * @see PtrsPoissonSampler
+ * @since 1.8
+ */
+public final class NegativeBinomialSampler
+    implements SharedStateDiscreteSampler {
+    /** Underlying source of randomness. */
+    private final UniformRandomProvider rng;
+    /** Sampler for the Poisson mean. */
+    private final SharedStateContinuousSampler gamma;
+
+    /**
+     * Sample from the negative binomial distribution when the probability of success is 1.
+     */
+    private static final class NegativeBinomialP1Sampler
+        implements SharedStateDiscreteSampler {
+        /** The single instance. */
+        static final NegativeBinomialP1Sampler INSTANCE = new NegativeBinomialP1Sampler();
+
+        @Override
+        public int sample() {
+            // When probability of success is 1 there are no failures
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            return "Negative Binomial(p=1) deviate";
+        }
+
+        @Override
+        public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+            // No requirement for a new instance
+            return this;
+        }
+    }
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param gamma Sampler for the Poisson mean.
+     */
+    private NegativeBinomialSampler(UniformRandomProvider rng,
+                                    SharedStateContinuousSampler gamma) {
+        this.rng = rng;
+        this.gamma = gamma;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int sample() {
+        return PtrsPoissonSampler.sample(rng, Math.min(gamma.sample(), PtrsPoissonSampler.MAX_MEAN));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Negative Binomial deviate [" + rng.toString() + "]";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+        return new NegativeBinomialSampler(rng, gamma.withUniformRandomProvider(rng));
+    }
+
+    /**
+     * Creates a new sampler for the negative binomial distribution.
+     *
+     * <p>Note: If {@code p == 1} the sampler returns 0.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param successes Number of successes (r).
+     * @param probabilityOfSuccess Probability of success (p).
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code r} is not strictly positive and finite,
+     * or {@code p} is not in the range {@code (0, 1]}.
+     */
+    public static SharedStateDiscreteSampler of(UniformRandomProvider rng,
+                                                double successes,
+                                                double probabilityOfSuccess) {
+        InternalUtils.requireStrictlyPositiveFinite(successes, "successes");
+        if (!(probabilityOfSuccess > 0 && probabilityOfSuccess <= 1)) {
+            throw new IllegalArgumentException(
+                "Probability of success is not in (0, 1]: " + probabilityOfSuccess);
+        }
+        if (probabilityOfSuccess == 1) {
+            return NegativeBinomialP1Sampler.INSTANCE;
+        }
+        final double scale = (1 - probabilityOfSuccess) / probabilityOfSuccess;
+        return new NegativeBinomialSampler(rng,
+            AhrensDieterMarsagliaTsangGammaSampler.of(rng, successes, scale));
+    }
+}
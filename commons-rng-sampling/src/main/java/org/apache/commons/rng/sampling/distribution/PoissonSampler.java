@@ -32,6 +32,14 @@ import org.apache.commons.rng.UniformRandomProvider;
  *   The Poisson process (and hence, the returned value) is bounded by {@code 1000 * mean}.
  *  </li>
  *  <li>
+ *   For medium means, we use the transformed rejection algorithm PTRS described in
+ *   <blockquote>
+ *    Hörmann, W. (1993). <i>The transformed rejection method for generating Poisson
+ *    random variables</i><br>
+ *    <strong>Insurance: Mathematics and Economics</strong> vol. 12 pp. 39-45.
+ *   </blockquote>
+ *  </li>
+ *  <li>
  *   For large means, we use the rejection algorithm described in
  *   <blockquote>
  *    Devroye, Luc. (1981). <i>The Computer Generation of Poisson Random Variables</i><br>
@@ -111,6 +119,12 @@ public class PoissonSampler
     /**
      * Creates a new Poisson distribution sampler.
      *
+     * <p>The sampling algorithm is selected using the mean. The cost of the small mean
+     * algorithm is proportional to the mean and is used for {@code mean < 10}. The
+     * cost of the medium and large mean algorithms is approximately constant; the large
+     * mean algorithm is marginally faster for repeat sampling and is used for
+     * {@code mean >= 40}.
+     *
      * @param rng Generator of uniformly distributed random numbers.
      * @param mean Mean.
      * @return the sampler
@@ -122,7 +136,34 @@ public class PoissonSampler
                                                 double mean) {
         // Each sampler should check the input arguments.
         return mean < PIVOT ?
-            SmallMeanPoissonSampler.of(rng, mean) :
+            PtrsPoissonSampler.of(rng, mean) :
             LargeMeanPoissonSampler.of(rng, mean);
     }
+
+    /**
+     * Generates a single sample from a Poisson distribution with the given mean.
+     *
+     * <p>This method is intended for use when the mean changes for each sample. No
+     * objects are allocated and no tables are required. Small means use a Poisson
+     * process; means of 10 or more use the {@link PtrsPoissonSampler PTRS} algorithm
+     * which has a constant expected time and a construction cost of a few arithmetic
+     * operations. The samples are the same as a sampler created using
+     * {@link PtrsPoissonSampler#of(UniformRandomProvider, double)}.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param mean Mean.
+     * @return a sample
+     * @throws IllegalArgumentException if {@code mean <= 0} or {@code mean > 0.5 *}
+     * {@link Integer#MAX_VALUE}.
+     * @since 1.8
+     */
+    public static int sample(UniformRandomProvider rng,
+                             double mean) {
+        // Logic inversion detects NaN
+        if (!(mean > 0 && mean <= PtrsPoissonSampler.MAX_MEAN)) {
+            throw new IllegalArgumentException("mean not within range: 0 < " + mean +
+                " <= " + PtrsPoissonSampler.MAX_MEAN);
+        }
+        return PtrsPoissonSampler.sample(rng, mean);
+    }
 }
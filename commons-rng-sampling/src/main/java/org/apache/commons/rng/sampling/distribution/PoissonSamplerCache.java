@@ -16,6 +16,7 @@
  */
 package org.apache.commons.rng.sampling.distribution;
 
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.distribution.LargeMeanPoissonSampler.LargeMeanPoissonSamplerState;
 
@@ -50,9 +51,12 @@ import org.apache.commons.rng.sampling.distribution.LargeMeanPoissonSampler.Larg
  * {@link UniformRandomProvider}. A fast provider can obtain a two-fold speed
  * improvement for a single-use Poisson sampler.</p>
  *
- * <p>The cache is thread safe. Note that concurrent threads using the cache
- * must ensure a thread safe {@link UniformRandomProvider} is used when creating
- * samplers, e.g. a unique sampler per thread.</p>
+ * <p>The cache is thread safe and can be shared by concurrent threads. The cached
+ * state is computed lazily and published without locking; if two threads compute
+ * the same state concurrently then only one is stored and the other is discarded.
+ * Note that concurrent threads using the cache must ensure a thread safe
+ * {@link UniformRandomProvider} is used when creating samplers, e.g. a unique
+ * generator per thread passed to {@link #sample(UniformRandomProvider, double)}.</p>
  *
  * <p>Sampling uses:</p>
  *
@@ -76,7 +80,7 @@ public class PoissonSamplerCache {
      */
     private final int maxN;
     /** The cache of states between {@link #minN} and {@link #maxN}. */
-    private final LargeMeanPoissonSamplerState[] values;
+    private final AtomicReferenceArray<LargeMeanPoissonSamplerState> values;
 
     /**
      * Create an instance.
@@ -110,7 +114,7 @@ public class PoissonSamplerCache {
             // Note the minimum is clipped to the algorithm switch point.
             this.minN = (int) Math.floor(Math.max(minMean, PoissonSampler.PIVOT));
             this.maxN = (int) Math.floor(Math.min(maxMean, Integer.MAX_VALUE));
-            values = new LargeMeanPoissonSamplerState[maxN - minN + 1];
+            values = new AtomicReferenceArray<>(maxN - minN + 1);
         }
     }
 
@@ -121,7 +125,7 @@ public class PoissonSamplerCache {
      */
     private PoissonSamplerCache(int minN,
                                 int maxN,
-                                LargeMeanPoissonSamplerState[] states) {
+                                AtomicReferenceArray<LargeMeanPoissonSamplerState> states) {
         this.minN = minN;
         this.maxN = maxN;
         // Stored directly as the states were newly created within this class.
@@ -144,7 +148,7 @@ public class PoissonSamplerCache {
         // Note:
         // Although a mean of 0 is invalid for a Poisson sampler this case
         // is handled to make the cache user friendly. Any low means will
-        // be handled by the SmallMeanPoissonSampler and not cached.
+        // be handled by the PtrsPoissonSampler and not cached.
         // For this reason it is also OK if the means are negative.
 
         // Allow minMean == maxMean so that the cache can be used
@@ -191,9 +195,9 @@ public class PoissonSamplerCache {
     public SharedStateDiscreteSampler createSharedStateSampler(UniformRandomProvider rng,
                                                                double mean) {
         // Ensure the same functionality as the PoissonSampler by
-        // using a SmallMeanPoissonSampler under the switch point.
+        // using a PtrsPoissonSampler under the switch point.
         if (mean < PoissonSampler.PIVOT) {
-            return SmallMeanPoissonSampler.of(rng, mean);
+            return PtrsPoissonSampler.of(rng, mean);
         }
         if (mean > maxN) {
             // Outside the range of the cache.
@@ -212,14 +216,14 @@ public class PoissonSamplerCache {
         // Look in the cache for a state that can be reused.
         // Note: The cache is offset by minN.
         final int index = n - minN;
-        final LargeMeanPoissonSamplerState state = values[index];
+        final LargeMeanPoissonSamplerState state = values.get(index);
         if (state == null) {
-            // Create a sampler and store the state for reuse.
-            // Do not worry about thread contention
-            // as the state is effectively immutable.
-            // If recomputed and replaced it will the same.
+            // Create a sampler and publish the state for reuse.
+            // The state is immutable. If another thread has computed it
+            // concurrently then the first published state is retained;
+            // the two states are the same so the sampler is unchanged.
             final LargeMeanPoissonSampler sampler = new LargeMeanPoissonSampler(rng, mean);
-            values[index] = sampler.getState();
+            values.compareAndSet(index, null, sampler.getState());
             return sampler;
         }
         // Compute the remaining fraction of the mean
@@ -227,6 +231,49 @@ public class PoissonSamplerCache {
         return new LargeMeanPoissonSampler(rng, state, lambdaFractional);
     }
 
+    /**
+     * Generates a single sample from a Poisson distribution with the given mean.
+     *
+     * <p>This samples directly from the cached state and does not create a sampler.
+     * Means outside the range of the cache are sampled without a cached state.
+     * The samples have the same distribution as a sampler created using
+     * {@link #createSharedStateSampler(UniformRandomProvider, double)} but not the
+     * same sequence.
+     *
+     * <p>This method is intended for use by concurrent threads that share the cache;
+     * each thread must pass its own generator.
+     *
+     * @param rng  Generator of uniformly distributed random numbers.
+     * @param mean Mean.
+     * @return a sample
+     * @throws IllegalArgumentException if {@code mean <= 0} or
+     * {@code mean > 0.5 *} {@link Integer#MAX_VALUE}.
+     * @since 1.8
+     */
+    public int sample(UniformRandomProvider rng,
+                      double mean) {
+        if (mean >= PoissonSampler.PIVOT && mean < maxN + 1.0) {
+            // Convert the mean into an integer.
+            final int n = (int) Math.floor(mean);
+            if (n >= minN) {
+                // Note: The cache is offset by minN.
+                final int index = n - minN;
+                LargeMeanPoissonSamplerState state = values.get(index);
+                if (state == null) {
+                    // Compute and publish the state for reuse.
+                    // The first published state is retained.
+                    values.compareAndSet(index, null, new LargeMeanPoissonSampler(rng, n).getState());
+                    state = values.get(index);
+                }
+                return LargeMeanPoissonSampler.sample(rng, state, mean - n);
+            }
+        }
+        // Outside the range of the cache.
+        // The minimum value ensures mean > 0
+        InternalUtils.requireRangeClosed(Double.MIN_VALUE, PtrsPoissonSampler.MAX_MEAN, mean, "mean");
+        return PtrsPoissonSampler.sample(rng, mean);
+    }
+
     /**
      * Check if the mean is within the range where the cache can minimise the
      * construction cost of the {@link PoissonSampler}.
@@ -363,8 +410,8 @@ public class PoissonSamplerCache {
         // Note the minimum is clipped to the algorithm switch point.
         final int withMinN = (int) Math.floor(Math.max(minMean, PoissonSampler.PIVOT));
         final int withMaxN = (int) Math.floor(maxMean);
-        final LargeMeanPoissonSamplerState[] states =
-                new LargeMeanPoissonSamplerState[withMaxN - withMinN + 1];
+        final AtomicReferenceArray<LargeMeanPoissonSamplerState> states =
+                new AtomicReferenceArray<>(withMaxN - withMinN + 1);
 
         // Preserve values from the current array to the next
         final int currentIndex;
@@ -378,9 +425,9 @@ public class PoissonSamplerCache {
             currentIndex = 0;
             nextIndex = this.minN - withMinN;
         }
-        final int length = Math.min(values.length - currentIndex, states.length - nextIndex);
-        if (length > 0) {
-            System.arraycopy(values, currentIndex, states, nextIndex, length);
+        final int length = Math.min(values.length() - currentIndex, states.length() - nextIndex);
+        for (int i = 0; i < length; i++) {
+            states.set(nextIndex + i, values.get(currentIndex + i));
         }
 
         return new PoissonSamplerCache(withMinN, withMaxN, states);
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Sampler for the <a href="https://mathworld.wolfram.com/PoissonDistribution.html">Poisson
+ * distribution</a>.
+ *
+ * <ul>
+ *   <li>
+ *     Hörmann, W. (1993).
+ *     The transformed rejection method for generating Poisson random variables.
+ *     Insurance: Mathematics and Economics, 12(1), pp. 39-45.
+ *   </li>
+ * </ul>
+ *
+ * <p>For {@code mean >= 10} this uses the algorithm PTRS (Poisson, Transformed Rejection
+ * with Squeeze). A sample is generated from a transformation of two uniform deviates
+ * using a hat function that closely covers the distribution. Most samples are accepted
+ * using a squeeze that requires no further computation; the remaining samples require
+ * evaluation of the probability mass function. The expected number of uniform deviates
+ * per sample is below 2.3 for all means and no lookup tables are required. Smaller means
+ * use the {@link SmallMeanPoissonSampler}.</p>
+ *
+ * <p>Construction is cheap and the sampler is suitable when the mean changes for each
+ * sample.</p>
+ *
+ * <p>Sampling uses {@link UniformRandomProvider#nextDouble()}.</p>
+ *
+ * @see <a href="https://doi.org/10.1016/0167-6687(93)90997-4">
+ * Hörmann (1993) Insurance: Mathematics and Economics 12, 39-45</a>
+ * @since 1.8
+ */
+public final class PtrsPoissonSampler
+    implements SharedStateDiscreteSampler {
+    /**
+     * The mean below which the {@link SmallMeanPoissonSampler} is used.
+     *
+     * <p>Package scope for the {@link PoissonSampler}.
+     */
+    static final double PTRS_MEAN = 10;
+    /**
+     * Upper bound to avoid truncation.
+     *
+     * <p>Package scope for compound samplers.
+     */
+    static final double MAX_MEAN = 0.5 * Integer.MAX_VALUE;
+    /** The minimum value of {@code 0.5 - |u|} for immediate acceptance. */
+    private static final double SQUEEZE_U = 0.07;
+    /** The value of {@code 0.5 - |u|} below which the hat is not tight. */
+    private static final double TAIL_U = 0.013;
+    /** Class to compute {@code log(n!)}. This has no cached values. */
+    private static final InternalUtils.FactorialLog NO_CACHE_FACTORIAL_LOG =
+        InternalUtils.FactorialLog.create();
+
+    /** Underlying source of randomness. */
+    private final UniformRandomProvider rng;
+    /** The mean. */
+    private final double mean;
+    /** Algorithm constant: {@code Math.log(mean)}. */
+    private final double logMean;
+    /** Algorithm constant: {@code -0.059 + 0.02483 * b}. */
+    private final double a;
+    /** Algorithm constant: {@code 2 * a}. */
+    private final double twoA;
+    /** Algorithm constant: {@code 0.931 + 2.53 * Math.sqrt(mean)}. */
+    private final double b;
+    /** Algorithm constant: {@code mean + 0.43}. */
+    private final double meanPlus043;
+    /** Algorithm constant: the upper limit of {@code v} for immediate acceptance. */
+    private final double vr;
+    /** Algorithm constant: {@code log(1 / alpha)}. */
+    private final double logInvAlpha;
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param mean Mean.
+     */
+    private PtrsPoissonSampler(UniformRandomProvider rng,
+                               double mean) {
+        this.rng = rng;
+        this.mean = mean;
+        logMean = Math.log(mean);
+        b = computeB(mean);
+        a = computeA(b);
+        twoA = 2 * a;
+        meanPlus043 = mean + 0.43;
+        vr = computeVr(b);
+        logInvAlpha = computeLogInvAlpha(b);
+    }
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param source Source to copy.
+     */
+    private PtrsPoissonSampler(UniformRandomProvider rng,
+                               PtrsPoissonSampler source) {
+        this.rng = rng;
+        mean = source.mean;
+        logMean = source.logMean;
+        a = source.a;
+        twoA = source.twoA;
+        b = source.b;
+        meanPlus043 = source.meanPlus043;
+        vr = source.vr;
+        logInvAlpha = source.logInvAlpha;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int sample() {
+        return ptrs(rng, mean, logMean, a, twoA, b, meanPlus043, vr, logInvAlpha);
+    }
+
+    /**
+     * Generates a sample from a Poisson distribution with the given mean.
+     *
+     * <p>This method does not allocate and is intended for compound samplers where
+     * the mean changes for each sample. No validation of the mean is performed.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param mean Mean (must be in the range {@code [0, MAX_MEAN]}).
+     * @return a sample
+     */
+    static int sample(UniformRandomProvider rng, double mean) {
+        if (mean < PTRS_MEAN) {
+            // Poisson process using the product of uniform deviates.
+            // The result is bounded by 1000 * mean to match the SmallMeanPoissonSampler.
+            final double p0 = Math.exp(-mean);
+            final int limit = (int) Math.ceil(1000 * mean);
+            int n = 0;
+            double r = rng.nextDouble();
+            while (r >= p0 && n < limit) {
+                n++;
+                r *= rng.nextDouble();
+            }
+            return n;
+        }
+        final double b = computeB(mean);
+        final double a = computeA(b);
+        return ptrs(rng, mean, Math.log(mean), a, 2 * a, b, mean + 0.43,
+            computeVr(b), computeLogInvAlpha(b));
+    }
+
+    /**
+     * Compute the algorithm constant {@code b}.
+     *
+     * @param mean Mean.
+     * @return b
+     */
+    private static double computeB(double mean) {
+        return 0.931 + 2.53 * Math.sqrt(mean);
+    }
+
+    /**
+     * Compute the algorithm constant {@code a}.
+     *
+     * @param b Algorithm constant {@code b}.
+     * @return a
+     */
+    private static double computeA(double b) {
+        return -0.059 + 0.02483 * b;
+    }
+
+    /**
+     * Compute the algorithm constant {@code v_r}: the upper limit of {@code v} for
+     * immediate acceptance.
+     *
+     * @param b Algorithm constant {@code b}.
+     * @return v_r
+     */
+    private static double computeVr(double b) {
+        return 0.9277 - 3.6224 / (b - 2);
+    }
+
+    /**
+     * Compute the algorithm constant {@code log(1 / alpha)}.
+     *
+     * @param b Algorithm constant {@code b}.
+     * @return log(1 / alpha)
+     */
+    private static double computeLogInvAlpha(double b) {
+        return Math.log(1.1239 + 1.1328 / (b - 3.4));
+    }
+
+    /**
+     * Generate a sample using algorithm PTRS.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param mean Mean.
+     * @param logMean {@code log(mean)}.
+     * @param a Algorithm constant {@code a}.
+     * @param twoA Algorithm constant {@code 2 * a}.
+     * @param b Algorithm constant {@code b}.
+     * @param meanPlus043 {@code mean + 0.43}.
+     * @param vr Algorithm constant {@code v_r}.
+     * @param logInvAlpha Algorithm constant {@code log(1 / alpha)}.
+     * @return a sample
+     */
+    private static int ptrs(UniformRandomProvider rng, double mean, double logMean,
+                            double a, double twoA, double b, double meanPlus043,
+                            double vr, double logInvAlpha) {
+        while (true) {
+            final double u = rng.nextDouble() - 0.5;
+            final double v = rng.nextDouble();
+            final double us = 0.5 - Math.abs(u);
+            final double k = Math.floor((twoA / us + b) * u + meanPlus043);
+            // Squeeze acceptance
+            if (us >= SQUEEZE_U && v <= vr) {
+                return (int) k;
+            }
+            // Reject outside the support and in the region where the hat is not tight
+            if (k < 0 || k > Integer.MAX_VALUE || us < TAIL_U && v > us) {
+                continue;
+            }
+            // Acceptance using the probability mass function:
+            // log(v * alpha / (a / us^2 + b)) <= -mean + k * log(mean) - log(k!)
+            // Note: A u of 0 (us = 0) is always rejected above. A v of 0 is always accepted.
+            if (Math.log(v) + logInvAlpha - Math.log(a / (us * us) + b) <=
+                    -mean + k * logMean - NO_CACHE_FACTORIAL_LOG.value((int) k)) {
+                return (int) k;
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "PTRS Poisson deviate [" + rng.toString() + "]";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+        return new PtrsPoissonSampler(rng, this);
+    }
+
+    /**
+     * Creates a new sampler for the Poisson distribution.
+     *
+     * <p>Note: If {@code mean < 10} this returns a {@link SmallMeanPoissonSampler}.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param mean Mean of the distribution.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code mean <= 0} or {@code mean > 0.5 *}
+     * {@link Integer#MAX_VALUE}.
+     */
+    public static SharedStateDiscreteSampler of(UniformRandomProvider rng,
+                                                double mean) {
+        if (mean < PTRS_MEAN) {
+            // Validates the mean is strictly positive
+            return SmallMeanPoissonSampler.of(rng, mean);
+        }
+        InternalUtils.requireRangeClosed(PTRS_MEAN, MAX_MEAN, mean, "mean");
+        return new PtrsPoissonSampler(rng, mean);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Sampler for a zero-inflated discrete distribution.
+ *
+ * <p>The sample is zero with probability {@code pi}; otherwise the sample is
+ * generated by the underlying discrete sampler. This models count data with an excess
+ * of zeros, for example a zero-inflated Poisson or zero-inflated negative binomial
+ * distribution.</p>
+ *
+ * <p>Sampling uses {@link UniformRandomProvider#nextDouble()} and the methods of the
+ * underlying sampler.</p>
+ *
+ * @since 1.8
+ */
+public final class ZeroInflatedDiscreteSampler
+    implements SharedStateDiscreteSampler {
+    /** Underlying source of randomness. */
+    private final UniformRandomProvider rng;
+    /** Probability of an inflated zero. */
+    private final double pi;
+    /** The underlying sampler. */
+    private final SharedStateDiscreteSampler sampler;
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param pi Probability of an inflated zero.
+     * @param sampler Underlying sampler.
+     */
+    private ZeroInflatedDiscreteSampler(UniformRandomProvider rng,
+                                        double pi,
+                                        SharedStateDiscreteSampler sampler) {
+        this.rng = rng;
+        this.pi = pi;
+        this.sampler = sampler;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int sample() {
+        return rng.nextDouble() < pi ? 0 : sampler.sample();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Zero-inflated " + sampler.toString();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+        return new ZeroInflatedDiscreteSampler(rng, pi, sampler.withUniformRandomProvider(rng));
+    }
+
+    /**
+     * Creates a new sampler for a zero-inflated distribution.
+     *
+     * <p>The underlying sampler is copied using
+     * {@link SharedStateDiscreteSampler#withUniformRandomProvider(UniformRandomProvider)
+     * withUniformRandomProvider} so that all samples use the provided generator.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param pi Probability of an inflated zero.
+     * @param sampler Underlying sampler.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code pi} is not in the range {@code [0, 1]}.
+     */
+    public static SharedStateDiscreteSampler of(UniformRandomProvider rng,
+                                                double pi,
+                                                SharedStateDiscreteSampler sampler) {
+        InternalUtils.requireRangeClosed(0, 1, pi, "pi");
+        return new ZeroInflatedDiscreteSampler(rng, pi, sampler.withUniformRandomProvider(rng));
+    }
+}
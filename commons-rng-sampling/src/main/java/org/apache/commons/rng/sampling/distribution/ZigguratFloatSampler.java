@@ -0,0 +1,500 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * <a href="https://en.wikipedia.org/wiki/Ziggurat_algorithm">
+ * Marsaglia and Tsang "Ziggurat" method</a> for sampling from a Gaussian or
+ * exponential distribution using {@code float} precision.
+ *
+ * <p>Each sample uses a 32-bit random integer. The lowest bits select the layer of the
+ * ziggurat and the remaining bits provide the uniform deviate in the layer: this is
+ * 24-bits (plus a sign bit for the Gaussian distribution) which matches the precision
+ * of a {@code float}. Using separate bits for the layer and the deviate avoids the
+ * correlation between the two in the original algorithm (see Doornik (2005)).
+ * The ziggurat tables use 32-bit values and are half the size of the tables used by
+ * the {@code double} samplers.</p>
+ *
+ * <p>The bulk {@link #sample(float[], int, int) sample} method creates two samples
+ * from each 64-bit value of the source of randomness.</p>
+ *
+ * <p>Sampling uses:</p>
+ *
+ * <ul>
+ *   <li>{@link UniformRandomProvider#nextInt()}</li>
+ *   <li>{@link UniformRandomProvider#nextLong()}</li>
+ *   <li>{@link UniformRandomProvider#nextFloat()}</li>
+ * </ul>
+ *
+ * @see <a href="https://www.jstatsoft.org/article/view/v005i08/ziggurat.pdf">
+ * Marsaglia and Tsang (2000) J. Stat. Soft. 5, 1-7</a>
+ * @see <a href="https://www.doornik.com/research/ziggurat.pdf">
+ * Doornik (2005) An Improved Ziggurat Method to Generate Normal Random Samples</a>
+ * @see ZigguratSampler
+ * @since 1.8
+ */
+public abstract class ZigguratFloatSampler implements SharedStateFloatSampler {
+    /** 2^24. The maximum magnitude of the uniform deviate. */
+    private static final double TWO_POW_24 = 0x1.0p24;
+    /** 2^-24. Used to create a uniform deviate from the upper 24-bits of an integer. */
+    private static final double TWO_POW_M24 = 0x1.0p-24;
+
+    /** Underlying source of randomness. */
+    private final UniformRandomProvider rng;
+
+    // =========================================================================
+    // Implementation note:
+    //
+    // The tables are created using the method of Marsaglia and Tsang (2000).
+    // The fast path uses only the K and W tables, which are int[] and float[]
+    // and are small enough to remain in the L1 cache.
+    //
+    // The bulk sample method uses a 64-bit value to create two samples. The
+    // lower 32-bits are used first which matches the order of the ints output
+    // from nextInt() for a 64-bit source of randomness in this library.
+    // =========================================================================
+
+    /**
+     * Modified ziggurat method for sampling from an exponential distribution.
+     */
+    public static class Exponential extends ZigguratFloatSampler {
+        /** Start of the tail (the right-most edge of the ziggurat). */
+        private static final double R = 7.69711747013104972;
+        /** Area of each layer of the ziggurat. */
+        private static final double V = 3.949659822581572e-3;
+        /** Start of the tail as a float. */
+        private static final float X_0 = (float) R;
+        /** Index of the last layer (the number of layers is a power of 2). */
+        private static final int LAST = 255;
+        /** Shift to extract the unsigned 24-bit uniform deviate. */
+        private static final int SHIFT = 8;
+        /** Upper limit (exclusive) of the uniform deviate for a sample inside each layer. */
+        private static final int[] K;
+        /** Scale factor to convert the uniform deviate to a sample in each layer. */
+        private static final float[] W;
+        /** PDF at the upper edge of each layer. */
+        private static final float[] F;
+
+        static {
+            K = new int[LAST + 1];
+            W = new float[LAST + 1];
+            F = new float[LAST + 1];
+
+            double d = R;
+            double t = d;
+            double fd = Math.exp(-d);
+            final double q = V / fd;
+
+            K[0] = (int) ((d / q) * TWO_POW_24);
+            K[1] = 0;
+
+            W[0] = (float) (q / TWO_POW_24);
+            W[LAST] = (float) (d / TWO_POW_24);
+
+            F[0] = 1;
+            F[LAST] = (float) fd;
+
+            for (int i = LAST - 1; i >= 1; i--) {
+                d = -Math.log(V / d + fd);
+                fd = Math.exp(-d);
+
+                K[i + 1] = (int) ((d / t) * TWO_POW_24);
+                t = d;
+
+                F[i] = (float) fd;
+
+                W[i] = (float) (d / TWO_POW_24);
+            }
+        }
+
+        /**
+         * Specialisation which multiplies the standard exponential result by a specified mean.
+         */
+        private static final class ExponentialMean extends Exponential {
+            /** Mean of the exponential distribution. */
+            private final float mean;
+
+            /**
+             * @param rng Generator of uniformly distributed random numbers.
+             * @param mean Mean.
+             */
+            ExponentialMean(UniformRandomProvider rng, float mean) {
+                super(rng);
+                this.mean = mean;
+            }
+
+            @Override
+            public float sample() {
+                return super.sample() * mean;
+            }
+
+            @Override
+            public void sample(float[] out, int from, int len) {
+                super.sample(out, from, len);
+                final float m = mean;
+                final int to = from + len;
+                for (int i = from; i < to; i++) {
+                    out[i] *= m;
+                }
+            }
+
+            @Override
+            public ExponentialMean withUniformRandomProvider(UniformRandomProvider rng) {
+                return new ExponentialMean(rng, this.mean);
+            }
+        }
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         */
+        Exponential(UniformRandomProvider rng) {
+            super(rng);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return toString("exponential");
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public float sample() {
+            return createSample(nextInt());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void sample(float[] out, int from, int len) {
+            InternalUtils.validateFromIndexSize(from, len, out.length);
+            final UniformRandomProvider r = getUniformRandomProvider();
+            final int to = from + len;
+            final int limit = to - 1;
+            int k = from;
+            for (; k < limit; k += 2) {
+                final long bits = r.nextLong();
+                out[k] = createSample((int) bits);
+                out[k + 1] = createSample((int) (bits >>> 32));
+            }
+            if (k < to) {
+                out[k] = createSample(r.nextInt());
+            }
+        }
+
+        /**
+         * Creates the sample from the 32-bit random integer.
+         *
+         * @param bits Random bits.
+         * @return a sample
+         */
+        private float createSample(int bits) {
+            final int i = bits & LAST;
+            final int u = bits >>> SHIFT;
+            if (u < K[i]) {
+                return u * W[i];
+            }
+            return edgeSample(u, i);
+        }
+
+        /**
+         * Create the sample from the edge of the ziggurat.
+         *
+         * @param u Uniform deviate.
+         * @param i Layer of the ziggurat.
+         * @return a sample
+         */
+        private float edgeSample(int u, int i) {
+            if (i == 0) {
+                // Tail.
+                // The exponential distribution is memoryless so the tail is a new sample
+                // offset by the start of the tail.
+                return X_0 + createSample(nextInt());
+            }
+            // Wedge of other layers
+            final float x = u * W[i];
+            if (F[i] + nextFloat() * (F[i - 1] - F[i]) < Math.exp(-x)) {
+                return x;
+            }
+            // Try again.
+            return createSample(nextInt());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Exponential withUniformRandomProvider(UniformRandomProvider rng) {
+            return new Exponential(rng);
+        }
+
+        /**
+         * Create a new exponential sampler with {@code mean = 1}.
+         *
+         * @param rng Generator of uniformly distributed random numbers.
+         * @return the sampler
+         */
+        public static Exponential of(UniformRandomProvider rng) {
+            return new Exponential(rng);
+        }
+
+        /**
+         * Create a new exponential sampler with the specified {@code mean}.
+         *
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param mean Mean.
+         * @return the sampler
+         * @throws IllegalArgumentException if the mean is not strictly positive and finite
+         * when converted to a {@code float}.
+         */
+        public static Exponential of(UniformRandomProvider rng, double mean) {
+            final float m = (float) mean;
+            InternalUtils.requireStrictlyPositiveFinite(m, "mean");
+            return new ExponentialMean(rng, m);
+        }
+    }
+
+    /**
+     * Modified ziggurat method for sampling from a Gaussian distribution with
+     * mean 0 and standard deviation 1.
+     */
+    public static final class NormalizedGaussian extends ZigguratFloatSampler {
+        /** Index of the last layer (the number of layers is a power of 2). */
+        static final int LAST = 127;
+        /** Shift to extract the signed 25-bit uniform deviate. */
+        static final int SHIFT = 7;
+        /** Upper limit (exclusive) of the magnitude of the uniform deviate for a sample
+         * inside each layer. */
+        static final int[] K;
+        /** Scale factor to convert the uniform deviate to a sample in each layer. */
+        static final float[] W;
+        /** Start of the tail (the right-most edge of the ziggurat). */
+        private static final double R = 3.442619855899;
+        /** Inverse of R. */
+        private static final double ONE_OVER_R = 1 / R;
+        /** Area of each layer of the ziggurat. */
+        private static final double V = 9.91256303526217e-3;
+        /** PDF at the upper edge of each layer. */
+        private static final float[] F;
+
+        static {
+            K = new int[LAST + 1];
+            W = new float[LAST + 1];
+            F = new float[LAST + 1];
+
+            double d = R;
+            double t = d;
+            double fd = pdf(d);
+            final double q = V / fd;
+
+            K[0] = (int) ((d / q) * TWO_POW_24);
+            K[1] = 0;
+
+            W[0] = (float) (q / TWO_POW_24);
+            W[LAST] = (float) (d / TWO_POW_24);
+
+            F[0] = 1;
+            F[LAST] = (float) fd;
+
+            for (int i = LAST - 1; i >= 1; i--) {
+                d = Math.sqrt(-2 * Math.log(V / d + fd));
+                fd = pdf(d);
+
+                K[i + 1] = (int) ((d / t) * TWO_POW_24);
+                t = d;
+
+                F[i] = (float) fd;
+
+                W[i] = (float) (d / TWO_POW_24);
+            }
+        }
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         */
+        private NormalizedGaussian(UniformRandomProvider rng) {
+            super(rng);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString() {
+            return toString("normalized Gaussian");
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public float sample() {
+            return createSample(nextInt());
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>On Java 17 or later, large arrays can be filled using vector operations.
+         * This is an explicit opt-in: it requires the system property
+         * {@code org.apache.commons.rng.sampling.vector=true} and the
+         * {@code jdk.incubator.vector} module ({@code --add-modules jdk.incubator.vector}).
+         * <strong>When enabled, the samples have the same distribution but are not the same
+         * sequence as the default output for the same seeded generator.</strong>
+         */
+        @Override
+        public void sample(float[] out, int from, int len) {
+            InternalUtils.validateFromIndexSize(from, len, out.length);
+            final int to = from + len;
+            if (ZigguratVectorSupport.sample(this, out, from, to)) {
+                return;
+            }
+            final UniformRandomProvider r = getUniformRandomProvider();
+            final int limit = to - 1;
+            int k = from;
+            for (; k < limit; k += 2) {
+                final long bits = r.nextLong();
+                out[k] = createSample((int) bits);
+                out[k + 1] = createSample((int) (bits >>> 32));
+            }
+            if (k < to) {
+                out[k] = createSample(r.nextInt());
+            }
+        }
+
+        /**
+         * Creates the sample from the 32-bit random integer.
+         *
+         * @param bits Random bits.
+         * @return a sample
+         */
+        private float createSample(int bits) {
+            final int i = bits & LAST;
+            // Signed deviate in [-2^24, 2^24)
+            final int u = bits >> SHIFT;
+            if (Math.abs(u) < K[i]) {
+                return u * W[i];
+            }
+            return edgeSample(u, i);
+        }
+
+        /**
+         * Create the sample from the edge of the ziggurat.
+         *
+         * @param u Uniform deviate.
+         * @param i Layer of the ziggurat.
+         * @return a sample
+         */
+        float edgeSample(int u, int i) {
+            if (i == 0) {
+                // Tail.
+                double y;
+                double x;
+                do {
+                    y = -Math.log(makeNonZeroDouble(nextInt()));
+                    x = -Math.log(makeNonZeroDouble(nextInt())) * ONE_OVER_R;
+                } while (y + y < x * x);
+
+                final float out = (float) (R + x);
+                return u > 0 ? out : -out;
+            }
+            // Wedge of other layers
+            final float x = u * W[i];
+            if (F[i] + nextFloat() * (F[i - 1] - F[i]) < pdf(x)) {
+                return x;
+            }
+            // Try again.
+            return createSample(nextInt());
+        }
+
+        /**
+         * Compute the Gaussian probability density function {@code f(x) = e^-0.5x^2}.
+         *
+         * @param x Argument.
+         * @return \( e^{-\frac{x^2}{2}} \)
+         */
+        private static double pdf(double x) {
+            return Math.exp(-0.5 * x * x);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public NormalizedGaussian withUniformRandomProvider(UniformRandomProvider rng) {
+            return new NormalizedGaussian(rng);
+        }
+
+        /**
+         * Create a new normalised Gaussian sampler.
+         *
+         * @param rng Generator of uniformly distributed random numbers.
+         * @return the sampler
+         */
+        public static NormalizedGaussian of(UniformRandomProvider rng) {
+            return new NormalizedGaussian(rng);
+        }
+    }
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     */
+    ZigguratFloatSampler(UniformRandomProvider rng) {
+        this.rng = rng;
+    }
+
+    /**
+     * Generate a string to represent the sampler.
+     *
+     * @param type Sampler type (e.g. "exponential").
+     * @return the string
+     */
+    String toString(String type) {
+        return "Ziggurat float " + type + " deviate [" + rng.toString() + "]";
+    }
+
+    /**
+     * Generates an {@code int}.
+     *
+     * @return the int
+     */
+    int nextInt() {
+        return rng.nextInt();
+    }
+
+    /**
+     * Generates a {@code float} in {@code [0, 1)}.
+     *
+     * @return the float
+     */
+    float nextFloat() {
+        return rng.nextFloat();
+    }
+
+    /**
+     * Gets the underlying source of randomness.
+     *
+     * @return the source of randomness
+     */
+    UniformRandomProvider getUniformRandomProvider() {
+        return rng;
+    }
+
+    /**
+     * Creates a {@code double} in the interval {@code (0, 1]} from the upper 24-bits
+     * of an {@code int} value.
+     *
+     * @param v Number.
+     * @return a {@code double} value in the interval {@code (0, 1]}.
+     */
+    private static double makeNonZeroDouble(int v) {
+        return ((v >>> 8) + 1) * TWO_POW_M24;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+/**
+ * Support for bulk sampling from the ziggurat samplers using vector operations.
+ *
+ * <p>This is a multi-release class. This version does not support vector operations:
+ * all methods return {@code false} and the caller must generate the samples.
+ * The Java 17 version uses the incubator Vector API if enabled by the system property
+ * {@value #PROPERTY} and the {@code jdk.incubator.vector} module is available.
+ *
+ * @since 1.8
+ */
+final class ZigguratVectorSupport {
+    /** The minimum number of samples to generate using vector operations. */
+    static final int MIN_LENGTH = 64;
+    /** The system property to enable vector operations. */
+    static final String PROPERTY = "org.apache.commons.rng.sampling.vector";
+
+    /** No instances. */
+    private ZigguratVectorSupport() {}
+
+    /**
+     * Fill the range {@code [from, to)} of the array with samples.
+     *
+     * @param sampler Sampler.
+     * @param out Array in which to put the samples.
+     * @param from Index at which to start inserting the samples (inclusive).
+     * @param to Index at which to stop inserting the samples (exclusive).
+     * @return true if the samples were generated
+     */
+    static boolean sample(ZigguratSampler.NormalizedGaussian sampler, double[] out, int from, int to) {
+        return false;
+    }
+
+    /**
+     * Fill the range {@code [from, to)} of the array with samples.
+     *
+     * @param sampler Sampler.
+     * @param out Array in which to put the samples.
+     * @param from Index at which to start inserting the samples (inclusive).
+     * @param to Index at which to stop inserting the samples (exclusive).
+     * @return true if the samples were generated
+     */
+    static boolean sample(ZigguratFloatSampler.NormalizedGaussian sampler, float[] out, int from, int to) {
+        return false;
+    }
+}
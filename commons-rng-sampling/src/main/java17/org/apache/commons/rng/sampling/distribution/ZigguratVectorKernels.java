@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Bulk sampling from the ziggurat samplers using the incubator Vector API.
+ *
+ * <p>Random values are generated in blocks. The fast path of the ziggurat (a table
+ * lookup, multiply and compare) is computed using vector operations for all values
+ * in the block. Values outside the ziggurat layers are then sampled using the scalar
+ * edge sampling method of the sampler. The samples have the same distribution as the
+ * scalar sampler but are not the same sequence.
+ *
+ * <p>This class must only be loaded if the {@code jdk.incubator.vector} module is
+ * available.
+ *
+ * @since 1.8
+ */
+final class ZigguratVectorKernels {
+    /** Number of random values in a block. */
+    private static final int BLOCK = 256;
+    /** Mask to extract the lowest 8-bits from an integer. */
+    private static final int MASK_INT8 = 0xff;
+    /** Species for the 64-bit random values. */
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+    /** Species for the double samples. Has the same number of lanes as the long species. */
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = DoubleVector.SPECIES_PREFERRED;
+    /** Species for the 32-bit random values. */
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    /** Species for the float samples. Has the same number of lanes as the int species. */
+    private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    /** No instances. */
+    private ZigguratVectorKernels() {}
+
+    /**
+     * Checks if the preferred vector shape supports more than one {@code double} lane.
+     *
+     * @return true if supported
+     */
+    static boolean isSupported() {
+        return DOUBLE_SPECIES.length() > 1;
+    }
+
+    /**
+     * Fill the range {@code [from, to)} of the array with samples.
+     *
+     * @param sampler Sampler.
+     * @param out Array in which to put the samples.
+     * @param from Index at which to start inserting the samples (inclusive).
+     * @param to Index at which to stop inserting the samples (exclusive).
+     */
+    static void sample(ZigguratSampler.NormalizedGaussian sampler, double[] out, int from, int to) {
+        final UniformRandomProvider rng = sampler.getUniformRandomProvider();
+        final double[] x = ZigguratSampler.NormalizedGaussian.X;
+        final int iMax = ZigguratSampler.NormalizedGaussian.I_MAX;
+        final int lanes = DOUBLE_SPECIES.length();
+        final long[] bits = new long[BLOCK];
+        final int[] index = new int[BLOCK];
+        for (int start = from; start < to; start += BLOCK) {
+            final int n = Math.min(BLOCK, to - start);
+            for (int j = 0; j < n; j++) {
+                final long xx = rng.nextLong();
+                bits[j] = xx;
+                // Clip the layer to the table size. Values outside the layers are
+                // replaced by an edge sample.
+                index[j] = Math.min(((int) xx) & MASK_INT8, iMax);
+            }
+            final int bound = DOUBLE_SPECIES.loopBound(n);
+            int j = 0;
+            for (; j < bound; j += lanes) {
+                final LongVector xx = LongVector.fromArray(LONG_SPECIES, bits, j);
+                DoubleVector.fromArray(DOUBLE_SPECIES, x, 0, index, j)
+                    .mul(xx.convert(VectorOperators.L2D, 0))
+                    .intoArray(out, start + j);
+                final VectorMask<Long> edge = xx.and(MASK_INT8).compare(VectorOperators.GE, iMax);
+                for (long m = edge.toLong(); m != 0; m &= m - 1) {
+                    final int k = j + Long.numberOfTrailingZeros(m);
+                    out[start + k] = sampler.edgeSample(bits[k]);
+                }
+            }
+            for (; j < n; j++) {
+                final long xx = bits[j];
+                final int i = ((int) xx) & MASK_INT8;
+                out[start + j] = i < iMax ? x[i] * xx : sampler.edgeSample(xx);
+            }
+        }
+    }
+
+    /**
+     * Fill the range {@code [from, to)} of the array with samples.
+     *
+     * @param sampler Sampler.
+     * @param out Array in which to put the samples.
+     * @param from Index at which to start inserting the samples (inclusive).
+     * @param to Index at which to stop inserting the samples (exclusive).
+     */
+    static void sample(ZigguratFloatSampler.NormalizedGaussian sampler, float[] out, int from, int to) {
+        final UniformRandomProvider rng = sampler.getUniformRandomProvider();
+        final int[] kTable = ZigguratFloatSampler.NormalizedGaussian.K;
+        final float[] wTable = ZigguratFloatSampler.NormalizedGaussian.W;
+        final int last = ZigguratFloatSampler.NormalizedGaussian.LAST;
+        final int shift = ZigguratFloatSampler.NormalizedGaussian.SHIFT;
+        final int lanes = FLOAT_SPECIES.length();
+        final int[] bits = new int[BLOCK];
+        final int[] index = new int[BLOCK];
+        for (int start = from; start < to; start += BLOCK) {
+            final int n = Math.min(BLOCK, to - start);
+            // Two 32-bit values from each 64-bit value
+            int j = 0;
+            for (; j < n - 1; j += 2) {
+                final long b = rng.nextLong();
+                bits[j] = (int) b;
+                bits[j + 1] = (int) (b >>> 32);
+            }
+            if (j < n) {
+                bits[j] = rng.nextInt();
+            }
+            final int bound = FLOAT_SPECIES.loopBound(n);
+            for (j = 0; j < bound; j += lanes) {
+                final IntVector b = IntVector.fromArray(INT_SPECIES, bits, j);
+                b.and(last).intoArray(index, j);
+                // Signed deviate in [-2^24, 2^24)
+                final IntVector u = b.lanewise(VectorOperators.ASHR, shift);
+                FloatVector.fromArray(FLOAT_SPECIES, wTable, 0, index, j)
+                    .mul(u.convert(VectorOperators.I2F, 0))
+                    .intoArray(out, start + j);
+                final VectorMask<Integer> edge = u.abs().compare(VectorOperators.GE,
+                    IntVector.fromArray(INT_SPECIES, kTable, 0, index, j));
+                for (long m = edge.toLong(); m != 0; m &= m - 1) {
+                    final int k = j + Long.numberOfTrailingZeros(m);
+                    out[start + k] = sampler.edgeSample(bits[k] >> shift, index[k]);
+                }
+            }
+            for (; j < n; j++) {
+                final int i = bits[j] & last;
+                final int u = bits[j] >> shift;
+                out[start + j] = Math.abs(u) < kTable[i] ? u * wTable[i] : sampler.edgeSample(u, i);
+            }
+        }
+    }
+}
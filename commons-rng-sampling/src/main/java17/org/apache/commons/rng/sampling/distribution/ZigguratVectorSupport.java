@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import java.util.Optional;
+
+/**
+ * Support for bulk sampling from the ziggurat samplers using vector operations.
+ *
+ * <p>This is a multi-release class. This version uses the incubator Vector API if
+ * enabled by the system property {@value #PROPERTY} set to {@code true} and the
+ * {@code jdk.incubator.vector} module is available in the boot layer, for example using
+ * the command line options
+ * {@code -Dorg.apache.commons.rng.sampling.vector=true --add-modules jdk.incubator.vector}.
+ * The Vector API classes are only loaded if the module is available. The vector
+ * operations can be used from the class path or the module path; if the Vector API
+ * cannot be linked the scalar samplers are used.
+ *
+ * <p><strong>Note:</strong> The vector operations consume the random source in a
+ * different order from the scalar samplers. The same seeded generator will produce
+ * a different sequence of samples when the vector operations are enabled.
+ *
+ * @since 1.8
+ */
+final class ZigguratVectorSupport {
+    /** The minimum number of samples to generate using vector operations. */
+    static final int MIN_LENGTH = 64;
+    /** The system property to enable vector operations. */
+    static final String PROPERTY = "org.apache.commons.rng.sampling.vector";
+    /** Set to true if vector operations are enabled and supported. */
+    private static final boolean ENABLED = isEnabled();
+
+    /** No instances. */
+    private ZigguratVectorSupport() {}
+
+    /**
+     * Checks if vector operations are enabled and supported.
+     *
+     * <p>If this class is in a named module then it is updated to read the
+     * {@code jdk.incubator.vector} module. If the vector operations cannot be
+     * linked then they are disabled and the scalar samplers are used.
+     *
+     * @return true if enabled
+     */
+    private static boolean isEnabled() {
+        if (!Boolean.getBoolean(PROPERTY)) {
+            return false;
+        }
+        final Optional<Module> vector = ModuleLayer.boot().findModule("jdk.incubator.vector");
+        if (vector.isEmpty()) {
+            return false;
+        }
+        // No effect if this class is in the unnamed module (class path)
+        ZigguratVectorSupport.class.getModule().addReads(vector.get());
+        try {
+            return ZigguratVectorKernels.isSupported();
+        } catch (LinkageError ignored) {
+            // Vector API cannot be used
+            return false;
+        }
+    }
+
+    /**
+     * Fill the range {@code [from, to)} of the array with samples.
+     *
+     * @param sampler Sampler.
+     * @param out Array in which to put the samples.
+     * @param from Index at which to start inserting the samples (inclusive).
+     * @param to Index at which to stop inserting the samples (exclusive).
+     * @return true if the samples were generated
+     */
+    static boolean sample(ZigguratSampler.NormalizedGaussian sampler, double[] out, int from, int to) {
+        if (!ENABLED || to - from < MIN_LENGTH) {
+            return false;
+        }
+        ZigguratVectorKernels.sample(sampler, out, from, to);
+        return true;
+    }
+
+    /**
+     * Fill the range {@code [from, to)} of the array with samples.
+     *
+     * @param sampler Sampler.
+     * @param out Array in which to put the samples.
+     * @param from Index at which to start inserting the samples (inclusive).
+     * @param to Index at which to stop inserting the samples (exclusive).
+     * @return true if the samples were generated
+     */
+    static boolean sample(ZigguratFloatSampler.NormalizedGaussian sampler, float[] out, int from, int to) {
+        if (!ENABLED || to - from < MIN_LENGTH) {
+            return false;
+        }
+        ZigguratVectorKernels.sample(sampler, out, from, to);
+        return true;
+    }
+}
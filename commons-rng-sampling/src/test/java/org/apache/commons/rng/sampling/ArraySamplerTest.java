@@ -17,8 +17,12 @@
 package org.apache.commons.rng.sampling;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -459,6 +463,124 @@ class ArraySamplerTest {
         Assertions.assertArrayEquals(a, ints(h), "Object");
     }
 
+    // Parallel shuffle
+
+    @ParameterizedTest
+    @CsvSource({
+        "13, 1",
+        "13, 3",
+        "16, 4",
+        "100, 7",
+    })
+    void testParallelShuffleIsRandom(int length, int blockSize) {
+        final int[] array = PermutationSampler.natural(length);
+        final SplittableUniformRandomProvider rng = RandomAssert.seededSplittableRNG();
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final long[][] counts = new long[length][length];
+        for (int j = 1; j <= 1000; j++) {
+            ArraySampler.parallelShuffle(rng, array, pool, blockSize);
+            for (int i = 0; i < length; i++) {
+                counts[i][array[i]]++;
+            }
+        }
+        final double p = new ChiSquareTest().chiSquareTest(counts);
+        Assertions.assertFalse(p < 1e-3,
+            () -> String.format("p-value too small: %s. length=%d", p, length));
+    }
+
+    /**
+     * Test all permutations are equally likely when the shuffle is created by merging
+     * shuffled blocks.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2})
+    void testParallelShufflePermutationIsRandom(int blockSize) {
+        final int length = 4;
+        final int numSamples = 24000;
+        final SplittableUniformRandomProvider rng = RandomAssert.seededSplittableRNG();
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        final Map<String, Integer> permutations = new HashMap<>();
+        for (int j = 0; j < numSamples; j++) {
+            final int[] array = PermutationSampler.natural(length);
+            ArraySampler.parallelShuffle(rng, array, pool, blockSize);
+            permutations.merge(Arrays.toString(array), 1, Integer::sum);
+        }
+        // 4! permutations
+        Assertions.assertEquals(24, permutations.size());
+        final long[] observed = permutations.values().stream().mapToLong(Integer::longValue).toArray();
+        final double[] expected = new double[observed.length];
+        Arrays.fill(expected, numSamples / 24.0);
+        final double p = new ChiSquareTest().chiSquareTest(expected, observed);
+        Assertions.assertFalse(p < 1e-3, () -> "p-value too small: " + p);
+    }
+
+    /**
+     * Test the parallel shuffle output does not depend on the parallelism of the pool.
+     */
+    @Test
+    void testParallelShuffleIsReproducible() {
+        final int length = 1234;
+        final int blockSize = 10;
+        final int[] array1 = PermutationSampler.natural(length);
+        final int[] array2 = array1.clone();
+        final ForkJoinPool pool1 = new ForkJoinPool(1);
+        final ForkJoinPool pool2 = new ForkJoinPool(4);
+        try {
+            ArraySampler.parallelShuffle(RandomAssert.seededSplittableRNG(), array1, pool1, blockSize);
+            ArraySampler.parallelShuffle(RandomAssert.seededSplittableRNG(), array2, pool2, blockSize);
+        } finally {
+            pool1.shutdown();
+            pool2.shutdown();
+        }
+        Assertions.assertArrayEquals(array1, array2);
+        Assertions.assertFalse(Arrays.equals(PermutationSampler.natural(length), array1), "Not shuffled");
+    }
+
+    /**
+     * Test the parallel shuffle of an array below the block size matches the shuffle.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 13, 100})
+    void testParallelShuffleSmallArrayMatchesShuffle(int length) {
+        final int[] a = PermutationSampler.natural(length);
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        Assertions.assertSame(a, ArraySampler.parallelShuffle(RandomAssert.seededSplittableRNG(), a, pool));
+        final int[] b = ArraySampler.shuffle(RandomAssert.seededSplittableRNG(), PermutationSampler.natural(length));
+        Assertions.assertArrayEquals(b, a);
+        final double[] d = doubles(PermutationSampler.natural(length));
+        final long[] f = longs(PermutationSampler.natural(length));
+        final Integer[] h = boxed(PermutationSampler.natural(length));
+        Assertions.assertSame(d, ArraySampler.parallelShuffle(RandomAssert.seededSplittableRNG(), d, pool));
+        Assertions.assertSame(f, ArraySampler.parallelShuffle(RandomAssert.seededSplittableRNG(), f, pool));
+        Assertions.assertSame(h, ArraySampler.parallelShuffle(RandomAssert.seededSplittableRNG(), h, pool));
+        Assertions.assertArrayEquals(a, ints(d), "double");
+        Assertions.assertArrayEquals(a, ints(f), "long");
+        Assertions.assertArrayEquals(a, ints(h), "Object");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "100, 1",
+        "1000, 7",
+        "12345, 100",
+    })
+    void testParallelShuffle(int length, int blockSize) {
+        final int[] a = PermutationSampler.natural(length);
+        final double[] d = doubles(a);
+        final long[] f = longs(a);
+        final Integer[] h = boxed(a);
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        ArraySampler.parallelShuffle(RandomAssert.seededSplittableRNG(), a, pool, blockSize);
+        ArraySampler.parallelShuffle(RandomAssert.seededSplittableRNG(), d, pool, blockSize);
+        ArraySampler.parallelShuffle(RandomAssert.seededSplittableRNG(), f, pool, blockSize);
+        ArraySampler.parallelShuffle(RandomAssert.seededSplittableRNG(), h, pool, blockSize);
+        // No duplicates
+        Assertions.assertArrayEquals(PermutationSampler.natural(length), Arrays.stream(a).sorted().toArray());
+        Assertions.assertArrayEquals(a, ints(d), "double");
+        Assertions.assertArrayEquals(a, ints(f), "long");
+        Assertions.assertArrayEquals(a, ints(h), "Object");
+    }
+
     // Special case for boolean[].
     // Use a larger array and it is very unlikely a shuffle of bits will be the same.
     // This cannot be done with the other arrays as the limit is 127 for a "universal" number.
@@ -23,6 +23,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 import org.apache.commons.math3.stat.inference.ChiSquareTest;
 import org.apache.commons.rng.UniformRandomProvider;
@@ -308,4 +309,23 @@ class ListSamplerTest {
             Assertions.assertEquals(array[i], it.next().intValue(), msg);
         }
     }
+
+    @Test
+    void testParallelShuffle() {
+        final int length = 1000;
+        final Integer[] expected = new Integer[length];
+        final List<Integer> list1 = new ArrayList<>();
+        final List<Integer> list2 = new LinkedList<>();
+        for (int i = 0; i < length; i++) {
+            expected[i] = i;
+            list1.add(i);
+            list2.add(i);
+        }
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        ArraySampler.parallelShuffle(RandomAssert.seededSplittableRNG(), expected, pool);
+        ListSampler.parallelShuffle(RandomAssert.seededSplittableRNG(), list1, pool);
+        ListSampler.parallelShuffle(RandomAssert.seededSplittableRNG(), list2, pool);
+        Assertions.assertArrayEquals(expected, list1.toArray());
+        Assertions.assertArrayEquals(expected, list2.toArray());
+    }
 }
@@ -21,6 +21,8 @@ import org.apache.commons.math3.stat.inference.ChiSquareTest;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Tests for {@link PermutationSampler}.
@@ -66,6 +68,48 @@ class PermutationSamplerTest {
         runSampleChiSquareTest(n, k, p);
     }
 
+    @Test
+    void testSubSampleOddStepsChiSquareTest() {
+        // An odd number of steps uses a final batch that straddles the sampled section
+        final int n = 5;
+        final int k = 3;
+        final int[][] p = new int[n * (n - 1) * (n - 2)][];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                for (int l = 0; l < n; l++) {
+                    if (i != j && i != l && j != l) {
+                        p[count++] = new int[] {i, j, l};
+                    }
+                }
+            }
+        }
+        runSampleChiSquareTest(n, k, p);
+    }
+
+    /**
+     * Test a full permutation is the same as a shuffle of the natural sequence.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 10, 43210})
+    void testSampleMatchesShuffle(int n) {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final int[] expected = ArraySampler.shuffle(rng2, PermutationSampler.natural(n));
+        Assertions.assertArrayEquals(expected, new PermutationSampler(rng1, n, n).sample());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 5})
+    void testSubSampleLargeDomain(int k) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final int n = 40000;
+        final int[] sample = new PermutationSampler(rng, n, k).sample();
+        Assertions.assertEquals(k, sample.length);
+        Assertions.assertEquals(k, Arrays.stream(sample).distinct().count());
+        Assertions.assertTrue(Arrays.stream(sample).allMatch(x -> x >= 0 && x < n));
+    }
+
     @Test
     void testSampleBoundaryCase() {
         final UniformRandomProvider rng = RandomAssert.seededRNG();
@@ -23,9 +23,11 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
+import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.distribution.ContinuousSampler;
 import org.apache.commons.rng.sampling.distribution.DiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.FloatSampler;
 import org.apache.commons.rng.sampling.distribution.LongSampler;
 import org.apache.commons.rng.simple.RandomSource;
 
@@ -109,6 +111,20 @@ public final class RandomAssert {
         }
     }
 
+    /**
+     * Exercise the {@link FloatSampler} interface, and
+     * ensure that the two samplers produce the same sequence.
+     *
+     * @param sampler1 First sampler.
+     * @param sampler2 Second sampler.
+     */
+    public static void assertProduceSameSequence(FloatSampler sampler1,
+                                                 FloatSampler sampler2) {
+        for (int i = 0; i < SAMPLES; i++) {
+            Assertions.assertEquals(sampler1.sample(), sampler2.sample());
+        }
+    }
+
     /**
      * Exercise the {@link LongSampler} interface, and
      * ensure that the two samplers produce the same sequence.
@@ -123,6 +139,78 @@ public final class RandomAssert {
         }
     }
 
+    /**
+     * Exercise the bulk sample method of the {@link ContinuousSampler} interface, and
+     * ensure that it produces the same sequence as repeated calls to the single sample
+     * method. The samplers must use sources of randomness in the same state.
+     *
+     * <p>The bulk samples are written to a sub-range of an array; the values outside
+     * the range are checked to be unmodified.
+     *
+     * @param sampler1 First sampler (single samples).
+     * @param sampler2 Second sampler (bulk samples).
+     * @param samples Number of samples.
+     */
+    public static void assertBulkSampleSameSequence(ContinuousSampler sampler1,
+                                                    ContinuousSampler sampler2,
+                                                    int samples) {
+        final double[] expected = new double[samples + 2];
+        for (int i = 1; i <= samples; i++) {
+            expected[i] = sampler1.sample();
+        }
+        final double[] actual = new double[samples + 2];
+        sampler2.sample(actual, 1, samples);
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    /**
+     * Exercise the bulk sample method of the {@link DiscreteSampler} interface, and
+     * ensure that it produces the same sequence as repeated calls to the single sample
+     * method. The samplers must use sources of randomness in the same state.
+     *
+     * <p>The bulk samples are written to a sub-range of an array; the values outside
+     * the range are checked to be unmodified.
+     *
+     * @param sampler1 First sampler (single samples).
+     * @param sampler2 Second sampler (bulk samples).
+     * @param samples Number of samples.
+     */
+    public static void assertBulkSampleSameSequence(DiscreteSampler sampler1,
+                                                    DiscreteSampler sampler2,
+                                                    int samples) {
+        final int[] expected = new int[samples + 2];
+        for (int i = 1; i <= samples; i++) {
+            expected[i] = sampler1.sample();
+        }
+        final int[] actual = new int[samples + 2];
+        sampler2.sample(actual, 1, samples);
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    /**
+     * Exercise the bulk sample method of the {@link LongSampler} interface, and
+     * ensure that it produces the same sequence as repeated calls to the single sample
+     * method. The samplers must use sources of randomness in the same state.
+     *
+     * <p>The bulk samples are written to a sub-range of an array; the values outside
+     * the range are checked to be unmodified.
+     *
+     * @param sampler1 First sampler (single samples).
+     * @param sampler2 Second sampler (bulk samples).
+     * @param samples Number of samples.
+     */
+    public static void assertBulkSampleSameSequence(LongSampler sampler1,
+                                                    LongSampler sampler2,
+                                                    int samples) {
+        final long[] expected = new long[samples + 2];
+        for (int i = 1; i <= samples; i++) {
+            expected[i] = sampler1.sample();
+        }
+        final long[] actual = new long[samples + 2];
+        sampler2.sample(actual, 1, samples);
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
     /**
      * Exercise the {@link ObjectSampler} interface, and
      * ensure that the two samplers produce the same sequence.
@@ -248,4 +336,28 @@ public final class RandomAssert {
     public static UniformRandomProvider seededRNG() {
         return RandomSource.SPLIT_MIX_64.create(DEFAULT_SEED);
     }
+
+    /**
+     * Create a new splittable random generator instance.
+     *
+     * <p>This is a helper method to return a generator for use in testing where
+     * the generator must support splitting.
+     *
+     * @return the splittable uniform random provider
+     * @see #createRNG()
+     */
+    public static SplittableUniformRandomProvider createSplittableRNG() {
+        return (SplittableUniformRandomProvider) RandomSource.L64_X128_MIX.create();
+    }
+
+    /**
+     * Create a new splittable random generator instance with a fixed seed. The seed is
+     * the same as the seed of the default generator.
+     *
+     * @return the splittable uniform random provider
+     * @see #seededRNG()
+     */
+    public static SplittableUniformRandomProvider seededSplittableRNG() {
+        return (SplittableUniformRandomProvider) RandomSource.L64_X128_MIX.create(DEFAULT_SEED);
+    }
 }
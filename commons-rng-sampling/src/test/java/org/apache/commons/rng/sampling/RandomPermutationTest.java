@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link RandomPermutation}.
+ */
+class RandomPermutationTest {
+    @ParameterizedTest
+    @ValueSource(longs = {0, -1, Long.MIN_VALUE})
+    void testOfThrows(long n) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomPermutation.of(rng, n));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 5, 64, 65, 100, 1000, 12345})
+    void testPermutation(long n) {
+        final RandomPermutation p = RandomPermutation.of(RandomAssert.seededRNG(), n);
+        Assertions.assertEquals(n, p.size());
+        final boolean[] seen = new boolean[(int) n];
+        for (long i = 0; i < n; i++) {
+            final long e = p.apply(i);
+            Assertions.assertTrue(e >= 0 && e < n, "Not in range");
+            Assertions.assertFalse(seen[(int) e], "Duplicate");
+            seen[(int) e] = true;
+            Assertions.assertEquals(i, p.inverse(e));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {(1L << 40) + 12345, Long.MAX_VALUE})
+    void testLargePermutation(long n) {
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final RandomPermutation p = RandomPermutation.of(rng, n);
+        final long[] positions = rng.longs(1000, 0, n).toArray();
+        positions[0] = 0;
+        positions[1] = n - 1;
+        for (final long i : positions) {
+            final long e = p.apply(i);
+            Assertions.assertTrue(e >= 0 && e < n, "Not in range");
+            Assertions.assertEquals(i, p.inverse(e));
+        }
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        final long n = 100;
+        final RandomPermutation p = RandomPermutation.of(RandomAssert.seededRNG(), n);
+        for (final long i : new long[] {-1, n, Long.MIN_VALUE, Long.MAX_VALUE}) {
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> p.apply(i));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> p.inverse(i));
+        }
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> p.stream(-1, 10));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> p.stream(10, 9));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> p.stream(10, n + 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 7, 64, 1000})
+    void testStream(long n) {
+        final RandomPermutation p = RandomPermutation.of(RandomAssert.seededRNG(), n);
+        final long[] expected = LongStream.range(0, n).map(p::apply).toArray();
+        Assertions.assertArrayEquals(expected, p.stream().toArray());
+        Assertions.assertArrayEquals(expected, p.stream().parallel().toArray());
+        final long m = n / 3;
+        Assertions.assertArrayEquals(Arrays.copyOfRange(expected, (int) m, (int) n), p.stream(m, n).toArray());
+        // Disjoint ranges cover the entire range
+        final long[] all = LongStream.concat(p.stream(0, m).parallel(), p.stream(m, n).parallel())
+            .sorted().toArray();
+        Assertions.assertArrayEquals(LongStream.range(0, n).toArray(), all);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {10, 1000, 1L << 35})
+    void testSameSeedCreatesSamePermutation(long n) {
+        final RandomPermutation p1 = RandomPermutation.of(RandomAssert.seededRNG(), n);
+        final RandomPermutation p2 = RandomPermutation.of(RandomAssert.seededRNG(), n);
+        Assertions.assertArrayEquals(p1.stream(0, 10).toArray(), p2.stream(0, 10).toArray());
+    }
+
+    /**
+     * Test the distribution of the permutations of a small range. This uses a table.
+     */
+    @Test
+    void testSmallPermutationChiSquareTest() {
+        final int[][] p = {{0, 1, 2}, {0, 2, 1},
+                           {1, 0, 2}, {1, 2, 0},
+                           {2, 0, 1}, {2, 1, 0}};
+        final int len = p.length;
+        final long[] observed = new long[len];
+        final int numSamples = 6000;
+        final double[] expected = new double[len];
+        Arrays.fill(expected, numSamples / (double) len);
+
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final int[] sample = new int[3];
+        for (int i = 0; i < numSamples; i++) {
+            final RandomPermutation perm = RandomPermutation.of(rng, 3);
+            for (int j = 0; j < sample.length; j++) {
+                sample[j] = (int) perm.apply(j);
+            }
+            for (int j = 0; j < len; j++) {
+                if (Arrays.equals(p[j], sample)) {
+                    observed[j]++;
+                }
+            }
+        }
+
+        // Pass if we cannot reject null hypothesis that distributions are the same.
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
+    }
+
+    /**
+     * Test the distribution of the first two elements of the permutation of a range
+     * that uses the Feistel network. All ordered pairs of distinct values should be
+     * equally likely.
+     */
+    @Test
+    void testPairChiSquareTest() {
+        final int n = 100;
+        final int bins = 10;
+        final int numSamples = 20000;
+        final long[] observed = new long[bins * bins];
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        for (int i = 0; i < numSamples; i++) {
+            final RandomPermutation perm = RandomPermutation.of(rng, n);
+            final int x = (int) perm.apply(0) / bins;
+            final int y = (int) perm.apply(1) / bins;
+            observed[x * bins + y]++;
+        }
+        // Ordered pairs sampled without replacement from bins of equal size
+        final double pSame = (double) bins * (bins - 1) / n / (n - 1);
+        final double pDiff = (double) bins * bins / n / (n - 1);
+        final double[] expected = new double[bins * bins];
+        for (int x = 0; x < bins; x++) {
+            for (int y = 0; y < bins; y++) {
+                expected[x * bins + y] = numSamples * (x == y ? pSame : pDiff);
+            }
+        }
+
+        // Pass if we cannot reject null hypothesis that distributions are the same.
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
+    }
+}
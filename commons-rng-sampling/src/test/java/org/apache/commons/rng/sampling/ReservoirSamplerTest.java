@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link ReservoirSampler}.
+ */
+class ReservoirSamplerTest {
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testOfThrowsWithInvalidSize(int k) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ReservoirSampler.of(rng, k));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ReservoirSampler.OfInt.of(rng, k));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ReservoirSampler.OfLong.of(rng, k));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ReservoirSampler.OfDouble.of(rng, k));
+    }
+
+    @Test
+    void testCombineThrowsWithDifferentSize() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final ReservoirSampler<String> s1 = ReservoirSampler.of(rng, 2);
+        final ReservoirSampler<String> s2 = ReservoirSampler.of(rng, 3);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s1.combine(s2));
+    }
+
+    @Test
+    void testSampleWithFewerItemsThanSampleSize() {
+        final ReservoirSampler<String> sampler = ReservoirSampler.of(RandomAssert.seededRNG(), 5);
+        Assertions.assertEquals(0, sampler.getSample().size());
+        sampler.accept("a");
+        sampler.accept("b");
+        sampler.accept("c");
+        Assertions.assertEquals(3, sampler.getCount());
+        Assertions.assertEquals(Arrays.asList("a", "b", "c"), sampler.getSample());
+    }
+
+    @Test
+    void testSampleSize() {
+        final ReservoirSampler<Integer> sampler = ReservoirSampler.of(RandomAssert.seededRNG(), 5);
+        sampler.addAll(IntStream.range(0, 1000).iterator());
+        Assertions.assertEquals(1000, sampler.getCount());
+        final List<Integer> sample = sampler.getSample();
+        Assertions.assertEquals(5, sample.size());
+        Assertions.assertEquals(5, sample.stream().distinct().count());
+    }
+
+    /**
+     * Test the number of random numbers used for a long stream is {@code O(k log(n/k))}.
+     */
+    @Test
+    void testRandomNumberUsage() {
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final int[] count = {0};
+        final UniformRandomProvider counter = () -> {
+            count[0]++;
+            return rng.nextLong();
+        };
+        final int k = 10;
+        final long n = 10000000;
+        final ReservoirSampler.OfLong sampler = ReservoirSampler.OfLong.of(counter, k);
+        sampler.addAll(LongStream.range(0, n).spliterator());
+        Assertions.assertEquals(n, sampler.getCount());
+        Assertions.assertEquals(k, sampler.getSample().length);
+        // Expected: 2 + 3 k log(n / k) = 417. Allow a margin for random variation.
+        Assertions.assertTrue(count[0] < 6 * k * Math.log((double) n / k), () -> "Count: " + count[0]);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "50, 5",
+        "30, 1",
+        "20, 10",
+    })
+    void testUniformInclusion(int n, int k) {
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final long[] observed = new long[n];
+        final int samples = 500 * n / k;
+        for (int i = 0; i < samples; i++) {
+            final ReservoirSampler<Integer> sampler = ReservoirSampler.of(rng, k);
+            for (int j = 0; j < n; j++) {
+                sampler.accept(j);
+            }
+            for (final Integer j : sampler.getSample()) {
+                observed[j]++;
+            }
+        }
+        assertUniform(observed);
+    }
+
+    /**
+     * Test combining partitions and then continuing the stream selects each item
+     * uniformly.
+     *
+     * @param n1 Size of partition 1.
+     * @param n2 Size of partition 2.
+     * @param n3 Size of partition 3, added after the combination.
+     * @param k Size of the sample.
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "20, 30, 0, 5",
+        "40, 2, 0, 5",
+        "0, 12, 0, 5",
+        "2, 3, 0, 5",
+        // Combined partitions are smaller than the sample
+        "2, 1, 20, 5",
+        // Combined partitions equal the sample size
+        "2, 3, 20, 5",
+        // Combined partitions are larger than the sample size
+        "3, 4, 20, 5",
+        "20, 10, 30, 5",
+    })
+    void testCombine(int n1, int n2, int n3, int k) {
+        final UniformRandomProvider[] rng = RandomAssert.createRNG(2);
+        final int n = n1 + n2 + n3;
+        final long[] observed = new long[n];
+        final int samples = 500 * n / Math.min(n, k);
+        for (int i = 0; i < samples; i++) {
+            final ReservoirSampler.OfInt s1 = ReservoirSampler.OfInt.of(rng[0], k);
+            final ReservoirSampler.OfInt s2 = ReservoirSampler.OfInt.of(rng[1], k);
+            s1.addAll(IntStream.range(0, n1).iterator());
+            s2.addAll(IntStream.range(n1, n1 + n2).spliterator());
+            Assertions.assertSame(s1, s1.combine(s2));
+            Assertions.assertEquals(n1 + n2, s1.getCount());
+            IntStream.range(n1 + n2, n).forEach(s1);
+            final int[] sample = s1.getSample();
+            Assertions.assertEquals(Math.min(n, k), sample.length);
+            Assertions.assertEquals(sample.length, Arrays.stream(sample).distinct().count());
+            for (final int j : sample) {
+                observed[j]++;
+            }
+        }
+        assertUniform(observed);
+    }
+
+    @Test
+    void testObjectSampler() {
+        final int k = 4;
+        final List<Integer> list = IntStream.range(0, 40).boxed().collect(Collectors.toList());
+        final ReservoirSampler<Integer> s1 = ReservoirSampler.of(RandomAssert.seededRNG(), k);
+        final ReservoirSampler<Integer> s2 = ReservoirSampler.of(RandomAssert.seededRNG(), k);
+        final ReservoirSampler<Integer> s3 = ReservoirSampler.of(RandomAssert.seededRNG(), k);
+        list.forEach(s1);
+        s2.addAll(list.iterator());
+        s3.addAll(list.spliterator());
+        Assertions.assertEquals(s1.getSample(), s2.getSample());
+        Assertions.assertEquals(s1.getSample(), s3.getSample());
+        s1.combine(s2);
+        Assertions.assertEquals(2L * list.size(), s1.getCount());
+        Assertions.assertEquals(k, s1.getSample().size());
+        Assertions.assertTrue(list.containsAll(s1.getSample()));
+    }
+
+    @Test
+    void testIntSampler() {
+        final int k = 4;
+        final int[] values = IntStream.range(0, 40).toArray();
+        final ReservoirSampler.OfInt s1 = ReservoirSampler.OfInt.of(RandomAssert.seededRNG(), k);
+        final ReservoirSampler.OfInt s2 = ReservoirSampler.OfInt.of(RandomAssert.seededRNG(), k);
+        final ReservoirSampler.OfInt s3 = ReservoirSampler.OfInt.of(RandomAssert.seededRNG(), k);
+        Arrays.stream(values).forEach(s1);
+        s2.addAll(Arrays.stream(values).iterator());
+        s3.addAll(Arrays.stream(values).spliterator());
+        Assertions.assertArrayEquals(s1.getSample(), s2.getSample());
+        Assertions.assertArrayEquals(s1.getSample(), s3.getSample());
+        s1.combine(s2);
+        Assertions.assertEquals(2L * values.length, s1.getCount());
+        Assertions.assertEquals(k, s1.getSample().length);
+    }
+
+    @Test
+    void testLongSampler() {
+        final int k = 4;
+        final long[] values = LongStream.range(0, 40).map(x -> x << 40).toArray();
+        final ReservoirSampler.OfLong s1 = ReservoirSampler.OfLong.of(RandomAssert.seededRNG(), k);
+        final ReservoirSampler.OfLong s2 = ReservoirSampler.OfLong.of(RandomAssert.seededRNG(), k);
+        final ReservoirSampler.OfLong s3 = ReservoirSampler.OfLong.of(RandomAssert.seededRNG(), k);
+        Arrays.stream(values).forEach(s1);
+        s2.addAll(Arrays.stream(values).iterator());
+        s3.addAll(Arrays.stream(values).spliterator());
+        Assertions.assertArrayEquals(s1.getSample(), s2.getSample());
+        Assertions.assertArrayEquals(s1.getSample(), s3.getSample());
+        s1.combine(s2);
+        Assertions.assertEquals(2L * values.length, s1.getCount());
+        Assertions.assertEquals(k, s1.getSample().length);
+    }
+
+    @Test
+    void testDoubleSampler() {
+        final int k = 4;
+        final double[] values = DoubleStream.iterate(0.5, x -> x + 1.25).limit(40).toArray();
+        final ReservoirSampler.OfDouble s1 = ReservoirSampler.OfDouble.of(RandomAssert.seededRNG(), k);
+        final ReservoirSampler.OfDouble s2 = ReservoirSampler.OfDouble.of(RandomAssert.seededRNG(), k);
+        final ReservoirSampler.OfDouble s3 = ReservoirSampler.OfDouble.of(RandomAssert.seededRNG(), k);
+        Arrays.stream(values).forEach(s1);
+        s2.addAll(Arrays.stream(values).iterator());
+        s3.addAll(Arrays.stream(values).spliterator());
+        Assertions.assertArrayEquals(s1.getSample(), s2.getSample());
+        Assertions.assertArrayEquals(s1.getSample(), s3.getSample());
+        s1.combine(s2);
+        Assertions.assertEquals(2L * values.length, s1.getCount());
+        Assertions.assertEquals(k, s1.getSample().length);
+    }
+
+    /**
+     * Assert the observed counts are uniform.
+     *
+     * @param observed Observed counts.
+     */
+    private static void assertUniform(long[] observed) {
+        final double[] expected = new double[observed.length];
+        Arrays.fill(expected, 1);
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        // Pass if we cannot reject null hypothesis that distributions are the same.
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
+    }
+}
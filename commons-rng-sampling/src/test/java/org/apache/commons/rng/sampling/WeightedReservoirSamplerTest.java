@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link WeightedReservoirSampler}.
+ */
+class WeightedReservoirSamplerTest {
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testOfThrowsWithInvalidSize(int k) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> WeightedReservoirSampler.of(rng, k));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-1, -Double.MIN_VALUE, Double.POSITIVE_INFINITY, Double.NaN})
+    void testAddThrowsWithInvalidWeight(double weight) {
+        final WeightedReservoirSampler<String> sampler = WeightedReservoirSampler.of(RandomAssert.seededRNG(), 2);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.add("a", weight));
+    }
+
+    @Test
+    void testSampleWithFewerItemsThanSampleSize() {
+        final WeightedReservoirSampler<String> sampler = WeightedReservoirSampler.of(RandomAssert.seededRNG(), 5);
+        Assertions.assertEquals(0, sampler.getSample().size());
+        sampler.add("a", 1);
+        sampler.add("b", 0);
+        sampler.add("c", Double.MIN_VALUE);
+        sampler.add("d", Double.MAX_VALUE);
+        final List<String> sample = sampler.getSample();
+        sample.sort(null);
+        Assertions.assertEquals(Arrays.asList("a", "c", "d"), sample);
+    }
+
+    @Test
+    void testZeroWeightIsNotSelected() {
+        final WeightedReservoirSampler<Integer> sampler = WeightedReservoirSampler.of(RandomAssert.seededRNG(), 3);
+        for (int i = 0; i < 1000; i++) {
+            sampler.add(i, i % 2);
+        }
+        final List<Integer> sample = sampler.getSample();
+        Assertions.assertEquals(3, sample.size());
+        for (final Integer i : sample) {
+            Assertions.assertEquals(1, i % 2);
+        }
+    }
+
+    @Test
+    void testAddAllMatchesAdd() {
+        final double[] weights = {3, 1, 4, 1, 5, 9, 2, 6, 5, 3, 5, 8, 9, 7, 9};
+        final List<Integer> list = IntStream.range(0, weights.length).boxed().collect(Collectors.toList());
+        final WeightedReservoirSampler<Integer> sampler1 = WeightedReservoirSampler.of(RandomAssert.seededRNG(), 4);
+        final WeightedReservoirSampler<Integer> sampler2 = WeightedReservoirSampler.of(RandomAssert.seededRNG(), 4);
+        for (final Integer i : list) {
+            sampler1.add(i, weights[i]);
+        }
+        sampler2.addAll(list.iterator(), i -> weights[i]);
+        Assertions.assertEquals(sampler1.getSample(), sampler2.getSample());
+    }
+
+    /**
+     * Test the number of random numbers used for a long stream is {@code O(k log(n/k))}.
+     */
+    @Test
+    void testRandomNumberUsage() {
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final int[] count = {0};
+        final UniformRandomProvider counter = () -> {
+            count[0]++;
+            return rng.nextLong();
+        };
+        final int k = 10;
+        final int n = 1000000;
+        final WeightedReservoirSampler<Integer> sampler = WeightedReservoirSampler.of(counter, k);
+        for (int i = 0; i < n; i++) {
+            sampler.add(i, 1 + (i & 0x7));
+        }
+        Assertions.assertEquals(k, sampler.getSample().size());
+        // Expected: k + 2 k log(n / k) = 240. Allow a large margin for random variation.
+        Assertions.assertTrue(count[0] < 4 * k * Math.log((double) n / k), () -> "Count: " + count[0]);
+    }
+
+    /**
+     * Test a sample of size 1 selects each item with probability proportional to weight.
+     */
+    @Test
+    void testSingleSampleDistribution() {
+        final double[] weights = {1, 2, 3, 0.5, 4, 2.5};
+        final double total = Arrays.stream(weights).sum();
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final int samples = 10000;
+        final long[] observed = new long[weights.length];
+        for (int i = 0; i < samples; i++) {
+            final WeightedReservoirSampler<Integer> sampler = WeightedReservoirSampler.of(rng, 1);
+            for (int j = 0; j < weights.length; j++) {
+                sampler.add(j, weights[j]);
+            }
+            observed[sampler.getSample().get(0)]++;
+        }
+        final double[] expected = Arrays.stream(weights).map(w -> w / total).toArray();
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        // Pass if we cannot reject null hypothesis that distributions are the same.
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
+    }
+
+    /**
+     * Test a sample of size 2 selects each pair with the probability of successive
+     * weighted sampling without replacement.
+     */
+    @Test
+    void testPairSampleDistribution() {
+        final double[] weights = {1, 2, 3, 0.5, 4, 2.5};
+        final int n = weights.length;
+        final double total = Arrays.stream(weights).sum();
+        // Probability of each pair {i, j} with i < j; index i * n + j
+        final List<Integer> codes = new ArrayList<>();
+        final List<Double> probabilities = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                codes.add(i * n + j);
+                probabilities.add(weights[i] / total * weights[j] / (total - weights[i]) +
+                                  weights[j] / total * weights[i] / (total - weights[j]));
+            }
+        }
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final int samples = 20000;
+        final long[] observed = new long[codes.size()];
+        for (int i = 0; i < samples; i++) {
+            final WeightedReservoirSampler<Integer> sampler = WeightedReservoirSampler.of(rng, 2);
+            for (int j = 0; j < n; j++) {
+                sampler.add(j, weights[j]);
+            }
+            final List<Integer> sample = sampler.getSample();
+            final int a = Math.min(sample.get(0), sample.get(1));
+            final int b = Math.max(sample.get(0), sample.get(1));
+            observed[codes.indexOf(a * n + b)]++;
+        }
+        final double[] expected = probabilities.stream().mapToDouble(Double::doubleValue).toArray();
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        // Pass if we cannot reject null hypothesis that distributions are the same.
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
+    }
+
+    /**
+     * Test a sample from a long stream with equal weights selects each item uniformly.
+     */
+    @Test
+    void testUniformInclusion() {
+        final int n = 50;
+        final int k = 5;
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final int samples = 5000;
+        final long[] observed = new long[n];
+        for (int i = 0; i < samples; i++) {
+            final WeightedReservoirSampler<Integer> sampler = WeightedReservoirSampler.of(rng, k);
+            for (int j = 0; j < n; j++) {
+                sampler.add(j, 1.5);
+            }
+            for (final Integer j : sampler.getSample()) {
+                observed[j]++;
+            }
+        }
+        final double[] expected = new double[n];
+        Arrays.fill(expected, 1);
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        // Pass if we cannot reject null hypothesis that distributions are the same.
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
+    }
+}
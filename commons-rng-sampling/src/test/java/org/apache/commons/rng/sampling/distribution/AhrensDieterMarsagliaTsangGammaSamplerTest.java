@@ -20,6 +20,8 @@ import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.RandomAssert;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Test for the {@link AhrensDieterMarsagliaTsangGammaSampler}. The tests hit edge cases for the sampler.
@@ -91,4 +93,34 @@ class AhrensDieterMarsagliaTsangGammaSamplerTest {
         Assertions.assertTrue(new AhrensDieterMarsagliaTsangGammaSampler(rng, 1.0, 2.0).toString()
                 .toLowerCase().contains("gamma"));
     }
+
+    /**
+     * Test the single sample method throws with invalid parameters.
+     */
+    @Test
+    void testSampleThrows() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final NormalizedGaussianSampler gauss = ZigguratSampler.NormalizedGaussian.of(rng);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> AhrensDieterMarsagliaTsangGammaSampler.sample(rng, gauss, 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> AhrensDieterMarsagliaTsangGammaSampler.sample(rng, gauss, 1, 0));
+    }
+
+    /**
+     * Test the single sample method is the same as a sampler.
+     */
+    @ParameterizedTest
+    @ValueSource(doubles = {0.25, 0.75, 1, 2.5, 123.5})
+    void testSample(double alpha) {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final NormalizedGaussianSampler gauss = ZigguratSampler.NormalizedGaussian.of(rng2);
+        final double theta = 1.5;
+        final SharedStateContinuousSampler sampler = AhrensDieterMarsagliaTsangGammaSampler.of(rng1, alpha, theta);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(sampler.sample(),
+                AhrensDieterMarsagliaTsangGammaSampler.sample(rng2, gauss, alpha, theta));
+        }
+    }
 }
@@ -17,6 +17,7 @@
 package org.apache.commons.rng.sampling.distribution;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import org.apache.commons.math3.distribution.BinomialDistribution;
 import org.apache.commons.math3.distribution.PoissonDistribution;
 import org.apache.commons.math3.stat.inference.ChiSquareTest;
@@ -24,6 +25,8 @@ import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.RandomAssert;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Test for the {@link AliasMethodDiscreteSampler}.
@@ -282,4 +285,144 @@ class AliasMethodDiscreteSamplerTest {
         final SharedStateDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
         RandomAssert.assertProduceSameSequence(sampler1, sampler2);
     }
+
+    /**
+     * Test the bulk sample method outputs the same as the single sample method
+     * for a small power of 2 table.
+     */
+    @Test
+    void testBulkSampleSmallTable() {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final double[] probabilities = {0.1, 0.2, 0.3, 0.15, 0.25};
+        RandomAssert.assertBulkSampleSameSequence(AliasMethodDiscreteSampler.of(rngs[0], probabilities),
+            AliasMethodDiscreteSampler.of(rngs[1], probabilities), 100);
+    }
+
+    /**
+     * Test the bulk sample method outputs the same as the single sample method
+     * for a table that is not a power of 2.
+     */
+    @Test
+    void testBulkSample() {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final double[] probabilities = {0.1, 0.2, 0.3, 0.15, 0.25};
+        RandomAssert.assertBulkSampleSameSequence(AliasMethodDiscreteSampler.of(rngs[0], probabilities, -1),
+            AliasMethodDiscreteSampler.of(rngs[1], probabilities, -1), 100);
+    }
+
+    /**
+     * Test the bulk sample method outputs the same as the single sample method
+     * for a large table that is zero padded.
+     */
+    @Test
+    void testBulkSampleLargePaddedTable() {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final double[] probabilities = {0.1, 0.2, 0.3};
+        RandomAssert.assertBulkSampleSameSequence(AliasMethodDiscreteSampler.of(rngs[0], probabilities, 11),
+            AliasMethodDiscreteSampler.of(rngs[1], probabilities, 11), 100);
+    }
+
+    @Test
+    void testParallelConstructorThrows() {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        // Small arrays are delegated to the single-threaded method
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> AliasMethodDiscreteSampler.of(null, null, 0, pool));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> AliasMethodDiscreteSampler.of(null, new double[0], 0, pool));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> AliasMethodDiscreteSampler.of(null, new double[] {1, -1}, 0, pool));
+        // Parallel construction
+        assertParallelConstructorThrows(new double[] {1, 2, 3, 4, -1});
+        assertParallelConstructorThrows(new double[] {1, 2, 3, 4, Double.NaN});
+        assertParallelConstructorThrows(new double[] {1, 2, 3, 4, Double.POSITIVE_INFINITY});
+        assertParallelConstructorThrows(new double[] {1, 2, 3, Double.MAX_VALUE, Double.MAX_VALUE});
+        assertParallelConstructorThrows(new double[5]);
+    }
+
+    private static void assertParallelConstructorThrows(double[] probabilities) {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> AliasMethodDiscreteSampler.of(null, probabilities, 0, pool, 2));
+    }
+
+    /**
+     * Test the tables constructed in parallel represent the expected distribution.
+     * The block size is varied to change the number of subproblems.
+     *
+     * @param blockSize Number of probabilities processed by each task.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 64})
+    void testParallelTableProbabilities(int blockSize) {
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final double[] random = rng.doubles(100).toArray();
+        final double[] zeros = random.clone();
+        for (int i = 0; i < zeros.length; i += 3) {
+            zeros[i] = 0;
+        }
+        // A single heavy item spans many subproblems
+        final double[] skewed = random.clone();
+        skewed[0] = 1000;
+        final double[] wide = rng.doubles(200).map(x -> Math.exp(30 * x)).toArray();
+        for (final double[] probabilities : new double[][] {
+            random, zeros, skewed, wide,
+            {1, 1, 1, 1, 1, 1, 1, 1, 1},
+            {0.1, 0.2, 0.3, 0.4},
+            {0, 0, 0.5, 0, 0.25, 0, 0, 0.25, 0, 0},
+            Arrays.copyOf(random, 110),
+        }) {
+            for (final int alpha : new int[] {-1, 0, 2}) {
+                assertParallelTableProbabilities(probabilities, alpha, blockSize);
+            }
+        }
+    }
+
+    /**
+     * Assert the tables constructed in parallel represent the expected distribution.
+     * The tables must be the same size as the tables constructed using a single thread.
+     *
+     * @param probabilities Probabilities.
+     * @param alpha The alpha factor controlling the zero padding.
+     * @param blockSize Number of probabilities processed by each task.
+     */
+    private static void assertParallelTableProbabilities(double[] probabilities, int alpha, int blockSize) {
+        final AliasMethodDiscreteSampler sampler1 = (AliasMethodDiscreteSampler)
+            AliasMethodDiscreteSampler.of(null, probabilities, alpha);
+        final AliasMethodDiscreteSampler sampler2 = (AliasMethodDiscreteSampler)
+            AliasMethodDiscreteSampler.of(null, probabilities, alpha, ForkJoinPool.commonPool(), blockSize);
+        Assertions.assertEquals(sampler1.getClass(), sampler2.getClass());
+        Assertions.assertEquals(sampler1.probability.length, sampler2.probability.length);
+        final int n = sampler1.alias.length;
+        Assertions.assertEquals(n, sampler2.alias.length);
+
+        // Probability of each item implied by the tables
+        final double[] p = new double[n];
+        for (int j = 0; j < n; j++) {
+            final double pj = j < sampler2.probability.length ? sampler2.probability[j] * 0x1.0p-53 : 0;
+            p[j] += pj / n;
+            p[sampler2.alias[j]] += (1 - pj) / n;
+        }
+        final double sum = Arrays.stream(probabilities).sum();
+        for (int j = 0; j < n; j++) {
+            final double expected = j < probabilities.length ? probabilities[j] / sum : 0;
+            if (expected == 0) {
+                Assertions.assertEquals(0.0, p[j], "zero probability");
+            } else {
+                Assertions.assertEquals(expected, p[j], 1e-14);
+            }
+        }
+    }
+
+    @Test
+    void testParallelSamples() {
+        final double[] probabilities = {0.1, 0, 0.2, 0.3, 0.1, 0.3, 0, 0.15, 0.02, 0.4, 0.11};
+        final SharedStateDiscreteSampler sampler =
+            AliasMethodDiscreteSampler.of(RandomAssert.createRNG(), probabilities, -1, ForkJoinPool.commonPool(), 2);
+        checkSamples(sampler, probabilities);
+        // Default block size uses a single thread
+        final SharedStateDiscreteSampler sampler2 =
+            AliasMethodDiscreteSampler.of(RandomAssert.createRNG(), probabilities, 0, ForkJoinPool.commonPool());
+        checkSamples(sampler2, probabilities);
+    }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test for the {@link BetaBinomialSampler}. The tests hit edge cases for the sampler.
+ * The distribution of the samples is tested in {@link DiscreteSamplerParametricTest}.
+ */
+class BetaBinomialSamplerTest {
+    @ParameterizedTest
+    @CsvSource({
+        "-1, 2, 3",
+        "10, 0, 3",
+        "10, 2, 0",
+        "10, NaN, 3",
+    })
+    void testConstructorThrows(int trials, double alpha, double beta) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> BetaBinomialSampler.of(rng, trials, alpha, beta));
+    }
+
+    @Test
+    void testNoTrials() {
+        final SharedStateDiscreteSampler sampler = BetaBinomialSampler.of(RandomAssert.seededRNG(), 0, 2, 3);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(0, sampler.sample());
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "20, 2.5, 3.5",
+        "200, 20, 30",
+    })
+    void testSharedStateSampler(int trials, double alpha, double beta) {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler1 = BetaBinomialSampler.of(rng1, trials, alpha, beta);
+        final SharedStateDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    @Test
+    void testToString() {
+        final String s = BetaBinomialSampler.of(RandomAssert.seededRNG(), 10, 2, 3).toString().toLowerCase();
+        Assertions.assertTrue(s.contains("beta-binomial"));
+    }
+}
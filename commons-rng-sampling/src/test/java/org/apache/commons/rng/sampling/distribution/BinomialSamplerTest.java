@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test for the {@link BinomialSampler}. The distribution of the samples is tested in
+ * {@link DiscreteSamplerParametricTest}.
+ */
+class BinomialSamplerTest {
+    /**
+     * Test the factory method chooses the expected sampler.
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "10, 0, false",
+        "10, 1, false",
+        // Inversion
+        "59, 0.5, false",
+        "1024, 0.029, false",
+        "1024, 0.971, false",
+        // Table
+        "60, 0.5, true",
+        "1024, 0.3, true",
+        "1024, 0.7, true",
+        // BTPE
+        "1025, 0.5, false",
+        "2147483647, 0.5, false",
+    })
+    void testOf(int trials, double p, boolean table) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler = BinomialSampler.of(rng, trials, p);
+        final SharedStateDiscreteSampler expected = table ?
+            MarsagliaTsangWangDiscreteSampler.Binomial.of(rng, trials, p) :
+            BtpeBinomialSampler.of(rng, trials, p);
+        Assertions.assertEquals(expected.getClass(), sampler.getClass());
+        Assertions.assertEquals(expected.toString(), sampler.toString());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test for the {@link BtpeBinomialSampler}. The tests hit edge cases for the sampler.
+ * The distribution of the samples is tested in {@link DiscreteSamplerParametricTest}.
+ */
+class BtpeBinomialSamplerTest {
+    @ParameterizedTest
+    @CsvSource({
+        "-1, 0.5",
+        "10, -0.1",
+        "10, 1.1",
+        "10, NaN",
+    })
+    void testConstructorThrows(int trials, double p) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> BtpeBinomialSampler.of(rng, trials, p));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> BinomialSampler.of(rng, trials, p));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0.5, 0",
+        "10, 0, 0",
+        "10, 1, 10",
+        "2147483647, 1, 2147483647",
+    })
+    void testFixedResult(int trials, double p, int expected) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler = BtpeBinomialSampler.of(rng, trials, p);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(expected, sampler.sample());
+        }
+        Assertions.assertSame(sampler, sampler.withUniformRandomProvider(RandomAssert.seededRNG()));
+        Assertions.assertTrue(sampler.toString().toLowerCase().contains("binomial"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        // Inversion
+        "20, 0.3",
+        "20, 0.7",
+        // BTPE
+        "200, 0.3",
+        "200, 0.7",
+    })
+    void testSharedStateSampler(int trials, double p) {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler1 = BtpeBinomialSampler.of(rng1, trials, p);
+        final SharedStateDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "20, 0.3, inversion",
+        "200, 0.3, btpe",
+    })
+    void testToString(int trials, double p, String name) {
+        final String s = BtpeBinomialSampler.of(RandomAssert.seededRNG(), trials, p).toString().toLowerCase();
+        Assertions.assertTrue(s.contains("binomial"));
+        Assertions.assertTrue(s.contains(name));
+    }
+
+    /**
+     * Test the inversion search restarts when the deviate is above the cumulative
+     * probability computed up to the search bound.
+     */
+    @Test
+    void testInversionRestart() {
+        final double[] u = {Math.nextDown(1.0), 0.0};
+        final UniformRandomProvider rng = new UniformRandomProvider() {
+            private int i;
+
+            @Override
+            public long nextLong() {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public double nextDouble() {
+                return u[i++];
+            }
+        };
+        // Found by a search of small trials and probability
+        final SharedStateDiscreteSampler sampler = BtpeBinomialSampler.of(rng, 6, 0.2);
+        Assertions.assertEquals(0, sampler.sample());
+    }
+
+    /**
+     * Test samples are within the support and close to the mean when the number of trials
+     * is the maximum supported.
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "0.5",
+        "1e-6",
+        "0.999",
+    })
+    void testMaximumTrials(double p) {
+        final int trials = Integer.MAX_VALUE;
+        final double mean = trials * p;
+        // Range of 7 standard deviations. Probability of failure is about 1e-11.
+        final double range = 7 * Math.sqrt(mean * (1 - p));
+        final SharedStateDiscreteSampler sampler = BtpeBinomialSampler.of(RandomAssert.createRNG(), trials, p);
+        for (int i = 0; i < 100; i++) {
+            final int x = sampler.sample();
+            Assertions.assertTrue(x >= 0 && Math.abs(x - mean) < range, () -> "Sample: " + x);
+        }
+    }
+
+    /**
+     * Test the single sample method for a probability of success of 0 or 1.
+     */
+    @Test
+    void testSampleFixedResult() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertEquals(0, BtpeBinomialSampler.sample(rng, 10, 0));
+        Assertions.assertEquals(10, BtpeBinomialSampler.sample(rng, 10, 1));
+        Assertions.assertEquals(0, BtpeBinomialSampler.sample(rng, 0, 0.5));
+    }
+
+    /**
+     * Test the single sample method is the same as a sampler.
+     */
+    @ParameterizedTest
+    @CsvSource({
+        // Inversion
+        "20, 0.3",
+        "20, 0.7",
+        // BTPE
+        "200, 0.3",
+        "200, 0.7",
+    })
+    void testSample(int trials, double p) {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler = BtpeBinomialSampler.of(rng1, trials, p);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(sampler.sample(), BtpeBinomialSampler.sample(rng2, trials, p));
+        }
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 /**
@@ -55,6 +56,48 @@ class ContinuousSamplerTest {
                                      s2.samples(streamSize).toArray());
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0",
+        "0, 7",
+        "3, 4",
+        "2, 5",
+        "7, 0",
+    })
+    void testSampleArray(int from, int length) {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final ContinuousSampler s1 = rngs[0]::nextDouble;
+        final ContinuousSampler s2 = rngs[1]::nextDouble;
+        final double[] expected = new double[7];
+        System.arraycopy(createSamples(s1, length), 0, expected, from, length);
+        final double[] actual = new double[7];
+        s2.sample(actual, from, length);
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testSampleFullArray() {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final ContinuousSampler s1 = rngs[0]::nextDouble;
+        final ContinuousSampler s2 = rngs[1]::nextDouble;
+        final double[] actual = new double[11];
+        s2.sample(actual);
+        Assertions.assertArrayEquals(createSamples(s1, actual.length), actual);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "-1, 2",
+        "0, -1",
+        "8, 3",
+        "11, 0",
+    })
+    void testSampleArrayThrows(int from, int length) {
+        final ContinuousSampler s = RandomAssert.createRNG()::nextDouble;
+        final double[] out = new double[10];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.sample(out, from, length));
+    }
+
     /**
      * Creates an array of samples.
      *
@@ -28,6 +28,8 @@ import org.apache.commons.rng.sampling.RandomAssert;
 public final class ContinuousSamplersList {
     /** List of all RNGs implemented in the library. */
     private static final List<ContinuousSamplerTestData> LIST = new ArrayList<>();
+    /** Size of the buffer for samplers using the bulk sample method. */
+    private static final int BULK_SIZE = 1000;
 
     static {
         try {
@@ -64,6 +66,13 @@ public final class ContinuousSamplersList {
             add(LIST, new org.apache.commons.math3.distribution.NormalDistribution(unusedRng, meanNormal, sigmaNormal),
                 GaussianSampler.of(ZigguratSampler.NormalizedGaussian.of(RandomAssert.createRNG()),
                                    meanNormal, sigmaNormal));
+            add(LIST, new org.apache.commons.math3.distribution.NormalDistribution(unusedRng, 0, 1),
+                createBulkSampler(ZigguratSampler.NormalizedGaussian.of(RandomAssert.createRNG())));
+            // Gaussian ("Ziggurat" float).
+            add(LIST, new org.apache.commons.math3.distribution.NormalDistribution(unusedRng, 0, 1),
+                createSampler(ZigguratFloatSampler.NormalizedGaussian.of(RandomAssert.createRNG())));
+            add(LIST, new org.apache.commons.math3.distribution.NormalDistribution(unusedRng, 0, 1),
+                createBulkSampler(ZigguratFloatSampler.NormalizedGaussian.of(RandomAssert.createRNG())));
 
             // Beta ("inverse method").
             final double alphaBeta = 4.3;
@@ -104,6 +113,11 @@ public final class ContinuousSamplersList {
             // Exponential ("Modified ziggurat").
             add(LIST, new org.apache.commons.math3.distribution.ExponentialDistribution(unusedRng, meanExp),
                 ZigguratSampler.Exponential.of(RandomAssert.createRNG(), meanExp));
+            // Exponential ("Ziggurat" float).
+            add(LIST, new org.apache.commons.math3.distribution.ExponentialDistribution(unusedRng, meanExp),
+                createSampler(ZigguratFloatSampler.Exponential.of(RandomAssert.createRNG(), meanExp)));
+            add(LIST, new org.apache.commons.math3.distribution.ExponentialDistribution(unusedRng, meanExp),
+                createBulkSampler(ZigguratFloatSampler.Exponential.of(RandomAssert.createRNG(), meanExp)));
 
             // F ("inverse method").
             final int numDofF = 4;
@@ -356,6 +370,92 @@ public final class ContinuousSamplersList {
                                                deciles));
     }
 
+    /**
+     * Creates a sampler that outputs samples generated by the float sampler.
+     *
+     * @param sampler Sampler.
+     * @return the sampler
+     */
+    private static ContinuousSampler createSampler(final FloatSampler sampler) {
+        return new ContinuousSampler() {
+            @Override
+            public double sample() {
+                return sampler.sample();
+            }
+
+            @Override
+            public String toString() {
+                return sampler.toString();
+            }
+        };
+    }
+
+    /**
+     * Creates a sampler that outputs samples generated in bulk by the sampler.
+     * The bulk method is called with an alternating odd and even number of samples.
+     *
+     * @param sampler Sampler.
+     * @return the sampler
+     */
+    private static ContinuousSampler createBulkSampler(final ContinuousSampler sampler) {
+        return new ContinuousSampler() {
+            /** Buffer of samples. */
+            private final double[] buffer = new double[BULK_SIZE];
+            /** Number of samples in the buffer. */
+            private int size;
+            /** Index of the next sample. */
+            private int index;
+
+            @Override
+            public double sample() {
+                if (index == size) {
+                    size = size == buffer.length ? buffer.length - 1 : buffer.length;
+                    sampler.sample(buffer, 0, size);
+                    index = 0;
+                }
+                return buffer[index++];
+            }
+
+            @Override
+            public String toString() {
+                return "Bulk " + sampler.toString();
+            }
+        };
+    }
+
+    /**
+     * Creates a sampler that outputs samples generated in bulk by the float sampler.
+     * The bulk method is called with an alternating odd and even number of samples.
+     *
+     * @param sampler Sampler.
+     * @return the sampler
+     */
+    private static ContinuousSampler createBulkSampler(final FloatSampler sampler) {
+        return new ContinuousSampler() {
+            /** Buffer of samples. */
+            private final float[] buffer = new float[BULK_SIZE];
+            /** Number of samples in the buffer. */
+            private int size;
+            /** Index of the next sample. */
+            private int index;
+
+            @Override
+            public double sample() {
+                if (index == size) {
+                    size = size == buffer.length ? buffer.length - 1 : buffer.length;
+                    sampler.sample(buffer, 0, size);
+                    index = 0;
+                }
+                return buffer[index++];
+            }
+
+            @Override
+            public String toString() {
+                return "Bulk " + sampler.toString();
+            }
+        };
+    }
+
     /**
      * Subclasses that are "parametric" tests can forward the call to
      * the "@Parameters"-annotated method to this method.
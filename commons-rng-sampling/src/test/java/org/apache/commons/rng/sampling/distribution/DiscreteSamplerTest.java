@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 /**
@@ -55,6 +56,48 @@ class DiscreteSamplerTest {
                                      s2.samples(streamSize).toArray());
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0",
+        "0, 7",
+        "3, 4",
+        "2, 5",
+        "7, 0",
+    })
+    void testSampleArray(int from, int length) {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final DiscreteSampler s1 = rngs[0]::nextInt;
+        final DiscreteSampler s2 = rngs[1]::nextInt;
+        final int[] expected = new int[7];
+        System.arraycopy(createSamples(s1, length), 0, expected, from, length);
+        final int[] actual = new int[7];
+        s2.sample(actual, from, length);
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testSampleFullArray() {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final DiscreteSampler s1 = rngs[0]::nextInt;
+        final DiscreteSampler s2 = rngs[1]::nextInt;
+        final int[] actual = new int[11];
+        s2.sample(actual);
+        Assertions.assertArrayEquals(createSamples(s1, actual.length), actual);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "-1, 2",
+        "0, -1",
+        "8, 3",
+        "11, 0",
+    })
+    void testSampleArrayThrows(int from, int length) {
+        final DiscreteSampler s = RandomAssert.createRNG()::nextInt;
+        final int[] out = new int[10];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.sample(out, from, length));
+    }
+
     /**
      * Creates an array of samples.
      *
@@ -19,6 +19,9 @@ package org.apache.commons.rng.sampling.distribution;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import org.apache.commons.math3.special.Beta;
+import org.apache.commons.math3.special.Gamma;
+import org.apache.commons.math3.util.CombinatoricsUtils;
 import org.apache.commons.math3.util.MathArrays;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.RandomAssert;
@@ -56,6 +59,39 @@ public final class DiscreteSamplersList {
                 // range [4,11] = [20-16, 20-9]
                 MathArrays.sequence(8, 4, 1),
                 MarsagliaTsangWangDiscreteSampler.Binomial.of(RandomAssert.createRNG(), trialsBinomial, 1 - probSuccessBinomial));
+            // Binomial (small mean uses inversion).
+            add(LIST, new org.apache.commons.math3.distribution.BinomialDistribution(unusedRng, trialsBinomial, probSuccessBinomial),
+                MathArrays.sequence(8, 9, 1),
+                BtpeBinomialSampler.of(RandomAssert.createRNG(), trialsBinomial, probSuccessBinomial));
+            add(LIST, new org.apache.commons.math3.distribution.BinomialDistribution(unusedRng, trialsBinomial, 1 - probSuccessBinomial),
+                MathArrays.sequence(8, 4, 1),
+                BinomialSampler.of(RandomAssert.createRNG(), trialsBinomial, 1 - probSuccessBinomial));
+            // Binomial (BTPE). Mean is close to the limit for BTPE.
+            final int trialsSmallBtpe = 100;
+            final double probSuccessSmallBtpe = 0.4;
+            add(LIST, new org.apache.commons.math3.distribution.BinomialDistribution(unusedRng, trialsSmallBtpe, probSuccessSmallBtpe),
+                MathArrays.sequence(40, 20, 1),
+                BtpeBinomialSampler.of(RandomAssert.createRNG(), trialsSmallBtpe, probSuccessSmallBtpe));
+            // Binomial (large mean).
+            final int trialsLargeBinomial = 1000;
+            final double probSuccessLargeBinomial = 0.35;
+            add(LIST, new org.apache.commons.math3.distribution.BinomialDistribution(unusedRng, trialsLargeBinomial, probSuccessLargeBinomial),
+                MathArrays.sequence(100, 300, 1),
+                BtpeBinomialSampler.of(RandomAssert.createRNG(), trialsLargeBinomial, probSuccessLargeBinomial));
+            // Inverted
+            add(LIST, new org.apache.commons.math3.distribution.BinomialDistribution(unusedRng, trialsLargeBinomial, 1 - probSuccessLargeBinomial),
+                MathArrays.sequence(100, 600, 1),
+                BtpeBinomialSampler.of(RandomAssert.createRNG(), trialsLargeBinomial, 1 - probSuccessLargeBinomial));
+            // Lookup table
+            add(LIST, new org.apache.commons.math3.distribution.BinomialDistribution(unusedRng, trialsLargeBinomial, probSuccessLargeBinomial),
+                MathArrays.sequence(100, 300, 1),
+                BinomialSampler.of(RandomAssert.createRNG(), trialsLargeBinomial, probSuccessLargeBinomial));
+            // Binomial (very large mean).
+            final int trialsVeryLargeBinomial = 10000;
+            final double probSuccessVeryLargeBinomial = 0.45;
+            add(LIST, new org.apache.commons.math3.distribution.BinomialDistribution(unusedRng, trialsVeryLargeBinomial, probSuccessVeryLargeBinomial),
+                MathArrays.sequence(100, 4450, 1),
+                BinomialSampler.of(RandomAssert.createRNG(), trialsVeryLargeBinomial, probSuccessVeryLargeBinomial));
 
             // Geometric ("inverse method").
             final double probSuccessGeometric = 0.21;
@@ -67,6 +103,24 @@ public final class DiscreteSamplersList {
                 MathArrays.sequence(10, 0, 1),
                 GeometricSampler.of(RandomAssert.createRNG(), probSuccessGeometric));
 
+            // Negative binomial.
+            final int[] pointsNegativeBinomial = MathArrays.sequence(13, 0, 1);
+            add(LIST, pointsNegativeBinomial, getNegativeBinomialProbabilities(pointsNegativeBinomial, 2.5, 0.4),
+                NegativeBinomialSampler.of(RandomAssert.createRNG(), 2.5, 0.4));
+            // Large mean uses the PTRS Poisson sampler
+            final int[] pointsLargeNegativeBinomial = MathArrays.sequence(40, 180, 1);
+            add(LIST, pointsLargeNegativeBinomial, getNegativeBinomialProbabilities(pointsLargeNegativeBinomial, 50, 0.2),
+                NegativeBinomialSampler.of(RandomAssert.createRNG(), 50, 0.2));
+
+            // Beta-binomial (inversion).
+            final int[] pointsBetaBinomial = MathArrays.sequence(21, 0, 1);
+            add(LIST, pointsBetaBinomial, getBetaBinomialProbabilities(pointsBetaBinomial, 20, 2.5, 3.5),
+                BetaBinomialSampler.of(RandomAssert.createRNG(), 20, 2.5, 3.5));
+            // Beta-binomial (BTPE).
+            final int[] pointsLargeBetaBinomial = MathArrays.sequence(30, 65, 1);
+            add(LIST, pointsLargeBetaBinomial, getBetaBinomialProbabilities(pointsLargeBetaBinomial, 200, 20, 30),
+                BetaBinomialSampler.of(RandomAssert.createRNG(), 200, 20, 30));
+
             // Hypergeometric ("inverse method").
             final int popSizeHyper = 34;
             final int numSuccessesHyper = 11;
@@ -74,6 +128,38 @@ public final class DiscreteSamplersList {
             add(LIST, new org.apache.commons.math3.distribution.HypergeometricDistribution(unusedRng, popSizeHyper, numSuccessesHyper, sampleSizeHyper),
                 MathArrays.sequence(10, 0, 1),
                 RandomAssert.createRNG());
+            // Hypergeometric (small mode uses inversion).
+            // Test all combinations of the symmetry of the distribution.
+            // Points in the extreme tails have too few expected counts for a chi-square test.
+            add(LIST, new org.apache.commons.math3.distribution.HypergeometricDistribution(unusedRng, popSizeHyper, numSuccessesHyper, sampleSizeHyper),
+                MathArrays.sequence(10, 0, 1),
+                HypergeometricSampler.of(RandomAssert.createRNG(), popSizeHyper, numSuccessesHyper, sampleSizeHyper));
+            add(LIST, new org.apache.commons.math3.distribution.HypergeometricDistribution(unusedRng, popSizeHyper, popSizeHyper - numSuccessesHyper, sampleSizeHyper),
+                MathArrays.sequence(10, 3, 1),
+                HypergeometricSampler.of(RandomAssert.createRNG(), popSizeHyper, popSizeHyper - numSuccessesHyper, sampleSizeHyper));
+            add(LIST, new org.apache.commons.math3.distribution.HypergeometricDistribution(unusedRng, popSizeHyper, numSuccessesHyper, popSizeHyper - sampleSizeHyper),
+                MathArrays.sequence(10, 2, 1),
+                HypergeometricSampler.of(RandomAssert.createRNG(), popSizeHyper, numSuccessesHyper, popSizeHyper - sampleSizeHyper));
+            add(LIST, new org.apache.commons.math3.distribution.HypergeometricDistribution(unusedRng, popSizeHyper, popSizeHyper - numSuccessesHyper, popSizeHyper - sampleSizeHyper),
+                MathArrays.sequence(10, 11, 1),
+                HypergeometricSampler.of(RandomAssert.createRNG(), popSizeHyper, popSizeHyper - numSuccessesHyper, popSizeHyper - sampleSizeHyper));
+            // Hypergeometric (H2PE). Mode below 100 uses explicit evaluation.
+            final int popSizeH2pe = 500;
+            final int numSuccessesH2pe = 100;
+            final int sampleSizeH2pe = 200;
+            add(LIST, new org.apache.commons.math3.distribution.HypergeometricDistribution(unusedRng, popSizeH2pe, numSuccessesH2pe, sampleSizeH2pe),
+                MathArrays.sequence(30, 25, 1),
+                HypergeometricSampler.of(RandomAssert.createRNG(), popSizeH2pe, numSuccessesH2pe, sampleSizeH2pe));
+            // Hypergeometric (H2PE). Mode above 100 uses the squeeze.
+            final int popSizeLargeH2pe = 1000;
+            final int numSuccessesLargeH2pe = 400;
+            final int sampleSizeLargeH2pe = 300;
+            add(LIST, new org.apache.commons.math3.distribution.HypergeometricDistribution(unusedRng, popSizeLargeH2pe, numSuccessesLargeH2pe, sampleSizeLargeH2pe),
+                MathArrays.sequence(40, 100, 1),
+                HypergeometricSampler.of(RandomAssert.createRNG(), popSizeLargeH2pe, numSuccessesLargeH2pe, sampleSizeLargeH2pe));
+            add(LIST, new org.apache.commons.math3.distribution.HypergeometricDistribution(unusedRng, popSizeLargeH2pe, popSizeLargeH2pe - numSuccessesLargeH2pe, popSizeLargeH2pe - sampleSizeLargeH2pe),
+                MathArrays.sequence(40, 400, 1),
+                HypergeometricSampler.of(RandomAssert.createRNG(), popSizeLargeH2pe, popSizeLargeH2pe - numSuccessesLargeH2pe, popSizeLargeH2pe - sampleSizeLargeH2pe));
 
             // Pascal ("inverse method").
             final int numSuccessesPascal = 6;
@@ -81,6 +167,10 @@ public final class DiscreteSamplersList {
             add(LIST, new org.apache.commons.math3.distribution.PascalDistribution(unusedRng, numSuccessesPascal, probSuccessPascal),
                 MathArrays.sequence(18, 1, 1),
                 RandomAssert.createRNG());
+            // Pascal (negative binomial with integer successes).
+            add(LIST, new org.apache.commons.math3.distribution.PascalDistribution(unusedRng, numSuccessesPascal, probSuccessPascal),
+                MathArrays.sequence(18, 1, 1),
+                NegativeBinomialSampler.of(RandomAssert.createRNG(), numSuccessesPascal, probSuccessPascal));
 
             // Uniform ("inverse method").
             final int loUniform = -3;
@@ -151,6 +241,17 @@ public final class DiscreteSamplersList {
             add(LIST, new org.apache.commons.math3.distribution.PoissonDistribution(unusedRng, meanPoisson, epsilonPoisson, maxIterationsPoisson),
                 MathArrays.sequence(10, 0, 1),
                 LargeMeanPoissonSampler.of(RandomAssert.createRNG(), meanPoisson));
+            add(LIST, new org.apache.commons.math3.distribution.PoissonDistribution(unusedRng, meanPoisson, epsilonPoisson, maxIterationsPoisson),
+                MathArrays.sequence(10, 0, 1),
+                createLargeMeanPoissonStateSampler(RandomAssert.createRNG(), meanPoisson));
+            // Poisson (10 < mean < 40).
+            final double mediumMeanPoisson = 23.45;
+            add(LIST, new org.apache.commons.math3.distribution.PoissonDistribution(unusedRng, mediumMeanPoisson, epsilonPoisson, maxIterationsPoisson),
+                MathArrays.sequence(30, (int) (mediumMeanPoisson - 15), 1),
+                PoissonSampler.of(RandomAssert.createRNG(), mediumMeanPoisson));
+            add(LIST, new org.apache.commons.math3.distribution.PoissonDistribution(unusedRng, mediumMeanPoisson, epsilonPoisson, maxIterationsPoisson),
+                MathArrays.sequence(30, (int) (mediumMeanPoisson - 15), 1),
+                PtrsPoissonSampler.of(RandomAssert.createRNG(), mediumMeanPoisson));
             // Poisson (40 < mean < 80).
             final double largeMeanPoisson = 67.89;
             add(LIST, new org.apache.commons.math3.distribution.PoissonDistribution(unusedRng, largeMeanPoisson, epsilonPoisson, maxIterationsPoisson),
@@ -172,10 +273,38 @@ public final class DiscreteSamplersList {
             add(LIST, new org.apache.commons.math3.distribution.PoissonDistribution(unusedRng, veryLargeMeanPoisson, epsilonPoisson, maxIterationsPoisson),
                 MathArrays.sequence(100, (int) (veryLargeMeanPoisson - 50), 1),
                 LargeMeanPoissonSampler.of(RandomAssert.createRNG(), veryLargeMeanPoisson));
+            add(LIST, new org.apache.commons.math3.distribution.PoissonDistribution(unusedRng, veryLargeMeanPoisson, epsilonPoisson, maxIterationsPoisson),
+                MathArrays.sequence(100, (int) (veryLargeMeanPoisson - 50), 1),
+                PtrsPoissonSampler.of(RandomAssert.createRNG(), veryLargeMeanPoisson));
+            // Single samples from the Poisson sampler cache (below, within and above the cached range)
+            final PoissonSamplerCache poissonCache = new PoissonSamplerCache(largeMeanPoisson - 1, largeMeanPoisson + 1);
+            add(LIST, new org.apache.commons.math3.distribution.PoissonDistribution(unusedRng, mediumMeanPoisson, epsilonPoisson, maxIterationsPoisson),
+                MathArrays.sequence(30, (int) (mediumMeanPoisson - 15), 1),
+                createPoissonSamplerCacheSampler(RandomAssert.createRNG(), poissonCache, mediumMeanPoisson));
+            add(LIST, new org.apache.commons.math3.distribution.PoissonDistribution(unusedRng, largeMeanPoisson, epsilonPoisson, maxIterationsPoisson),
+                MathArrays.sequence(50, (int) (largeMeanPoisson - 25), 1),
+                createPoissonSamplerCacheSampler(RandomAssert.createRNG(), poissonCache, largeMeanPoisson));
+            add(LIST, new org.apache.commons.math3.distribution.PoissonDistribution(unusedRng, veryLargeMeanPoisson, epsilonPoisson, maxIterationsPoisson),
+                MathArrays.sequence(100, (int) (veryLargeMeanPoisson - 50), 1),
+                createPoissonSamplerCacheSampler(RandomAssert.createRNG(), poissonCache, veryLargeMeanPoisson));
             add(LIST, new org.apache.commons.math3.distribution.PoissonDistribution(unusedRng, veryLargeMeanPoisson, epsilonPoisson, maxIterationsPoisson),
                 MathArrays.sequence(100, (int) (veryLargeMeanPoisson - 50), 1),
                 MarsagliaTsangWangDiscreteSampler.Poisson.of(RandomAssert.createRNG(), veryLargeMeanPoisson));
 
+            // Zero-inflated Poisson.
+            final double pi = 0.3;
+            final int[] pointsZeroInflated = MathArrays.sequence(10, 0, 1);
+            final double[] probabilitiesZeroInflated = getProbabilities(
+                new org.apache.commons.math3.distribution.PoissonDistribution(unusedRng, meanPoisson, epsilonPoisson, maxIterationsPoisson),
+                pointsZeroInflated);
+            for (int i = 0; i < probabilitiesZeroInflated.length; i++) {
+                probabilitiesZeroInflated[i] *= 1 - pi;
+            }
+            probabilitiesZeroInflated[0] += pi;
+            add(LIST, pointsZeroInflated, probabilitiesZeroInflated,
+                ZeroInflatedDiscreteSampler.of(RandomAssert.createRNG(), pi,
+                    PoissonSampler.of(RandomAssert.createRNG(), meanPoisson)));
+
             // Any discrete distribution
             final int[] discretePoints = {0, 1, 2, 3, 4};
             final double[] discreteProbabilities = {0.1, 0.2, 0.3, 0.4, 0.5};
@@ -261,6 +390,56 @@ public final class DiscreteSamplersList {
                                              probabilities));
     }
 
+    /**
+     * Create a sampler that returns single samples using the state of a
+     * {@link LargeMeanPoissonSampler}.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param mean Mean.
+     * @return the sampler
+     */
+    private static DiscreteSampler createLargeMeanPoissonStateSampler(final UniformRandomProvider rng,
+                                                                      final double mean) {
+        final LargeMeanPoissonSampler.LargeMeanPoissonSamplerState state =
+            new LargeMeanPoissonSampler(rng, mean).getState();
+        final double lambdaFractional = mean - Math.floor(mean);
+        return new DiscreteSampler() {
+            @Override
+            public int sample() {
+                return LargeMeanPoissonSampler.sample(rng, state, lambdaFractional);
+            }
+
+            @Override
+            public String toString() {
+                return "Large Mean Poisson state sample [" + rng.toString() + "]";
+            }
+        };
+    }
+
+    /**
+     * Create a sampler that returns single samples from the Poisson sampler cache.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param cache Poisson sampler cache.
+     * @param mean Mean.
+     * @return the sampler
+     */
+    private static DiscreteSampler createPoissonSamplerCacheSampler(final UniformRandomProvider rng,
+                                                                    final PoissonSamplerCache cache,
+                                                                    final double mean) {
+        return new DiscreteSampler() {
+            @Override
+            public int sample() {
+                return cache.sample(rng, mean);
+            }
+
+            @Override
+            public String toString() {
+                return "Poisson sampler cache sample [" + rng.toString() + "]";
+            }
+        };
+    }
+
     /**
      * Subclasses that are "parametric" tests can forward the call to
      * the "@Parameters"-annotated method to this method.
@@ -298,4 +477,39 @@ public final class DiscreteSamplersList {
     private static double getProbability(org.apache.commons.math3.distribution.UniformIntegerDistribution dist) {
         return 1 / ((double) dist.getSupportUpperBound() - (double) dist.getSupportLowerBound() + 1);
     }
+
+    /**
+     * @param points Points.
+     * @param r Number of successes.
+     * @param p Probability of success.
+     * @return the probabilities of the given points according to the negative binomial distribution.
+     */
+    private static double[] getNegativeBinomialProbabilities(int[] points, double r, double p) {
+        final double[] prob = new double[points.length];
+        for (int i = 0; i < prob.length; i++) {
+            final int k = points[i];
+            // Gamma(k + r) / (k! Gamma(r)) p^r (1-p)^k
+            prob[i] = Math.exp(Gamma.logGamma(k + r) - Gamma.logGamma(k + 1.0) - Gamma.logGamma(r) +
+                               r * Math.log(p) + k * Math.log1p(-p));
+        }
+        return prob;
+    }
+
+    /**
+     * @param points Points.
+     * @param n Number of trials.
+     * @param alpha Beta distribution first shape parameter.
+     * @param beta Beta distribution second shape parameter.
+     * @return the probabilities of the given points according to the beta-binomial distribution.
+     */
+    private static double[] getBetaBinomialProbabilities(int[] points, int n, double alpha, double beta) {
+        final double[] prob = new double[points.length];
+        for (int i = 0; i < prob.length; i++) {
+            final int k = points[i];
+            // binom(n, k) B(k + alpha, n - k + beta) / B(alpha, beta)
+            prob[i] = Math.exp(CombinatoricsUtils.binomialCoefficientLog(n, k) +
+                               Beta.logBeta(k + alpha, n - k + beta) - Beta.logBeta(alpha, beta));
+        }
+        return prob;
+    }
 }
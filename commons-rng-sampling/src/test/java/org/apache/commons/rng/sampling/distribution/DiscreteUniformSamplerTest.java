@@ -25,6 +25,8 @@ import org.apache.commons.rng.sampling.RandomAssert;
 import org.apache.commons.rng.simple.RandomSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 /**
  * Test for the {@link DiscreteUniformSampler}. The tests hit edge cases for the sampler
@@ -435,4 +437,39 @@ class DiscreteUniformSamplerTest {
             Assertions.assertNotEquals(-1, Arrays.binarySearch(alphabet, sample.charAt(i)));
         }
     }
+
+    /**
+     * Test the bulk sample method outputs the same as the single sample method.
+     */
+    @ParameterizedTest
+    @CsvSource({
+        // Fixed
+        "5, 5",
+        // Power of 2
+        "0, 15",
+        // Small range
+        "0, 12",
+        // Offset
+        "10, 25",
+        // Offset power of 2
+        "3, 34",
+        // Small range with rejection probability approximately 0.25
+        "0, 1073741824",
+        // Large range
+        "-2147483647, 2147483646",
+        // Large range with rejection probability approximately 0.5
+        "-1073741825, 1073741824",
+    })
+    void testBulkSample(int lower, int upper) {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        RandomAssert.assertBulkSampleSameSequence(DiscreteUniformSampler.of(rngs[0], lower, upper),
+            DiscreteUniformSampler.of(rngs[1], lower, upper), 100);
+    }
+
+    @Test
+    void testBulkSampleWithConstructor() {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        RandomAssert.assertBulkSampleSameSequence(new DiscreteUniformSampler(rngs[0], 10, 25),
+            new DiscreteUniformSampler(rngs[1], 10, 25), 100);
+    }
 }
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import java.util.Arrays;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for the {@link DynamicDiscreteSampler}.
+ */
+class DynamicDiscreteSamplerTest {
+    @Test
+    void testOfThrowsWithInvalidWeights() {
+        assertOfThrows(new double[0]);
+        assertOfThrows(new double[] {-1, 0.1, 0.2});
+        assertOfThrows(new double[] {0.1, Double.NaN, 0.2});
+        assertOfThrows(new double[] {0.1, Double.POSITIVE_INFINITY, 0.2});
+        assertOfThrows(new double[] {Double.MAX_VALUE, Double.MAX_VALUE});
+    }
+
+    private static void assertOfThrows(double[] weights) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DynamicDiscreteSampler.of(rng, weights));
+    }
+
+    @Test
+    void testSetWeightThrows() {
+        final double[] weights = {1, 2, Double.MAX_VALUE};
+        final DynamicDiscreteSampler sampler = DynamicDiscreteSampler.of(RandomAssert.seededRNG(), weights);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sampler.setWeight(-1, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sampler.setWeight(3, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sampler.getWeight(3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.setWeight(0, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.setWeight(0, Double.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.setWeight(0, Double.POSITIVE_INFINITY));
+        // Infinite sum
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.setWeight(1, Double.MAX_VALUE));
+        // Not modified
+        for (int i = 0; i < weights.length; i++) {
+            Assertions.assertEquals(weights[i], sampler.getWeight(i));
+        }
+        Assertions.assertEquals(Arrays.stream(weights).sum(), sampler.getTotalWeight());
+    }
+
+    @Test
+    void testSampleThrowsWithZeroSum() {
+        final DynamicDiscreteSampler sampler = DynamicDiscreteSampler.of(RandomAssert.seededRNG(), new double[3]);
+        Assertions.assertEquals(0, sampler.getTotalWeight());
+        Assertions.assertThrows(IllegalStateException.class, sampler::sample);
+        sampler.setWeight(1, 0.5);
+        Assertions.assertEquals(1, sampler.sample());
+        sampler.setWeight(1, 0);
+        Assertions.assertThrows(IllegalStateException.class, sampler::sample);
+    }
+
+    @Test
+    void testSingleCategory() {
+        final DynamicDiscreteSampler sampler = DynamicDiscreteSampler.of(RandomAssert.seededRNG(), new double[] {2});
+        Assertions.assertEquals(1, sampler.getNumberOfCategories());
+        Assertions.assertEquals(0, sampler.sample());
+        sampler.setWeight(0, 3);
+        Assertions.assertEquals(3, sampler.getTotalWeight());
+        Assertions.assertEquals(0, sampler.sample());
+    }
+
+    /**
+     * Test the weights are maintained exactly when repeatedly updated.
+     */
+    @Test
+    void testTotalWeightAfterUpdates() {
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final int n = 37;
+        final DynamicDiscreteSampler sampler = DynamicDiscreteSampler.of(rng, new double[n]);
+        for (int i = 0; i < 10000; i++) {
+            sampler.setWeight(rng.nextInt(n), rng.nextDouble() * 1e10);
+        }
+        for (int i = 0; i < n; i++) {
+            sampler.setWeight(i, i == 13 ? 1e-300 : 0);
+        }
+        Assertions.assertEquals(1e-300, sampler.getTotalWeight());
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(13, sampler.sample());
+        }
+    }
+
+    /**
+     * Test a zero weight is not sampled when round-off in the subtraction of the
+     * left branch sum selects a value at the upper limit of the right branch.
+     */
+    @Test
+    void testZeroWeightIsNotSampledWithRoundOff() {
+        // Weights found by a search for the round-off when u = 1 - 2^-53.
+        // The tree for 4 weights has categories (0, 1) and (2, 3) in separate branches.
+        final double left = 0.25610018954482194;
+        final double right = 1.3391033653054327;
+        final UniformRandomProvider rng = () -> -1L;
+        Assertions.assertEquals(1 - 0x1.0p-53, rng.nextDouble());
+        final double u = (left + right) * rng.nextDouble();
+        Assertions.assertTrue(u - left >= right, "Expected round-off");
+        final DynamicDiscreteSampler sampler = DynamicDiscreteSampler.of(rng, new double[] {left, 0, right, 0});
+        Assertions.assertEquals(2, sampler.sample());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 8, 13})
+    void testSamples(int n) {
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = i % 3 == 1 ? 0 : 1 + rng.nextInt(10);
+        }
+        // Ensure at least one non-zero weight
+        weights[0] = 1;
+        final DynamicDiscreteSampler sampler = DynamicDiscreteSampler.of(rng, weights);
+        Assertions.assertEquals(n, sampler.getNumberOfCategories());
+        checkSamples(sampler, weights);
+        // Update the weights
+        for (int i = 0; i < n; i++) {
+            weights[i] = i % 3 == 2 ? 0 : 1 + rng.nextInt(10);
+            sampler.setWeight(i, weights[i]);
+            Assertions.assertEquals(weights[i], sampler.getWeight(i));
+        }
+        checkSamples(sampler, weights);
+    }
+
+    /**
+     * Check the samples are distributed according to the weights.
+     *
+     * @param sampler Sampler.
+     * @param weights Weights.
+     */
+    private static void checkSamples(DynamicDiscreteSampler sampler, double[] weights) {
+        final long[] samples = new long[weights.length];
+        final int sampleSize = 10000;
+        for (int i = 0; i < sampleSize; i++) {
+            samples[sampler.sample()]++;
+        }
+        final int size = (int) Arrays.stream(weights).filter(w -> w != 0).count();
+        final double[] expected = new double[size];
+        final long[] observed = new long[size];
+        int j = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] == 0) {
+                Assertions.assertEquals(0, samples[i], "No samples expected from zero weight");
+            } else {
+                expected[j] = weights[i];
+                observed[j] = samples[i];
+                j++;
+            }
+        }
+        if (size < 2) {
+            Assertions.assertEquals(sampleSize, observed[0]);
+            return;
+        }
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        // Pass if we cannot reject null hypothesis that the distributions are the same.
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
+    }
+
+    @Test
+    void testToString() {
+        final DynamicDiscreteSampler sampler = DynamicDiscreteSampler.of(RandomAssert.seededRNG(), new double[] {1});
+        Assertions.assertTrue(sampler.toString().toLowerCase().contains("dynamic"));
+    }
+
+    /**
+     * Test the SharedStateSampler implementation.
+     */
+    @Test
+    void testSharedStateSampler() {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final double[] weights = {0.1, 0, 0.2, 0.3, 0.1, 0.3, 0};
+        final DynamicDiscreteSampler sampler1 = DynamicDiscreteSampler.of(rng1, weights);
+        final DynamicDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+        // The weights are copied
+        sampler2.setWeight(1, 5);
+        Assertions.assertEquals(0, sampler1.getWeight(1));
+        Assertions.assertEquals(5, sampler2.getWeight(1));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Tests the default methods in the {@link FloatSampler} interface.
+ */
+class FloatSamplerTest {
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0",
+        "0, 7",
+        "3, 4",
+        "2, 5",
+        "7, 0",
+    })
+    void testSampleArray(int from, int length) {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final FloatSampler s1 = rngs[0]::nextFloat;
+        final FloatSampler s2 = rngs[1]::nextFloat;
+        final float[] expected = new float[7];
+        System.arraycopy(createSamples(s1, length), 0, expected, from, length);
+        final float[] actual = new float[7];
+        s2.sample(actual, from, length);
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testSampleFullArray() {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final FloatSampler s1 = rngs[0]::nextFloat;
+        final FloatSampler s2 = rngs[1]::nextFloat;
+        final float[] actual = new float[11];
+        s2.sample(actual);
+        Assertions.assertArrayEquals(createSamples(s1, actual.length), actual);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "-1, 2",
+        "0, -1",
+        "8, 3",
+        "11, 0",
+    })
+    void testSampleArrayThrows(int from, int length) {
+        final FloatSampler s = RandomAssert.createRNG()::nextFloat;
+        final float[] out = new float[10];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.sample(out, from, length));
+    }
+
+    /**
+     * Creates an array of samples.
+     *
+     * @param sampler Source of samples.
+     * @param count Number of samples.
+     * @return the samples
+     */
+    private static float[] createSamples(FloatSampler sampler, int count) {
+        final float[] data = new float[count];
+        for (int i = 0; i < count; i++) {
+            data[i] = sampler.sample();
+        }
+        return data;
+    }
+}
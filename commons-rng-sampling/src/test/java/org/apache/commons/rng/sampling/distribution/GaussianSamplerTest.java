@@ -163,4 +163,31 @@ class GaussianSamplerTest {
             return Integer.valueOf(44);
         }
     }
+
+    /**
+     * Test the single sample method throws with invalid parameters.
+     */
+    @Test
+    void testSampleThrows() {
+        final NormalizedGaussianSampler gauss = ZigguratSampler.NormalizedGaussian.of(RandomAssert.seededRNG());
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GaussianSampler.sample(gauss, 1, 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GaussianSampler.sample(gauss, Double.POSITIVE_INFINITY, 1));
+    }
+
+    /**
+     * Test the single sample method is the same as a sampler.
+     */
+    @Test
+    void testSample() {
+        final NormalizedGaussianSampler gauss1 = ZigguratSampler.NormalizedGaussian.of(RandomAssert.seededRNG());
+        final NormalizedGaussianSampler gauss2 = ZigguratSampler.NormalizedGaussian.of(RandomAssert.seededRNG());
+        for (int i = 0; i < 10; i++) {
+            final double mean = i - 3.5;
+            final double standardDeviation = i + 0.25;
+            Assertions.assertEquals(GaussianSampler.of(gauss1, mean, standardDeviation).sample(),
+                                    GaussianSampler.sample(gauss2, mean, standardDeviation));
+        }
+    }
 }
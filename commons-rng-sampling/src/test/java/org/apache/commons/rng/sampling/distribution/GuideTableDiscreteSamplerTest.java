@@ -16,6 +16,7 @@
  */
 package org.apache.commons.rng.sampling.distribution;
 
+import java.util.concurrent.ForkJoinPool;
 import org.apache.commons.math3.distribution.BinomialDistribution;
 import org.apache.commons.math3.distribution.PoissonDistribution;
 import org.apache.commons.math3.stat.inference.ChiSquareTest;
@@ -235,4 +236,82 @@ class GuideTableDiscreteSamplerTest {
         final SharedStateDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
         RandomAssert.assertProduceSameSequence(sampler1, sampler2);
     }
+
+    /**
+     * Test the bulk sample method outputs the same as the single sample method.
+     */
+    @Test
+    void testBulkSample() {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final double[] probabilities = {0.1, 0.2, 0.3, 0.15, 0.25};
+        RandomAssert.assertBulkSampleSameSequence(GuideTableDiscreteSampler.of(rngs[0], probabilities),
+            GuideTableDiscreteSampler.of(rngs[1], probabilities), 100);
+    }
+
+    @Test
+    void testParallelConstructorThrows() {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GuideTableDiscreteSampler.of(null, null, 1, pool));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GuideTableDiscreteSampler.of(null, new double[0], 1, pool));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GuideTableDiscreteSampler.of(null, new double[] {1, 2}, 0, pool));
+        // Parallel construction
+        assertParallelConstructorThrows(new double[] {1, 2, 3, 4, -1});
+        assertParallelConstructorThrows(new double[] {1, 2, 3, 4, Double.NaN});
+        assertParallelConstructorThrows(new double[] {1, 2, 3, 4, Double.POSITIVE_INFINITY});
+        assertParallelConstructorThrows(new double[] {1, 2, 3, Double.MAX_VALUE, Double.MAX_VALUE});
+        assertParallelConstructorThrows(new double[5]);
+    }
+
+    private static void assertParallelConstructorThrows(double[] probabilities) {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GuideTableDiscreteSampler.of(null, probabilities, 1, pool, 2));
+    }
+
+    /**
+     * Test the tables constructed in parallel create the same samples as the tables
+     * constructed using a single thread. The block size is varied to change the
+     * number of blocks used for the parallel prefix sum.
+     *
+     * @param blockSize Number of probabilities processed by each task.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 64})
+    void testParallelSamplesMatch(int blockSize) {
+        final double[] random = RandomAssert.createRNG().doubles(100).toArray();
+        final double[] zeros = random.clone();
+        for (int i = 0; i < zeros.length; i += 3) {
+            zeros[i] = 0;
+        }
+        for (final double[] probabilities : new double[][] {
+            random, zeros,
+            {0.1, 0.2, 0.3, 0.4},
+            {0, 0, 0.5, 0, 0.25, 0, 0, 0.25, 0, 0},
+        }) {
+            for (final double alpha : new double[] {0.5, 1, 3}) {
+                final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+                final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+                final SharedStateDiscreteSampler sampler1 =
+                    GuideTableDiscreteSampler.of(rng1, probabilities, alpha);
+                final SharedStateDiscreteSampler sampler2 =
+                    GuideTableDiscreteSampler.of(rng2, probabilities, alpha, ForkJoinPool.commonPool(), blockSize);
+                RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+            }
+        }
+    }
+
+    @Test
+    void testParallelSharedStateSampler() {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final double[] probabilities = {0.1, 0, 0.2, 0.3, 0.1, 0.3, 0};
+        // Default block size uses a single thread
+        final SharedStateDiscreteSampler sampler1 =
+            GuideTableDiscreteSampler.of(rng1, probabilities, 1.0, ForkJoinPool.commonPool());
+        final SharedStateDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
 }
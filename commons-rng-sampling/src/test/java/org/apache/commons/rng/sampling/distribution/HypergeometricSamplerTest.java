@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test for the {@link HypergeometricSampler}. The tests hit edge cases for the sampler.
+ * The distribution of the samples is tested in {@link DiscreteSamplerParametricTest}.
+ */
+class HypergeometricSamplerTest {
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0, 0",
+        "-1, 0, 0",
+        "10, -1, 5",
+        "10, 11, 5",
+        "10, 5, -1",
+        "10, 5, 11",
+    })
+    void testConstructorThrows(int populationSize, int numberOfSuccesses, int sampleSize) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> HypergeometricSampler.of(rng, populationSize, numberOfSuccesses, sampleSize));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "10, 5, 0, 0",
+        "10, 0, 5, 0",
+        "10, 10, 5, 5",
+        "10, 5, 10, 5",
+        "1, 1, 1, 1",
+        "2147483647, 1000, 2147483647, 1000",
+        "2147483647, 2147483647, 1000, 1000",
+    })
+    void testFixedResult(int populationSize, int numberOfSuccesses, int sampleSize, int expected) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler =
+            HypergeometricSampler.of(rng, populationSize, numberOfSuccesses, sampleSize);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(expected, sampler.sample());
+        }
+        Assertions.assertSame(sampler, sampler.withUniformRandomProvider(RandomAssert.seededRNG()));
+        Assertions.assertTrue(sampler.toString().toLowerCase().contains("hypergeometric"));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        // Inversion
+        "34, 11, 12",
+        "34, 23, 22",
+        // H2PE
+        "1000, 400, 300",
+        "1000, 600, 700",
+    })
+    void testSharedStateSampler(int populationSize, int numberOfSuccesses, int sampleSize) {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler1 =
+            HypergeometricSampler.of(rng1, populationSize, numberOfSuccesses, sampleSize);
+        final SharedStateDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "34, 11, 12, inversion",
+        "1000, 400, 300, h2pe",
+    })
+    void testToString(int populationSize, int numberOfSuccesses, int sampleSize, String name) {
+        final String s = HypergeometricSampler.of(RandomAssert.seededRNG(),
+            populationSize, numberOfSuccesses, sampleSize).toString().toLowerCase();
+        Assertions.assertTrue(s.contains("hypergeometric"));
+        Assertions.assertTrue(s.contains(name));
+    }
+
+    /**
+     * Test the inversion search restarts when the deviate is above the cumulative
+     * probability computed up to the upper bound of the support.
+     */
+    @Test
+    void testInversionRestart() {
+        final double[] u = {Math.nextDown(1.0), 0.0};
+        final UniformRandomProvider rng = new UniformRandomProvider() {
+            private int i;
+
+            @Override
+            public long nextLong() {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public double nextDouble() {
+                return u[i++];
+            }
+        };
+        // Found by a search of small parameters
+        final SharedStateDiscreteSampler sampler = HypergeometricSampler.of(rng, 4, 1, 1);
+        Assertions.assertEquals(0, sampler.sample());
+    }
+
+    /**
+     * Test samples are within the support and close to the mean when the population
+     * is the maximum supported.
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "1073741823, 1073741823",
+        "1000000000, 2000000000",
+        "2000000000, 1000000000",
+        "2000000000, 2000000000",
+        "20, 1000000000",
+    })
+    void testMaximumPopulation(int numberOfSuccesses, int sampleSize) {
+        final int populationSize = Integer.MAX_VALUE;
+        final double n = populationSize;
+        final double mean = (double) sampleSize * numberOfSuccesses / n;
+        final double sd = Math.sqrt(mean * (n - numberOfSuccesses) / n * (n - sampleSize) / (n - 1));
+        // Range of 7 standard deviations. Probability of failure is about 1e-11.
+        final double range = 7 * sd;
+        final SharedStateDiscreteSampler sampler = HypergeometricSampler.of(RandomAssert.createRNG(),
+            populationSize, numberOfSuccesses, sampleSize);
+        final int upper = Math.min(numberOfSuccesses, sampleSize);
+        for (int i = 0; i < 100; i++) {
+            final int x = sampler.sample();
+            Assertions.assertTrue(x >= 0 && x <= upper && Math.abs(x - mean) < range,
+                () -> "Sample: " + x);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import java.util.Arrays;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for the {@link LargeAliasMethodDiscreteSampler}.
+ */
+class LargeAliasMethodDiscreteSamplerTest {
+    @Test
+    void testOfThrowsWithInvalidWeights() {
+        assertOfThrows(new double[0]);
+        assertOfThrows(new double[] {-1, 0.1, 0.2});
+        assertOfThrows(new double[] {0.1, Double.NaN, 0.2});
+        assertOfThrows(new double[] {0.1, Double.POSITIVE_INFINITY, 0.2});
+        assertOfThrows(new double[] {Double.MAX_VALUE, Double.MAX_VALUE});
+        assertOfThrows(new double[] {0, 0, 0});
+    }
+
+    private static void assertOfThrows(double[] weights) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LargeAliasMethodDiscreteSampler.of(rng, weights));
+    }
+
+    @Test
+    void testOfThrowsWithInvalidSize() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LargeAliasMethodDiscreteSampler.of(rng, 0, i -> 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> LargeAliasMethodDiscreteSampler.of(rng, (1L << 32) + 1, i -> 1));
+    }
+
+    @Test
+    void testSingleCategory() {
+        final LargeAliasMethodDiscreteSampler sampler =
+            LargeAliasMethodDiscreteSampler.of(RandomAssert.seededRNG(), new double[] {0.5});
+        Assertions.assertEquals(1, sampler.getNumberOfCategories());
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(0, sampler.sample());
+        }
+    }
+
+    /**
+     * Test the table is constructed with the expected probabilities. The segment size
+     * is varied to test the table spans multiple segments.
+     *
+     * @param bits Number of bits for the size of a segment.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 27})
+    void testTableProbabilities(int bits) {
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        // Round-off cases where the last categories are small (first two) or large (third)
+        assertTableProbabilities(new double[] {0.2, 0.1}, bits);
+        assertTableProbabilities(new double[] {0.1, 0.1, 0.1}, bits);
+        assertTableProbabilities(new double[] {1, 1, 1, 1, 1}, bits);
+        assertTableProbabilities(new double[] {0, 0, 3, 0, 1}, bits);
+        for (int i = 0; i < 20; i++) {
+            final double[] weights = new double[1 + rng.nextInt(100)];
+            for (int j = 0; j < weights.length; j++) {
+                final int c = rng.nextInt(4);
+                weights[j] = c == 0 ? 0 : c == 1 ? 1 : rng.nextDouble() * c;
+            }
+            weights[rng.nextInt(weights.length)] = 2;
+            assertTableProbabilities(weights, bits);
+        }
+    }
+
+    /**
+     * Assert the probability of each category implied by the table is the normalized weight.
+     *
+     * @param weights Weights.
+     * @param bits Number of bits for the size of a segment.
+     */
+    private static void assertTableProbabilities(double[] weights, int bits) {
+        final int n = weights.length;
+        final LargeAliasMethodDiscreteSampler sampler =
+            LargeAliasMethodDiscreteSampler.of(RandomAssert.seededRNG(), n, i -> weights[(int) i], bits);
+        Assertions.assertEquals(n, sampler.getNumberOfCategories());
+        final LargeAliasMethodDiscreteSampler.Table table = sampler.getTable();
+        final double[] p = new double[n];
+        for (int i = 0; i < n; i++) {
+            final long entry = table.get(i);
+            final int alias = (int) entry;
+            Assertions.assertTrue(alias >= 0 && alias < n, "Invalid alias");
+            final double q = alias == i ? 1 : (entry >>> 32) * 0x1.0p-32;
+            p[i] += q / n;
+            p[alias] += (1 - q) / n;
+        }
+        final double sum = Arrays.stream(weights).sum();
+        for (int i = 0; i < n; i++) {
+            if (weights[i] == 0) {
+                Assertions.assertEquals(0, p[i], "Zero weight has a non-zero probability");
+            } else {
+                Assertions.assertEquals(weights[i] / sum, p[i], 1e-8 / n);
+            }
+        }
+    }
+
+    @Test
+    void testSamples() {
+        final double[] weights = {0.1, 0, 0.2, 0.3, 0.1, 0.05, 0.25, 0};
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final LargeAliasMethodDiscreteSampler sampler =
+            LargeAliasMethodDiscreteSampler.of(rng, weights.length, i -> weights[(int) i], 2);
+        final int sampleSize = 10000;
+        final long[] samples = new long[weights.length];
+        for (int i = 0; i < sampleSize; i++) {
+            samples[(int) sampler.sample()]++;
+        }
+        final int size = (int) Arrays.stream(weights).filter(w -> w != 0).count();
+        final double[] expected = new double[size];
+        final long[] observed = new long[size];
+        int j = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] == 0) {
+                Assertions.assertEquals(0, samples[i], "No samples expected from zero weight");
+            } else {
+                expected[j] = weights[i];
+                observed[j] = samples[i];
+                j++;
+            }
+        }
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        // Pass if we cannot reject null hypothesis that the distributions are the same.
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
+    }
+
+    @Test
+    void testToString() {
+        final LargeAliasMethodDiscreteSampler sampler =
+            LargeAliasMethodDiscreteSampler.of(RandomAssert.seededRNG(), new double[] {1});
+        Assertions.assertTrue(sampler.toString().toLowerCase().contains("alias"));
+    }
+
+    /**
+     * Test the SharedStateSampler implementation.
+     */
+    @Test
+    void testSharedStateSampler() {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final double[] weights = {0.1, 0, 0.2, 0.3, 0.1, 0.3, 0};
+        final LargeAliasMethodDiscreteSampler sampler1 = LargeAliasMethodDiscreteSampler.of(rng1, weights);
+        final LargeAliasMethodDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+}
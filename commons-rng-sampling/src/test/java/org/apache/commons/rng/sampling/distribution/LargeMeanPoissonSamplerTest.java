@@ -130,6 +130,44 @@ class LargeMeanPoissonSamplerTest {
         RandomAssert.assertProduceSameSequence(s1, s2);
     }
 
+    /**
+     * Test the single sample method using the saved state rejects the origin when
+     * creating the Gaussian deviate.
+     */
+    @Test
+    void testSampleWithStateRejectsGaussianAtOrigin() {
+        final LargeMeanPoissonSamplerState state = new LargeMeanPoissonSampler(RandomAssert.seededRNG(), 40).getState();
+        // Step 1 is u=0 to select the Gaussian; the pair (0.5, 0.5) maps to the origin.
+        final UniformRandomProvider rng1 = createRNG(RandomAssert.seededRNG(), 0, 0.5, 0.5);
+        final UniformRandomProvider rng2 = createRNG(RandomAssert.seededRNG(), 0);
+        Assertions.assertEquals(LargeMeanPoissonSampler.sample(rng2, state, 0),
+                                LargeMeanPoissonSampler.sample(rng1, state, 0));
+    }
+
+    /**
+     * Creates a generator that returns the {@code double} values and then
+     * delegates to the generator.
+     *
+     * @param rng Generator.
+     * @param values Initial values.
+     * @return the generator
+     */
+    private static UniformRandomProvider createRNG(UniformRandomProvider rng, double... values) {
+        return new UniformRandomProvider() {
+            private int i;
+
+            @Override
+            public long nextLong() {
+                return rng.nextLong();
+            }
+
+            @Override
+            public double nextDouble() {
+                return i < values.length ? values[i++] : rng.nextDouble();
+            }
+        };
+    }
+
     /**
      * Test the SharedStateSampler implementation.
      */
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for the {@link MappedDiscreteSamplers}.
+ */
+class MappedDiscreteSamplersTest {
+    @Test
+    void testWriteThrowsWithInvalidWeights(@TempDir Path dir) {
+        final Path path = dir.resolve("table");
+        for (final double[] weights : new double[][] {
+            {-1, 0.1, 0.2},
+            {0.1, Double.NaN, 0.2},
+            {0.1, Double.POSITIVE_INFINITY, 0.2},
+            {Double.MAX_VALUE, Double.MAX_VALUE},
+            {0, 0, 0},
+        }) {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> MappedDiscreteSamplers.writeAliasTable(path, weights.length, i -> weights[i]));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> MappedDiscreteSamplers.writeGuideTable(path, weights.length, i -> weights[i]));
+            Assertions.assertFalse(Files.exists(path), "File should not be created");
+        }
+    }
+
+    @Test
+    void testWriteThrowsWithInvalidSize(@TempDir Path dir) {
+        final Path path = dir.resolve("table");
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MappedDiscreteSamplers.writeAliasTable(path, 0, i -> 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MappedDiscreteSamplers.writeGuideTable(path, 0, i -> 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MappedDiscreteSamplers.writeGuideTable(path, Integer.MAX_VALUE, i -> 1));
+        Assertions.assertFalse(Files.exists(path), "File should not be created");
+    }
+
+    /**
+     * Test the mapped alias table outputs the same samples as the alias table sampler.
+     * The segment size is varied to test the table spans multiple segments; the file
+     * format is independent of the segment size.
+     *
+     * @param bits Number of bits for the size of a segment.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 27})
+    void testAliasTable(int bits, @TempDir Path dir) throws IOException {
+        final double[] weights = {0.1, 0, 0.3, 0.25, 0.02, 0.5, 0.13, 0, 0.07, 1.2, 0.4};
+        final Path path = dir.resolve("alias");
+        MappedDiscreteSamplers.writeAliasTable(path, weights.length, i -> weights[i], bits);
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler1 = MappedDiscreteSamplers.read(rng1, path, bits + 1);
+        final LargeAliasMethodDiscreteSampler sampler2 = LargeAliasMethodDiscreteSampler.of(rng2, weights);
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals((int) sampler2.sample(), sampler1.sample());
+        }
+    }
+
+    /**
+     * Test the mapped guide table outputs the same samples as the guide table sampler.
+     *
+     * @param bits Number of bits for the size of a segment.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 27})
+    void testGuideTable(int bits, @TempDir Path dir) throws IOException {
+        final double[] weights = {0.1, 0, 0.3, 0.25, 0.02, 0.5, 0.13, 0, 0.07, 1.2, 0.4, 0};
+        final Path path = dir.resolve("guide");
+        MappedDiscreteSamplers.writeGuideTable(path, weights.length, i -> weights[i], bits);
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler1 = MappedDiscreteSamplers.read(rng1, path, bits + 1);
+        final SharedStateDiscreteSampler sampler2 = GuideTableDiscreteSampler.of(rng2, weights);
+        RandomAssert.assertProduceSameSequence(sampler2, sampler1);
+    }
+
+    @Test
+    void testSingleCategory(@TempDir Path dir) throws IOException {
+        final Path path1 = dir.resolve("alias");
+        final Path path2 = dir.resolve("guide");
+        MappedDiscreteSamplers.writeAliasTable(path1, 1, i -> 0.5);
+        MappedDiscreteSamplers.writeGuideTable(path2, 1, i -> 0.5);
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler1 = MappedDiscreteSamplers.read(rng, path1);
+        final SharedStateDiscreteSampler sampler2 = MappedDiscreteSamplers.read(rng, path2);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(0, sampler1.sample());
+            Assertions.assertEquals(0, sampler2.sample());
+        }
+    }
+
+    @Test
+    void testOverwriteFile(@TempDir Path dir) throws IOException {
+        final Path path = dir.resolve("table");
+        MappedDiscreteSamplers.writeGuideTable(path, 1000, i -> 1);
+        MappedDiscreteSamplers.writeAliasTable(path, 3, i -> i);
+        final SharedStateDiscreteSampler sampler = MappedDiscreteSamplers.read(RandomAssert.seededRNG(), path);
+        Assertions.assertTrue(sampler.toString().toLowerCase().contains("alias"));
+        for (int i = 0; i < 100; i++) {
+            final int x = sampler.sample();
+            Assertions.assertTrue(x == 1 || x == 2, () -> "Invalid sample: " + x);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testSamples(boolean alias, @TempDir Path dir) throws IOException {
+        final double[] weights = {1, 2, 3, 4, 0, 5, 10};
+        final Path path = dir.resolve("table");
+        if (alias) {
+            MappedDiscreteSamplers.writeAliasTable(path, weights.length, i -> weights[i]);
+        } else {
+            MappedDiscreteSamplers.writeGuideTable(path, weights.length, i -> weights[i]);
+        }
+        final SharedStateDiscreteSampler sampler = MappedDiscreteSamplers.read(RandomAssert.createRNG(), path);
+        final int sampleSize = 10000;
+        final long[] observed = new long[weights.length];
+        for (int i = 0; i < sampleSize; i++) {
+            observed[sampler.sample()]++;
+        }
+        Assertions.assertEquals(0, observed[4]);
+        final double sum = Arrays.stream(weights).sum();
+        final double[] expected = Arrays.stream(weights).filter(w -> w != 0).map(w -> w * sampleSize / sum).toArray();
+        final long[] obs = new long[expected.length];
+        for (int i = 0, j = 0; i < weights.length; i++) {
+            if (weights[i] != 0) {
+                obs[j++] = observed[i];
+            }
+        }
+        Assertions.assertFalse(new ChiSquareTest().chiSquareTest(expected, obs, 0.001));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testSharedStateSampler(boolean alias, @TempDir Path dir) throws IOException {
+        final Path path = dir.resolve("table");
+        if (alias) {
+            MappedDiscreteSamplers.writeAliasTable(path, 7, i -> i + 0.5);
+        } else {
+            MappedDiscreteSamplers.writeGuideTable(path, 7, i -> i + 0.5);
+        }
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler1 = MappedDiscreteSamplers.read(rng1, path);
+        final SharedStateDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    @Test
+    void testToString(@TempDir Path dir) throws IOException {
+        final Path path1 = dir.resolve("alias");
+        final Path path2 = dir.resolve("guide");
+        MappedDiscreteSamplers.writeAliasTable(path1, 2, i -> 1);
+        MappedDiscreteSamplers.writeGuideTable(path2, 2, i -> 1);
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertTrue(MappedDiscreteSamplers.read(rng, path1).toString().toLowerCase().contains("alias"));
+        Assertions.assertTrue(MappedDiscreteSamplers.read(rng, path2).toString().toLowerCase().contains("guide"));
+    }
+
+    @Test
+    void testReadThrowsWithInvalidFile(@TempDir Path dir) throws IOException {
+        final Path path = dir.resolve("table");
+        // Short header
+        assertReadThrows(path, new byte[10]);
+        // Invalid magic
+        assertReadThrows(path, header(0, 1, 1, 2, 0));
+        final int magic = 0x524e4754;
+        // Invalid version
+        assertReadThrows(path, header(magic, 2, 1, 2, 0));
+        // Invalid type
+        assertReadThrows(path, header(magic, 1, 3, 2, 0));
+        // Invalid sizes
+        assertReadThrows(path, header(magic, 1, 1, 0, 0));
+        assertReadThrows(path, header(magic, 1, 1, 1L << 31, 0));
+        assertReadThrows(path, header(magic, 1, 1, 2, 1));
+        assertReadThrows(path, header(magic, 1, 2, 0, 1));
+        assertReadThrows(path, header(magic, 1, 2, Integer.MAX_VALUE, 1L << 31));
+        assertReadThrows(path, header(magic, 1, 2, 2, 2));
+        // Truncated tables
+        assertReadThrows(path, header(magic, 1, 1, 2, 0));
+        assertReadThrows(path, header(magic, 1, 2, 2, 3));
+
+        // Truncated valid file
+        MappedDiscreteSamplers.writeGuideTable(path, 3, i -> 1);
+        final byte[] bytes = Files.readAllBytes(path);
+        assertReadThrows(path, Arrays.copyOf(bytes, bytes.length - 1));
+    }
+
+    private static byte[] header(int magic, int version, int type, long n, long length) {
+        return ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN)
+            .putInt(magic).putInt(version).putInt(type).putInt(0).putLong(n).putLong(length).array();
+    }
+
+    private static void assertReadThrows(Path path, byte[] bytes) throws IOException {
+        Files.write(path, bytes);
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IOException.class, () -> MappedDiscreteSamplers.read(rng, path));
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import java.util.Arrays;
+import org.apache.commons.math3.distribution.BinomialDistribution;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link MultinomialSampler}.
+ */
+class MultinomialSamplerTest {
+    @Test
+    void testDistributionThrowsWithNegativeTrials() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[] p = {0.5, 0.5};
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultinomialSampler.of(rng, -1, p));
+    }
+
+    @Test
+    void testDistributionThrowsWithInvalidProbabilities() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultinomialSampler.of(rng, 10, null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultinomialSampler.of(rng, 10, new double[0]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultinomialSampler.of(rng, 10, new double[] {0.5, -0.1}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultinomialSampler.of(rng, 10, new double[] {0.5, Double.NaN}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultinomialSampler.of(rng, 10, new double[] {0, 0}));
+    }
+
+    @Test
+    void testSampleThrowsWithInvalidLength() {
+        final MultinomialSampler sampler = MultinomialSampler.of(RandomAssert.seededRNG(), 10,
+            new double[] {1, 2, 3});
+        Assertions.assertEquals(3, sampler.getNumberOfCategories());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.sample(new int[2]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.sample(new int[4]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.sample(new long[2]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.sample(new long[4]));
+    }
+
+    @Test
+    void testSingleCategory() {
+        final MultinomialSampler sampler = MultinomialSampler.of(RandomAssert.seededRNG(), 13,
+            new double[] {0.5});
+        Assertions.assertArrayEquals(new int[] {13}, sampler.sample());
+        Assertions.assertArrayEquals(new long[] {13}, sampler.sample(new long[1]));
+    }
+
+    @Test
+    void testZeroTrials() {
+        final MultinomialSampler sampler = MultinomialSampler.of(RandomAssert.seededRNG(), 0,
+            new double[] {1, 2, 3});
+        // Existing counts are overwritten
+        final int[] counts = {1, 2, 3};
+        Assertions.assertSame(counts, sampler.sample(counts));
+        Assertions.assertArrayEquals(new int[3], counts);
+        final long[] counts2 = {1, 2, 3};
+        Assertions.assertSame(counts2, sampler.sample(counts2));
+        Assertions.assertArrayEquals(new long[3], counts2);
+    }
+
+    @Test
+    void testZeroProbabilities() {
+        final double[] p = {0, 1, 0, 2, 0, 0};
+        final MultinomialSampler sampler = MultinomialSampler.of(RandomAssert.createRNG(), 100, p);
+        for (int i = 0; i < 50; i++) {
+            final int[] counts = sampler.sample();
+            Assertions.assertEquals(100, Arrays.stream(counts).sum());
+            for (int j = 0; j < p.length; j++) {
+                if (p[j] == 0) {
+                    Assertions.assertEquals(0, counts[j]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testIntAndLongCounts() {
+        final double[] p = {0.1, 0.2, 0.3, 0.25, 0.15};
+        final MultinomialSampler sampler1 = MultinomialSampler.of(RandomAssert.seededRNG(), 1000000, p);
+        final MultinomialSampler sampler2 = MultinomialSampler.of(RandomAssert.seededRNG(), 1000000, p);
+        final long[] counts2 = new long[p.length];
+        for (int i = 0; i < 10; i++) {
+            final int[] counts1 = sampler1.sample();
+            Assertions.assertArrayEquals(Arrays.stream(counts1).asLongStream().toArray(),
+                sampler2.sample(counts2));
+        }
+    }
+
+    @Test
+    void testSharedStateSampler() {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final MultinomialSampler sampler1 = MultinomialSampler.of(rng1, 100, new double[] {1, 2, 3});
+        final MultinomialSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    @Test
+    void testToString() {
+        final MultinomialSampler sampler = MultinomialSampler.of(RandomAssert.seededRNG(), 10,
+            new double[] {1, 2, 3});
+        Assertions.assertTrue(sampler.toString().toLowerCase().contains("multinomial"));
+    }
+
+    /**
+     * Test the marginal distribution of each category is Binomial.
+     * The trials cover sampling by inversion and using BTPE.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {20, 500})
+    void testMarginalDistribution(int trials) {
+        final double[] p = {0.1, 0.35, 0.05, 0.3, 0.2};
+        final MultinomialSampler sampler = MultinomialSampler.of(RandomAssert.createRNG(), trials, p);
+        final int samples = 10000;
+        final long[][] observed = new long[p.length][trials + 1];
+        for (int i = 0; i < samples; i++) {
+            final int[] counts = sampler.sample();
+            Assertions.assertEquals(trials, Arrays.stream(counts).sum());
+            for (int j = 0; j < p.length; j++) {
+                observed[j][counts[j]]++;
+            }
+        }
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        for (int j = 0; j < p.length; j++) {
+            final BinomialDistribution dist = new BinomialDistribution(null, trials, p[j]);
+            // Bin the counts with an expected frequency of at least 5
+            final int lower = dist.inverseCumulativeProbability(5.0 / samples);
+            final int upper = dist.inverseCumulativeProbability(1 - 5.0 / samples);
+            final int bins = upper - lower + 1;
+            final double[] expected = new double[bins];
+            final long[] obs = new long[bins];
+            for (int x = 0; x <= trials; x++) {
+                final int bin = Math.min(bins - 1, Math.max(0, x - lower));
+                expected[bin] += dist.probability(x);
+                obs[bin] += observed[j][x];
+            }
+            final double pValue = chiSquareTest.chiSquareTest(expected, obs);
+            Assertions.assertFalse(pValue < 0.001,
+                () -> "p-value=" + pValue + ", category=" + Arrays.toString(obs));
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.stat.correlation.Covariance;
+import org.apache.commons.math3.stat.descriptive.moment.Mean;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link MultivariateNormalSampler}.
+ */
+class MultivariateNormalSamplerTest {
+    @Test
+    void testDistributionThrowsWithInvalidMean() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, new double[0], new double[0][0]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, new double[] {0, Double.NaN}, identity(2)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, new double[] {0, Double.POSITIVE_INFINITY}, identity(2)));
+    }
+
+    @Test
+    void testDistributionThrowsWithInvalidCovarianceDimension() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[] mean = {0, 0};
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, identity(1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, identity(3)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, new double[][] {{1, 0}, {0}}));
+    }
+
+    @Test
+    void testDistributionThrowsWithNonPositiveDefiniteCovariance() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[] mean = {0, 0};
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, new double[][] {{1, 2}, {2, 1}}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, new double[][] {{1, 1}, {1, 1}}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, new double[][] {{0, 0}, {0, 1}}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, new double[][] {{1, 0}, {Double.NaN, 1}}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, new double[][] {{1, 0}, {0, Double.POSITIVE_INFINITY}}));
+    }
+
+    @Test
+    void testSampleThrowsWithInvalidOutput() {
+        final MultivariateNormalSampler sampler = MultivariateNormalSampler.of(
+            RandomAssert.seededRNG(), new double[3], identity(3));
+        Assertions.assertEquals(3, sampler.getDimension());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.sample(new double[2]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.sample(new double[4]));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sampler.sample(new double[5], 3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sampler.sample(new double[5], -1));
+    }
+
+    /**
+     * Test the sample uses the standard normal deviates with a diagonal covariance.
+     */
+    @Test
+    void testDiagonalCovariance() {
+        final double[] mean = {1.5, -2.25, 3};
+        final double[] sd = {0.5, 2, 3.5};
+        final double[][] covariance = new double[3][3];
+        for (int i = 0; i < 3; i++) {
+            covariance[i][i] = sd[i] * sd[i];
+        }
+        final MultivariateNormalSampler sampler = MultivariateNormalSampler.of(
+            RandomAssert.seededRNG(), mean, covariance);
+        final ZigguratSampler.NormalizedGaussian gaussian =
+            ZigguratSampler.NormalizedGaussian.of(RandomAssert.seededRNG());
+        final double[] z = new double[3];
+        for (int k = 0; k < 10; k++) {
+            final double[] x = sampler.sample();
+            gaussian.sample(z);
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertEquals(mean[i] + sd[i] * z[i], x[i], 1e-15 * Math.abs(x[i]));
+            }
+        }
+    }
+
+    /**
+     * Test the sample can be written to a row of a flat matrix.
+     */
+    @Test
+    void testSampleWithOffset() {
+        final double[] mean = {1, 2, 3};
+        final double[][] covariance = {{2, 0.5, 0.25}, {0.5, 1, -0.3}, {0.25, -0.3, 1.5}};
+        final MultivariateNormalSampler sampler1 = MultivariateNormalSampler.of(
+            RandomAssert.seededRNG(), mean, covariance);
+        final MultivariateNormalSampler sampler2 = MultivariateNormalSampler.of(
+            RandomAssert.seededRNG(), mean, covariance);
+        final int rows = 5;
+        final double[] matrix = new double[rows * 3];
+        for (int row = 0; row < rows; row++) {
+            Assertions.assertSame(matrix, sampler1.sample(matrix, row * 3));
+        }
+        final double[] out = new double[3];
+        for (int row = 0; row < rows; row++) {
+            Assertions.assertSame(out, sampler2.sample(out));
+            for (int i = 0; i < 3; i++) {
+                Assertions.assertEquals(out[i], matrix[row * 3 + i]);
+            }
+        }
+    }
+
+    @Test
+    void testSharedStateSampler() {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final double[][] covariance = {{2, 0.5}, {0.5, 1}};
+        final MultivariateNormalSampler sampler1 = MultivariateNormalSampler.of(
+            rng1, new double[] {1, 2}, covariance);
+        final MultivariateNormalSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    @Test
+    void testToString() {
+        final MultivariateNormalSampler sampler = MultivariateNormalSampler.of(
+            RandomAssert.seededRNG(), new double[2], identity(2));
+        Assertions.assertTrue(sampler.toString().toLowerCase().contains("multivariate normal"));
+    }
+
+    /**
+     * Test the mean and covariance of the samples.
+     */
+    @Test
+    void testMeanAndCovariance() {
+        final double[] mean = {1, -2, 3, 0.5};
+        final double[][] covariance = {
+            {4, 1.2, -0.8, 0.5},
+            {1.2, 2, 0.3, -0.2},
+            {-0.8, 0.3, 1, 0.1},
+            {0.5, -0.2, 0.1, 0.5},
+        };
+        final MultivariateNormalSampler sampler = MultivariateNormalSampler.of(
+            RandomAssert.createRNG(), mean, covariance);
+        final int n = 100000;
+        final double[][] samples = new double[n][];
+        for (int i = 0; i < n; i++) {
+            samples[i] = sampler.sample();
+        }
+        final Array2DRowRealMatrix m = new Array2DRowRealMatrix(samples, false);
+        final double[][] covars = new Covariance(m).getCovarianceMatrix().getData();
+        final Mean meanStat = new Mean();
+        for (int i = 0; i < mean.length; i++) {
+            // Standard error of the mean is sd / sqrt(n); use a tolerance of 5 standard errors
+            final double se = Math.sqrt(covariance[i][i] / n);
+            Assertions.assertEquals(mean[i], meanStat.evaluate(m.getColumn(i)), 5 * se, "Mean");
+            for (int j = 0; j < mean.length; j++) {
+                // Standard error of the covariance is approximately sqrt((s_ii s_jj + s_ij^2) / n)
+                final double seCov = Math.sqrt((covariance[i][i] * covariance[j][j] +
+                    covariance[i][j] * covariance[i][j]) / n);
+                Assertions.assertEquals(covariance[i][j], covars[i][j], 5 * seCov, "Covariance");
+            }
+        }
+    }
+
+    /**
+     * Create an identity matrix.
+     *
+     * @param n Dimension.
+     * @return the matrix
+     */
+    private static double[][] identity(int n) {
+        final double[][] m = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            m[i][i] = 1;
+        }
+        return m;
+    }
+}
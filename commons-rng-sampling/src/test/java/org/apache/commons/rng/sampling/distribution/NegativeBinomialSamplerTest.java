@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test for the {@link NegativeBinomialSampler}. The tests hit edge cases for the sampler.
+ * The distribution of the samples is tested in {@link DiscreteSamplerParametricTest}.
+ */
+class NegativeBinomialSamplerTest {
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0.5",
+        "-1, 0.5",
+        "NaN, 0.5",
+        "Infinity, 0.5",
+        "2, 0",
+        "2, -0.1",
+        "2, 1.1",
+        "2, NaN",
+    })
+    void testConstructorThrows(double r, double p) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> NegativeBinomialSampler.of(rng, r, p));
+    }
+
+    @Test
+    void testProbabilityOfSuccessIsOne() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler = NegativeBinomialSampler.of(rng, 2.5, 1);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(0, sampler.sample());
+        }
+        Assertions.assertSame(sampler, sampler.withUniformRandomProvider(RandomAssert.seededRNG()));
+        Assertions.assertTrue(sampler.toString().toLowerCase().contains("negative binomial"));
+    }
+
+    /**
+     * Test the Poisson mean is truncated when the gamma deviate is above the
+     * maximum supported Poisson mean.
+     */
+    @Test
+    void testLargeMean() {
+        final SharedStateDiscreteSampler sampler = NegativeBinomialSampler.of(RandomAssert.createRNG(), 100, 1e-10);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertTrue(sampler.sample() >= 0);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0.5, 0.3",
+        "2.5, 0.05",
+    })
+    void testSharedStateSampler(double r, double p) {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler1 = NegativeBinomialSampler.of(rng1, r, p);
+        final SharedStateDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    @Test
+    void testToString() {
+        final String s = NegativeBinomialSampler.of(RandomAssert.seededRNG(), 2.5, 0.3).toString().toLowerCase();
+        Assertions.assertTrue(s.contains("negative binomial"));
+    }
+}
@@ -16,6 +16,14 @@
  */
 package org.apache.commons.rng.sampling.distribution;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.apache.commons.rng.RestorableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.RandomAssert;
@@ -251,7 +259,7 @@ class PoissonSamplerCacheTest {
      */
     @Test
     void testCreateSharedStateSamplerThrowsWithZeroMean() {
-        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final UniformRandomProvider rng = RandomAssert.createRNG();
         final PoissonSamplerCache cache = createPoissonSamplerCache();
         Assertions.assertThrows(IllegalArgumentException.class,
             () -> cache.createSharedStateSampler(rng, 0));
@@ -262,7 +270,7 @@ class PoissonSamplerCacheTest {
      */
     @Test
     void testCreateSharedStateSamplerThrowsWithNonIntegerMean() {
-        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final UniformRandomProvider rng = RandomAssert.createRNG();
         final PoissonSamplerCache cache = createPoissonSamplerCache();
         final double mean = Integer.MAX_VALUE + 1.0;
         Assertions.assertThrows(IllegalArgumentException.class,
@@ -496,4 +504,89 @@ class PoissonSamplerCacheTest {
         final DiscreteSampler s2 = cache.createPoissonSampler(null, 42);
         Assertions.assertTrue(s2 instanceof LargeMeanPoissonSampler);
     }
+
+    /**
+     * Test the single sample method uses the cached state in the range of the cache
+     * and a PTRS sample outside the range.
+     */
+    @Test
+    void testSample() {
+        final RandomSource source = RandomSource.SPLIT_MIX_64;
+        final long seed = RandomSource.createLong();
+        final UniformRandomProvider rng1 = source.create(seed);
+        final UniformRandomProvider rng2 = source.create(seed);
+        // The second cache does not cover the lower end of the large mean algorithm
+        for (final PoissonSamplerCache cache : new PoissonSamplerCache[] {
+            createPoissonSamplerCache(minRange, maxRange),
+            createPoissonSamplerCache(midRange, maxRange)}) {
+            for (int i = minRange; i <= maxRange + 2; i++) {
+                for (final double mean : new double[] {i, i + 0.5}) {
+                    // Repeat to use the cached state
+                    for (int j = 0; j < 3; j++) {
+                        Assertions.assertEquals(expectedSample(rng1, cache, mean),
+                                                cache.sample(rng2, mean));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test the single sample method with an invalid mean.
+     */
+    @Test
+    void testSampleWithInvalidMeanThrows() {
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final PoissonSamplerCache cache = createPoissonSamplerCache(minRange, maxRange);
+        for (final double mean : new double[] {0, -1, Double.NaN, Math.nextUp(0.5 * Integer.MAX_VALUE)}) {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> cache.sample(rng, mean));
+        }
+    }
+
+    /**
+     * Test the cache can be shared by concurrent threads each with a unique generator.
+     * Each thread must create the same samples as computed without the cache.
+     */
+    @Test
+    void testMultiThreadedSample()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final PoissonSamplerCache cache = createPoissonSamplerCache(minRange, maxRange + 50);
+        final int threads = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final long seed = RandomSource.createLong();
+            futures.add(executor.submit(() -> {
+                final UniformRandomProvider rng1 = RandomSource.SPLIT_MIX_64.create(seed);
+                final UniformRandomProvider rng2 = RandomSource.SPLIT_MIX_64.create(seed);
+                for (int j = 0; j < 1000; j++) {
+                    final double mean = minRange + (j % 60) * 0.99;
+                    Assertions.assertEquals(expectedSample(rng1, cache, mean),
+                                            cache.sample(rng2, mean));
+                }
+            }));
+        }
+        executor.shutdown();
+        for (final Future<?> f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Compute the expected single sample from the cache without using the cached state.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param cache Cache.
+     * @param mean Mean.
+     * @return the sample
+     */
+    private static int expectedSample(UniformRandomProvider rng, PoissonSamplerCache cache, double mean) {
+        if (mean >= PoissonSampler.PIVOT && cache.isValidRange() &&
+            mean >= cache.getMinMean() && mean <= cache.getMaxMean()) {
+            final int n = (int) Math.floor(mean);
+            return LargeMeanPoissonSampler.sample(rng, new LargeMeanPoissonSampler(rng, n).getState(), mean - n);
+        }
+        return PtrsPoissonSampler.sample(rng, mean);
+    }
 }
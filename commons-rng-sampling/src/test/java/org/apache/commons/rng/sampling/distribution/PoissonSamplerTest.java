@@ -20,6 +20,8 @@ import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.RandomAssert;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 
 /**
@@ -67,4 +69,29 @@ class PoissonSamplerTest {
         final UniformRandomProvider rng = RandomAssert.seededRNG();
         Assertions.assertTrue(new PoissonSampler(rng, 1.23).toString().toLowerCase().contains("poisson"));
     }
+
+    /**
+     * Test the single sample method throws with invalid parameters.
+     */
+    @ParameterizedTest
+    @ValueSource(doubles = {0, -1, Double.NaN, 0.5 * Integer.MAX_VALUE + 1})
+    void testSampleThrows(double mean) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> PoissonSampler.sample(rng, mean));
+    }
+
+    /**
+     * Test the single sample method is the same as a {@link PtrsPoissonSampler}.
+     */
+    @ParameterizedTest
+    @ValueSource(doubles = {0.5, 3.25, 10, 34.5, 67.8, 1234.5})
+    void testSample(double mean) {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler = PtrsPoissonSampler.of(rng1, mean);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(sampler.sample(), PoissonSampler.sample(rng2, mean));
+        }
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for the {@link PtrsPoissonSampler}. The tests hit edge cases for the sampler.
+ * The distribution of the samples is tested in {@link DiscreteSamplerParametricTest}.
+ */
+class PtrsPoissonSamplerTest {
+    @ParameterizedTest
+    @ValueSource(doubles = {0, -1, Double.NaN, Double.POSITIVE_INFINITY, 0.5 * Integer.MAX_VALUE + 1})
+    void testConstructorThrows(double mean) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> PtrsPoissonSampler.of(rng, mean));
+    }
+
+    @Test
+    void testSmallMean() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double mean = PtrsPoissonSampler.PTRS_MEAN;
+        Assertions.assertTrue(PtrsPoissonSampler.of(rng, Math.nextDown(mean)) instanceof SmallMeanPoissonSampler);
+        Assertions.assertTrue(PtrsPoissonSampler.of(rng, mean) instanceof PtrsPoissonSampler);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {10, 34.5, 1234.5})
+    void testSharedStateSampler(double mean) {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler1 = PtrsPoissonSampler.of(rng1, mean);
+        final SharedStateDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    @Test
+    void testToString() {
+        final String s = PtrsPoissonSampler.of(RandomAssert.seededRNG(), 12.3).toString().toLowerCase();
+        Assertions.assertTrue(s.contains("poisson"));
+        Assertions.assertTrue(s.contains("ptrs"));
+    }
+
+    /**
+     * Test deviates at the edge of the range of the uniform deviate are rejected.
+     * The transformed sample is unbounded as {@code u -> 0} or {@code u -> 1}.
+     */
+    @Test
+    void testRejectUnboundedSample() {
+        // Pairs of (u, v):
+        // u = 1 - 2^-53 : sample above the supported range
+        // u = 0 : sample is negative infinity
+        // u = 0.5 : sample is the mode and is accepted
+        final double[] u = {Math.nextDown(1.0), 0.5, 0.0, 0.5, 0.5, 0.5};
+        final UniformRandomProvider rng = new UniformRandomProvider() {
+            private int i;
+
+            @Override
+            public long nextLong() {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public double nextDouble() {
+                return u[i++];
+            }
+        };
+        final double mean = 123.45;
+        final SharedStateDiscreteSampler sampler = PtrsPoissonSampler.of(rng, mean);
+        Assertions.assertEquals((int) Math.floor(mean + 0.43), sampler.sample());
+    }
+
+    /**
+     * Test samples are within the support and close to the mean when the mean
+     * is the maximum supported.
+     */
+    @Test
+    void testMaximumMean() {
+        final double mean = 0.5 * Integer.MAX_VALUE;
+        // Range of 7 standard deviations. Probability of failure is about 1e-11.
+        final double range = 7 * Math.sqrt(mean);
+        final SharedStateDiscreteSampler sampler = PtrsPoissonSampler.of(RandomAssert.createRNG(), mean);
+        for (int i = 0; i < 100; i++) {
+            final int x = sampler.sample();
+            Assertions.assertTrue(x >= 0 && Math.abs(x - mean) < range, () -> "Sample: " + x);
+        }
+    }
+
+    /**
+     * Test the single sample method is the same as a sampler.
+     */
+    @ParameterizedTest
+    @ValueSource(doubles = {0.5, 3.25, 10, 34.5, 1234.5})
+    void testSample(double mean) {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler = PtrsPoissonSampler.of(rng1, mean);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(sampler.sample(), PtrsPoissonSampler.sample(rng2, mean));
+        }
+    }
+
+    /**
+     * Test the single sample method is bounded by {@code 1000 * mean} for a small mean.
+     */
+    @Test
+    void testSampleSmallMeanLimit() {
+        final UniformRandomProvider rng = new UniformRandomProvider() {
+            @Override
+            public long nextLong() {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public double nextDouble() {
+                return Math.nextDown(1.0);
+            }
+        };
+        Assertions.assertEquals(2, PtrsPoissonSampler.sample(rng, 0.0015));
+        Assertions.assertEquals(0, PtrsPoissonSampler.sample(rng, 0));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for the {@link ZeroInflatedDiscreteSampler}. The tests hit edge cases for the sampler.
+ * The distribution of the samples is tested in {@link DiscreteSamplerParametricTest}.
+ */
+class ZeroInflatedDiscreteSamplerTest {
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.1, 1.1, Double.NaN})
+    void testConstructorThrows(double pi) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler = PoissonSampler.of(rng, 2.5);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ZeroInflatedDiscreteSampler.of(rng, pi, sampler));
+    }
+
+    @Test
+    void testProbabilityOfZeroIsOne() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler =
+            ZeroInflatedDiscreteSampler.of(rng, 1, DiscreteUniformSampler.of(rng, 5, 10));
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(0, sampler.sample());
+        }
+    }
+
+    /**
+     * Test the underlying sampler uses the generator of the zero-inflated sampler.
+     */
+    @Test
+    void testSamplerUsesGenerator() {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler1 =
+            ZeroInflatedDiscreteSampler.of(rng1, 0, DiscreteUniformSampler.of(RandomAssert.createRNG(), 5, 10));
+        final SharedStateDiscreteSampler sampler2 = DiscreteUniformSampler.of(rng2, 5, 10);
+        for (int i = 0; i < 10; i++) {
+            // Consume the uniform deviate for the zero inflation
+            rng2.nextDouble();
+            Assertions.assertEquals(sampler2.sample(), sampler1.sample());
+        }
+    }
+
+    @Test
+    void testSharedStateSampler() {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler1 =
+            ZeroInflatedDiscreteSampler.of(rng1, 0.25, NegativeBinomialSampler.of(rng1, 2.5, 0.3));
+        final SharedStateDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    @Test
+    void testToString() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final String s = ZeroInflatedDiscreteSampler.of(rng, 0.5, PoissonSampler.of(rng, 2.5))
+            .toString().toLowerCase();
+        Assertions.assertTrue(s.contains("zero-inflated"));
+        Assertions.assertTrue(s.contains("poisson"));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.source32.IntProvider;
+import org.apache.commons.rng.core.source64.SplitMix64;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link ZigguratFloatSampler}.
+ *
+ * <p>The distribution of the samples is tested in {@link ContinuousSamplerParametricTest}.
+ */
+class ZigguratFloatSamplerTest {
+    /** Start of the tail of the exponential distribution. */
+    private static final float EXPONENTIAL_TAIL = (float) 7.69711747013104972;
+    /** Start of the tail of the Gaussian distribution. */
+    private static final float GAUSSIAN_TAIL = (float) 3.442619855899;
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, -1, Double.NaN, Double.POSITIVE_INFINITY, 1e300, 1e-50})
+    void testExponentialConstructorThrowsWithBadMean(double mean) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ZigguratFloatSampler.Exponential.of(rng, mean));
+    }
+
+    @Test
+    void testExponentialSharedStateSampler() {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final ZigguratFloatSampler.Exponential sampler1 = ZigguratFloatSampler.Exponential.of(rng1);
+        final ZigguratFloatSampler.Exponential sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    @Test
+    void testExponentialSharedStateSamplerWithMean() {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final ZigguratFloatSampler.Exponential sampler1 = ZigguratFloatSampler.Exponential.of(rng1, 1.23);
+        final ZigguratFloatSampler.Exponential sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    @Test
+    void testGaussianSharedStateSampler() {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final ZigguratFloatSampler.NormalizedGaussian sampler1 = ZigguratFloatSampler.NormalizedGaussian.of(rng1);
+        final ZigguratFloatSampler.NormalizedGaussian sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    @Test
+    void testToString() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertTrue(ZigguratFloatSampler.Exponential.of(rng).toString()
+            .toLowerCase().contains("exponential"));
+        Assertions.assertTrue(ZigguratFloatSampler.Exponential.of(rng, 2).toString()
+            .toLowerCase().contains("exponential"));
+        Assertions.assertTrue(ZigguratFloatSampler.NormalizedGaussian.of(rng).toString()
+            .toLowerCase().contains("gaussian"));
+    }
+
+    @Test
+    void testExponentialTail() {
+        // Layer 0 with the maximum deviate is in the tail.
+        // The next value of zero is a sample of zero.
+        Assertions.assertEquals(EXPONENTIAL_TAIL,
+            ZigguratFloatSampler.Exponential.of(createRNG(0xffffff00, 0)).sample());
+        Assertions.assertEquals(EXPONENTIAL_TAIL * 2.5f,
+            ZigguratFloatSampler.Exponential.of(createRNG(0xffffff00, 0), 2.5).sample());
+        Assertions.assertEquals(EXPONENTIAL_TAIL + EXPONENTIAL_TAIL,
+            ZigguratFloatSampler.Exponential.of(createRNG(0xffffff00, 0xffffff00, 0)).sample());
+    }
+
+    @Test
+    void testGaussianTail() {
+        // Layer 0 with the maximum deviate is in the tail.
+        // The tail sample uses two uniform deviates of 1 to create the start of the tail.
+        Assertions.assertEquals(GAUSSIAN_TAIL,
+            ZigguratFloatSampler.NormalizedGaussian.of(createRNG(0x7fffff80, -1, -1)).sample());
+        Assertions.assertEquals(-GAUSSIAN_TAIL,
+            ZigguratFloatSampler.NormalizedGaussian.of(createRNG(0x80000000, -1, -1)).sample());
+    }
+
+    @Test
+    void testExponentialMean() {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final float mean = 1.75f;
+        final FloatSampler sampler1 = ZigguratFloatSampler.Exponential.of(rng1);
+        final FloatSampler sampler2 = ZigguratFloatSampler.Exponential.of(rng2, mean);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(sampler1.sample() * mean, sampler2.sample());
+        }
+        final float[] a = new float[17];
+        final float[] b = new float[17];
+        sampler1.sample(a);
+        sampler2.sample(b);
+        for (int i = 0; i < a.length; i++) {
+            Assertions.assertEquals(a[i] * mean, b[i]);
+        }
+    }
+
+    /**
+     * Test the bulk sample method uses the lower then upper 32-bits of each 64-bit value.
+     * This matches the order of sequential samples using a 64-bit source of randomness
+     * when all samples are from the ziggurat boxes.
+     */
+    @Test
+    void testBulkSampleMatchesSequentialSamples() {
+        final long seed = 0x123456789abcdefL;
+        assertBulkSample(ZigguratFloatSampler.Exponential.of(new SplitMix64(seed)),
+                         ZigguratFloatSampler.Exponential.of(new SplitMix64(seed)));
+        assertBulkSample(ZigguratFloatSampler.NormalizedGaussian.of(new SplitMix64(seed)),
+                         ZigguratFloatSampler.NormalizedGaussian.of(new SplitMix64(seed)));
+    }
+
+    /**
+     * Assert the bulk sample matches the sequential samples. The samples are written to
+     * a sub-range of an array with an odd length.
+     *
+     * @param sampler1 Sampler for sequential samples.
+     * @param sampler2 Sampler for bulk samples.
+     */
+    private static void assertBulkSample(FloatSampler sampler1, FloatSampler sampler2) {
+        final float[] expected = new float[9];
+        for (int i = 1; i < 8; i++) {
+            expected[i] = sampler1.sample();
+        }
+        final float[] actual = new float[9];
+        sampler2.sample(actual, 1, 7);
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    /**
+     * Creates a source of randomness that returns the values and then reverts to a
+     * seeded generator.
+     *
+     * @param values Values.
+     * @return the source of randomness
+     */
+    private static UniformRandomProvider createRNG(int... values) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        return new IntProvider() {
+            private int i;
+
+            @Override
+            public int next() {
+                return i < values.length ? values[i++] : rng.nextInt();
+            }
+        };
+    }
+}
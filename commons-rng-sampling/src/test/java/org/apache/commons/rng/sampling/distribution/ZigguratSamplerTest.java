@@ -485,4 +485,29 @@ class ZigguratSamplerTest {
         }
         return low;
     }
+
+    /**
+     * Test the bulk sample method outputs the same as the single sample method.
+     * The number of samples is large enough to sample from the edge of the ziggurat.
+     */
+    @Test
+    void testExponentialBulkSample() {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        RandomAssert.assertBulkSampleSameSequence(ZigguratSampler.Exponential.of(rngs[0]),
+            ZigguratSampler.Exponential.of(rngs[1]), 1000);
+    }
+
+    @Test
+    void testExponentialMeanBulkSample() {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        RandomAssert.assertBulkSampleSameSequence(ZigguratSampler.Exponential.of(rngs[0], 1.23),
+            ZigguratSampler.Exponential.of(rngs[1], 1.23), 1000);
+    }
+
+    @Test
+    void testNormalizedGaussianBulkSample() {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        RandomAssert.assertBulkSampleSameSequence(ZigguratSampler.NormalizedGaussian.of(rngs[0]),
+            ZigguratSampler.NormalizedGaussian.of(rngs[1]), 1000);
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import java.util.Arrays;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link ZigguratVectorSupport}.
+ *
+ * <p>Vector operations are expected when the system property {@code test.vector.enabled}
+ * is true. This is set when testing the multi-release jar. The distribution of the samples
+ * is also tested in {@link ContinuousSamplerParametricTest}.
+ */
+class ZigguratVectorSupportTest {
+    /** Set to true if vector operations are expected. */
+    private static final boolean VECTOR = Boolean.getBoolean("test.vector.enabled");
+    /** Bin upper bounds for the distribution test. Values above the last bound use the final bin. */
+    private static final double[] BINS = {-3.5, -3, -2.5, -2, -1.5, -1, -0.5, 0, 0.5, 1, 1.5, 2, 2.5, 3, 3.5};
+    /** The number of samples for the distribution test. */
+    private static final int SAMPLES = 1 << 20;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 63, 64, 65, 100, 256, 257, 1000})
+    void testGaussian(int length) {
+        final ZigguratSampler.NormalizedGaussian sampler =
+            ZigguratSampler.NormalizedGaussian.of(RandomAssert.createRNG());
+        final double[] out = new double[length + 2];
+        final boolean vector = ZigguratVectorSupport.sample(sampler, out, 1, length + 1);
+        Assertions.assertEquals(VECTOR && length >= ZigguratVectorSupport.MIN_LENGTH, vector);
+        if (vector) {
+            Assertions.assertEquals(0, out[0]);
+            Assertions.assertEquals(0, out[length + 1]);
+            for (int i = 1; i <= length; i++) {
+                Assertions.assertTrue(Double.isFinite(out[i]) && out[i] != 0);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 63, 64, 65, 100, 256, 257, 1000})
+    void testFloatGaussian(int length) {
+        final ZigguratFloatSampler.NormalizedGaussian sampler =
+            ZigguratFloatSampler.NormalizedGaussian.of(RandomAssert.createRNG());
+        final float[] out = new float[length + 2];
+        final boolean vector = ZigguratVectorSupport.sample(sampler, out, 1, length + 1);
+        Assertions.assertEquals(VECTOR && length >= ZigguratVectorSupport.MIN_LENGTH, vector);
+        if (vector) {
+            Assertions.assertEquals(0, out[0]);
+            Assertions.assertEquals(0, out[length + 1]);
+            for (int i = 1; i <= length; i++) {
+                Assertions.assertTrue(Float.isFinite(out[i]) && out[i] != 0);
+            }
+        }
+    }
+
+    @Test
+    void testGaussianDistribution() {
+        Assumptions.assumeTrue(VECTOR);
+        final UniformRandomProvider[] rng = RandomAssert.createRNG(2);
+        final ZigguratSampler.NormalizedGaussian sampler = ZigguratSampler.NormalizedGaussian.of(rng[0]);
+        final double[] out = new double[SAMPLES];
+        Assertions.assertTrue(ZigguratVectorSupport.sample(sampler, out, 0, SAMPLES));
+        final long[] observed1 = new long[BINS.length + 1];
+        for (final double x : out) {
+            observed1[bin(x)]++;
+        }
+        final ZigguratSampler.NormalizedGaussian scalar = ZigguratSampler.NormalizedGaussian.of(rng[1]);
+        final long[] observed2 = new long[BINS.length + 1];
+        for (int i = 0; i < SAMPLES; i++) {
+            observed2[bin(scalar.sample())]++;
+        }
+        assertHomogeneous(observed1, observed2);
+    }
+
+    @Test
+    void testFloatGaussianDistribution() {
+        Assumptions.assumeTrue(VECTOR);
+        final UniformRandomProvider[] rng = RandomAssert.createRNG(2);
+        final ZigguratFloatSampler.NormalizedGaussian sampler = ZigguratFloatSampler.NormalizedGaussian.of(rng[0]);
+        final float[] out = new float[SAMPLES];
+        Assertions.assertTrue(ZigguratVectorSupport.sample(sampler, out, 0, SAMPLES));
+        final long[] observed1 = new long[BINS.length + 1];
+        for (final float x : out) {
+            observed1[bin(x)]++;
+        }
+        final ZigguratFloatSampler.NormalizedGaussian scalar = ZigguratFloatSampler.NormalizedGaussian.of(rng[1]);
+        final long[] observed2 = new long[BINS.length + 1];
+        for (int i = 0; i < SAMPLES; i++) {
+            observed2[bin(scalar.sample())]++;
+        }
+        assertHomogeneous(observed1, observed2);
+    }
+
+    /**
+     * Get the bin for the value.
+     *
+     * @param x Value.
+     * @return the bin
+     */
+    private static int bin(double x) {
+        int i = 0;
+        while (i < BINS.length && x >= BINS[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Perform a chi-square test of homogeneity of the two observed distributions
+     * of equal sample size. The test is performed at the 0.01% level.
+     *
+     * @param observed1 First observations.
+     * @param observed2 Second observations.
+     */
+    private static void assertHomogeneous(long[] observed1, long[] observed2) {
+        double chi2 = 0;
+        for (int i = 0; i < observed1.length; i++) {
+            final double diff = observed1[i] - observed2[i];
+            chi2 += diff * diff / (observed1[i] + observed2[i]);
+        }
+        // Chi-square critical value with 16 bins (15 degrees of freedom) at the 0.01% level
+        final double chi2CriticalValue = 44.263224944165096;
+        if (chi2 > chi2CriticalValue) {
+            Assertions.fail(String.format("Vector and scalar samples are not homogeneous: chi2 = %.3f%n%s%n%s",
+                chi2, Arrays.toString(observed1), Arrays.toString(observed2)));
+        }
+    }
+}
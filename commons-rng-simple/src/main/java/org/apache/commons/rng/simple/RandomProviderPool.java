@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.simple;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.commons.rng.JumpableUniformRandomProvider;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * This class provides a bounded pool of {@link UniformRandomProvider} instances
+ * that can be leased for exclusive use by a task.
+ *
+ * <p>A lease is obtained using {@link #lease()} and must be returned to the pool
+ * by closing it. Generators are created on demand and recycled when the lease is
+ * closed. If the pool is full when a lease is closed then the generator is discarded.
+ *
+ * <p>This is an alternative to {@link ThreadLocalRandomSource} when there are many
+ * short-lived threads (e.g. virtual threads). A thread-local generator is created
+ * for each new thread; a pool creates generators only when all pooled
+ * generators are in use.
+ *
+ * <p>If the {@link RandomSource} is {@link RandomSource#isJumpable() jumpable} then
+ * each new generator is a jump of a single root generator and the shared source of
+ * seeds is used only once; otherwise a new instance is created using
+ * {@link RandomSource#create()}.
+ *
+ * <p>Example:</p>
+ * <pre><code>
+ * import org.apache.commons.rng.simple.RandomProviderPool;
+ * import org.apache.commons.rng.simple.RandomSource;
+ *
+ * try (RandomProviderPool.Lease lease = RandomProviderPool.lease(RandomSource.XO_SHI_RO_256_PP)) {
+ *     UniformRandomProvider rng = lease.get();
+ *     // ...
+ * }
+ * </code></pre>
+ *
+ * <p>Note if the {@link RandomSource} requires additional arguments then it is not
+ * supported.
+ *
+ * @since 1.8
+ */
+public final class RandomProviderPool {
+    /** Number of pooled generators per available processor for the shared pools. */
+    private static final int GENERATORS_PER_PROCESSOR = 4;
+    /** Message for a null source. */
+    private static final String NULL_SOURCE = "Random source is null";
+    /**
+     * A map containing the shared pool instance for each {@link RandomSource}.
+     *
+     * <p>This should only be modified to create new instances in a synchronized block.
+     */
+    private static final Map<RandomSource, RandomProviderPool> POOLS =
+        new EnumMap<>(RandomSource.class);
+    /** An object to use for synchonization of the shared pools. */
+    private static final ReentrantLock POOLS_LOCK = new ReentrantLock();
+
+    /** The source. */
+    private final RandomSource source;
+    /** Set to true if new generators are derived from the root generator. */
+    private final boolean derived;
+    /** The pooled generators. An empty slot is null. */
+    private final AtomicReferenceArray<UniformRandomProvider> slots;
+    /** The lock to own when creating a new generator. */
+    private final ReentrantLock lock = new ReentrantLock();
+    /** The root generator used to create new generators. Created when first required. */
+    private JumpableUniformRandomProvider root;
+
+    /**
+     * A leased generator. The lease must be closed to return the generator to the pool.
+     *
+     * <p>Each call to {@link RandomProviderPool#lease()} returns a new lease. The lease
+     * must not be used after it has been closed. A lease is not thread-safe.
+     */
+    public static final class Lease implements AutoCloseable {
+        /** The pool. */
+        private final RandomProviderPool pool;
+        /** The generator. */
+        private final UniformRandomProvider rng;
+        /** Set to true when the lease is closed. */
+        private boolean closed;
+
+        /**
+         * @param pool Pool.
+         * @param rng Generator.
+         */
+        Lease(RandomProviderPool pool, UniformRandomProvider rng) {
+            this.pool = pool;
+            this.rng = rng;
+        }
+
+        /**
+         * Gets the leased generator.
+         *
+         * @return the generator
+         */
+        public UniformRandomProvider get() {
+            return rng;
+        }
+
+        /**
+         * Returns the generator to the pool. Calling this method more than once has no
+         * effect.
+         */
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                pool.release(rng);
+            }
+        }
+    }
+
+    /**
+     * @param source Source.
+     * @param capacity Capacity.
+     */
+    private RandomProviderPool(RandomSource source, int capacity) {
+        this.source = source;
+        derived = source.isJumpable();
+        slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Create a new pool.
+     *
+     * @param source Source.
+     * @param capacity Maximum number of idle generators to retain in the pool.
+     * @return the pool
+     * @throws IllegalArgumentException if the source is null, or the capacity is not
+     * strictly positive
+     */
+    public static RandomProviderPool of(RandomSource source, int capacity) {
+        if (source == null) {
+            throw new IllegalArgumentException(NULL_SOURCE);
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity is not strictly positive: " + capacity);
+        }
+        return new RandomProviderPool(source, capacity);
+    }
+
+    /**
+     * Lease a generator from the shared pool for the given {@code source}.
+     *
+     * <p>The shared pool retains a maximum of 4 idle generators per available processor.
+     *
+     * @param source the source
+     * @return the lease
+     * @throws IllegalArgumentException if the source is null or the source requires arguments
+     * @see #lease()
+     */
+    public static Lease lease(RandomSource source) {
+        RandomProviderPool pool = POOLS.get(source);
+        // Implement double-checked locking:
+        // https://en.wikipedia.org/wiki/Double-checked_locking#Usage_in_Java
+        if (pool == null) {
+            // Do the checks on the source here since it is an edge case
+            // and the EnumMap handles null (returning null).
+            if (source == null) {
+                throw new IllegalArgumentException(NULL_SOURCE);
+            }
+
+            try {
+                POOLS_LOCK.lock();
+                pool = POOLS.computeIfAbsent(source, s -> new RandomProviderPool(s,
+                    Runtime.getRuntime().availableProcessors() * GENERATORS_PER_PROCESSOR));
+            } finally {
+                POOLS_LOCK.unlock();
+            }
+        }
+        return pool.lease();
+    }
+
+    /**
+     * Lease a generator from the pool. A new generator is created if the pool is empty.
+     *
+     * @return the lease
+     * @throws IllegalArgumentException if the source requires arguments
+     */
+    public Lease lease() {
+        final int n = slots.length();
+        // Start the search at a random position to reduce contention
+        final int start = ThreadLocalRandom.current().nextInt(n);
+        for (int i = start; i < n; i++) {
+            final UniformRandomProvider rng = slots.getAndSet(i, null);
+            if (rng != null) {
+                return new Lease(this, rng);
+            }
+        }
+        for (int i = 0; i < start; i++) {
+            final UniformRandomProvider rng = slots.getAndSet(i, null);
+            if (rng != null) {
+                return new Lease(this, rng);
+            }
+        }
+        return new Lease(this, createGenerator());
+    }
+
+    /**
+     * Return the generator to the pool. The generator is discarded if the pool is full.
+     *
+     * @param rng Generator.
+     */
+    private void release(UniformRandomProvider rng) {
+        final int n = slots.length();
+        final int start = ThreadLocalRandom.current().nextInt(n);
+        for (int i = start; i < n; i++) {
+            if (slots.compareAndSet(i, null, rng)) {
+                return;
+            }
+        }
+        for (int i = 0; i < start; i++) {
+            if (slots.compareAndSet(i, null, rng)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Creates a new generator.
+     *
+     * @return the generator
+     */
+    private UniformRandomProvider createGenerator() {
+        if (!derived) {
+            // Create with the default seed generation method
+            return source.create();
+        }
+        lock.lock();
+        try {
+            if (root == null) {
+                root = (JumpableUniformRandomProvider) source.create();
+            }
+            return root.jump();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.simple;
+
+import org.apache.commons.rng.RestorableUniformRandomProvider;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Deterministic derivation of seeds from a root entropy and a spawn path.
+ *
+ * <p>A seed sequence is an immutable 256-bit entropy pool. The pool of the root
+ * sequence is computed from user-supplied entropy. Child sequences are derived by
+ * mixing a spawn index into the pool of the parent. A tree of sequences is thus
+ * identified by the root entropy and the path of spawn indices from the root;
+ * the same path always generates the same seeds regardless of the order or the
+ * thread in which the children were created.
+ *
+ * <p>Any sequence can generate seeds for a {@link RandomSource}. The seeds are
+ * created using the seed generation method of the source and thus satisfy all the
+ * seed requirements of the implementing class (e.g. not all zero). Seed generation
+ * does not use the shared source of entropy in the library and will not contend with
+ * other threads.
+ *
+ * <p>Example:</p>
+ * <pre><code>
+ * import org.apache.commons.rng.simple.RandomSource;
+ * import org.apache.commons.rng.simple.SeedSequence;
+ *
+ * SeedSequence run = SeedSequence.of(20240117L);
+ * for (int node = 0; node &lt; nodes; node++) {
+ *     SeedSequence n = run.spawn(node);
+ *     for (int thread = 0; thread &lt; threads; thread++) {
+ *         UniformRandomProvider rng = n.spawn(thread).create(RandomSource.XO_SHI_RO_256_PP);
+ *         // ...
+ *     }
+ * }
+ * </code></pre>
+ *
+ * <p>Children with different spawn indices from the same parent are guaranteed to
+ * have different entropy pools. Sequences from different paths have distinct pools
+ * with very high probability. Seeds generated from a sequence are derived from a
+ * bijective mix of a counter; a generated seed will not contain repeated words
+ * (up to 2<sup>64</sup> words).
+ *
+ * <p>This class is inspired by the {@code SeedSequence} of the NumPy library. It
+ * does not produce the same output.
+ *
+ * @see <a href="https://numpy.org/doc/stable/reference/random/bit_generators/generated/numpy.random.SeedSequence.html">
+ * NumPy SeedSequence</a>
+ * @since 1.8
+ */
+public final class SeedSequence {
+    /** Initial value for lane 0 of the pool. Fractional part of pi. */
+    private static final long INIT0 = 0x243f6a8885a308d3L;
+    /** Initial value for lane 1 of the pool. Fractional part of pi. */
+    private static final long INIT1 = 0x13198a2e03707344L;
+    /** Initial value for lane 2 of the pool. Fractional part of pi. */
+    private static final long INIT2 = 0xa4093822299f31d0L;
+    /** Initial value for lane 3 of the pool. Fractional part of pi. */
+    private static final long INIT3 = 0x082efa98ec4e6c89L;
+    /** The fractional part of the golden ratio, phi, scaled to 64-bits and rounded to odd. */
+    private static final long GOLDEN_RATIO_64 = 0x9e3779b97f4a7c15L;
+    /** Increment used to separate a spawn index from user entropy. Fractional part of e. */
+    private static final long SPAWN = 0xb7e151628aed2a6bL;
+    /** Size of the entropy pool for a sequence seeded with random entropy. */
+    private static final int POOL_SIZE = 4;
+
+    /** Lane 0 of the entropy pool. */
+    private final long s0;
+    /** Lane 1 of the entropy pool. */
+    private final long s1;
+    /** Lane 2 of the entropy pool. */
+    private final long s2;
+    /** Lane 3 of the entropy pool. */
+    private final long s3;
+
+    /**
+     * Source of randomness that outputs the words generated by a sequence.
+     */
+    private static final class SequenceProvider implements UniformRandomProvider {
+        /** The sequence. */
+        private final SeedSequence sequence;
+        /** The word counter. */
+        private long counter;
+
+        /**
+         * @param sequence Seed sequence.
+         */
+        SequenceProvider(SeedSequence sequence) {
+            this.sequence = sequence;
+        }
+
+        @Override
+        public long nextLong() {
+            return sequence.word(counter++);
+        }
+    }
+
+    /**
+     * @param s0 Lane 0 of the entropy pool.
+     * @param s1 Lane 1 of the entropy pool.
+     * @param s2 Lane 2 of the entropy pool.
+     * @param s3 Lane 3 of the entropy pool.
+     */
+    private SeedSequence(long s0, long s1, long s2, long s3) {
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    /**
+     * Create a root sequence from the provided entropy.
+     *
+     * <p>The length of the entropy is mixed into the pool; any two different inputs
+     * will create different pools with very high probability.
+     *
+     * @param entropy Entropy.
+     * @return the sequence
+     * @throws NullPointerException if {@code entropy} is null
+     */
+    public static SeedSequence of(long... entropy) {
+        long a = INIT0;
+        long b = INIT1;
+        long c = INIT2;
+        long d = INIT3;
+        for (final long v : entropy) {
+            // Chain each lane so that a change in the input affects all lanes
+            a = stafford13(a ^ stafford13(v + GOLDEN_RATIO_64));
+            b = stafford13(b + a);
+            c = stafford13(c ^ b);
+            d = stafford13(d + c);
+        }
+        // Finalise with the length.
+        // This ensures a trailing zero is not equivalent to no trailing zero.
+        return new SeedSequence(a, b, c, d).spawn(~entropy.length);
+    }
+
+    /**
+     * Create a root sequence using random entropy.
+     *
+     * <p>The entropy is obtained using {@link RandomSource#createLongArray(int)}.
+     *
+     * @return the sequence
+     */
+    public static SeedSequence create() {
+        return of(RandomSource.createLongArray(POOL_SIZE));
+    }
+
+    /**
+     * Create a child sequence from the spawn {@code index}.
+     *
+     * <p>This method is a pure function of the current pool and the index; calling it
+     * repeatedly with the same index will return equivalent sequences.
+     *
+     * @param index Spawn index.
+     * @return the child sequence
+     */
+    public SeedSequence spawn(long index) {
+        // Each lane is a bijection of the index so children never share any lane
+        final long a = stafford13(s0 ^ stafford13(index + SPAWN));
+        final long b = stafford13(s1 + a);
+        final long c = stafford13(s2 ^ b);
+        final long d = stafford13(s3 + c);
+        return new SeedSequence(a, b, c, d);
+    }
+
+    /**
+     * Fill the {@code state} with words generated from the entropy pool.
+     *
+     * <p>The output is the same as {@code (int) (x >>> 32)} for each word {@code x}
+     * generated by {@link #generateState(long[])}.
+     *
+     * @param state State (modified in-place).
+     * @return the state
+     */
+    public int[] generateState(int[] state) {
+        for (int i = 0; i < state.length; i++) {
+            state[i] = (int) (word(i) >>> 32);
+        }
+        return state;
+    }
+
+    /**
+     * Fill the {@code state} with words generated from the entropy pool.
+     *
+     * @param state State (modified in-place).
+     * @return the state
+     */
+    public long[] generateState(long[] state) {
+        for (int i = 0; i < state.length; i++) {
+            state[i] = word(i);
+        }
+        return state;
+    }
+
+    /**
+     * Creates a seed suitable for the implementing class represented by the random
+     * source.
+     *
+     * <p>The seed is generated using {@link RandomSource#createSeed(UniformRandomProvider)}
+     * with a source of randomness that outputs the words of this sequence.
+     *
+     * @param source Random source.
+     * @return the seed
+     */
+    public byte[] createSeed(RandomSource source) {
+        return source.createSeed(new SequenceProvider(this));
+    }
+
+    /**
+     * Creates a random number generator using a seed from this sequence.
+     *
+     * @param source Random source.
+     * @param data Additional arguments to the implementation's constructor.
+     * Please refer to the documentation of each specific implementation.
+     * @return the RNG
+     * @throws IllegalArgumentException if the argument data required to initialize the
+     * generator is incorrect.
+     * @see RandomSource#create(Object, Object...)
+     */
+    public RestorableUniformRandomProvider create(RandomSource source,
+                                                  Object... data) {
+        return source.create(createSeed(source), data);
+    }
+
+    /**
+     * Generate the word at the given position in the output sequence. This is a
+     * bijection of the position given the entropy pool.
+     *
+     * @param position Position.
+     * @return the word
+     */
+    private long word(long position) {
+        long x = stafford13(s0 + (position + 1) * GOLDEN_RATIO_64);
+        x = stafford13(x ^ s1);
+        x = stafford13(x + s2);
+        return x ^ s3;
+    }
+
+    /**
+     * Perform variant 13 of David Stafford's 64-bit mix function.
+     * This is the mix function used in the
+     * {@link org.apache.commons.rng.core.source64.SplitMix64 SplitMix64} RNG.
+     *
+     * @param x the input value
+     * @return the output value
+     * @see <a href="https://zimbry.blogspot.com/2011/09/better-bit-mixing-improving-on.html">Better
+     *      Bit Mixing - Improving on MurmurHash3&#39;s 64-bit Finalizer.</a>
+     */
+    private static long stafford13(long x) {
+        x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+}
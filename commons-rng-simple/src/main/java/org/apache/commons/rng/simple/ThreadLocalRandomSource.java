@@ -19,6 +19,9 @@ package org.apache.commons.rng.simple;
 import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
+import org.apache.commons.rng.JumpableUniformRandomProvider;
+import org.apache.commons.rng.RandomProviderState;
+import org.apache.commons.rng.RestorableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 
 /**
@@ -62,6 +65,10 @@ import org.apache.commons.rng.UniformRandomProvider;
  * int counts = PoissonSampler.of(rng.get(), mean).sample();
  * </code></pre>
  *
+ * <p>The generators returned by {@link #current(RandomSource)} are seeded randomly.
+ * Reproducible per-thread generators derived from a fixed seed are provided by
+ * {@link #withSeed(RandomSource, Object)}.</p>
+ *
  * @since 1.3
  */
 public final class ThreadLocalRandomSource {
@@ -72,6 +79,8 @@ public final class ThreadLocalRandomSource {
      */
     private static final Map<RandomSource, ThreadLocal<UniformRandomProvider>> SOURCES =
         new EnumMap<>(RandomSource.class);
+    /** Message for a null source. */
+    private static final String NULL_SOURCE = "Random source is null";
     /** An object to use for synchonization. */
     private static final ReentrantLock LOCK = new ReentrantLock();
 
@@ -101,6 +110,175 @@ public final class ThreadLocalRandomSource {
         }
     }
 
+    /**
+     * Provides generators for each thread that are derived deterministically from a
+     * master generator.
+     *
+     * <p>The master generator is created from a fixed seed. The generator with index
+     * {@code k} is the copy returned by the {@code (k+1)}-th
+     * {@link JumpableUniformRandomProvider#jump() jump} of the master. Each generator
+     * thus provides output that does not overlap the other generators for the length
+     * of the jump.
+     *
+     * <p>The generator for a thread can be obtained in two ways:
+     *
+     * <ul>
+     *  <li>{@link #current()}: The thread is assigned the next index when it first calls
+     *      the method. The output is reproducible if threads register in a
+     *      deterministic order.
+     *  <li>{@link #get(int)}: The caller provides the index, for example the worker index
+     *      of a fixed size pool. The output is reproducible regardless of the order in
+     *      which the generators are created.
+     * </ul>
+     *
+     * <p>The two methods share the same sequence of indices; a thread registered as the
+     * {@code k}-th thread will use the same output as the generator with index {@code k}.
+     * Use only one of the methods for a set of threads.
+     *
+     * <p>Only the state of the master generator after the most recent jump is retained.
+     * Creation of the generator with the next index performs a single jump of the master
+     * using a lock owned by this instance; the shared lock used to generate random seeds
+     * is never used. Any other index is created by repeated jumps of a copy outside the
+     * lock, starting from the master state if the index is ahead of the master, otherwise
+     * from the seed. After the first call by a thread the {@link #current()} method does
+     * not require a lock.
+     *
+     * @since 1.8
+     */
+    public static final class Seeded {
+        /** Marker to create the generator for the next unused thread index. */
+        private static final int NEXT_THREAD = -1;
+
+        /** The source. */
+        private final RandomSource source;
+        /** The seed. */
+        private final Object seed;
+        /** The master generator. The state is the generator with index {@code count}. */
+        private final JumpableUniformRandomProvider master;
+        /** The lock to own when using the master generator. */
+        private final ReentrantLock lock = new ReentrantLock();
+        /** The thread-local generator. */
+        private final ThreadLocal<UniformRandomProvider> rng =
+            ThreadLocal.withInitial(this::register);
+        /** The number of jumps of the master generator. */
+        private int count;
+        /** The index of the next thread to register. */
+        private int nextThread;
+
+        /**
+         * @param source Source.
+         * @param seed Seed.
+         * @param master Master generator.
+         */
+        Seeded(RandomSource source, Object seed, JumpableUniformRandomProvider master) {
+            this.source = source;
+            this.seed = seed;
+            this.master = master;
+        }
+
+        /**
+         * Returns the current thread's generator. If there is no value for the current
+         * thread, it is first initialized to the generator with the next unused index.
+         *
+         * @return the current thread's generator
+         */
+        public UniformRandomProvider current() {
+            return rng.get();
+        }
+
+        /**
+         * Creates a new instance of the generator with the given {@code index}.
+         *
+         * <p>Repeat calls with the same {@code index} create new instances
+         * that produce the same output.
+         *
+         * @param index Index.
+         * @return the generator
+         * @throws IllegalArgumentException if the {@code index} is negative
+         */
+        public UniformRandomProvider get(int index) {
+            if (index < 0) {
+                throw new IllegalArgumentException("Index is negative: " + index);
+            }
+            return create(index);
+        }
+
+        /**
+         * Creates the generator for a thread using the next unused index.
+         *
+         * @return the generator
+         */
+        private UniformRandomProvider register() {
+            return create(NEXT_THREAD);
+        }
+
+        /**
+         * Creates the generator with the given {@code index}. Use {@link #NEXT_THREAD}
+         * to reserve the next unused thread index.
+         *
+         * @param requested Index.
+         * @return the generator
+         */
+        private UniformRandomProvider create(int requested) {
+            final int index;
+            final RandomProviderState state;
+            final int start;
+            lock.lock();
+            try {
+                index = requested == NEXT_THREAD ? nextThread++ : requested;
+                if (index == count) {
+                    count++;
+                    return master.jump();
+                }
+                if (index > count) {
+                    state = ((RestorableUniformRandomProvider) master).saveState();
+                    start = count;
+                } else {
+                    state = null;
+                    start = 0;
+                }
+            } finally {
+                lock.unlock();
+            }
+            final RestorableUniformRandomProvider instance = source.create(seed);
+            if (state != null) {
+                instance.restoreState(state);
+            }
+            final JumpableUniformRandomProvider jumpable = (JumpableUniformRandomProvider) instance;
+            for (int i = start; i < index; i++) {
+                jumpable.jump();
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * Create a provider of deterministic generators for each thread derived from the
+     * given {@code source} and {@code seed}.
+     *
+     * <p>The {@code source} must be {@link RandomSource#isJumpable() jumpable}.
+     *
+     * @param source the source
+     * @param seed the seed of the master generator
+     * @return the provider of thread generators
+     * @throws IllegalArgumentException if the source or seed is null, or the source is
+     * not jumpable
+     * @see Seeded
+     * @since 1.8
+     */
+    public static Seeded withSeed(RandomSource source, Object seed) {
+        if (source == null) {
+            throw new IllegalArgumentException(NULL_SOURCE);
+        }
+        if (seed == null) {
+            throw new IllegalArgumentException("Seed is null");
+        }
+        if (!source.isJumpable()) {
+            throw new IllegalArgumentException("Random source is not jumpable: " + source);
+        }
+        return new Seeded(source, seed, (JumpableUniformRandomProvider) source.create(seed));
+    }
+
     /**
      * Returns the current thread's copy of the given {@code source}. If there is no
      * value for the current thread, it is first initialized to the value returned
@@ -121,7 +299,7 @@ public final class ThreadLocalRandomSource {
             // Do the checks on the source here since it is an edge case
             // and the EnumMap handles null (returning null).
             if (source == null) {
-                throw new IllegalArgumentException("Random source is null");
+                throw new IllegalArgumentException(NULL_SOURCE);
             }
 
             try {
@@ -0,0 +1,549 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.simple;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.rng.JumpableUniformRandomProvider;
+import org.apache.commons.rng.LongJumpableUniformRandomProvider;
+import org.apache.commons.rng.RestorableUniformRandomProvider;
+import org.apache.commons.rng.SplittableUniformRandomProvider;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Adapts a {@link UniformRandomProvider} to the {@link RandomGenerator} interface
+ * introduced in Java 17.
+ *
+ * <p>The adapter delegates all the methods of {@link RandomGenerator} that have an
+ * equivalent in {@link UniformRandomProvider}. Methods are not synchronized and the
+ * adapter is not thread-safe.
+ *
+ * <p>If the provider is a {@link SplittableUniformRandomProvider} the adapter implements
+ * {@link RandomGenerator.SplittableGenerator SplittableGenerator}. If the provider is a
+ * {@link JumpableUniformRandomProvider} with a known jump distance it implements
+ * {@link RandomGenerator.JumpableGenerator JumpableGenerator}; support for a
+ * {@link LongJumpableUniformRandomProvider} is provided using
+ * {@link RandomGenerator.LeapableGenerator LeapableGenerator}.
+ *
+ * <p>Each {@link RandomSource} that does not require additional arguments is
+ * registered as a service provider of {@link RandomGenerator}. The JDK uses the simple
+ * name of the provider class as the algorithm name. This is the name of the
+ * {@link RandomSource} enum constant converted to camel case with the underscores
+ * removed, e.g. {@code XO_SHI_RO_256_PP} is {@code XoShiRo256Pp}:
+ *
+ * <pre><code>
+ * RandomGenerator rng = RandomGenerator.of("XoShiRo256Pp");
+ * SplittableGenerator split = RandomGeneratorFactory.&lt;SplittableGenerator&gt;of("L64X128Mix").create();
+ * </code></pre>
+ *
+ * <p>Note: The JDK 17 implementation of {@link java.util.random.RandomGeneratorFactory#all()}
+ * lists only the JDK algorithms; registered algorithms must be obtained by name.
+ *
+ * <p>The service providers are registered for use from the class path. The module
+ * descriptor of the multi-release jar targets Java 9 and does not declare the
+ * providers; a module that provides {@link RandomGenerator} cannot be resolved on
+ * Java 9 to 16. On the module path the generators can be adapted using
+ * {@link #of(UniformRandomProvider)}.
+ *
+ * <p>This class is only available on Java 17+ from the multi-release jar.
+ *
+ * @since 1.8
+ */
+public final class RandomGenerators {
+    /** Jump distances for known jumpable generators: [jump, long jump].
+     * The class names are qualified as the generator classes of this class use the
+     * same simple names. */
+    private static final Map<Class<?>, double[]> DISTANCES = Map.ofEntries(
+        Map.entry(org.apache.commons.rng.core.source64.XorShift1024Star.class, new double[] {0x1.0p512}),
+        Map.entry(org.apache.commons.rng.core.source64.XorShift1024StarPhi.class, new double[] {0x1.0p512}),
+        Map.entry(org.apache.commons.rng.core.source32.XoShiRo128Plus.class, new double[] {0x1.0p64, 0x1.0p96}),
+        Map.entry(org.apache.commons.rng.core.source32.XoShiRo128PlusPlus.class, new double[] {0x1.0p64, 0x1.0p96}),
+        Map.entry(org.apache.commons.rng.core.source32.XoShiRo128StarStar.class, new double[] {0x1.0p64, 0x1.0p96}),
+        Map.entry(org.apache.commons.rng.core.source64.XoRoShiRo128Plus.class, new double[] {0x1.0p64, 0x1.0p96}),
+        Map.entry(org.apache.commons.rng.core.source64.XoRoShiRo128PlusPlus.class, new double[] {0x1.0p64, 0x1.0p96}),
+        Map.entry(org.apache.commons.rng.core.source64.XoRoShiRo128StarStar.class, new double[] {0x1.0p64, 0x1.0p96}),
+        Map.entry(org.apache.commons.rng.core.source64.XoShiRo256Plus.class, new double[] {0x1.0p128, 0x1.0p192}),
+        Map.entry(org.apache.commons.rng.core.source64.XoShiRo256PlusPlus.class, new double[] {0x1.0p128, 0x1.0p192}),
+        Map.entry(org.apache.commons.rng.core.source64.XoShiRo256StarStar.class, new double[] {0x1.0p128, 0x1.0p192}),
+        Map.entry(org.apache.commons.rng.core.source64.XoShiRo512Plus.class, new double[] {0x1.0p256, 0x1.0p384}),
+        Map.entry(org.apache.commons.rng.core.source64.XoShiRo512PlusPlus.class, new double[] {0x1.0p256, 0x1.0p384}),
+        Map.entry(org.apache.commons.rng.core.source64.XoShiRo512StarStar.class, new double[] {0x1.0p256, 0x1.0p384}),
+        Map.entry(org.apache.commons.rng.core.source64.XoRoShiRo1024PlusPlus.class, new double[] {0x1.0p512, 0x1.0p768}),
+        Map.entry(org.apache.commons.rng.core.source64.XoRoShiRo1024Star.class, new double[] {0x1.0p512, 0x1.0p768}),
+        Map.entry(org.apache.commons.rng.core.source64.XoRoShiRo1024StarStar.class, new double[] {0x1.0p512, 0x1.0p768}),
+        Map.entry(org.apache.commons.rng.core.source32.Philox4x32.class, new double[] {0x1.0p66, 0x1.0p98}),
+        Map.entry(org.apache.commons.rng.core.source64.Philox4x64.class, new double[] {0x1.0p130, 0x1.0p194}));
+    /** The source for each registered algorithm name. */
+    private static final Map<String, RandomSource> SOURCES = Stream.of(RandomSource.values())
+        .collect(Collectors.toMap(RandomGenerators::algorithm, s -> s));
+
+    /**
+     * Adapt a {@link UniformRandomProvider} to a {@link RandomGenerator}.
+     */
+    static class ProviderGenerator implements RandomGenerator {
+        /** The delegate. */
+        private final UniformRandomProvider rng;
+
+        /**
+         * Create an instance of the {@link RandomSource} identified by the simple name
+         * of the class. This supports the service provider classes.
+         */
+        ProviderGenerator() {
+            rng = create(getClass());
+        }
+
+        /**
+         * @param rng Delegate.
+         */
+        ProviderGenerator(UniformRandomProvider rng) {
+            this.rng = rng;
+        }
+
+        /**
+         * Gets the delegate.
+         *
+         * @return the delegate
+         */
+        UniformRandomProvider getDelegate() {
+            return rng;
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return rng.nextBoolean();
+        }
+
+        @Override
+        public void nextBytes(byte[] bytes) {
+            rng.nextBytes(bytes);
+        }
+
+        @Override
+        public float nextFloat() {
+            return rng.nextFloat();
+        }
+
+        @Override
+        public float nextFloat(float bound) {
+            return rng.nextFloat(bound);
+        }
+
+        @Override
+        public float nextFloat(float origin, float bound) {
+            return rng.nextFloat(origin, bound);
+        }
+
+        @Override
+        public double nextDouble() {
+            return rng.nextDouble();
+        }
+
+        @Override
+        public double nextDouble(double bound) {
+            return rng.nextDouble(bound);
+        }
+
+        @Override
+        public double nextDouble(double origin, double bound) {
+            return rng.nextDouble(origin, bound);
+        }
+
+        @Override
+        public int nextInt() {
+            return rng.nextInt();
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return rng.nextInt(bound);
+        }
+
+        @Override
+        public int nextInt(int origin, int bound) {
+            return rng.nextInt(origin, bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return rng.nextLong();
+        }
+
+        @Override
+        public long nextLong(long bound) {
+            return rng.nextLong(bound);
+        }
+
+        @Override
+        public long nextLong(long origin, long bound) {
+            return rng.nextLong(origin, bound);
+        }
+    }
+
+    /**
+     * Adapt a {@link SplittableUniformRandomProvider} to a
+     * {@link RandomGenerator.SplittableGenerator SplittableGenerator}.
+     */
+    static class SplittableProviderGenerator extends ProviderGenerator
+            implements RandomGenerator.SplittableGenerator {
+        /** The delegate. */
+        private final SplittableUniformRandomProvider rng;
+
+        /**
+         * Create an instance of the {@link RandomSource} identified by the simple name
+         * of the class.
+         */
+        SplittableProviderGenerator() {
+            rng = (SplittableUniformRandomProvider) getDelegate();
+        }
+
+        /**
+         * @param rng Delegate.
+         */
+        SplittableProviderGenerator(SplittableUniformRandomProvider rng) {
+            super(rng);
+            this.rng = rng;
+        }
+
+        @Override
+        public SplittableGenerator split() {
+            return new SplittableProviderGenerator(rng.split());
+        }
+
+        @Override
+        public SplittableGenerator split(SplittableGenerator source) {
+            return new SplittableProviderGenerator(rng.split(source::nextLong));
+        }
+
+        @Override
+        public Stream<SplittableGenerator> splits() {
+            return rng.splits().map(SplittableProviderGenerator::new);
+        }
+
+        @Override
+        public Stream<SplittableGenerator> splits(long streamSize) {
+            return rng.splits(streamSize).map(SplittableProviderGenerator::new);
+        }
+
+        @Override
+        public Stream<SplittableGenerator> splits(SplittableGenerator source) {
+            // The source is split to support a parallel stream
+            return source.splits(Long.MAX_VALUE).map(this::split);
+        }
+
+        @Override
+        public Stream<SplittableGenerator> splits(long streamSize, SplittableGenerator source) {
+            return source.splits(streamSize).map(this::split);
+        }
+    }
+
+    /**
+     * Adapt a {@link JumpableUniformRandomProvider} to a
+     * {@link RandomGenerator.JumpableGenerator JumpableGenerator}.
+     *
+     * <p>The provider must also be a {@link RestorableUniformRandomProvider} to support
+     * creation of a copy.
+     */
+    static class JumpableProviderGenerator extends ProviderGenerator
+            implements RandomGenerator.JumpableGenerator {
+        /** The delegate. */
+        private final JumpableUniformRandomProvider rng;
+        /** The jump distances. */
+        private final double[] distances;
+
+        /**
+         * Create an instance of the {@link RandomSource} identified by the simple name
+         * of the class.
+         */
+        JumpableProviderGenerator() {
+            rng = (JumpableUniformRandomProvider) getDelegate();
+            distances = distances(rng);
+        }
+
+        /**
+         * @param rng Delegate.
+         * @param distances Jump distances.
+         */
+        JumpableProviderGenerator(JumpableUniformRandomProvider rng, double[] distances) {
+            super(rng);
+            this.rng = rng;
+            this.distances = distances;
+        }
+
+        @Override
+        public JumpableGenerator copy() {
+            return new JumpableProviderGenerator(copy(rng), distances);
+        }
+
+        @Override
+        public void jump() {
+            rng.jump();
+        }
+
+        @Override
+        public double jumpDistance() {
+            return distances[0];
+        }
+
+        /**
+         * Gets the jump distances.
+         *
+         * @return the distances
+         */
+        double[] getDistances() {
+            return distances;
+        }
+
+        /**
+         * Create a copy of the generator. The state of the generator is unchanged.
+         *
+         * @param <T> the type of the generator
+         * @param rng Generator.
+         * @return the copy
+         */
+        @SuppressWarnings("unchecked")
+        static <T extends JumpableUniformRandomProvider> T copy(T rng) {
+            // The jump creates a copy of the current state and advances the generator.
+            // Restore the generator to the state of the copy.
+            final UniformRandomProvider copy = rng.jump();
+            ((RestorableUniformRandomProvider) rng).restoreState(
+                ((RestorableUniformRandomProvider) copy).saveState());
+            return (T) copy;
+        }
+    }
+
+    /**
+     * Adapt a {@link LongJumpableUniformRandomProvider} to a
+     * {@link RandomGenerator.LeapableGenerator LeapableGenerator}.
+     */
+    static class LeapableProviderGenerator extends JumpableProviderGenerator
+            implements RandomGenerator.LeapableGenerator {
+        /**
+         * Create an instance of the {@link RandomSource} identified by the simple name
+         * of the class.
+         */
+        LeapableProviderGenerator() {
+            // Default constructor of the super class
+        }
+
+        /**
+         * @param rng Delegate.
+         * @param distances Jump distances.
+         */
+        LeapableProviderGenerator(LongJumpableUniformRandomProvider rng, double[] distances) {
+            super(rng, distances);
+        }
+
+        @Override
+        public LeapableGenerator copy() {
+            return new LeapableProviderGenerator(
+                copy((LongJumpableUniformRandomProvider) getDelegate()), getDistances());
+        }
+
+        @Override
+        public void leap() {
+            ((LongJumpableUniformRandomProvider) getDelegate()).longJump();
+        }
+
+        @Override
+        public double leapDistance() {
+            return getDistances()[1];
+        }
+    }
+
+    /** Generator for {@link RandomSource#JDK}. */
+    public static final class Jdk extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#WELL_512_A}. */
+    public static final class Well512A extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#WELL_1024_A}. */
+    public static final class Well1024A extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#WELL_19937_A}. */
+    public static final class Well19937A extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#WELL_19937_C}. */
+    public static final class Well19937C extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#WELL_44497_A}. */
+    public static final class Well44497A extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#WELL_44497_B}. */
+    public static final class Well44497B extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#MT}. */
+    public static final class Mt extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#ISAAC}. */
+    public static final class Isaac extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#SPLIT_MIX_64}. */
+    public static final class SplitMix64 extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#TWO_CMRES}. */
+    public static final class TwoCmres extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#MT_64}. */
+    public static final class Mt64 extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#MWC_256}. */
+    public static final class Mwc256 extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#KISS}. */
+    public static final class Kiss extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#XOR_SHIFT_1024_S_PHI}. */
+    public static final class XorShift1024SPhi extends JumpableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_RO_SHI_RO_64_S}. */
+    public static final class XoRoShiRo64S extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_RO_SHI_RO_64_SS}. */
+    public static final class XoRoShiRo64Ss extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_SHI_RO_128_PLUS}. */
+    public static final class XoShiRo128Plus extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_SHI_RO_128_SS}. */
+    public static final class XoShiRo128Ss extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_RO_SHI_RO_128_PLUS}. */
+    public static final class XoRoShiRo128Plus extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_RO_SHI_RO_128_SS}. */
+    public static final class XoRoShiRo128Ss extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_SHI_RO_256_PLUS}. */
+    public static final class XoShiRo256Plus extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_SHI_RO_256_SS}. */
+    public static final class XoShiRo256Ss extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_SHI_RO_512_PLUS}. */
+    public static final class XoShiRo512Plus extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_SHI_RO_512_SS}. */
+    public static final class XoShiRo512Ss extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#PCG_XSH_RR_32}. */
+    public static final class PcgXshRr32 extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#PCG_XSH_RS_32}. */
+    public static final class PcgXshRs32 extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#PCG_RXS_M_XS_64}. */
+    public static final class PcgRxsMXs64 extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#PCG_MCG_XSH_RR_32}. */
+    public static final class PcgMcgXshRr32 extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#PCG_MCG_XSH_RS_32}. */
+    public static final class PcgMcgXshRs32 extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#MSWS}. */
+    public static final class Msws extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#SFC_32}. */
+    public static final class Sfc32 extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#SFC_64}. */
+    public static final class Sfc64 extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#JSF_32}. */
+    public static final class Jsf32 extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#JSF_64}. */
+    public static final class Jsf64 extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_SHI_RO_128_PP}. */
+    public static final class XoShiRo128Pp extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_RO_SHI_RO_128_PP}. */
+    public static final class XoRoShiRo128Pp extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_SHI_RO_256_PP}. */
+    public static final class XoShiRo256Pp extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_SHI_RO_512_PP}. */
+    public static final class XoShiRo512Pp extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_RO_SHI_RO_1024_PP}. */
+    public static final class XoRoShiRo1024Pp extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_RO_SHI_RO_1024_S}. */
+    public static final class XoRoShiRo1024S extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#XO_RO_SHI_RO_1024_SS}. */
+    public static final class XoRoShiRo1024Ss extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#PCG_XSH_RR_32_OS}. */
+    public static final class PcgXshRr32Os extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#PCG_XSH_RS_32_OS}. */
+    public static final class PcgXshRs32Os extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#PCG_RXS_M_XS_64_OS}. */
+    public static final class PcgRxsMXs64Os extends ProviderGenerator {}
+    /** Generator for {@link RandomSource#L64_X128_SS}. */
+    public static final class L64X128Ss extends SplittableProviderGenerator {}
+    /** Generator for {@link RandomSource#L64_X128_MIX}. */
+    public static final class L64X128Mix extends SplittableProviderGenerator {}
+    /** Generator for {@link RandomSource#L64_X256_MIX}. */
+    public static final class L64X256Mix extends SplittableProviderGenerator {}
+    /** Generator for {@link RandomSource#L64_X1024_MIX}. */
+    public static final class L64X1024Mix extends SplittableProviderGenerator {}
+    /** Generator for {@link RandomSource#L128_X128_MIX}. */
+    public static final class L128X128Mix extends SplittableProviderGenerator {}
+    /** Generator for {@link RandomSource#L128_X256_MIX}. */
+    public static final class L128X256Mix extends SplittableProviderGenerator {}
+    /** Generator for {@link RandomSource#L128_X1024_MIX}. */
+    public static final class L128X1024Mix extends SplittableProviderGenerator {}
+    /** Generator for {@link RandomSource#L32_X64_MIX}. */
+    public static final class L32X64Mix extends SplittableProviderGenerator {}
+    /** Generator for {@link RandomSource#PHILOX_4X32}. */
+    public static final class Philox4x32 extends LeapableProviderGenerator {}
+    /** Generator for {@link RandomSource#PHILOX_4X64}. */
+    public static final class Philox4x64 extends LeapableProviderGenerator {}
+
+    /** No public construction. */
+    private RandomGenerators() {}
+
+    /**
+     * Adapt the {@link UniformRandomProvider} to a {@link RandomGenerator}.
+     *
+     * <p>The returned instance implements the most specific sub-interface of
+     * {@link RandomGenerator} supported by the provider.
+     *
+     * <p>Support for a {@link RandomGenerator.JumpableGenerator JumpableGenerator} requires
+     * the provider is a jumpable generator from the library.
+     *
+     * @param rng Generator.
+     * @return the random generator
+     */
+    public static RandomGenerator of(UniformRandomProvider rng) {
+        if (rng instanceof SplittableUniformRandomProvider) {
+            return new SplittableProviderGenerator((SplittableUniformRandomProvider) rng);
+        }
+        final double[] distances = distances(rng);
+        if (distances != null) {
+            if (distances.length == 2) {
+                return new LeapableProviderGenerator((LongJumpableUniformRandomProvider) rng, distances);
+            }
+            return new JumpableProviderGenerator((JumpableUniformRandomProvider) rng, distances);
+        }
+        return new ProviderGenerator(rng);
+    }
+
+    /**
+     * Gets the algorithm name of the generator registered for the {@code source}.
+     *
+     * @param source Source.
+     * @return the name
+     */
+    static String algorithm(RandomSource source) {
+        final StringBuilder sb = new StringBuilder();
+        for (final String part : source.name().split("_")) {
+            sb.append(part.charAt(0)).append(part.substring(1).toLowerCase(Locale.ROOT));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Create an instance of the {@link RandomSource} identified by the simple name
+     * of the {@code type}.
+     *
+     * @param type Generator class.
+     * @return the provider
+     * @throws IllegalStateException if the name is not a registered algorithm
+     */
+    private static UniformRandomProvider create(Class<?> type) {
+        final RandomSource source = SOURCES.get(type.getSimpleName());
+        if (source == null) {
+            throw new IllegalStateException("Unknown algorithm: " + type.getSimpleName());
+        }
+        return source.create();
+    }
+
+    /**
+     * Gets the jump distances of the generator: {@code [jump, long jump]}.
+     *
+     * @param rng Generator.
+     * @return the distances (or null)
+     */
+    private static double[] distances(UniformRandomProvider rng) {
+        return DISTANCES.get(rng.getClass());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link RandomProviderPool}.
+ */
+class RandomProviderPoolTest {
+    @Test
+    void testLeaseThrowsForNullRandomSource() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomProviderPool.lease(null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomProviderPool.of(null, 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testOfThrowsForInvalidCapacity(int capacity) {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> RandomProviderPool.of(RandomSource.SPLIT_MIX_64, capacity));
+    }
+
+    @Test
+    void testLeaseThrowsForRandomSourceWithDataArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> RandomProviderPool.lease(RandomSource.TWO_CMRES_SELECT));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RandomSource.class, mode = EnumSource.Mode.EXCLUDE, names = {"TWO_CMRES_SELECT"})
+    void testLeaseIsRecycled(RandomSource source) {
+        final UniformRandomProvider rng;
+        try (RandomProviderPool.Lease lease = RandomProviderPool.lease(source)) {
+            rng = lease.get();
+            Assertions.assertNotNull(rng);
+        }
+        // A single-threaded lease will obtain the only pooled generator
+        try (RandomProviderPool.Lease lease = RandomProviderPool.lease(source)) {
+            Assertions.assertSame(rng, lease.get());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RandomSource.class, names = {"XO_SHI_RO_256_PP", "L64_X128_MIX", "JSF_64"})
+    void testConcurrentLeasesAreDifferent(RandomSource source) {
+        final RandomProviderPool pool = RandomProviderPool.of(source, 2);
+        final RandomProviderPool.Lease lease1 = pool.lease();
+        final RandomProviderPool.Lease lease2 = pool.lease();
+        final RandomProviderPool.Lease lease3 = pool.lease();
+        Assertions.assertNotSame(lease1.get(), lease2.get());
+        Assertions.assertNotSame(lease1.get(), lease3.get());
+        Assertions.assertNotSame(lease2.get(), lease3.get());
+        final long x = lease1.get().nextLong();
+        Assertions.assertNotEquals(x, lease2.get().nextLong());
+        Assertions.assertNotEquals(x, lease3.get().nextLong());
+
+        // Return more than the capacity. The last is discarded.
+        lease1.close();
+        lease2.close();
+        lease3.close();
+        final List<UniformRandomProvider> list = new ArrayList<>();
+        list.add(pool.lease().get());
+        list.add(pool.lease().get());
+        Assertions.assertTrue(list.contains(lease1.get()));
+        Assertions.assertTrue(list.contains(lease2.get()));
+        Assertions.assertNotSame(lease3.get(), pool.lease().get());
+    }
+
+    @Test
+    void testCloseTwice() {
+        final RandomProviderPool pool = RandomProviderPool.of(RandomSource.SPLIT_MIX_64, 2);
+        final RandomProviderPool.Lease lease1 = pool.lease();
+        lease1.close();
+        lease1.close();
+        // The pool should contain only 1 instance
+        final RandomProviderPool.Lease lease2 = pool.lease();
+        final RandomProviderPool.Lease lease3 = pool.lease();
+        Assertions.assertNotSame(lease1, lease2);
+        Assertions.assertSame(lease1.get(), lease2.get());
+        Assertions.assertNotSame(lease1.get(), lease3.get());
+    }
+
+    @Test
+    void testStaleCloseDoesNotReleaseLeasedGenerator() {
+        final RandomProviderPool pool = RandomProviderPool.of(RandomSource.SPLIT_MIX_64, 2);
+        final RandomProviderPool.Lease lease1 = pool.lease();
+        lease1.close();
+        lease1.close();
+        // Re-lease the generator
+        final RandomProviderPool.Lease lease2 = pool.lease();
+        Assertions.assertSame(lease1.get(), lease2.get());
+        // Stale close of the first lease must not return the generator in use
+        lease1.close();
+        final RandomProviderPool.Lease lease3 = pool.lease();
+        Assertions.assertNotSame(lease2.get(), lease3.get());
+        lease2.close();
+        lease3.close();
+    }
+
+    @Test
+    void testMultiThreadedLease()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final RandomProviderPool pool = RandomProviderPool.of(RandomSource.XO_RO_SHI_RO_128_PP, 4);
+        final int threads = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    try (RandomProviderPool.Lease lease = pool.lease()) {
+                        lease.get().nextLong();
+                    }
+                }
+            }));
+        }
+        executor.shutdown();
+        for (final Future<?> f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.simple;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Tests for {@link SeedSequence}.
+ */
+class SeedSequenceTest {
+    @Test
+    void testSameEntropyCreatesSameState() {
+        final long[] a = SeedSequence.of(1, 2, 3).generateState(new long[10]);
+        final long[] b = SeedSequence.of(1, 2, 3).generateState(new long[10]);
+        Assertions.assertArrayEquals(a, b);
+    }
+
+    @Test
+    void testDifferentEntropyCreatesDifferentState() {
+        final long[][] entropy = {
+            {}, {0}, {0, 0}, {1}, {1, 0}, {0, 1}, {1, 2, 3}, {3, 2, 1},
+        };
+        final Set<Long> words = new HashSet<>();
+        for (final long[] e : entropy) {
+            final long[] state = SeedSequence.of(e).generateState(new long[4]);
+            for (final long x : state) {
+                Assertions.assertTrue(words.add(x), "Duplicate word");
+            }
+        }
+    }
+
+    @Test
+    void testIntState() {
+        final SeedSequence seq = SeedSequence.of(42);
+        final long[] a = seq.generateState(new long[7]);
+        final int[] b = seq.generateState(new int[7]);
+        for (int i = 0; i < a.length; i++) {
+            Assertions.assertEquals((int) (a[i] >>> 32), b[i]);
+        }
+    }
+
+    @Test
+    void testSpawnIsDeterministic() {
+        final SeedSequence root = SeedSequence.of(987654321L);
+        // Spawn in a different order
+        final long[] a = root.spawn(3).spawn(7).generateState(new long[5]);
+        root.spawn(7);
+        root.spawn(1).spawn(3);
+        final long[] b = root.spawn(3).spawn(7).generateState(new long[5]);
+        Assertions.assertArrayEquals(a, b);
+    }
+
+    @Test
+    void testSpawnedChildrenAreDistinct() {
+        final SeedSequence root = SeedSequence.of(123);
+        // Paths that differ only in order
+        Assertions.assertNotEquals(root.spawn(1).spawn(2).generateState(new long[1])[0],
+                                   root.spawn(2).spawn(1).generateState(new long[1])[0]);
+        final Set<Long> words = new HashSet<>();
+        words.add(root.generateState(new long[1])[0]);
+        for (int i = 0; i < 100; i++) {
+            final SeedSequence child = root.spawn(i);
+            Assertions.assertTrue(words.add(child.generateState(new long[1])[0]));
+            for (int j = 0; j < 100; j++) {
+                Assertions.assertTrue(words.add(child.spawn(j).generateState(new long[1])[0]));
+            }
+        }
+    }
+
+    @Test
+    void testCreateUsesRandomEntropy() {
+        final long[] a = SeedSequence.create().generateState(new long[4]);
+        final long[] b = SeedSequence.create().generateState(new long[4]);
+        Assertions.assertFalse(Arrays.equals(a, b));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RandomSource.class, mode = EnumSource.Mode.EXCLUDE, names = {"TWO_CMRES_SELECT"})
+    void testCreate(RandomSource source) {
+        final SeedSequence seq = SeedSequence.of(-1L).spawn(99);
+        Assertions.assertArrayEquals(seq.createSeed(source), seq.createSeed(source));
+        final UniformRandomProvider rng1 = seq.create(source);
+        final UniformRandomProvider rng2 = source.create(seq.createSeed(source));
+        RandomAssert.assertProduceSameSequence(rng1, rng2);
+        // Siblings are different
+        final UniformRandomProvider rng3 = seq.spawn(0).create(source);
+        final UniformRandomProvider rng4 = seq.spawn(1).create(source);
+        Assertions.assertFalse(Arrays.equals(rng3.longs(10).toArray(), rng4.longs(10).toArray()));
+    }
+
+    @Test
+    void testCreateWithArguments() {
+        final SeedSequence seq = SeedSequence.of(17);
+        final UniformRandomProvider rng1 = seq.create(RandomSource.TWO_CMRES_SELECT, 3, 4);
+        final UniformRandomProvider rng2 = seq.create(RandomSource.TWO_CMRES_SELECT, 3, 4);
+        RandomAssert.assertProduceSameSequence(rng1, rng2);
+    }
+}
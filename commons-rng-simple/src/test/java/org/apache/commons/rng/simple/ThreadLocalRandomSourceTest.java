@@ -16,10 +16,13 @@
  */
 package org.apache.commons.rng.simple;
 
+import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.EnumSet;
 import java.util.concurrent.ExecutionException;
@@ -109,6 +112,64 @@ class ThreadLocalRandomSourceTest {
         }
     }
 
+    @Test
+    void testWithSeedThrows() {
+        final Long seed = 123L;
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ThreadLocalRandomSource.withSeed(null, seed));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ThreadLocalRandomSource.withSeed(RandomSource.XO_RO_SHI_RO_128_PP, null));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> ThreadLocalRandomSource.withSeed(RandomSource.MT, seed));
+        final ThreadLocalRandomSource.Seeded seeded =
+            ThreadLocalRandomSource.withSeed(RandomSource.XO_RO_SHI_RO_128_PP, seed);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> seeded.get(-1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RandomSource.class, names = {"XO_RO_SHI_RO_128_PP", "XO_SHI_RO_128_PP", "L64_X128_MIX", "PHILOX_4X64"})
+    void testWithSeedGet(RandomSource source) {
+        final long[] seed = {1234, 5678, 91011, 121314};
+        final ThreadLocalRandomSource.Seeded seeded = ThreadLocalRandomSource.withSeed(source, seed);
+        final JumpableUniformRandomProvider master = (JumpableUniformRandomProvider) source.create(seed);
+        final UniformRandomProvider[] expected = new UniformRandomProvider[7];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = master.jump();
+        }
+        // Create out of order: ahead of, behind and at the next index of the master
+        for (final int i : new int[] {2, 0, 3, 1, 5, 4, 6}) {
+            final UniformRandomProvider rng = seeded.get(i);
+            Assertions.assertNotSame(rng, seeded.get(i));
+            RandomAssert.assertProduceSameSequence(expected[i], rng);
+        }
+    }
+
+    @Test
+    void testWithSeedCurrent()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final RandomSource source = RandomSource.XO_SHI_RO_256_PP;
+        final Long seed = 42L;
+        final ThreadLocalRandomSource.Seeded seeded = ThreadLocalRandomSource.withSeed(source, seed);
+        final UniformRandomProvider rng = seeded.current();
+        Assertions.assertSame(rng, seeded.current());
+        RandomAssert.assertProduceSameSequence(seeded.get(0), rng);
+
+        // Build on a new thread
+        final UniformRandomProvider[] rng2 = new UniformRandomProvider[1];
+        final ExecutorService executor = Executors.newFixedThreadPool(1);
+        final Future<?> future = executor.submit(() -> {
+            rng2[0] = seeded.current();
+        });
+
+        // Shutdown and wait for task to end
+        executor.shutdown();
+        future.get(30, TimeUnit.SECONDS);
+
+        // The RNG from the new thread should be the next registered generator
+        Assertions.assertNotSame(rng, rng2[0]);
+        RandomAssert.assertProduceSameSequence(seeded.get(1), rng2[0]);
+    }
+
     private static UniformRandomProvider getCurrent(RandomSource source) {
         try {
             return ThreadLocalRandomSource.current(source);
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.simple;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.JumpableGenerator;
+import java.util.random.RandomGenerator.LeapableGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+import org.apache.commons.rng.JumpableUniformRandomProvider;
+import org.apache.commons.rng.LongJumpableUniformRandomProvider;
+import org.apache.commons.rng.RandomProviderState;
+import org.apache.commons.rng.RestorableUniformRandomProvider;
+import org.apache.commons.rng.SplittableUniformRandomProvider;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Tests for {@link RandomGenerators}.
+ */
+class RandomGeneratorsTest {
+    /**
+     * Generator class with a name that is not an algorithm.
+     */
+    static class UnknownAlgorithm extends RandomGenerators.ProviderGenerator {}
+
+    @ParameterizedTest
+    @EnumSource(value = RandomSource.class, mode = EnumSource.Mode.EXCLUDE, names = {"TWO_CMRES_SELECT", "XOR_SHIFT_1024_S"})
+    void testServiceProvider(RandomSource source) {
+        final RandomGenerator rng = RandomGenerator.of(RandomGenerators.algorithm(source));
+        Assertions.assertNotNull(rng);
+        final UniformRandomProvider urp = source.create();
+        if (source.isSplittable()) {
+            Assertions.assertTrue(rng instanceof SplittableGenerator);
+        } else if (source.isLongJumpable()) {
+            Assertions.assertTrue(rng instanceof LeapableGenerator);
+        } else if (source.isJumpable()) {
+            Assertions.assertTrue(rng instanceof JumpableGenerator);
+        }
+        // Check the adapter is consistent with the service provider
+        Assertions.assertEquals(rng instanceof JumpableGenerator,
+            RandomGenerators.of(urp) instanceof JumpableGenerator);
+        Assertions.assertEquals(rng instanceof LeapableGenerator,
+            RandomGenerators.of(urp) instanceof LeapableGenerator);
+        Assertions.assertEquals(rng instanceof SplittableGenerator,
+            RandomGenerators.of(urp) instanceof SplittableGenerator);
+        Assertions.assertNotNull(RandomGeneratorFactory.of(RandomGenerators.algorithm(source)).create());
+    }
+
+    @Test
+    void testAlgorithmName() {
+        Assertions.assertEquals("XoShiRo256Pp", RandomGenerators.algorithm(RandomSource.XO_SHI_RO_256_PP));
+        Assertions.assertEquals("L64X128Mix", RandomGenerators.algorithm(RandomSource.L64_X128_MIX));
+        Assertions.assertEquals("Jdk", RandomGenerators.algorithm(RandomSource.JDK));
+        Assertions.assertInstanceOf(SplittableGenerator.class, RandomGenerator.of("L64X128Mix"));
+        Assertions.assertThrows(IllegalStateException.class, UnknownAlgorithm::new);
+    }
+
+    @Test
+    void testDelegation() {
+        final RandomSource source = RandomSource.XO_SHI_RO_256_PP;
+        final byte[] seed = source.createSeed();
+        final UniformRandomProvider expected = source.create(seed);
+        final RandomGenerator rng = RandomGenerators.of(source.create(seed));
+        Assertions.assertEquals(expected.nextBoolean(), rng.nextBoolean());
+        final byte[] b1 = new byte[13];
+        final byte[] b2 = new byte[13];
+        expected.nextBytes(b1);
+        rng.nextBytes(b2);
+        Assertions.assertArrayEquals(b1, b2);
+        Assertions.assertEquals(expected.nextFloat(), rng.nextFloat());
+        Assertions.assertEquals(expected.nextFloat(3.5f), rng.nextFloat(3.5f));
+        Assertions.assertEquals(expected.nextFloat(-2.5f, 3.5f), rng.nextFloat(-2.5f, 3.5f));
+        Assertions.assertEquals(expected.nextDouble(), rng.nextDouble());
+        Assertions.assertEquals(expected.nextDouble(3.5), rng.nextDouble(3.5));
+        Assertions.assertEquals(expected.nextDouble(-2.5, 3.5), rng.nextDouble(-2.5, 3.5));
+        Assertions.assertEquals(expected.nextInt(), rng.nextInt());
+        Assertions.assertEquals(expected.nextInt(42), rng.nextInt(42));
+        Assertions.assertEquals(expected.nextInt(-13, 42), rng.nextInt(-13, 42));
+        Assertions.assertEquals(expected.nextLong(), rng.nextLong());
+        Assertions.assertEquals(expected.nextLong(42), rng.nextLong(42));
+        Assertions.assertEquals(expected.nextLong(-13, 42), rng.nextLong(-13, 42));
+    }
+
+    @Test
+    void testDeprecatedSourceIsNotRegistered() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomGenerator.of("XorShift1024S"));
+    }
+
+    @Test
+    void testNonJumpable() {
+        final RandomGenerator rng = RandomGenerators.of(RandomSource.SPLIT_MIX_64.create());
+        Assertions.assertFalse(rng instanceof JumpableGenerator);
+        Assertions.assertFalse(rng instanceof SplittableGenerator);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = RandomSource.class, names = {"XOR_SHIFT_1024_S_PHI", "XO_RO_SHI_RO_128_PP", "PHILOX_4X64"})
+    void testJump(RandomSource source) {
+        final RestorableUniformRandomProvider urp = source.create();
+        final JumpableGenerator rng = (JumpableGenerator) RandomGenerators.of(urp);
+        Assertions.assertTrue(rng.jumpDistance() > 0);
+
+        // The copy does not change the state
+        final RandomProviderState state = urp.saveState();
+        final JumpableGenerator copy = rng.copy();
+        final UniformRandomProvider expected = source.create();
+        ((RestorableUniformRandomProvider) expected).restoreState(state);
+        final long x = expected.nextLong();
+        Assertions.assertEquals(x, copy.nextLong());
+        Assertions.assertEquals(x, rng.nextLong());
+
+        // Jump is delegated
+        rng.jump();
+        ((JumpableUniformRandomProvider) expected).jump();
+        Assertions.assertEquals(expected.nextLong(), rng.nextLong());
+
+        if (rng instanceof LeapableGenerator) {
+            final LeapableGenerator leap = (LeapableGenerator) rng;
+            Assertions.assertTrue(leap.leapDistance() > rng.jumpDistance());
+            Assertions.assertTrue(leap.copy() instanceof LeapableGenerator);
+            leap.leap();
+            ((LongJumpableUniformRandomProvider) expected).longJump();
+            Assertions.assertEquals(expected.nextLong(), rng.nextLong());
+        }
+    }
+
+    @Test
+    void testSplit() {
+        final RandomSource source = RandomSource.L64_X128_MIX;
+        final byte[] seed = source.createSeed();
+        final SplittableGenerator rng = (SplittableGenerator) RandomGenerators.of(source.create(seed));
+        final SplittableUniformRandomProvider expected = (SplittableUniformRandomProvider) source.create(seed);
+        Assertions.assertEquals(expected.split().nextLong(), rng.split().nextLong());
+        Assertions.assertEquals(3, rng.splits(3).count());
+        Assertions.assertEquals(2, rng.splits().limit(2).count());
+
+        // Splits using a source of randomness
+        final byte[] seed2 = source.createSeed();
+        final SplittableGenerator a = (SplittableGenerator) RandomGenerators.of(source.create(seed));
+        final SplittableGenerator b = (SplittableGenerator) RandomGenerators.of(source.create(seed));
+        Assertions.assertEquals(a.split(splitSource(seed2)).nextLong(),
+                                b.split(splitSource(seed2)).nextLong());
+        Assertions.assertArrayEquals(
+            a.splits(splitSource(seed2)).limit(2).mapToLong(RandomGenerator::nextLong).toArray(),
+            b.splits(splitSource(seed2)).limit(2).mapToLong(RandomGenerator::nextLong).toArray());
+        Assertions.assertArrayEquals(
+            a.splits(2, splitSource(seed2)).mapToLong(RandomGenerator::nextLong).toArray(),
+            b.splits(2, splitSource(seed2)).mapToLong(RandomGenerator::nextLong).toArray());
+    }
+
+    /**
+     * Create a source of randomness for splitting.
+     *
+     * @param seed Seed.
+     * @return the source
+     */
+    private static SplittableGenerator splitSource(byte[] seed) {
+        return (SplittableGenerator) RandomGenerators.of(RandomSource.L64_X128_MIX.create(seed));
+    }
+}